@@ -22,9 +22,11 @@ import com.jayway.restassured.itest.java.objects.Greeting;
 import com.jayway.restassured.itest.java.objects.Message;
 import com.jayway.restassured.itest.java.objects.ScalatraObject;
 import com.jayway.restassured.itest.java.support.WithJetty;
+import com.jayway.restassured.response.Response;
 import org.junit.Test;
 
 import static com.jayway.restassured.RestAssured.*;
+import static com.jayway.restassured.config.DecoderConfig.decoderConfig;
 import static com.jayway.restassured.config.EncoderConfig.encoderConfig;
 import static com.jayway.restassured.config.RestAssuredConfig.config;
 import static com.jayway.restassured.internal.mapper.ObjectMapperType.*;
@@ -223,4 +225,21 @@ public class ObjectMappingITest extends WithJetty {
 
         assertThat(actual, equalTo(object));
     }
+
+    @Test
+    public void bodyCanBeReadAfterTheResponseHasBeenDeserializedFromAStream() throws Exception {
+        final Response response = get("/hello");
+
+        final ScalatraObject object = response.as(ScalatraObject.class);
+
+        assertThat(object.getHello(), equalTo("Hello Scalatra"));
+        assertThat(response.path("hello").toString(), equalTo("Hello Scalatra"));
+    }
+
+    @Test
+    public void mapResponseToObjectDirectlyFromTheConnectionWhenConfigured() throws Exception {
+        final ScalatraObject object = given().config(config().decoderConfig(decoderConfig().deserializeDirectlyFromConnection(true))).when().get("/hello").as(ScalatraObject.class);
+
+        assertThat(object.getHello(), equalTo("Hello Scalatra"));
+    }
 }
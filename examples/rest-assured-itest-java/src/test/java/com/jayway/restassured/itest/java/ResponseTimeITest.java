@@ -17,6 +17,8 @@
 package com.jayway.restassured.itest.java;
 
 import com.jayway.restassured.builder.ResponseSpecBuilder;
+import com.jayway.restassured.filter.time.ResponseTimings;
+import com.jayway.restassured.filter.time.TimingPhase;
 import com.jayway.restassured.itest.java.support.WithJetty;
 import com.jayway.restassured.specification.ResponseSpecification;
 import org.junit.Test;
@@ -141,4 +143,33 @@ public class ResponseTimeITest extends WithJetty {
         when().
                 get("/greet");
     }
+
+    @Test public void
+    time_of_each_phase_of_the_request_is_measured() {
+        ResponseTimings timings =
+        given().
+                param("firstName", "John").
+                param("lastName", "Doe").
+        when().
+                get("/greet").
+        then().
+                time(TimingPhase.WAIT_FOR_FIRST_BYTE, greaterThan(0L), NANOSECONDS).
+                time(TimingPhase.FILTER_CHAIN, greaterThan(0L), NANOSECONDS).
+                extract().response().timings();
+
+        assertThat(timings.nanos(TimingPhase.REQUEST_WRITE), greaterThanOrEqualTo(0L));
+        assertThat(timings.nanos(TimingPhase.BODY_CONSUMPTION), greaterThanOrEqualTo(0L));
+        assertThat(timings.nanos(TimingPhase.VALIDATION), greaterThanOrEqualTo(0L));
+    }
+
+    @Test public void
+    phase_time_validation_can_be_specified_in_the_response_specification() {
+        given().
+                param("firstName", "John").
+                param("lastName", "Doe").
+        expect().
+                time(TimingPhase.WAIT_FOR_FIRST_BYTE, lessThan(2L), SECONDS).
+        when().
+                get("/greet");
+    }
 }
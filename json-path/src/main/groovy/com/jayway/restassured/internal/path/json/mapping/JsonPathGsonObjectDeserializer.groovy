@@ -20,6 +20,7 @@
 
 package com.jayway.restassured.internal.path.json.mapping
 
+import com.jayway.restassured.internal.mapper.StreamingDataToDeserialize
 import com.jayway.restassured.mapper.ObjectDeserializationContext
 import com.jayway.restassured.mapper.factory.GsonObjectMapperFactory
 import com.jayway.restassured.path.json.mapping.JsonPathObjectDeserializer
@@ -27,15 +28,29 @@ import com.jayway.restassured.path.json.mapping.JsonPathObjectDeserializer
 import static com.jayway.restassured.internal.assertion.AssertParameter.notNull
 
 class JsonPathGsonObjectDeserializer implements JsonPathObjectDeserializer {
-    private final GsonObjectMapperFactory factory
+    private final GsonCache cache
 
     JsonPathGsonObjectDeserializer(GsonObjectMapperFactory factory) {
-        notNull(factory, "GsonObjectMapperFactory")
-        this.factory = factory;
+        this(new GsonCache(factory))
+    }
+
+    JsonPathGsonObjectDeserializer(GsonCache cache) {
+        notNull(cache, "GsonCache")
+        this.cache = cache;
     }
 
     @Override
     def <T> T deserialize(ObjectDeserializationContext ctx) {
-        return factory.create(ctx.type, ctx.charset).fromJson(ctx.dataToDeserialize.asString(), ctx.type) as T;
+        def gson = cache.gsonFor(ctx.type, ctx.charset)
+        def data = ctx.dataToDeserialize
+        if (data instanceof StreamingDataToDeserialize) {
+            def reader = data.asReader(ctx.charset)
+            try {
+                return gson.fromJson(reader, ctx.type) as T
+            } finally {
+                reader.close()
+            }
+        }
+        return gson.fromJson(data.asString(), ctx.type) as T;
     }
 }
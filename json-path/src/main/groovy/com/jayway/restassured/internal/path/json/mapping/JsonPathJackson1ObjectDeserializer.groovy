@@ -18,6 +18,7 @@
 
 package com.jayway.restassured.internal.path.json.mapping
 
+import com.jayway.restassured.internal.mapper.StreamingDataToDeserialize
 import com.jayway.restassured.mapper.ObjectDeserializationContext
 import com.jayway.restassured.mapper.factory.Jackson1ObjectMapperFactory
 import com.jayway.restassured.path.json.mapping.JsonPathObjectDeserializer
@@ -37,10 +38,16 @@ class JsonPathJackson1ObjectDeserializer implements JsonPathObjectDeserializer {
 
     @Override
     def <T> T deserialize(ObjectDeserializationContext ctx) {
-        def object = ctx.getDataToDeserialize().asString()
+        def data = ctx.getDataToDeserialize()
         def cls = ctx.getType()
-        def mapper = createJacksonObjectMapper(cls, ctx.getCharset())
+        def charset = ctx.getCharset()
+        def mapper = createJacksonObjectMapper(cls, charset)
         JavaType javaType = mapper.constructType(cls)
-        return mapper.readValue(object, javaType) as T
+        if (data instanceof StreamingDataToDeserialize) {
+            // Jackson detects UTF-8 itself and parses bytes faster than characters
+            def source = data.isUtf8(charset) ? data.asInputStream() : data.asReader(charset)
+            return mapper.readValue(source, javaType) as T
+        }
+        return mapper.readValue(data.asString(), javaType) as T
     }
 }
@@ -18,30 +18,34 @@
 
 package com.jayway.restassured.internal.path.json.mapping
 
-import com.fasterxml.jackson.databind.JavaType
-import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.ObjectReader
+import com.jayway.restassured.internal.mapper.StreamingDataToDeserialize
 import com.jayway.restassured.mapper.ObjectDeserializationContext
 import com.jayway.restassured.mapper.factory.Jackson2ObjectMapperFactory
 import com.jayway.restassured.path.json.mapping.JsonPathObjectDeserializer
 
 class JsonPathJackson2ObjectDeserializer implements JsonPathObjectDeserializer {
 
-    private final Jackson2ObjectMapperFactory factory;
+    private final Jackson2ObjectMapperCache cache;
 
     JsonPathJackson2ObjectDeserializer(Jackson2ObjectMapperFactory factory) {
-        this.factory = factory
+        this(new Jackson2ObjectMapperCache(factory))
     }
 
-    private ObjectMapper createJackson2ObjectMapper(Class cls, String charset) {
-        return factory.create(cls, charset)
+    JsonPathJackson2ObjectDeserializer(Jackson2ObjectMapperCache cache) {
+        this.cache = cache
     }
 
     @Override
     def <T> T deserialize(ObjectDeserializationContext context) {
-        def object = context.getDataToDeserialize().asString()
-        def cls = context.getType()
-        def mapper = createJackson2ObjectMapper(cls, context.getCharset())
-        JavaType javaType = mapper.constructType(cls)
-        return mapper.readValue(object, javaType) as T
+        def data = context.getDataToDeserialize()
+        def charset = context.getCharset()
+        ObjectReader reader = cache.readerFor(context.getType(), charset)
+        if (data instanceof StreamingDataToDeserialize) {
+            // Jackson detects UTF-8 itself and parses bytes faster than characters
+            def source = data.isUtf8(charset) ? data.asInputStream() : data.asReader(charset)
+            return reader.readValue(source) as T
+        }
+        return reader.readValue(data.asString()) as T
     }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A read-only {@link java.util.List} view of a JSON array in a {@link CompactJsonDocument}. Elements are decoded every time they're
+ * accessed. Iterating over the list walks the tape while the first positional access indexes the elements of the array.
+ */
+class CompactJsonArray extends AbstractList<Object> {
+    private final CompactJsonDocument document;
+    private final int token;
+    private int[] elements;
+
+    CompactJsonArray(CompactJsonDocument document, int token) {
+        this.document = document;
+        this.token = token;
+    }
+
+    @Override
+    public Object get(int index) {
+        final int[] elements = elements();
+        if (index < 0 || index >= elements.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + elements.length);
+        }
+        return document.valueOf(elements[index]);
+    }
+
+    @Override
+    public int size() {
+        return elements().length;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<Object>() {
+            private final int end = document.end(token);
+            private int element = token + 1;
+
+            public boolean hasNext() {
+                return element < end;
+            }
+
+            public Object next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final Object value = document.valueOf(element);
+                element = document.next(element);
+                return value;
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException("JSON documents are read-only");
+            }
+        };
+    }
+
+    CompactJsonDocument document() {
+        return document;
+    }
+
+    int token() {
+        return token;
+    }
+
+    private int[] elements() {
+        if (elements == null) {
+            final int end = document.end(token);
+            int count = 0;
+            for (int element = token + 1; element < end; element = document.next(element)) {
+                count++;
+            }
+            final int[] indexed = new int[count];
+            int i = 0;
+            for (int element = token + 1; element < end; element = document.next(element)) {
+                indexed[i++] = element;
+            }
+            elements = indexed;
+        }
+        return elements;
+    }
+}
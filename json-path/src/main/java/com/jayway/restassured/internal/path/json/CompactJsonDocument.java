@@ -0,0 +1,507 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json;
+
+import com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType;
+import groovy.json.JsonException;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A parsed JSON document that keeps the JSON source and a structural index (the "tape") of the tokens in it instead of building a tree of
+ * maps and lists. Objects and arrays are exposed as read-only {@link java.util.Map} and {@link java.util.List} views over the tape and
+ * strings and numbers are only decoded when they're accessed, which makes the document a fraction of the size of the corresponding tree
+ * of <code>HashMap</code>s, <code>ArrayList</code>s, <code>String</code>s and <code>BigDecimal</code>s.
+ * <p>
+ * Each token takes up three ints in the tape: its kind, the index in the source where it starts and, for objects and arrays, the index of the
+ * token following the container (so that a container can be skipped without visiting its content) or, for strings and numbers, the index
+ * in the source where it ends.
+ * </p>
+ */
+public class CompactJsonDocument {
+    /**
+     * Returned when a value doesn't exist in the document
+     */
+    public static final int NO_TOKEN = -1;
+
+    static final int OBJECT = 1;
+    static final int ARRAY = 2;
+    static final int STRING = 3;
+    static final int NUMBER = 4;
+    static final int TRUE = 5;
+    static final int FALSE = 6;
+    static final int NULL = 7;
+
+    private static final int KIND_MASK = 0xF;
+    // Set for strings containing escape sequences and for numbers with a fraction or an exponent
+    private static final int FLAG = 0x10;
+
+    private static final int INTS_PER_TOKEN = 3;
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final int INITIAL_NUMBER_OF_TOKENS = 64;
+
+    private final char[] source;
+    private final NumberReturnType numberReturnType;
+    private int[] tape;
+    private int tokens;
+
+    private CompactJsonDocument(char[] source, NumberReturnType numberReturnType) {
+        this.source = source;
+        this.numberReturnType = numberReturnType;
+        this.tape = new int[INITIAL_NUMBER_OF_TOKENS * INTS_PER_TOKEN];
+    }
+
+    /**
+     * Parse a JSON document.
+     *
+     * @param text             The JSON document
+     * @param numberReturnType How to represent non-integral numbers
+     * @return A {@link java.util.Map} or {@link java.util.List} view of the root of the document
+     */
+    public static Object parseText(String text, NumberReturnType numberReturnType) {
+        if (text == null || text.length() == 0) {
+            throw new IllegalArgumentException("The JSON input text should neither be null nor empty.");
+        }
+        return parse(text.toCharArray(), numberReturnType);
+    }
+
+    /**
+     * Parse a JSON document.
+     *
+     * @param reader           The reader to read the JSON document from
+     * @param numberReturnType How to represent non-integral numbers
+     * @return A {@link java.util.Map} or {@link java.util.List} view of the root of the document or <code>null</code> if the document is empty
+     * @throws IOException If the document couldn't be read
+     */
+    public static Object parse(Reader reader, NumberReturnType numberReturnType) throws IOException {
+        char[] buffer = new char[8192];
+        int length = 0;
+        int read;
+        while ((read = reader.read(buffer, length, buffer.length - length)) != -1) {
+            length += read;
+            if (length == buffer.length) {
+                buffer = copyOf(buffer, buffer.length * 2);
+            }
+        }
+        return parse(length == buffer.length ? buffer : copyOf(buffer, length), numberReturnType);
+    }
+
+    private static Object parse(char[] source, NumberReturnType numberReturnType) {
+        final CompactJsonDocument document = new CompactJsonDocument(source, numberReturnType);
+        final int start = document.skipWhitespace(0);
+        if (start == source.length) {
+            return null;
+        } else if (source[start] != '{' && source[start] != '[') {
+            throw new JsonException("A JSON payload should start with { or [.\nInstead, '" + source[start] + "' was found on " +
+                    JsonTokens.location(source, start));
+        }
+        document.parseValue(start);
+        return document.valueOf(0);
+    }
+
+    private static char[] copyOf(char[] array, int length) {
+        final char[] copy = new char[length];
+        System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+        return copy;
+    }
+
+    private static int[] copyOf(int[] array, int length) {
+        final int[] copy = new int[length];
+        System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+        return copy;
+    }
+
+    // Parsing
+
+    private int parseValue(int position) {
+        if (position == source.length) {
+            throw error("Expected a value", position);
+        }
+        switch (source[position]) {
+            case '{':
+                return parseObject(position);
+            case '[':
+                return parseArray(position);
+            case '"':
+                return parseString(position);
+            case 't':
+                return parseLiteral(position, "true", TRUE);
+            case 'f':
+                return parseLiteral(position, "false", FALSE);
+            case 'n':
+                return parseLiteral(position, "null", NULL);
+            default:
+                return parseNumber(position);
+        }
+    }
+
+    private int parseObject(int position) {
+        final int token = addToken(OBJECT, position, 0);
+        position = skipWhitespace(position + 1);
+        for (; ; ) {
+            // A trailing comma before the closing brace is accepted just as by Groovy's JsonSlurper
+            if (position < source.length && source[position] == '}') {
+                tape[token * INTS_PER_TOKEN + 2] = tokens;
+                return position + 1;
+            } else if (position == source.length || source[position] != '"') {
+                throw error("Expected a String key", position);
+            }
+            position = skipWhitespace(parseString(position));
+            if (position == source.length || source[position] != ':') {
+                throw error("Expected :", position);
+            }
+            position = skipWhitespace(parseValue(skipWhitespace(position + 1)));
+            if (position == source.length || (source[position] != '}' && source[position] != ',')) {
+                throw error("Expected } or ,", position);
+            } else if (source[position] == ',') {
+                position++;
+            }
+            position = skipWhitespace(position);
+        }
+    }
+
+    private int parseArray(int position) {
+        final int token = addToken(ARRAY, position, 0);
+        position = skipWhitespace(position + 1);
+        for (; ; ) {
+            // A trailing comma before the closing bracket is accepted just as by Groovy's JsonSlurper
+            if (position < source.length && source[position] == ']') {
+                tape[token * INTS_PER_TOKEN + 2] = tokens;
+                return position + 1;
+            }
+            position = skipWhitespace(parseValue(position));
+            if (position == source.length || (source[position] != ']' && source[position] != ',')) {
+                throw error("Expected ] or ,", position);
+            } else if (source[position] == ',') {
+                position++;
+            }
+            position = skipWhitespace(position);
+        }
+    }
+
+    private int parseString(int position) {
+        int kind = STRING;
+        int i = position + 1;
+        while (i < source.length) {
+            final char c = source[i];
+            if (c == '"') {
+                addToken(kind, position + 1, i);
+                return i + 1;
+            } else if (c == '\\') {
+                kind = STRING | FLAG;
+                i = skipEscapeSequence(i);
+            } else {
+                i++;
+            }
+        }
+        throw error("Expected \"", i);
+    }
+
+    private int skipEscapeSequence(int position) {
+        if (position + 1 == source.length) {
+            throw error("Expected an escape sequence", position);
+        }
+        switch (source[position + 1]) {
+            case '"':
+            case '\\':
+            case '/':
+            case 'b':
+            case 'f':
+            case 'n':
+            case 'r':
+            case 't':
+                return position + 2;
+            case 'u':
+                for (int i = position + 2; i < position + 6; i++) {
+                    if (i == source.length || Character.digit(source[i], 16) == -1) {
+                        throw error("Expected a unicode escape sequence", position);
+                    }
+                }
+                return position + 6;
+            default:
+                throw error("Expected an escape sequence", position);
+        }
+    }
+
+    private int parseNumber(int position) {
+        int i = position;
+        if (i < source.length && source[i] == '-') {
+            i++;
+        }
+        final int integerStart = i;
+        i = skipDigits(i);
+        if (i == integerStart || (source[integerStart] == '0' && i - integerStart > 1)) {
+            throw error("Expected a value", position);
+        }
+        int kind = NUMBER;
+        if (i < source.length && source[i] == '.') {
+            final int fractionStart = ++i;
+            i = skipDigits(i);
+            if (i == fractionStart) {
+                throw error("Expected a digit", i);
+            }
+            kind = NUMBER | FLAG;
+        }
+        if (i < source.length && (source[i] == 'e' || source[i] == 'E')) {
+            i++;
+            if (i < source.length && (source[i] == '+' || source[i] == '-')) {
+                i++;
+            }
+            final int exponentStart = i;
+            i = skipDigits(i);
+            if (i == exponentStart) {
+                throw error("Expected a digit", i);
+            }
+            kind = NUMBER | FLAG;
+        }
+        addToken(kind, position, i);
+        return i;
+    }
+
+    private int skipDigits(int position) {
+        while (position < source.length && source[position] >= '0' && source[position] <= '9') {
+            position++;
+        }
+        return position;
+    }
+
+    private int parseLiteral(int position, String literal, int kind) {
+        final int end = position + literal.length();
+        if (end > source.length || !literal.equals(new String(source, position, literal.length()))) {
+            throw error("Expected a value", position);
+        }
+        addToken(kind, position, end);
+        return end;
+    }
+
+    private int skipWhitespace(int position) {
+        while (position < source.length && Character.isWhitespace(source[position])) {
+            position++;
+        }
+        return position;
+    }
+
+    private int addToken(int kind, int start, int end) {
+        final int offset = tokens * INTS_PER_TOKEN;
+        if (offset == tape.length) {
+            // Grow by 50% so that at most a third of the tape is unused once the document has been parsed
+            tape = copyOf(tape, (tape.length / INTS_PER_TOKEN + (tape.length / INTS_PER_TOKEN >> 1)) * INTS_PER_TOKEN);
+        }
+        tape[offset] = kind;
+        tape[offset + 1] = start;
+        tape[offset + 2] = end;
+        return tokens++;
+    }
+
+    private JsonException error(String expected, int position) {
+        final String found = position < source.length ? "'" + source[position] + "'" : "the end of the document";
+        return new JsonException(expected + " on " + JsonTokens.location(source, position) + ".\nBut got " + found + " instead.");
+    }
+
+    // Navigation
+
+    /**
+     * @param value A value returned by a compact document
+     * @return The document that the object or array view belongs to or <code>null</code> if the value is not an object or array of a compact document
+     */
+    public static CompactJsonDocument documentOf(Object value) {
+        if (value instanceof CompactJsonObject) {
+            return ((CompactJsonObject) value).document();
+        } else if (value instanceof CompactJsonArray) {
+            return ((CompactJsonArray) value).document();
+        }
+        return null;
+    }
+
+    /**
+     * @param value An object or array view of this document
+     * @return The token of the object or array
+     */
+    static int tokenOf(Object value) {
+        return value instanceof CompactJsonObject ? ((CompactJsonObject) value).token() : ((CompactJsonArray) value).token();
+    }
+
+    int kind(int token) {
+        return tape[token * INTS_PER_TOKEN] & KIND_MASK;
+    }
+
+    /**
+     * @param token The token
+     * @return The token following the token, skipping the content of objects and arrays
+     */
+    int next(int token) {
+        final int kind = kind(token);
+        return kind == OBJECT || kind == ARRAY ? tape[token * INTS_PER_TOKEN + 2] : token + 1;
+    }
+
+    /**
+     * @param token An object or array token
+     * @return The token following the content of the object or array
+     */
+    int end(int token) {
+        return tape[token * INTS_PER_TOKEN + 2];
+    }
+
+    /**
+     * @param token A string token
+     * @param key   The key
+     * @return <code>true</code> if the string token is equal to the key, without decoding the token unless it contains escape sequences
+     */
+    boolean stringEquals(int token, String key) {
+        final int offset = token * INTS_PER_TOKEN;
+        if ((tape[offset] & FLAG) != 0) {
+            return stringAt(token).equals(key);
+        }
+        final int start = tape[offset + 1];
+        final int length = tape[offset + 2] - start;
+        if (length != key.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (source[start + i] != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param object An object token
+     * @param key    The key
+     * @return The token of the value of the last occurrence of the key or {@link #NO_TOKEN} if the object doesn't contain the key
+     */
+    int member(int object, String key) {
+        final int end = end(object);
+        int found = NO_TOKEN;
+        for (int current = object + 1; current < end; current = next(current + 1)) {
+            if (stringEquals(current, key)) {
+                found = current + 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @param array An array token
+     * @param index The index
+     * @return The token of the element at the index or {@link #NO_TOKEN} if the array has no element at the index
+     */
+    int element(int array, int index) {
+        final int end = end(array);
+        int element = array + 1;
+        for (int i = 0; i < index && element < end; i++) {
+            element = next(element);
+        }
+        return element < end ? element : NO_TOKEN;
+    }
+
+    String stringAt(int token) {
+        final int offset = token * INTS_PER_TOKEN;
+        final int start = tape[offset + 1];
+        final int end = tape[offset + 2];
+        if ((tape[offset] & FLAG) != 0) {
+            return JsonTokens.unescape(source, start, end);
+        }
+        return new String(source, start, end - start);
+    }
+
+    // Primitive access, numbers are read from the source without creating a Number
+
+    /**
+     * @param token The token
+     * @return <code>true</code> if the token is a number without a fraction or an exponent that is small enough to be read by {@link #longAt(int)}
+     */
+    public boolean isIntegral(int token) {
+        final int offset = token * INTS_PER_TOKEN;
+        if (tape[offset] != NUMBER) {
+            return false;
+        }
+        final int start = tape[offset + 1];
+        final int firstDigit = source[start] == '-' ? start + 1 : start;
+        return tape[offset + 2] - firstDigit <= MAX_LONG_DIGITS;
+    }
+
+    /**
+     * @param token The token
+     * @return <code>true</code> if the token is a number with a fraction or an exponent
+     */
+    public boolean isFractional(int token) {
+        return tape[token * INTS_PER_TOKEN] == (NUMBER | FLAG);
+    }
+
+    /**
+     * @param token An integral number token, see {@link #isIntegral(int)}
+     * @return The number
+     */
+    public long longAt(int token) {
+        final int offset = token * INTS_PER_TOKEN;
+        final int start = tape[offset + 1];
+        final int end = tape[offset + 2];
+        final boolean negative = source[start] == '-';
+        long value = 0;
+        for (int i = negative ? start + 1 : start; i < end; i++) {
+            value = value * 10 + (source[i] - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * @param token A fractional number token, see {@link #isFractional(int)}
+     * @return The number parsed as a double
+     */
+    public double doubleAt(int token) {
+        return Double.parseDouble(numberText(token));
+    }
+
+    /**
+     * @param token A fractional number token, see {@link #isFractional(int)}
+     * @return The number parsed as a float
+     */
+    public float floatAt(int token) {
+        return Float.parseFloat(numberText(token));
+    }
+
+    private String numberText(int token) {
+        final int offset = token * INTS_PER_TOKEN;
+        return new String(source, tape[offset + 1], tape[offset + 2] - tape[offset + 1]);
+    }
+
+    /**
+     * @param token The token
+     * @return The value of the token, objects and arrays are returned as views of the document
+     */
+    Object valueOf(int token) {
+        final int offset = token * INTS_PER_TOKEN;
+        switch (tape[offset] & KIND_MASK) {
+            case OBJECT:
+                return new CompactJsonObject(this, token);
+            case ARRAY:
+                return new CompactJsonArray(this, token);
+            case STRING:
+                return stringAt(token);
+            case NUMBER:
+                return JsonTokens.toNumber(source, tape[offset + 1], tape[offset + 2], (tape[offset] & FLAG) == 0, numberReturnType);
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+}
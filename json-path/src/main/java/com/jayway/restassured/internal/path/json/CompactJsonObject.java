@@ -0,0 +1,203 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A read-only {@link Map} view of a JSON object in a {@link CompactJsonDocument}. Values are decoded every time they're accessed. If a key
+ * occurs more than once the last value wins, just as when the object is parsed into a map, and the key is only counted and iterated once
+ * (at the position where it first occurs).
+ */
+class CompactJsonObject extends AbstractMap<String, Object> {
+    private static final int NOT_FOUND = CompactJsonDocument.NO_TOKEN;
+
+    private final CompactJsonDocument document;
+    private final int token;
+    private Members members;
+
+    CompactJsonObject(CompactJsonDocument document, int token) {
+        this.document = document;
+        this.token = token;
+    }
+
+    @Override
+    public Object get(Object key) {
+        final int value = findValue(key);
+        return value == NOT_FOUND ? null : document.valueOf(value);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findValue(key) != NOT_FOUND;
+    }
+
+    @Override
+    public int size() {
+        return members().size;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return CompactJsonObject.this.size();
+            }
+        };
+    }
+
+    // The last occurrence of a duplicated key wins, just as when the object is parsed into a map
+    private int findValue(Object key) {
+        return key instanceof String ? document.member(token, (String) key) : NOT_FOUND;
+    }
+
+    CompactJsonDocument document() {
+        return document;
+    }
+
+    int token() {
+        return token;
+    }
+
+    /*
+     * The members are only indexed when they're counted or iterated, looking up a key scans the tape without decoding the keys
+     */
+    private Members members() {
+        Members current = members;
+        if (current == null) {
+            current = new Members();
+            members = current;
+        }
+        return current;
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, Object>> {
+        private final Members members = members();
+        private int index;
+
+        public boolean hasNext() {
+            return index < members.size;
+        }
+
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Entry<String, Object> entry = new Member(members.names[index], document.valueOf(members.values[index]));
+            index++;
+            return entry;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException("JSON documents are read-only");
+        }
+    }
+
+    /*
+     * The distinct keys of the object and the token of the value of their last occurrence. Immutable so that it can be shared between
+     * threads without synchronization.
+     */
+    private class Members {
+        private final String[] names;
+        private final int[] values;
+        private final int size;
+
+        Members() {
+            final int end = document.end(token);
+            final Map<String, Integer> indices = new HashMap<String, Integer>();
+            String[] names = new String[8];
+            int[] values = new int[8];
+            int size = 0;
+            for (int key = token + 1; key < end; key = document.next(key + 1)) {
+                final String name = document.stringAt(key);
+                final Integer index = indices.get(name);
+                if (index != null) {
+                    values[index] = key + 1;
+                    continue;
+                }
+                if (size == names.length) {
+                    final String[] newNames = new String[size * 2];
+                    System.arraycopy(names, 0, newNames, 0, size);
+                    names = newNames;
+                    final int[] newValues = new int[size * 2];
+                    System.arraycopy(values, 0, newValues, 0, size);
+                    values = newValues;
+                }
+                indices.put(name, size);
+                names[size] = name;
+                values[size] = key + 1;
+                size++;
+            }
+            this.names = names;
+            this.values = values;
+            this.size = size;
+        }
+    }
+
+    private static class Member implements Entry<String, Object> {
+        private final String key;
+        private final Object value;
+
+        Member(String key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public Object setValue(Object value) {
+            throw new UnsupportedOperationException("JSON documents are read-only");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            final Entry<?, ?> other = (Entry<?, ?>) o;
+            return key.equals(other.getKey()) && (value == null ? other.getValue() == null : value.equals(other.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}
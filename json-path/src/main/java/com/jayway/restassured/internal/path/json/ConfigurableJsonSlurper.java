@@ -0,0 +1,366 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json;
+
+import com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType;
+import groovy.json.JsonException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses JSON documents into maps and lists. Integral numbers are returned as Integers, Longs or BigIntegers (depending on the size of the
+ * number) and other numbers are converted according to the {@link NumberReturnType} while they're read. Since Groovy 1.8.5 Groovy's
+ * <code>JsonSlurper</code> returns all non-integral numbers as BigDecimals, this parser maintains the REST Assured behaviour of returning
+ * floats and doubles by default.
+ * <p>
+ * The parser accepts the same documents as the Groovy 1.8 <code>JsonSlurper</code> it replaces, for example trailing commas in objects
+ * and arrays are ignored. An instance of this class can be used to parse any number of documents, also from different threads.
+ * </p>
+ */
+public class ConfigurableJsonSlurper {
+    private final NumberReturnType numberReturnType;
+
+    public ConfigurableJsonSlurper(NumberReturnType numberReturnType) {
+        if (numberReturnType == null) {
+            throw new IllegalArgumentException("numberReturnType cannot be null");
+        }
+        this.numberReturnType = numberReturnType;
+    }
+
+    /**
+     * Parse a text representation of a JSON data structure
+     *
+     * @param text JSON text to parse
+     * @return a data structure of lists and maps
+     */
+    public Object parseText(String text) {
+        if (text == null || text.length() == 0) {
+            throw new IllegalArgumentException("The JSON input text should neither be null nor empty.");
+        }
+        return parse(new StringReader(text));
+    }
+
+    /**
+     * Parse a JSON data structure from content from a reader
+     *
+     * @param reader reader over a JSON content
+     * @return a data structure of lists and maps or <code>null</code> if the reader is empty
+     */
+    public Object parse(Reader reader) {
+        try {
+            return new Parser(reader, numberReturnType).parseDocument();
+        } catch (IOException e) {
+            throw new JsonException("Failed to read the JSON document", e);
+        }
+    }
+
+    private static class Parser {
+        private static final int END = -1;
+
+        private final Reader reader;
+        private final NumberReturnType numberReturnType;
+        private final char[] buffer = new char[8192];
+        private int position;
+        private int limit;
+        // Used for error messages
+        private int line = 1;
+        private int consumedBeforeBuffer;
+        private int lineStart;
+        private char[] number = new char[32];
+
+        Parser(Reader reader, NumberReturnType numberReturnType) {
+            this.reader = reader;
+            this.numberReturnType = numberReturnType;
+        }
+
+        Object parseDocument() throws IOException {
+            final int c = skipWhitespace();
+            if (c == END) {
+                return null;
+            } else if (c != '{' && c != '[') {
+                throw new JsonException("A JSON payload should start with { or [.\nInstead, '" + (char) c + "' was found on " + location());
+            }
+            return parseValue();
+        }
+
+        private Object parseValue() throws IOException {
+            final int c = skipWhitespace();
+            switch (c) {
+                case '{':
+                    position++;
+                    return parseObject();
+                case '[':
+                    position++;
+                    return parseArray();
+                case '"':
+                    position++;
+                    return parseString();
+                case 't':
+                    parseLiteral("true");
+                    return Boolean.TRUE;
+                case 'f':
+                    parseLiteral("false");
+                    return Boolean.FALSE;
+                case 'n':
+                    parseLiteral("null");
+                    return null;
+                default:
+                    return parseNumber();
+            }
+        }
+
+        private Map<String, Object> parseObject() throws IOException {
+            final Map<String, Object> content = new HashMap<String, Object>();
+            for (; ; ) {
+                // A trailing comma before the closing brace is ignored
+                int c = skipWhitespace();
+                if (c == '}') {
+                    position++;
+                    return content;
+                } else if (c != '"') {
+                    throw error("Expected a String key");
+                }
+                position++;
+                final String key = parseString();
+                if (skipWhitespace() != ':') {
+                    throw error("Expected :");
+                }
+                position++;
+                content.put(key, parseValue());
+                c = skipWhitespace();
+                if (c == ',') {
+                    position++;
+                } else if (c != '}') {
+                    throw error("Expected } or ,");
+                }
+            }
+        }
+
+        private List<Object> parseArray() throws IOException {
+            final List<Object> content = new ArrayList<Object>();
+            for (; ; ) {
+                // A trailing comma before the closing bracket is ignored
+                int c = skipWhitespace();
+                if (c == ']') {
+                    position++;
+                    return content;
+                }
+                content.add(parseValue());
+                c = skipWhitespace();
+                if (c == ',') {
+                    position++;
+                } else if (c != ']') {
+                    throw error("Expected ] or ,");
+                }
+            }
+        }
+
+        private String parseString() throws IOException {
+            // Fast path for strings without escape sequences that are contained in the buffer
+            final int start = position;
+            while (position < limit) {
+                final char c = buffer[position];
+                if (c == '"') {
+                    position++;
+                    return new String(buffer, start, position - start - 1);
+                } else if (c == '\\') {
+                    break;
+                }
+                position++;
+            }
+            final StringBuilder builder = new StringBuilder(position - start + 16);
+            builder.append(buffer, start, position - start);
+            for (; ; ) {
+                if (position == limit && !fill()) {
+                    throw error("Expected \"");
+                }
+                final char c = buffer[position++];
+                if (c == '"') {
+                    return builder.toString();
+                } else if (c == '\\') {
+                    parseEscapeSequence(builder);
+                } else {
+                    builder.append(c);
+                }
+            }
+        }
+
+        private void parseEscapeSequence(StringBuilder builder) throws IOException {
+            if (position == limit && !fill()) {
+                throw error("Expected an escape sequence");
+            }
+            final char c = buffer[position++];
+            switch (c) {
+                case '"':
+                case '\\':
+                case '/':
+                    builder.append(c);
+                    break;
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    int value = 0;
+                    for (int i = 0; i < 4; i++) {
+                        final int digit = position < limit || fill() ? Character.digit(buffer[position], 16) : -1;
+                        if (digit == -1) {
+                            throw error("Expected a unicode escape sequence");
+                        }
+                        value = value * 16 + digit;
+                        position++;
+                    }
+                    builder.append((char) value);
+                    break;
+                default:
+                    position--;
+                    throw error("Expected an escape sequence");
+            }
+        }
+
+        private Number parseNumber() throws IOException {
+            int length = 0;
+            boolean integral = true;
+            int c = peek();
+            if (c == '-') {
+                length = append(length, c);
+                c = peek();
+            }
+            final int integerStart = length;
+            while (isDigit(c)) {
+                length = append(length, c);
+                c = peek();
+            }
+            if (length == integerStart || (number[integerStart] == '0' && length - integerStart > 1)) {
+                throw error("Expected a value");
+            }
+            if (c == '.') {
+                integral = false;
+                length = append(length, c);
+                c = peek();
+                if (!isDigit(c)) {
+                    throw error("Expected a digit");
+                }
+                while (isDigit(c)) {
+                    length = append(length, c);
+                    c = peek();
+                }
+            }
+            if (c == 'e' || c == 'E') {
+                integral = false;
+                length = append(length, c);
+                c = peek();
+                if (c == '+' || c == '-') {
+                    length = append(length, c);
+                    c = peek();
+                }
+                if (!isDigit(c)) {
+                    throw error("Expected a digit");
+                }
+                while (isDigit(c)) {
+                    length = append(length, c);
+                    c = peek();
+                }
+            }
+            return JsonTokens.toNumber(number, 0, length, integral, numberReturnType);
+        }
+
+        // Appends the current character to the number and consumes it
+        private int append(int length, int c) {
+            if (length == number.length) {
+                final char[] grown = new char[number.length * 2];
+                System.arraycopy(number, 0, grown, 0, length);
+                number = grown;
+            }
+            number[length] = (char) c;
+            position++;
+            return length + 1;
+        }
+
+        private static boolean isDigit(int c) {
+            return c >= '0' && c <= '9';
+        }
+
+        private void parseLiteral(String literal) throws IOException {
+            for (int i = 0; i < literal.length(); i++) {
+                if (peek() != literal.charAt(i)) {
+                    throw error("Expected a value");
+                }
+                position++;
+            }
+        }
+
+        private int skipWhitespace() throws IOException {
+            for (; ; ) {
+                final int c = peek();
+                if (c == END || !Character.isWhitespace(c)) {
+                    return c;
+                } else if (c == '\n') {
+                    line++;
+                    lineStart = consumedBeforeBuffer + position + 1;
+                }
+                position++;
+            }
+        }
+
+        private int peek() throws IOException {
+            if (position == limit && !fill()) {
+                return END;
+            }
+            return buffer[position];
+        }
+
+        private boolean fill() throws IOException {
+            consumedBeforeBuffer += limit;
+            position = 0;
+            limit = 0;
+            final int read = reader.read(buffer, 0, buffer.length);
+            if (read <= 0) {
+                return false;
+            }
+            limit = read;
+            return true;
+        }
+
+        private String location() {
+            return "line: " + line + ", column: " + (consumedBeforeBuffer + position - lineStart + 1);
+        }
+
+        private JsonException error(String expected) throws IOException {
+            final int c = peek();
+            final String found = c == END ? "the end of the document" : "'" + (char) c + "'";
+            return new JsonException(expected + " on " + location() + ".\nBut got " + found + " instead.");
+        }
+    }
+}
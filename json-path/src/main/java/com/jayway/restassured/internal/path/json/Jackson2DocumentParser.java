@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType;
+import groovy.json.JsonException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses JSON documents into maps and lists using the Jackson 2 streaming API. The documents are identical to the ones produced by
+ * {@link ConfigurableJsonSlurper} but Jackson is stricter about what it accepts, for example trailing commas are not allowed.
+ * <p>
+ * All parsers are created from the same {@link JsonFactory} so that Jackson can recycle its read buffers between documents.
+ * </p>
+ */
+class Jackson2DocumentParser extends JsonDocumentParser {
+    // The reader is owned by the caller, just as for the other parsers
+    private static final JsonFactory JSON_FACTORY = new JsonFactory().disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+    private final NumberReturnType numberReturnType;
+
+    Jackson2DocumentParser(NumberReturnType numberReturnType) {
+        this.numberReturnType = numberReturnType;
+    }
+
+    @Override
+    public Object parse(Reader reader) throws IOException {
+        return parse(JSON_FACTORY.createParser(reader));
+    }
+
+    @Override
+    public Object parseText(String text) {
+        if (text == null || text.length() == 0) {
+            throw new IllegalArgumentException("The JSON input text should neither be null nor empty.");
+        }
+        try {
+            return parse(JSON_FACTORY.createParser(text));
+        } catch (IOException e) {
+            throw new JsonException("Failed to read the JSON document", e);
+        }
+    }
+
+    private Object parse(JsonParser parser) throws IOException {
+        try {
+            final JsonToken token = parser.nextToken();
+            if (token == null) {
+                return null;
+            } else if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+                throw new JsonException("A JSON payload should start with { or [.\nInstead, '" + parser.getText() + "' was found on line: " +
+                        parser.getCurrentLocation().getLineNr() + ", column: " + parser.getCurrentLocation().getColumnNr());
+            }
+            return readValue(parser, token);
+        } catch (JsonProcessingException e) {
+            throw new JsonException(e.getMessage(), e);
+        } finally {
+            // Returns the buffers of the parser to the buffer recycler
+            parser.close();
+        }
+    }
+
+    private Object readValue(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                final Map<String, Object> object = new HashMap<String, Object>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String key = parser.getCurrentName();
+                    object.put(key, readValue(parser, parser.nextToken()));
+                }
+                return object;
+            case START_ARRAY:
+                final List<Object> array = new ArrayList<Object>();
+                JsonToken element;
+                while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    array.add(readValue(parser, element));
+                }
+                return array;
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT:
+                return toNumber(parser);
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    private Number toNumber(JsonParser parser) throws IOException {
+        if (numberReturnType == NumberReturnType.BIG_DECIMAL) {
+            return parser.getDecimalValue();
+        }
+        final double value = parser.getDoubleValue();
+        if (numberReturnType == NumberReturnType.DOUBLE || value > Float.MAX_VALUE) {
+            return value;
+        }
+        // Parse the text rather than narrowing the double to avoid rounding twice
+        return Float.parseFloat(parser.getText());
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json;
+
+import com.jayway.restassured.internal.assertion.AssertParameter;
+import com.jayway.restassured.path.json.exception.JsonPathException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Incrementally reads the elements of a JSON array from a reader and returns the JSON text of each element, one at a time. Only the element
+ * that is currently being read is kept in memory which means that arrays of any size can be processed in bounded memory.
+ * <p>
+ * The array is located using a simple path of object keys separated by dots, for example <code>result.items</code>. An empty path means that
+ * the document itself is an array. If the document is empty, the path doesn't exist or if the value is <code>null</code> there are no
+ * elements. The elements are not validated, that's left to whatever parses each element. The reader is closed when all elements have been
+ * read or when {@link #close()} is called.
+ * </p>
+ */
+public class JsonArrayElementIterator implements Iterator<String>, Closeable {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final String path;
+    private final String[] keys;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder element = new StringBuilder();
+    private final StringBuilder key = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean positioned;
+    private boolean finished;
+    private String next;
+
+    public JsonArrayElementIterator(Reader reader, String path) {
+        this.reader = AssertParameter.notNull(reader, Reader.class);
+        this.path = path == null ? "" : path.trim();
+        this.keys = this.path.length() == 0 ? new String[0] : this.path.split("\\.");
+    }
+
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            try {
+                next = readNextElement();
+            } catch (IOException e) {
+                close();
+                throw new JsonPathException("Failed to read JSON array at path '" + path + "'", e);
+            } catch (JsonPathException e) {
+                close();
+                throw e;
+            }
+            if (next == null) {
+                close();
+            }
+        }
+        return next != null;
+    }
+
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String current = next;
+        next = null;
+        return current;
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    public void close() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        try {
+            reader.close();
+        } catch (IOException ignored) {
+            // The elements have already been read
+        }
+    }
+
+    private String readNextElement() throws IOException {
+        if (!positioned) {
+            positioned = true;
+            if (peekNonWhitespace() == EOF || !positionAtArray()) {
+                return null;
+            }
+            if (peekNonWhitespace() == ']') {
+                read();
+                return null;
+            }
+        } else {
+            int c = nextNonWhitespace();
+            if (c == ']') {
+                return null;
+            } else if (c != ',') {
+                throw syntaxError("Expected ',' or ']' after array element");
+            }
+        }
+        element.setLength(0);
+        readValue(element);
+        return element.toString();
+    }
+
+    private boolean positionAtArray() throws IOException {
+        for (String key : keys) {
+            if (!positionAtValueOf(key)) {
+                return false;
+            }
+        }
+        int c = nextNonWhitespace();
+        if (c == '[') {
+            return true;
+        } else if (isNull(c)) {
+            return false;
+        }
+        throw new JsonPathException("Expected a JSON array at path '" + path + "'");
+    }
+
+    private boolean positionAtValueOf(String name) throws IOException {
+        int c = nextNonWhitespace();
+        if (isNull(c)) {
+            return false;
+        } else if (c != '{') {
+            throw new JsonPathException("Expected a JSON object when looking up '" + name + "' in path '" + path + "'");
+        }
+        c = nextNonWhitespace();
+        if (c == '}') {
+            return false;
+        }
+        while (true) {
+            if (c != '"') {
+                throw syntaxError("Expected an object key");
+            }
+            key.setLength(0);
+            readString(key);
+            key.setLength(key.length() - 1);
+            if (nextNonWhitespace() != ':') {
+                throw syntaxError("Expected ':' after object key");
+            }
+            if (name.contentEquals(key)) {
+                return true;
+            }
+            readValue(null);
+            c = nextNonWhitespace();
+            if (c == '}') {
+                return false;
+            } else if (c != ',') {
+                throw syntaxError("Expected ',' or '}' after object value");
+            }
+            c = nextNonWhitespace();
+        }
+    }
+
+    /*
+     * Reads the next value and appends its JSON text to out, or skips it if out is null.
+     */
+    private void readValue(StringBuilder out) throws IOException {
+        int c = nextNonWhitespace();
+        switch (c) {
+            case EOF:
+                throw syntaxError("Unexpected end of JSON document");
+            case ',':
+            case ':':
+            case '}':
+            case ']':
+                throw syntaxError("Expected a value but found '" + (char) c + "'");
+            case '"':
+                append(out, c);
+                readString(out);
+                break;
+            case '{':
+            case '[':
+                append(out, c);
+                readContainer(out);
+                break;
+            default:
+                append(out, c);
+                readLiteral(out);
+        }
+    }
+
+    private void readContainer(StringBuilder out) throws IOException {
+        int depth = 1;
+        while (depth > 0) {
+            int c = readNonEof();
+            append(out, c);
+            if (c == '"') {
+                readString(out);
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+        }
+    }
+
+    /*
+     * Reads the rest of a string, including the closing quote, after the opening quote has been read.
+     */
+    private void readString(StringBuilder out) throws IOException {
+        while (true) {
+            int c = readNonEof();
+            append(out, c);
+            if (c == '\\') {
+                append(out, readNonEof());
+            } else if (c == '"') {
+                return;
+            }
+        }
+    }
+
+    private void readLiteral(StringBuilder out) throws IOException {
+        while (true) {
+            int c = peek();
+            if (c == EOF || c == ',' || c == '}' || c == ']' || isWhitespace(c)) {
+                return;
+            }
+            append(out, read());
+        }
+    }
+
+    private boolean isNull(int c) throws IOException {
+        if (c != 'n') {
+            return false;
+        }
+        key.setLength(0);
+        key.append('n');
+        readLiteral(key);
+        if (!"null".contentEquals(key)) {
+            throw syntaxError("Unexpected literal '" + key + "'");
+        }
+        return true;
+    }
+
+    private static void append(StringBuilder out, int c) {
+        if (out != null) {
+            out.append((char) c);
+        }
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        int c = read();
+        while (isWhitespace(c)) {
+            c = read();
+        }
+        return c;
+    }
+
+    private int peekNonWhitespace() throws IOException {
+        int c = peek();
+        while (isWhitespace(c)) {
+            read();
+            c = peek();
+        }
+        return c;
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private int readNonEof() throws IOException {
+        int c = read();
+        if (c == EOF) {
+            throw syntaxError("Unexpected end of JSON document");
+        }
+        return c;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return EOF;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return EOF;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        if (read == EOF) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private JsonPathException syntaxError(String message) {
+        return new JsonPathException("Invalid JSON when reading array at path '" + path + "': " + message);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json;
+
+import com.jayway.restassured.mapper.resolver.ObjectMapperResolver;
+import com.jayway.restassured.path.json.config.JsonPathConfig.DocumentModel;
+import com.jayway.restassured.path.json.config.JsonPathConfig.DocumentParser;
+import com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Parses JSON documents into the configured {@link DocumentModel} using the configured {@link DocumentParser}.
+ */
+public abstract class JsonDocumentParser {
+
+    /**
+     * Parse a JSON document
+     *
+     * @param reader The reader to read the JSON document from
+     * @return The root of the document or <code>null</code> if the document is empty
+     * @throws IOException If the document couldn't be read
+     */
+    public abstract Object parse(Reader reader) throws IOException;
+
+    /**
+     * Parse a JSON document
+     *
+     * @param text The JSON document
+     * @return The root of the document
+     */
+    public abstract Object parseText(String text);
+
+    /**
+     * @param numberReturnType How to represent non-integral numbers
+     * @param documentModel    How to represent the document in memory
+     * @param documentParser   The parser to use for the {@link DocumentModel#MAPS_AND_LISTS} document model
+     * @return A parser for the given configuration
+     */
+    public static JsonDocumentParser create(final NumberReturnType numberReturnType, DocumentModel documentModel, DocumentParser documentParser) {
+        if (documentModel == DocumentModel.COMPACT) {
+            return new JsonDocumentParser() {
+                @Override
+                public Object parse(Reader reader) throws IOException {
+                    return CompactJsonDocument.parse(reader, numberReturnType);
+                }
+
+                @Override
+                public Object parseText(String text) {
+                    return CompactJsonDocument.parseText(text, numberReturnType);
+                }
+            };
+        } else if (documentParser == DocumentParser.JACKSON_2) {
+            if (!ObjectMapperResolver.isJackson2InClassPath()) {
+                throw new IllegalArgumentException("Cannot parse JSON documents using " + documentParser + " because Jackson 2 doesn't exist in the classpath.");
+            }
+            return new Jackson2DocumentParser(numberReturnType);
+        }
+        return new JsonDocumentParser() {
+            @Override
+            public Object parse(Reader reader) {
+                return new ConfigurableJsonSlurper(numberReturnType).parse(reader);
+            }
+
+            @Override
+            public Object parseText(String text) {
+                return new ConfigurableJsonSlurper(numberReturnType).parseText(text);
+            }
+        };
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json;
+
+import com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Conversion of JSON number and string tokens into the values returned by JsonPath.
+ */
+final class JsonTokens {
+    private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private JsonTokens() {
+    }
+
+    /**
+     * Convert a JSON number to an Integer, Long or BigInteger (depending on the size of the number) if it's integral. Other numbers are
+     * converted according to the <code>numberReturnType</code>.
+     *
+     * @param source           The JSON source
+     * @param start            The index of the first character of the number
+     * @param end              The index after the last character of the number
+     * @param integral         <code>true</code> if the number has neither a fraction nor an exponent
+     * @param numberReturnType How to represent non-integral numbers
+     * @return The number
+     */
+    static Number toNumber(char[] source, int start, int end, boolean integral, NumberReturnType numberReturnType) {
+        if (integral) {
+            return toIntegralNumber(source, start, end);
+        }
+        final String text = new String(source, start, end - start);
+        if (numberReturnType == NumberReturnType.BIG_DECIMAL) {
+            return new BigDecimal(text);
+        }
+        final double value = Double.parseDouble(text);
+        if (numberReturnType == NumberReturnType.DOUBLE || value > Float.MAX_VALUE) {
+            return value;
+        }
+        return Float.parseFloat(text);
+    }
+
+    private static Number toIntegralNumber(char[] source, int start, int end) {
+        final boolean negative = source[start] == '-';
+        final int firstDigit = negative ? start + 1 : start;
+        if (end - firstDigit <= MAX_LONG_DIGITS) {
+            long value = 0;
+            for (int i = firstDigit; i < end; i++) {
+                value = value * 10 + (source[i] - '0');
+            }
+            if (negative) {
+                value = -value;
+            }
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+            return value;
+        }
+        final BigInteger value = new BigInteger(new String(source, start, end - start));
+        if (value.compareTo(MIN_LONG) >= 0 && value.compareTo(MAX_LONG) <= 0) {
+            return value.longValue();
+        }
+        return value;
+    }
+
+    /**
+     * Decode the characters of a JSON string that contains escape sequences.
+     *
+     * @param source The JSON source
+     * @param start  The index after the opening quote
+     * @param end    The index of the closing quote
+     * @return The decoded string
+     */
+    static String unescape(char[] source, int start, int end) {
+        final StringBuilder builder = new StringBuilder(end - start);
+        int i = start;
+        while (i < end) {
+            final char c = source[i++];
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+            final char escaped = source[i++];
+            switch (escaped) {
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    builder.append((char) Integer.parseInt(new String(source, i, 4), 16));
+                    i += 4;
+                    break;
+                default:
+                    builder.append(escaped);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @param source   The JSON source
+     * @param position An index in the source
+     * @return A description of the line and column of the index, used in error messages
+     */
+    static String location(char[] source, int position) {
+        int line = 1;
+        int column = 1;
+        for (int i = 0; i < position && i < source.length; i++) {
+            if (source[i] == '\n') {
+                line++;
+                column = 1;
+            } else {
+                column++;
+            }
+        }
+        return "line: " + line + ", column: " + column;
+    }
+}
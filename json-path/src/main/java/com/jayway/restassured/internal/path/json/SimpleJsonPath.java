@@ -0,0 +1,146 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A JSON path that only consists of object keys and list indices, for example <code>lotto.winners[0].winnerId</code>. Such paths can be
+ * resolved by navigating the parsed JSON document directly instead of compiling and evaluating the path as a Groovy expression, which is by
+ * far the most expensive part of getting a value from a JSON document. Anything else (GPath expressions, method calls, escaped keys,
+ * parameters etc) is left to the Groovy evaluation by {@link JSONAssertion}.
+ */
+public class SimpleJsonPath {
+    /**
+     * Returned by {@link #resolve(Object)} when the path cannot be resolved by navigating the document directly, for example when a key is
+     * applied to a list (which in GPath means that the key is collected from all elements in the list).
+     */
+    public static final Object UNRESOLVABLE = new Object();
+
+    private final Object[] segments;
+
+    private SimpleJsonPath(Object[] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * @param path The path
+     * @return The compiled path or <code>null</code> if the path is not a simple path
+     */
+    public static SimpleJsonPath compile(String path) {
+        if (path == null) {
+            return null;
+        } else if (path.length() == 0 || path.equals("$")) {
+            return new SimpleJsonPath(new Object[0]);
+        }
+        List<Object> segments = new ArrayList<Object>();
+        int length = path.length();
+        int i = 0;
+        boolean expectKey = path.charAt(0) != '[';
+        while (i < length) {
+            if (expectKey) {
+                int start = i;
+                if (!Character.isJavaIdentifierStart(path.charAt(i))) {
+                    return null;
+                }
+                i++;
+                while (i < length && Character.isJavaIdentifierPart(path.charAt(i))) {
+                    i++;
+                }
+                segments.add(path.substring(start, i));
+            }
+            while (i < length && path.charAt(i) == '[') {
+                int start = ++i;
+                while (i < length && path.charAt(i) >= '0' && path.charAt(i) <= '9') {
+                    i++;
+                }
+                if (i == start || i == length || path.charAt(i) != ']' || i - start > 9) {
+                    return null;
+                }
+                segments.add(Integer.parseInt(path.substring(start, i)));
+                i++;
+            }
+            if (i < length) {
+                if (path.charAt(i) != '.' || i == length - 1) {
+                    return null;
+                }
+                i++;
+                expectKey = true;
+            }
+        }
+        return new SimpleJsonPath(segments.toArray());
+    }
+
+    /**
+     * @param document The parsed JSON document
+     * @return The value at the path or {@link #UNRESOLVABLE} if the path cannot be resolved by navigating the document directly
+     */
+    public Object resolve(Object document) {
+        Object current = document;
+        for (Object segment : segments) {
+            if (segment instanceof String) {
+                if (!(current instanceof Map)) {
+                    return UNRESOLVABLE;
+                }
+                current = ((Map) current).get(segment);
+            } else {
+                if (!(current instanceof List)) {
+                    return UNRESOLVABLE;
+                }
+                List list = (List) current;
+                int index = (Integer) segment;
+                current = index < list.size() ? list.get(index) : null;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Resolve the path to a token of a {@link CompactJsonDocument} so that primitive values can be read from the document without decoding
+     * them into objects.
+     *
+     * @param document The parsed JSON document
+     * @return The token of the value at the path or {@link CompactJsonDocument#NO_TOKEN} if the document is not a compact document or if the
+     * path doesn't lead to a value in the document by navigating it directly
+     */
+    public int resolveToken(Object document) {
+        final CompactJsonDocument compactDocument = CompactJsonDocument.documentOf(document);
+        if (compactDocument == null) {
+            return CompactJsonDocument.NO_TOKEN;
+        }
+        int current = CompactJsonDocument.tokenOf(document);
+        for (Object segment : segments) {
+            if (segment instanceof String) {
+                if (compactDocument.kind(current) != CompactJsonDocument.OBJECT) {
+                    return CompactJsonDocument.NO_TOKEN;
+                }
+                current = compactDocument.member(current, (String) segment);
+            } else {
+                if (compactDocument.kind(current) != CompactJsonDocument.ARRAY) {
+                    return CompactJsonDocument.NO_TOKEN;
+                }
+                current = compactDocument.element(current, (Integer) segment);
+            }
+            if (current == CompactJsonDocument.NO_TOKEN) {
+                return CompactJsonDocument.NO_TOKEN;
+            }
+        }
+        return current;
+    }
+}
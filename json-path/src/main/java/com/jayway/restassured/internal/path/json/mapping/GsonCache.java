@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json.mapping;
+
+import com.google.gson.Gson;
+import com.jayway.restassured.internal.assertion.AssertParameter;
+import com.jayway.restassured.internal.mapper.TypeAndCharset;
+import com.jayway.restassured.mapper.factory.GsonObjectMapperFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches the {@link Gson} instance for each type and charset. Gson is thread-safe and caches the type adapters it creates so reusing the
+ * same instance avoids resolving the type adapters of a type for every call. The instances are created by the {@link GsonObjectMapperFactory}
+ * the first time a type and charset is used.
+ */
+public class GsonCache {
+    private final GsonObjectMapperFactory factory;
+    private final ConcurrentMap<TypeAndCharset, Gson> instances = new ConcurrentHashMap<TypeAndCharset, Gson>();
+
+    public GsonCache(GsonObjectMapperFactory factory) {
+        this.factory = AssertParameter.notNull(factory, GsonObjectMapperFactory.class);
+    }
+
+    /**
+     * @param cls     The type to serialize or deserialize
+     * @param charset The charset of the JSON document
+     * @return The Gson instance for the given type and charset
+     */
+    public Gson gsonFor(Class cls, String charset) {
+        TypeAndCharset key = new TypeAndCharset(cls, charset);
+        Gson gson = instances.get(key);
+        if (gson == null) {
+            gson = factory.create(cls, charset);
+            Gson existing = instances.putIfAbsent(key, gson);
+            if (existing != null) {
+                gson = existing;
+            }
+        }
+        return gson;
+    }
+}
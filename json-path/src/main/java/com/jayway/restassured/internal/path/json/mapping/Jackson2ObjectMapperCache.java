@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json.mapping;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.jayway.restassured.internal.assertion.AssertParameter;
+import com.jayway.restassured.internal.mapper.TypeAndCharset;
+import com.jayway.restassured.mapper.factory.Jackson2ObjectMapperFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches the Jackson 2 {@link ObjectReader} and {@link ObjectWriter} for each type and charset so that Jackson doesn't have to resolve the
+ * (de)serializers of a type for every call. The {@link ObjectMapper} that the reader and writer are created from is created by the
+ * {@link Jackson2ObjectMapperFactory} the first time a type and charset is used.
+ */
+public class Jackson2ObjectMapperCache {
+    private final Jackson2ObjectMapperFactory factory;
+    private final ConcurrentMap<TypeAndCharset, Entry> entries = new ConcurrentHashMap<TypeAndCharset, Entry>();
+
+    public Jackson2ObjectMapperCache(Jackson2ObjectMapperFactory factory) {
+        this.factory = AssertParameter.notNull(factory, Jackson2ObjectMapperFactory.class);
+    }
+
+    /**
+     * @param cls     The type to deserialize
+     * @param charset The charset of the data
+     * @return A reader for the given type
+     */
+    public ObjectReader readerFor(Class cls, String charset) {
+        Entry entry = entryFor(cls, charset);
+        ObjectReader reader = entry.reader;
+        if (reader == null) {
+            reader = entry.mapper.reader(entry.mapper.constructType(cls));
+            entry.reader = reader;
+        }
+        return reader;
+    }
+
+    /**
+     * @param cls     The type to serialize
+     * @param charset The charset that the object is serialized to
+     * @return A writer for the given type
+     */
+    public ObjectWriter writerFor(Class cls, String charset) {
+        Entry entry = entryFor(cls, charset);
+        ObjectWriter writer = entry.writer;
+        if (writer == null) {
+            writer = entry.mapper.writerWithType(cls);
+            entry.writer = writer;
+        }
+        return writer;
+    }
+
+    private Entry entryFor(Class cls, String charset) {
+        TypeAndCharset key = new TypeAndCharset(cls, charset);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry(factory.create(cls, charset));
+            Entry existing = entries.putIfAbsent(key, entry);
+            if (existing != null) {
+                entry = existing;
+            }
+        }
+        return entry;
+    }
+
+    private static class Entry {
+        private final ObjectMapper mapper;
+        // Readers and writers are immutable so it doesn't matter if they're created more than once
+        private volatile ObjectReader reader;
+        private volatile ObjectWriter writer;
+
+        private Entry(ObjectMapper mapper) {
+            this.mapper = mapper;
+        }
+    }
+}
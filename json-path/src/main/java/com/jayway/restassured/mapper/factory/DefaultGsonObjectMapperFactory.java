@@ -19,10 +19,19 @@ package com.jayway.restassured.mapper.factory;
 import com.google.gson.Gson;
 
 /**
- * Simply creates a new Gson instance.
+ * Creates a Gson instance with the default configuration. The same instance is returned for all types and charsets since Gson is
+ * thread-safe and caches the type adapters it creates.
  */
 public class DefaultGsonObjectMapperFactory implements GsonObjectMapperFactory {
+    // Created lazily so that Gson is only loaded if it's used
+    private volatile Gson gson;
+
     public Gson create(Class cls, String charset) {
-        return new Gson();
+        Gson instance = gson;
+        if (instance == null) {
+            instance = new Gson();
+            gson = instance;
+        }
+        return instance;
     }
 }
\ No newline at end of file
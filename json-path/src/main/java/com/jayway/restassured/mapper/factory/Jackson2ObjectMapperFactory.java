@@ -22,6 +22,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 /**
  * Interface for Jackson 2.0 based object mappers. Implement this class and register it to the ObjectMapperConfig if you
  * want to override default settings for the Jackson 2.0 object mapper.
+ * <p>
+ * Note that REST Assured caches the object mapper created for a given type and charset (per object mapper configuration) so the factory
+ * is not invoked for every request.
+ * </p>
  */
 public interface Jackson2ObjectMapperFactory extends ObjectMapperFactory<ObjectMapper> {
 }
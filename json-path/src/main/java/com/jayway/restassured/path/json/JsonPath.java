@@ -18,20 +18,25 @@ package com.jayway.restassured.path.json;
 
 import com.jayway.restassured.internal.assertion.AssertParameter;
 import com.jayway.restassured.internal.path.ObjectConverter;
-import com.jayway.restassured.internal.path.json.ConfigurableJsonSlurper;
+import com.jayway.restassured.internal.path.json.CompactJsonDocument;
+import com.jayway.restassured.internal.path.json.JsonDocumentParser;
 import com.jayway.restassured.internal.path.json.JSONAssertion;
 import com.jayway.restassured.internal.path.json.JsonPrettifier;
+import com.jayway.restassured.internal.path.json.SimpleJsonPath;
 import com.jayway.restassured.internal.path.json.mapping.JsonObjectDeserializer;
 import com.jayway.restassured.mapper.factory.GsonObjectMapperFactory;
 import com.jayway.restassured.mapper.factory.Jackson1ObjectMapperFactory;
 import com.jayway.restassured.mapper.factory.Jackson2ObjectMapperFactory;
 import com.jayway.restassured.path.json.config.JsonParserType;
 import com.jayway.restassured.path.json.config.JsonPathConfig;
+import com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType;
 import com.jayway.restassured.path.json.exception.JsonPathException;
 import groovy.json.JsonBuilder;
 import groovy.json.JsonOutput;
 
 import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URL;
 import java.util.*;
 import java.util.Map.Entry;
@@ -197,8 +202,17 @@ public class JsonPath {
      * cannot be casted to the expected type.
      */
     public <T> T get(String path) {
+        AssertParameter.notNull(path, "path");
+        final Object json = jsonParser.parseWith(createJsonDocumentParser());
+        // Paths that only consist of keys and indices are resolved without evaluating them as Groovy expressions
+        final SimpleJsonPath simpleJsonPath = SimpleJsonPath.compile(fullPath(path));
+        if (simpleJsonPath != null) {
+            final Object value = simpleJsonPath.resolve(json);
+            if (value != SimpleJsonPath.UNRESOLVABLE) {
+                return (T) value;
+            }
+        }
         final JSONAssertion jsonAssertion = createJsonAssertion(path, params);
-        final Object json = jsonParser.parseWith(createConfigurableJsonSlurper());
         return (T) jsonAssertion.getResult(json, null);
     }
 
@@ -232,12 +246,20 @@ public class JsonPath {
      * cannot be casted to the expected type.
      */
     public int getInt(String path) {
+        final Object json = jsonParser.parseWith(createJsonDocumentParser());
+        final CompactJsonDocument document = CompactJsonDocument.documentOf(json);
+        if (document != null) {
+            final int token = compactToken(json, path);
+            if (token != CompactJsonDocument.NO_TOKEN && document.isIntegral(token)) {
+                return (int) document.longAt(token);
+            }
+        }
         //The type returned from Groovy depends on the input, so we need to handle different numerical types.
         Object value = get(path);
         if (value instanceof Integer) {
             return (Integer) value;
-        } else if (value instanceof Short) {
-            return ((Short) value).intValue();
+        } else if (value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
         } else if (value instanceof Long) {
             return ((Long) value).intValue();
         } else {
@@ -253,6 +275,14 @@ public class JsonPath {
      * cannot be casted to the expected type.
      */
     public byte getByte(String path) {
+        final Object json = jsonParser.parseWith(createJsonDocumentParser());
+        final CompactJsonDocument document = CompactJsonDocument.documentOf(json);
+        if (document != null) {
+            final int token = compactToken(json, path);
+            if (token != CompactJsonDocument.NO_TOKEN && document.isIntegral(token)) {
+                return (byte) document.longAt(token);
+            }
+        }
         //The type returned from Groovy depends on the input, so we need to handle different numerical types.
         Object value = get(path);
         if (value instanceof Byte) {
@@ -274,6 +304,14 @@ public class JsonPath {
      * cannot be casted to the expected type.
      */
     public short getShort(String path) {
+        final Object json = jsonParser.parseWith(createJsonDocumentParser());
+        final CompactJsonDocument document = CompactJsonDocument.documentOf(json);
+        if (document != null) {
+            final int token = compactToken(json, path);
+            if (token != CompactJsonDocument.NO_TOKEN && document.isIntegral(token)) {
+                return (short) document.longAt(token);
+            }
+        }
         //The type returned from Groovy depends on the input, so we need to handle different numerical types.
         Object value = get(path);
         if (value instanceof Short) {
@@ -295,10 +333,20 @@ public class JsonPath {
      * cannot be casted to the expected type.
      */
     public float getFloat(String path) {
+        final Object json = jsonParser.parseWith(createJsonDocumentParser());
+        final CompactJsonDocument document = CompactJsonDocument.documentOf(json);
+        if (document != null) {
+            final int token = compactToken(json, path);
+            if (token != CompactJsonDocument.NO_TOKEN && document.isIntegral(token)) {
+                return document.longAt(token);
+            } else if (token != CompactJsonDocument.NO_TOKEN && document.isFractional(token)
+                    && getJsonPathConfig().numberReturnType() == NumberReturnType.FLOAT_AND_DOUBLE) {
+                return document.floatAt(token);
+            }
+        }
         final Object value = get(path);
-        //Groovy will always return a Double for floating point values.
-        if (value instanceof Double) {
-            return ((Double) value).floatValue();
+        if (value instanceof Number) {
+            return ((Number) value).floatValue();
         } else {
             return ObjectConverter.convertObjectTo(value, Float.class);
         }
@@ -312,10 +360,25 @@ public class JsonPath {
      * cannot be casted to the expected type.
      */
     public double getDouble(String path) {
+        final Object json = jsonParser.parseWith(createJsonDocumentParser());
+        final CompactJsonDocument document = CompactJsonDocument.documentOf(json);
+        if (document != null) {
+            final int token = compactToken(json, path);
+            if (token != CompactJsonDocument.NO_TOKEN && document.isIntegral(token)) {
+                return document.longAt(token);
+            } else if (token != CompactJsonDocument.NO_TOKEN && document.isFractional(token)
+                    && getJsonPathConfig().numberReturnType() != NumberReturnType.FLOAT_AND_DOUBLE) {
+                // Numbers that are returned as floats are converted using their string representation below
+                return document.doubleAt(token);
+            }
+        }
         final Object value = get(path);
         if (value instanceof Double) {
             return (Double) value;
+        } else if (isIntegral(value) || value instanceof BigDecimal) {
+            return ((Number) value).doubleValue();
         }
+        // Floats are converted using their string representation so that e.g. 12.1f becomes 12.1 and not 12.100000381469727
         return ObjectConverter.convertObjectTo(value, Double.class);
     }
 
@@ -327,14 +390,22 @@ public class JsonPath {
      * cannot be casted to the expected type.
      */
     public long getLong(String path) {
+        final Object json = jsonParser.parseWith(createJsonDocumentParser());
+        final CompactJsonDocument document = CompactJsonDocument.documentOf(json);
+        if (document != null) {
+            final int token = compactToken(json, path);
+            if (token != CompactJsonDocument.NO_TOKEN && document.isIntegral(token)) {
+                return document.longAt(token);
+            }
+        }
         //The type returned from Groovy depends on the input, so we need to handle different numerical types.
         Object value = get(path);
         if (value instanceof Long) {
             return (Long) value;
-        } else if (value instanceof Short) {
-            return ((Short) value).longValue();
-        } else if (value instanceof Integer) {
-            return ((Integer) value).longValue();
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        } else if (value instanceof BigInteger && ((BigInteger) value).bitLength() < 64) {
+            return ((BigInteger) value).longValue();
         } else {
             return ObjectConverter.convertObjectTo(value, Long.class);
         }
@@ -848,10 +919,10 @@ public class JsonPath {
     private JsonParser parseInputStream(final InputStream stream) {
         return new JsonParser() {
             @Override
-            public Object doParseWith(final ConfigurableJsonSlurper slurper) {
+            public Object doParseWith(final JsonDocumentParser parser) {
                 return new ExceptionCatcher() {
                     protected Object method() throws Exception {
-                        return slurper.parse(toReader(stream));
+                        return parser.parse(toReader(stream));
                     }
                 }.invoke();
             }
@@ -861,10 +932,10 @@ public class JsonPath {
     private JsonParser parseReader(final Reader reader) {
         return new JsonParser() {
             @Override
-            public Object doParseWith(final ConfigurableJsonSlurper slurper) {
+            public Object doParseWith(final JsonDocumentParser parser) {
                 return new ExceptionCatcher() {
                     protected Object method() throws Exception {
-                        return slurper.parse(reader);
+                        return parser.parse(reader);
                     }
                 }.invoke();
             }
@@ -874,10 +945,10 @@ public class JsonPath {
     private JsonParser parseFile(final File file) {
         return new JsonParser() {
             @Override
-            public Object doParseWith(final ConfigurableJsonSlurper slurper) {
+            public Object doParseWith(final JsonDocumentParser parser) {
                 return new ExceptionCatcher() {
                     protected Object method() throws Exception {
-                        return slurper.parse(new FileReader(file));
+                        return parser.parse(new FileReader(file));
                     }
                 }.invoke();
             }
@@ -887,10 +958,10 @@ public class JsonPath {
     private JsonParser parseText(final String text) {
         return new JsonParser() {
             @Override
-            public Object doParseWith(final ConfigurableJsonSlurper slurper) {
+            public Object doParseWith(final JsonDocumentParser parser) {
                 return new ExceptionCatcher() {
                     protected Object method() throws Exception {
-                        return slurper.parseText(text);
+                        return parser.parseText(text);
                     }
                 }.invoke();
             }
@@ -900,10 +971,10 @@ public class JsonPath {
     private JsonParser parseURL(final URL url) {
         return new JsonParser() {
             @Override
-            public Object doParseWith(final ConfigurableJsonSlurper slurper) {
+            public Object doParseWith(final JsonDocumentParser parser) {
                 return new ExceptionCatcher() {
                     protected Object method() throws Exception {
-                        return slurper.parse(toReader(url.openStream()));
+                        return parser.parse(toReader(url.openStream()));
                     }
                 }.invoke();
             }
@@ -934,24 +1005,41 @@ public class JsonPath {
 
     public <T> T getJsonObject(String path) {
         final JSONAssertion jsonAssertion = createJsonAssertion(path, params);
-        final Object json = jsonParser.parseWith(createConfigurableJsonSlurper());
+        final Object json = jsonParser.parseWith(createJsonDocumentParser());
         return (T) jsonAssertion.getAsJsonObject(json);
     }
 
     private JSONAssertion createJsonAssertion(String path, Map<String, Object> params) {
         AssertParameter.notNull(path, "path");
         final JSONAssertion jsonAssertion = new JSONAssertion();
-        final String root = rootPath.equals("") ? rootPath : rootPath.endsWith(".") ? rootPath : rootPath + ".";
-        jsonAssertion.setKey(root + path);
+        jsonAssertion.setKey(fullPath(path));
         if (params != null) {
             jsonAssertion.setParams(params);
         }
         return jsonAssertion;
     }
 
-    private ConfigurableJsonSlurper createConfigurableJsonSlurper() {
+    /*
+     * The primitive getters read numbers of compact documents straight from the source of the document instead of decoding them into
+     * Numbers that are unboxed, as long as the path can be resolved by navigating the document.
+     */
+    private int compactToken(Object json, String path) {
+        final SimpleJsonPath simpleJsonPath = SimpleJsonPath.compile(fullPath(path));
+        return simpleJsonPath == null ? CompactJsonDocument.NO_TOKEN : simpleJsonPath.resolveToken(json);
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    private String fullPath(String path) {
+        final String root = rootPath.equals("") ? rootPath : rootPath.endsWith(".") ? rootPath : rootPath + ".";
+        return root + path;
+    }
+
+    private JsonDocumentParser createJsonDocumentParser() {
         JsonPathConfig cfg = getJsonPathConfig();
-        return new ConfigurableJsonSlurper(cfg.numberReturnType());
+        return JsonDocumentParser.create(cfg.numberReturnType(), cfg.documentModel(), cfg.documentParser());
     }
 
     private JsonPathConfig getJsonPathConfig() {
@@ -969,14 +1057,14 @@ public class JsonPath {
     private abstract class JsonParser {
         private Object json;
 
-        public final Object parseWith(ConfigurableJsonSlurper slurper) {
+        public final Object parseWith(JsonDocumentParser parser) {
             if (json == null) {
-                json = doParseWith(slurper);
+                json = doParseWith(parser);
             }
             return json;
         }
 
-        abstract Object doParseWith(ConfigurableJsonSlurper slurper);
+        abstract Object doParseWith(JsonDocumentParser parser);
 
     }
 
@@ -988,7 +1076,7 @@ public class JsonPath {
     }
 
     private String toJsonString() {
-        final Object json = jsonParser.parseWith(createConfigurableJsonSlurper());
+        final Object json = jsonParser.parseWith(createJsonDocumentParser());
         final String jsonString;
         if (json instanceof Map) {
             jsonString = JsonOutput.toJson((Map) json);
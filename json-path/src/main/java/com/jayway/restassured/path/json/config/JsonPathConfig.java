@@ -22,6 +22,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.nio.charset.Charset;
 
+import static com.jayway.restassured.path.json.config.JsonPathConfig.DocumentModel.MAPS_AND_LISTS;
 import static com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType.BIG_DECIMAL;
 import static com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType.FLOAT_AND_DOUBLE;
 
@@ -40,6 +41,8 @@ public class JsonPathConfig {
     private final Jackson1ObjectMapperFactory jackson1ObjectMapperFactory;
     private final Jackson2ObjectMapperFactory jackson2ObjectMapperFactory;
     private final String charset;
+    private final DocumentModel documentModel;
+    private final DocumentParser documentParser;
 
 
     /**
@@ -49,7 +52,7 @@ public class JsonPathConfig {
      */
     public JsonPathConfig(JsonPathConfig config) {
         this(config.numberReturnType(), config.defaultParserType(), config.gsonObjectMapperFactory(), config.jackson1ObjectMapperFactory(),
-                config.jackson2ObjectMapperFactory(), config.defaultDeserializer(), config.charset());
+                config.jackson2ObjectMapperFactory(), config.defaultDeserializer(), config.charset(), config.documentModel(), config.documentParser());
     }
 
     /**
@@ -57,7 +60,7 @@ public class JsonPathConfig {
      */
     public JsonPathConfig() {
         this(FLOAT_AND_DOUBLE, null, new DefaultGsonObjectMapperFactory(), new DefaultJackson1ObjectMapperFactory(),
-                new DefaultJackson2ObjectMapperFactory(), null, defaultCharset());
+                new DefaultJackson2ObjectMapperFactory(), null, defaultCharset(), MAPS_AND_LISTS, DocumentParser.DEFAULT);
     }
 
 
@@ -66,7 +69,7 @@ public class JsonPathConfig {
      */
     public JsonPathConfig(NumberReturnType numberReturnType) {
         this(numberReturnType, null, new DefaultGsonObjectMapperFactory(), new DefaultJackson1ObjectMapperFactory(),
-                new DefaultJackson2ObjectMapperFactory(), null, defaultCharset());
+                new DefaultJackson2ObjectMapperFactory(), null, defaultCharset(), MAPS_AND_LISTS, DocumentParser.DEFAULT);
 
     }
 
@@ -75,14 +78,17 @@ public class JsonPathConfig {
      */
     public JsonPathConfig(String defaultCharset) {
         this(FLOAT_AND_DOUBLE, null, new DefaultGsonObjectMapperFactory(), new DefaultJackson1ObjectMapperFactory(),
-                new DefaultJackson2ObjectMapperFactory(), null, defaultCharset);
+                new DefaultJackson2ObjectMapperFactory(), null, defaultCharset, MAPS_AND_LISTS, DocumentParser.DEFAULT);
 
     }
 
     private JsonPathConfig(NumberReturnType numberReturnType, JsonParserType parserType, GsonObjectMapperFactory gsonObjectMapperFactory,
                            Jackson1ObjectMapperFactory jackson1ObjectMapperFactory, Jackson2ObjectMapperFactory jackson2ObjectMapperFactory,
-                           JsonPathObjectDeserializer defaultDeserializer, String charset) {
+                           JsonPathObjectDeserializer defaultDeserializer, String charset, DocumentModel documentModel,
+                           DocumentParser documentParser) {
         if (numberReturnType == null) throw new IllegalArgumentException("numberReturnType cannot be null");
+        if (documentModel == null) throw new IllegalArgumentException("documentModel cannot be null");
+        if (documentParser == null) throw new IllegalArgumentException("documentParser cannot be null");
         charset = StringUtils.trimToNull(charset);
         if (charset == null) throw new IllegalArgumentException("Charset cannot be empty");
         this.charset = charset;
@@ -92,6 +98,8 @@ public class JsonPathConfig {
         this.gsonObjectMapperFactory = gsonObjectMapperFactory;
         this.jackson1ObjectMapperFactory = jackson1ObjectMapperFactory;
         this.jackson2ObjectMapperFactory = jackson2ObjectMapperFactory;
+        this.documentModel = documentModel;
+        this.documentParser = documentParser;
     }
 
     private static String defaultCharset() {
@@ -110,7 +118,7 @@ public class JsonPathConfig {
      */
     public JsonPathConfig charset(String charset) {
         return new JsonPathConfig(numberReturnType, defaultParserType, gsonObjectMapperFactory,
-                jackson1ObjectMapperFactory, jackson2ObjectMapperFactory, defaultDeserializer, charset);
+                jackson1ObjectMapperFactory, jackson2ObjectMapperFactory, defaultDeserializer, charset, documentModel, documentParser);
     }
 
 
@@ -126,13 +134,44 @@ public class JsonPathConfig {
      */
     public JsonPathConfig numberReturnType(NumberReturnType numberReturnType) {
         return new JsonPathConfig(numberReturnType, defaultParserType, gsonObjectMapperFactory,
-                jackson1ObjectMapperFactory, jackson2ObjectMapperFactory, defaultDeserializer, charset);
+                jackson1ObjectMapperFactory, jackson2ObjectMapperFactory, defaultDeserializer, charset, documentModel, documentParser);
     }
 
     public boolean shouldRepresentJsonNumbersAsBigDecimal() {
         return numberReturnType() == BIG_DECIMAL;
     }
 
+    public DocumentModel documentModel() {
+        return documentModel;
+    }
+
+    /**
+     * Specifies how JsonPath should represent parsed JSON documents in memory.
+     *
+     * @param documentModel The document model
+     * @return A new instance of JsonPathConfig with the given configuration
+     */
+    public JsonPathConfig documentModel(DocumentModel documentModel) {
+        return new JsonPathConfig(numberReturnType, defaultParserType, gsonObjectMapperFactory,
+                jackson1ObjectMapperFactory, jackson2ObjectMapperFactory, defaultDeserializer, charset, documentModel, documentParser);
+    }
+
+    public DocumentParser documentParser() {
+        return documentParser;
+    }
+
+    /**
+     * Specifies which parser JsonPath should use to parse JSON documents into maps and lists. This setting is ignored when the
+     * document model is {@link DocumentModel#COMPACT}.
+     *
+     * @param documentParser The document parser
+     * @return A new instance of JsonPathConfig with the given configuration
+     */
+    public JsonPathConfig documentParser(DocumentParser documentParser) {
+        return new JsonPathConfig(numberReturnType, defaultParserType, gsonObjectMapperFactory,
+                jackson1ObjectMapperFactory, jackson2ObjectMapperFactory, defaultDeserializer, charset, documentModel, documentParser);
+    }
+
     public JsonParserType defaultParserType() {
         return defaultParserType;
     }
@@ -160,7 +199,7 @@ public class JsonPathConfig {
      */
     public JsonPathConfig defaultParserType(JsonParserType defaultParserType) {
         return new JsonPathConfig(numberReturnType, defaultParserType, gsonObjectMapperFactory,
-                jackson1ObjectMapperFactory, jackson2ObjectMapperFactory, defaultDeserializer, charset);
+                jackson1ObjectMapperFactory, jackson2ObjectMapperFactory, defaultDeserializer, charset, documentModel, documentParser);
     }
 
     public JsonPathObjectDeserializer defaultDeserializer() {
@@ -178,7 +217,7 @@ public class JsonPathConfig {
      */
     public JsonPathConfig defaultObjectDeserializer(JsonPathObjectDeserializer defaultObjectDeserializer) {
         return new JsonPathConfig(numberReturnType, null, gsonObjectMapperFactory, jackson1ObjectMapperFactory,
-                jackson2ObjectMapperFactory, defaultObjectDeserializer, charset);
+                jackson2ObjectMapperFactory, defaultObjectDeserializer, charset, documentModel, documentParser);
     }
 
     public GsonObjectMapperFactory gsonObjectMapperFactory() {
@@ -192,7 +231,7 @@ public class JsonPathConfig {
      */
     public JsonPathConfig gsonObjectMapperFactory(GsonObjectMapperFactory gsonObjectMapperFactory) {
         return new JsonPathConfig(numberReturnType, defaultParserType, gsonObjectMapperFactory,
-                jackson1ObjectMapperFactory, jackson2ObjectMapperFactory, defaultDeserializer, charset);
+                jackson1ObjectMapperFactory, jackson2ObjectMapperFactory, defaultDeserializer, charset, documentModel, documentParser);
     }
 
     public Jackson1ObjectMapperFactory jackson1ObjectMapperFactory() {
@@ -206,7 +245,7 @@ public class JsonPathConfig {
      */
     public JsonPathConfig jackson1ObjectMapperFactory(Jackson1ObjectMapperFactory jackson1ObjectMapperFactory) {
         return new JsonPathConfig(numberReturnType, defaultParserType, gsonObjectMapperFactory,
-                jackson1ObjectMapperFactory, jackson2ObjectMapperFactory, defaultDeserializer, charset);
+                jackson1ObjectMapperFactory, jackson2ObjectMapperFactory, defaultDeserializer, charset, documentModel, documentParser);
     }
 
     public Jackson2ObjectMapperFactory jackson2ObjectMapperFactory() {
@@ -220,7 +259,7 @@ public class JsonPathConfig {
      */
     public JsonPathConfig jackson2ObjectMapperFactory(Jackson2ObjectMapperFactory jackson2ObjectMapperFactory) {
         return new JsonPathConfig(numberReturnType, defaultParserType, gsonObjectMapperFactory,
-                jackson1ObjectMapperFactory, jackson2ObjectMapperFactory, defaultDeserializer, charset);
+                jackson1ObjectMapperFactory, jackson2ObjectMapperFactory, defaultDeserializer, charset, documentModel, documentParser);
     }
 
     /**
@@ -266,4 +305,35 @@ public class JsonPathConfig {
          */
         DOUBLE
     }
+
+    /**
+     * Specifies how parsed JSON documents are represented in memory
+     */
+    public enum DocumentModel {
+        /**
+         * Parse JSON objects and arrays into maps and lists and decode all strings and numbers up front
+         */
+        MAPS_AND_LISTS,
+        /**
+         * Keep the JSON source together with an index of its tokens and expose objects and arrays as read-only map and list views.
+         * Strings and numbers are only decoded when they're accessed. This uses a fraction of the memory of {@link #MAPS_AND_LISTS}
+         * which makes it suitable for large documents.
+         */
+        COMPACT
+    }
+
+    /**
+     * Specifies which parser to use when parsing JSON documents into maps and lists
+     */
+    public enum DocumentParser {
+        /**
+         * Use the built-in parser
+         */
+        DEFAULT,
+        /**
+         * Use the Jackson 2 streaming parser, which requires Jackson 2 to be in the classpath. Jackson doesn't accept trailing commas in
+         * objects and arrays.
+         */
+        JACKSON_2
+    }
 }
@@ -20,6 +20,10 @@ import com.jayway.restassured.exception.PathException;
 
 public class JsonPathException extends PathException {
 
+    public JsonPathException(String message) {
+        super(message);
+    }
+
     public JsonPathException(String message, Throwable cause) {
         super(message, cause);
     }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json;
+
+import groovy.json.JsonException;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType.BIG_DECIMAL;
+import static com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType.FLOAT_AND_DOUBLE;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class CompactJsonDocumentTest {
+
+    @Test public void
+    objects_and_arrays_are_exposed_as_maps_and_lists() {
+        // When
+        Map<String, Object> document = (Map<String, Object>) CompactJsonDocument.parseText(
+                "{ \"lotto\" : { \"lottoId\" : 5, \"winning-numbers\" : [2, 45, 34], \"winners\" : [{ \"winnerId\" : 23, \"name\" : \"Johan\" }], " +
+                        "\"empty\" : {}, \"none\" : [] }, \"active\" : true, \"closed\" : false, \"comment\" : null }", FLOAT_AND_DOUBLE);
+
+        // Then
+        Map<String, Object> winner = new HashMap<String, Object>();
+        winner.put("winnerId", 23);
+        winner.put("name", "Johan");
+        Map<String, Object> lotto = new HashMap<String, Object>();
+        lotto.put("lottoId", 5);
+        lotto.put("winning-numbers", Arrays.asList(2, 45, 34));
+        lotto.put("winners", Collections.singletonList(winner));
+        lotto.put("empty", Collections.emptyMap());
+        lotto.put("none", Collections.emptyList());
+        Map<String, Object> expected = new HashMap<String, Object>();
+        expected.put("lotto", lotto);
+        expected.put("active", true);
+        expected.put("closed", false);
+        expected.put("comment", null);
+
+        assertThat(document, equalTo(expected));
+        assertThat(document.size(), equalTo(4));
+        assertThat(document.containsKey("comment"), is(true));
+        assertThat(document.containsKey("nonExisting"), is(false));
+        assertThat(SimpleJsonPath.compile("lotto.winners[0].name").resolve(document), equalTo((Object) "Johan"));
+    }
+
+    @Test public void
+    array_elements_can_be_accessed_by_iteration_and_by_index() {
+        // When
+        List<Object> document = (List<Object>) CompactJsonDocument.parseText("[ \"a\", [1, 2], { \"b\" : [] }, \"c\" ]", FLOAT_AND_DOUBLE);
+
+        // Then
+        assertThat(document.size(), equalTo(4));
+        assertThat(document.get(3), equalTo((Object) "c"));
+        assertThat(document.get(1), equalTo((Object) Arrays.asList(1, 2)));
+        assertThat(document.iterator().next(), equalTo((Object) "a"));
+    }
+
+    @Test public void
+    duplicated_keys_are_counted_and_iterated_once_with_the_last_value() {
+        // When
+        Map<String, Object> document = (Map<String, Object>) CompactJsonDocument.parseText("{ \"a\" : 1, \"b\" : 2, \"a\" : 3 }", FLOAT_AND_DOUBLE);
+
+        // Then
+        Map<String, Object> expected = new HashMap<String, Object>();
+        expected.put("a", 3);
+        expected.put("b", 2);
+        assertThat(document.size(), equalTo(2));
+        assertThat(document.get("a"), equalTo((Object) 3));
+        assertThat(document, equalTo(expected));
+        assertThat(expected, equalTo((Object) document));
+        Iterator<Map.Entry<String, Object>> entries = document.entrySet().iterator();
+        assertThat(entries.next().getKey(), equalTo("a"));
+        assertThat(entries.next().getKey(), equalTo("b"));
+        assertThat(entries.hasNext(), is(false));
+    }
+
+    @Test public void
+    documents_with_more_tokens_than_the_initial_tape_can_hold_are_parsed() {
+        // Given
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 10000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append("}");
+        }
+        json.append("]");
+
+        // When
+        List<Object> document = (List<Object>) CompactJsonDocument.parseText(json.toString(), FLOAT_AND_DOUBLE);
+
+        // Then
+        assertThat(document.size(), equalTo(10000));
+        assertThat(((Map<String, Object>) document.get(9999)).get("id"), equalTo((Object) 9999));
+    }
+
+    @Test public void
+    numbers_are_decoded_according_to_the_number_return_type() {
+        // Given
+        String json = "[1, -12345678901, 123456789012345678901234567890, 1.5, 2e400]";
+
+        // When
+        List<Object> floatsAndDoubles = (List<Object>) CompactJsonDocument.parseText(json, FLOAT_AND_DOUBLE);
+        List<Object> bigDecimals = (List<Object>) CompactJsonDocument.parseText(json, BIG_DECIMAL);
+
+        // Then
+        assertThat(floatsAndDoubles.get(0), equalTo((Object) 1));
+        assertThat(floatsAndDoubles.get(1), equalTo((Object) (-12345678901L)));
+        assertThat(floatsAndDoubles.get(2), equalTo((Object) new BigInteger("123456789012345678901234567890")));
+        assertThat(floatsAndDoubles.get(3), equalTo((Object) 1.5f));
+        assertThat(floatsAndDoubles.get(4), equalTo((Object) Double.POSITIVE_INFINITY));
+        assertThat(bigDecimals.get(3), equalTo((Object) new BigDecimal("1.5")));
+    }
+
+    @Test public void
+    numbers_are_read_as_primitives_by_token() {
+        // Given
+        List<Object> array = (List<Object>) CompactJsonDocument.parseText("[-123456789012345678, 1234567890123456789, 12.5e-1, \"1\"]", FLOAT_AND_DOUBLE);
+        CompactJsonDocument document = CompactJsonDocument.documentOf(array);
+
+        // Then
+        assertThat(document.isIntegral(1), is(true));
+        assertThat(document.longAt(1), equalTo(-123456789012345678L));
+        assertThat(document.isIntegral(2), is(false));
+        assertThat(document.isFractional(2), is(false));
+        assertThat(document.isIntegral(3), is(false));
+        assertThat(document.isFractional(3), is(true));
+        assertThat(document.doubleAt(3), equalTo(1.25d));
+        assertThat(document.floatAt(3), equalTo(1.25f));
+        assertThat(document.isIntegral(4), is(false));
+        assertThat(document.isFractional(4), is(false));
+    }
+
+    @Test public void
+    escape_sequences_are_decoded_in_keys_and_values() throws Exception {
+        // When
+        Map<String, Object> document = (Map<String, Object>) CompactJsonDocument.parse(
+                new StringReader("{ \"quote\\\"d\" : \"line\\nbreak \\u00e5\\/\" }"), FLOAT_AND_DOUBLE);
+
+        // Then
+        assertThat(document.get("quote\"d"), equalTo((Object) "line\nbreak \u00e5/"));
+    }
+
+    @Test public void
+    empty_documents_are_parsed_to_null() throws Exception {
+        assertThat(CompactJsonDocument.parse(new StringReader("  "), FLOAT_AND_DOUBLE), nullValue());
+    }
+
+    @Test(expected = JsonException.class) public void
+    invalid_documents_are_rejected() {
+        CompactJsonDocument.parseText("{ \"lotto\" : [1, 2 }", FLOAT_AND_DOUBLE);
+    }
+}
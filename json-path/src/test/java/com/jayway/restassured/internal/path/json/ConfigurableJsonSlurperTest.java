@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json;
+
+import groovy.json.JsonException;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class ConfigurableJsonSlurperTest {
+
+    @Test public void
+    non_integral_numbers_are_converted_according_to_the_number_return_type() {
+        // Given
+        String json = "[1.5, 3.3e38, 3.5e38, 12, 12345678901, 123456789012345678901234567890]";
+
+        // When
+        List<Object> floatsAndDoubles = (List<Object>) new ConfigurableJsonSlurper(FLOAT_AND_DOUBLE).parseText(json);
+        List<Object> doubles = (List<Object>) new ConfigurableJsonSlurper(DOUBLE).parseText(json);
+        List<Object> bigDecimals = (List<Object>) new ConfigurableJsonSlurper(BIG_DECIMAL).parseText(json);
+
+        // Then
+        assertThat(floatsAndDoubles, contains((Object) 1.5f, 3.3e38f, 3.5e38d, 12, 12345678901L, new BigInteger("123456789012345678901234567890")));
+        assertThat(doubles.subList(0, 3), contains((Object) 1.5d, 3.3e38d, 3.5e38d));
+        assertThat(bigDecimals.subList(0, 3), contains((Object) new BigDecimal("1.5"), new BigDecimal("3.3e38"), new BigDecimal("3.5e38")));
+    }
+
+    @Test public void
+    parses_objects_arrays_and_literals_and_ignores_trailing_commas() {
+        // When
+        Map<String, Object> document = (Map<String, Object>) new ConfigurableJsonSlurper(FLOAT_AND_DOUBLE).parseText(
+                "{ \"numbers\" : [1, 2, ],\n \"flags\" : { \"t\" : true, \"f\" : false, \"n\" : null, },\n \"text\" : \"tab\\there \\u00e5\" }");
+
+        // Then
+        assertThat(document.get("numbers"), equalTo((Object) Arrays.asList(1, 2)));
+        assertThat(((Map<String, Object>) document.get("flags")).get("t"), equalTo((Object) true));
+        assertThat(((Map<String, Object>) document.get("flags")).get("f"), equalTo((Object) false));
+        assertThat(((Map<String, Object>) document.get("flags")).containsKey("n"), is(true));
+        assertThat(document.get("text"), equalTo((Object) "tab\there \u00e5"));
+    }
+
+    @Test public void
+    strings_spanning_multiple_reads_are_parsed() {
+        // Given
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            value.append("ab");
+        }
+
+        // When
+        List<Object> document = (List<Object>) new ConfigurableJsonSlurper(FLOAT_AND_DOUBLE).parse(
+                new StringReader("[\"" + value + "\", \"" + value + "\\n\"]"));
+
+        // Then
+        assertThat(document, contains((Object) value.toString(), value + "\n"));
+    }
+
+    @Test public void
+    empty_documents_are_parsed_to_null() {
+        assertThat(new ConfigurableJsonSlurper(FLOAT_AND_DOUBLE).parse(new StringReader("\n")), nullValue());
+    }
+
+    @Test(expected = JsonException.class) public void
+    documents_that_are_neither_objects_nor_arrays_are_rejected() {
+        new ConfigurableJsonSlurper(FLOAT_AND_DOUBLE).parseText("\"value\"");
+    }
+
+    @Test(expected = JsonException.class) public void
+    malformed_documents_are_rejected() {
+        new ConfigurableJsonSlurper(FLOAT_AND_DOUBLE).parseText("{ \"key\" : [1, 2 }");
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json;
+
+import groovy.json.JsonException;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class Jackson2DocumentParserTest {
+    private static final String JSON = "{ \"lotto\" : { \"lottoId\" : 5, \"numbers\" : [52, 3, 12345678901, 123456789012345678901234567890],\n" +
+            "\"winners\" : [{ \"winnerId\" : 23, \"name\" : \"Johan \\\"the winner\\\"\", \"share\" : 0.25, \"verified\" : true, \"note\" : null }],\n" +
+            "\"jackpot\" : 3.5e38, \"open\" : false } }";
+
+    @Test public void
+    produces_the_same_document_as_the_default_parser() throws Exception {
+        for (com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType numberReturnType : values()) {
+            // When
+            Object document = new Jackson2DocumentParser(numberReturnType).parse(new StringReader(JSON));
+
+            // Then
+            assertThat(document, equalTo(new ConfigurableJsonSlurper(numberReturnType).parseText(JSON)));
+        }
+    }
+
+    @Test public void
+    non_integral_numbers_are_converted_according_to_the_number_return_type() {
+        // Given
+        String json = "[1.5, 3.3e38, 3.5e38]";
+
+        // Then
+        assertThat((List<Object>) new Jackson2DocumentParser(FLOAT_AND_DOUBLE).parseText(json), contains((Object) 1.5f, 3.3e38f, 3.5e38d));
+        assertThat((List<Object>) new Jackson2DocumentParser(DOUBLE).parseText(json), contains((Object) 1.5d, 3.3e38d, 3.5e38d));
+        assertThat((List<Object>) new Jackson2DocumentParser(BIG_DECIMAL).parseText(json),
+                contains((Object) new BigDecimal("1.5"), new BigDecimal("3.3e38"), new BigDecimal("3.5e38")));
+    }
+
+    @Test public void
+    empty_documents_are_parsed_to_null() throws Exception {
+        assertThat(new Jackson2DocumentParser(FLOAT_AND_DOUBLE).parse(new StringReader(" ")), nullValue());
+    }
+
+    @Test(expected = JsonException.class) public void
+    malformed_documents_are_rejected() {
+        new Jackson2DocumentParser(FLOAT_AND_DOUBLE).parseText("{ \"key\" : [1, 2 }");
+    }
+}
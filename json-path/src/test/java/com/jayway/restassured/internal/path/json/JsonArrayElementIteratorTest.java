@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json;
+
+import com.jayway.restassured.path.json.exception.JsonPathException;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class JsonArrayElementIteratorTest {
+
+    @Test public void
+    returns_the_json_text_of_each_element_in_a_root_array() {
+        // Given
+        String json = "[1, \"a,]\\\"\" , {\"x\":[1,{\"y\":\"}\"}]}, null, true]";
+
+        // When
+        List<String> elements = readAll(json, "");
+
+        // Then
+        assertThat(elements, contains("1", "\"a,]\\\"\"", "{\"x\":[1,{\"y\":\"}\"}]}", "null", "true"));
+    }
+
+    @Test public void
+    finds_array_by_path_and_skips_other_values() {
+        // Given
+        String json = "{\"other\":{\"items\":[9]},\"result\":{\"n\":null,\"items\":[{\"id\":1},{\"id\":2}],\"z\":1}}";
+
+        // When
+        List<String> elements = readAll(json, "result.items");
+
+        // Then
+        assertThat(elements, contains("{\"id\":1}", "{\"id\":2}"));
+    }
+
+    @Test public void
+    no_elements_are_returned_when_path_does_not_exist_or_is_null() {
+        assertThat(readAll("{\"result\":{}}", "result.items"), empty());
+        assertThat(readAll("{\"result\":null}", "result.items"), empty());
+        assertThat(readAll("{\"items\":[]}", "items"), empty());
+        assertThat(readAll("", "items"), empty());
+    }
+
+    @Test(expected = JsonPathException.class) public void
+    throws_json_path_exception_when_value_at_path_is_not_an_array() {
+        readAll("{\"items\":1}", "items");
+    }
+
+    @Test public void
+    throws_json_path_exception_when_document_ends_prematurely() {
+        // Given
+        String json = "{\"items\":[1,";
+
+        // When
+        try {
+            readAll(json, "items");
+        } catch (JsonPathException e) {
+            // Then
+            assertThat(e.getMessage(), equalTo("Invalid JSON when reading array at path 'items': Unexpected end of JSON document"));
+            return;
+        }
+        throw new AssertionError("Expected JsonPathException");
+    }
+
+    private static List<String> readAll(String json, String path) {
+        List<String> elements = new ArrayList<String>();
+        JsonArrayElementIterator iterator = new JsonArrayElementIterator(new StringReader(json), path);
+        while (iterator.hasNext()) {
+            elements.add(iterator.next());
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType.FLOAT_AND_DOUBLE;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class SimpleJsonPathTest {
+
+    @Test public void
+    resolves_keys_and_indices_by_navigating_the_document() {
+        // Given
+        Map<String, Object> document = lotto();
+
+        // Then
+        assertThat(SimpleJsonPath.compile("lotto.lottoId").resolve(document), equalTo((Object) 5));
+        assertThat(SimpleJsonPath.compile("lotto.winners[0].winnerId").resolve(document), equalTo((Object) 23));
+        assertThat(SimpleJsonPath.compile("lotto.winners[1]").resolve(document), nullValue());
+        assertThat(SimpleJsonPath.compile("lotto.nonExisting").resolve(document), nullValue());
+        assertThat(SimpleJsonPath.compile("").resolve(document), sameInstance((Object) document));
+        assertThat(SimpleJsonPath.compile("$").resolve(document), sameInstance((Object) document));
+    }
+
+    @Test public void
+    resolves_keys_and_indices_to_tokens_of_compact_documents() {
+        // Given
+        Object document = CompactJsonDocument.parseText(
+                "{ \"lotto\" : { \"lottoId\" : 5, \"winners\" : [ { \"winnerId\" : 23 }, { \"winnerId\" : 54 } ] } }", FLOAT_AND_DOUBLE);
+        CompactJsonDocument compactDocument = CompactJsonDocument.documentOf(document);
+
+        // When
+        int token = SimpleJsonPath.compile("lotto.winners[1].winnerId").resolveToken(document);
+
+        // Then
+        assertThat(compactDocument.longAt(token), equalTo(54L));
+        assertThat(SimpleJsonPath.compile("lotto.winners[2].winnerId").resolveToken(document), equalTo(CompactJsonDocument.NO_TOKEN));
+        assertThat(SimpleJsonPath.compile("lotto.winners.winnerId").resolveToken(document), equalTo(CompactJsonDocument.NO_TOKEN));
+        assertThat(SimpleJsonPath.compile("lotto.lottoId").resolveToken(lotto()), equalTo(CompactJsonDocument.NO_TOKEN));
+    }
+
+    @Test public void
+    paths_that_require_groovy_evaluation_are_not_compiled() {
+        assertThat(SimpleJsonPath.compile("lotto.winners.find { it.winnerId == 23 }"), nullValue());
+        assertThat(SimpleJsonPath.compile("lotto.winners.size()"), nullValue());
+        assertThat(SimpleJsonPath.compile("lotto.winners[-1]"), nullValue());
+        assertThat(SimpleJsonPath.compile("lotto.'winning-numbers'"), nullValue());
+        assertThat(SimpleJsonPath.compile("winning-numbers"), nullValue());
+        assertThat(SimpleJsonPath.compile("lotto."), nullValue());
+    }
+
+    @Test public void
+    keys_applied_to_lists_and_null_values_are_unresolvable() {
+        // Given
+        Map<String, Object> document = lotto();
+
+        // Then
+        assertThat(SimpleJsonPath.compile("lotto.winners.winnerId").resolve(document), sameInstance(SimpleJsonPath.UNRESOLVABLE));
+        assertThat(SimpleJsonPath.compile("lotto.nonExisting.key").resolve(document), sameInstance(SimpleJsonPath.UNRESOLVABLE));
+        assertThat(SimpleJsonPath.compile("[0]").resolve(document), sameInstance(SimpleJsonPath.UNRESOLVABLE));
+    }
+
+    private static Map<String, Object> lotto() {
+        Map<String, Object> lotto = new HashMap<String, Object>();
+        lotto.put("lottoId", 5);
+        lotto.put("winners", Arrays.asList(Collections.singletonMap("winnerId", 23)));
+        return Collections.<String, Object>singletonMap("lotto", lotto);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json.mapping;
+
+import com.google.gson.Gson;
+import com.jayway.restassured.mapper.factory.DefaultGsonObjectMapperFactory;
+import com.jayway.restassured.mapper.factory.GsonObjectMapperFactory;
+import com.jayway.restassured.path.json.support.Greeting;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class GsonCacheTest {
+
+    @Test public void
+    gson_is_created_once_per_type_and_charset() {
+        // Given
+        final AtomicInteger numberOfCreatedInstances = new AtomicInteger();
+        GsonCache cache = new GsonCache(new GsonObjectMapperFactory() {
+            public Gson create(Class cls, String charset) {
+                numberOfCreatedInstances.incrementAndGet();
+                return new Gson();
+            }
+        });
+
+        // When
+        Gson gson = cache.gsonFor(Greeting.class, "UTF-8");
+        cache.gsonFor(Greeting.class, "UTF-8");
+        cache.gsonFor(Greeting.class, "UTF-16");
+        cache.gsonFor(String.class, "UTF-8");
+
+        // Then
+        assertThat(cache.gsonFor(Greeting.class, "UTF-8"), sameInstance(gson));
+        assertThat(numberOfCreatedInstances.get(), equalTo(3));
+    }
+
+    @Test public void
+    default_factory_returns_the_same_gson_instance_for_all_types() {
+        // Given
+        DefaultGsonObjectMapperFactory factory = new DefaultGsonObjectMapperFactory();
+
+        // Then
+        assertThat(factory.create(Greeting.class, "UTF-8"), sameInstance(factory.create(String.class, null)));
+    }
+}
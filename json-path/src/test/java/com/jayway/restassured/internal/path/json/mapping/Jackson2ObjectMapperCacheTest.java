@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.json.mapping;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.restassured.mapper.factory.Jackson2ObjectMapperFactory;
+import com.jayway.restassured.path.json.support.Greeting;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class Jackson2ObjectMapperCacheTest {
+
+    @Test public void
+    object_mapper_is_created_once_per_type_and_charset() {
+        // Given
+        final AtomicInteger numberOfCreatedMappers = new AtomicInteger();
+        Jackson2ObjectMapperCache cache = new Jackson2ObjectMapperCache(new Jackson2ObjectMapperFactory() {
+            public ObjectMapper create(Class cls, String charset) {
+                numberOfCreatedMappers.incrementAndGet();
+                return new ObjectMapper();
+            }
+        });
+
+        // When
+        cache.readerFor(Greeting.class, "UTF-8");
+        cache.writerFor(Greeting.class, "UTF-8");
+        cache.readerFor(Greeting.class, "UTF-8");
+        cache.readerFor(Greeting.class, null);
+        cache.writerFor(String.class, "UTF-8");
+
+        // Then
+        assertThat(numberOfCreatedMappers.get(), equalTo(3));
+    }
+
+    @Test public void
+    readers_and_writers_are_cached_per_type() {
+        // Given
+        Jackson2ObjectMapperCache cache = new Jackson2ObjectMapperCache(new Jackson2ObjectMapperFactory() {
+            public ObjectMapper create(Class cls, String charset) {
+                return new ObjectMapper();
+            }
+        });
+
+        // Then
+        assertThat(cache.readerFor(Greeting.class, "UTF-8"), sameInstance(cache.readerFor(Greeting.class, "UTF-8")));
+        assertThat(cache.writerFor(Greeting.class, "UTF-8"), sameInstance(cache.writerFor(Greeting.class, "UTF-8")));
+        assertThat(cache.readerFor(Greeting.class, "UTF-8"), not(sameInstance(cache.readerFor(String.class, "UTF-8"))));
+    }
+
+    @Test public void
+    reads_and_writes_objects_using_cached_reader_and_writer() throws Exception {
+        // Given
+        Jackson2ObjectMapperCache cache = new Jackson2ObjectMapperCache(new Jackson2ObjectMapperFactory() {
+            public ObjectMapper create(Class cls, String charset) {
+                return new ObjectMapper();
+            }
+        });
+        Greeting greeting = new Greeting();
+        greeting.setFirstName("John");
+        greeting.setLastName("Doe");
+
+        // When
+        String json = cache.writerFor(Greeting.class, "UTF-8").writeValueAsString(greeting);
+        Greeting read = cache.readerFor(Greeting.class, "UTF-8").readValue(json);
+
+        // Then
+        assertThat(read.getFirstName(), equalTo("John"));
+        assertThat(read.getLastName(), equalTo("Doe"));
+    }
+}
@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static com.jayway.restassured.path.json.JsonPath.*;
+import static com.jayway.restassured.path.json.config.JsonPathConfig.DocumentModel.COMPACT;
 import static com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType.BIG_DECIMAL;
 import static com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType.FLOAT_AND_DOUBLE;
 import static org.hamcrest.Matchers.*;
@@ -768,4 +769,39 @@ public class JsonPathTest {
         // Then
         assertThat(jsonPath.getString("some-list[0]"), equalTo("one"));
     }
+
+    @Test public void
+    compact_document_model_supports_the_same_paths_as_maps_and_lists() {
+        // Given
+        JsonPath jsonPath = with(JSON).using(new JsonPathConfig().documentModel(COMPACT));
+
+        // Then
+        assertThat(jsonPath.getString("store.book[2].title"), equalTo("Moby Dick"));
+        assertThat(jsonPath.getList("store.book.findAll { it.price < 10 }.title", String.class), contains("Sayings of the Century", "Moby Dick"));
+        assertThat(jsonPath.getFloat("store.bicycle.price"), equalTo(19.95f));
+        assertThat(jsonPath.getLong("store.bicycle.atoms"), equalTo(Long.MAX_VALUE));
+        assertThat(jsonPath.getInt("store.book.size()"), equalTo(4));
+    }
+
+    @Test public void
+    primitive_getters_read_numbers_of_compact_documents_without_changing_the_result() {
+        // Given
+        String json = "{ \"int\" : 300, \"long\" : -12345678901, \"big\" : 1234567890123456789, \"fraction\" : 0.1234567891234 }";
+        JsonPath compact = with(json).using(new JsonPathConfig().documentModel(COMPACT));
+        JsonPath compactBigDecimals = with(json).using(new JsonPathConfig().documentModel(COMPACT).numberReturnType(BIG_DECIMAL));
+        JsonPath maps = with(json);
+
+        // Then
+        assertThat(compact.getInt("int"), equalTo(maps.getInt("int")));
+        assertThat(compact.getByte("int"), equalTo(maps.getByte("int")));
+        assertThat(compact.getShort("int"), equalTo(maps.getShort("int")));
+        assertThat(compact.getLong("long"), equalTo(-12345678901L));
+        assertThat(compact.getInt("long"), equalTo(maps.getInt("long")));
+        assertThat(compact.getDouble("long"), equalTo(-12345678901d));
+        assertThat(compact.getFloat("int"), equalTo(300f));
+        assertThat(compact.getLong("big"), equalTo(1234567890123456789L));
+        assertThat(compact.getFloat("fraction"), equalTo(maps.getFloat("fraction")));
+        assertThat(compact.getDouble("fraction"), equalTo(maps.getDouble("fraction")));
+        assertThat(compactBigDecimals.getDouble("fraction"), equalTo(0.1234567891234d));
+    }
 }
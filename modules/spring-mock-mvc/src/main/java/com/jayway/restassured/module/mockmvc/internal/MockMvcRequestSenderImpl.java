@@ -60,12 +60,15 @@ import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import java.io.*;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.security.Principal;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 import static com.jayway.restassured.filter.time.TimingFilter.RESPONSE_TIME_MILLISECONDS;
+import static com.jayway.restassured.filter.time.TimingFilter.RESPONSE_TIME_NANOSECONDS;
 import static com.jayway.restassured.internal.assertion.AssertParameter.notNull;
 import static com.jayway.restassured.internal.support.PathSupport.mergeAndRemoveDoubleSlash;
 import static com.jayway.restassured.module.mockmvc.internal.ConfigConverter.convertToRestAssuredConfig;
@@ -172,9 +175,9 @@ class MockMvcRequestSenderImpl implements MockMvcRequestSender, MockMvcRequestAs
 
         MockMvcRestAssuredResponseImpl restAssuredResponse;
         try {
-            final long start = System.currentTimeMillis();
+            final long start = System.nanoTime();
             ResultActions perform = mockMvc.perform(requestBuilder);
-            final long responseTime = System.currentTimeMillis() - start;
+            final long responseTimeNanos = System.nanoTime() - start;
             if (!resultHandlers.isEmpty()) {
                 for (ResultHandler resultHandler : resultHandlers) {
                     perform.andDo(resultHandler);
@@ -192,7 +195,8 @@ class MockMvcRequestSenderImpl implements MockMvcRequestSender, MockMvcRequestAs
             restAssuredResponse.setRpr(getRpr());
             restAssuredResponse.setStatusLine(assembleStatusLine(response, mvcResult.getResolvedException()));
             restAssuredResponse.setFilterContextProperties(new HashMap() {{
-                put(RESPONSE_TIME_MILLISECONDS, responseTime);
+                put(RESPONSE_TIME_NANOSECONDS, responseTimeNanos);
+                put(RESPONSE_TIME_MILLISECONDS, TimeUnit.NANOSECONDS.toMillis(responseTimeNanos));
             }});
 
             if (responseSpecification != null) {
@@ -430,32 +434,40 @@ class MockMvcRequestSenderImpl implements MockMvcRequestSender, MockMvcRequestAs
     }
 
 
+    /*
+     * MockMvc requires the content as a byte array so read the file directly into an array of the right size
+     * instead of growing a buffer while copying.
+     */
     private static byte[] toByteArray(File file) {
-        ByteArrayOutputStream ous = null;
-        InputStream ios = null;
+        FileInputStream stream = null;
         try {
-            byte[] buffer = new byte[4096];
-            ous = new ByteArrayOutputStream();
-            ios = new FileInputStream(file);
-            int read = 0;
-            while ((read = ios.read(buffer)) != -1) {
-                ous.write(buffer, 0, read);
+            stream = new FileInputStream(file);
+            FileChannel channel = stream.getChannel();
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("File " + file.getPath() + " is too large to be used as request body (" + size + " bytes).");
             }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // Keep reading until the buffer is full
+            }
+            if (buffer.hasRemaining()) {
+                // The file was truncated while reading
+                byte[] bytes = new byte[buffer.position()];
+                System.arraycopy(buffer.array(), 0, bytes, 0, bytes.length);
+                return bytes;
+            }
+            return buffer.array();
         } catch (IOException e) {
             throw new RuntimeException(e);
         } finally {
-            try {
-                if (ous != null) {
-                    ous.close();
+            if (stream != null) {
+                try {
+                    stream.close();
+                } catch (IOException ignored) {
                 }
-                if (ios != null) {
-                    ios.close();
-                }
-            } catch (IOException ignored) {
             }
         }
-
-        return ous.toByteArray();
     }
 
     private void setContentTypeToApplicationFormUrlEncoded(MockHttpServletRequestBuilder request) {
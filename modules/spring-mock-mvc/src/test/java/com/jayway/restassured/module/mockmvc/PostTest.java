@@ -20,7 +20,13 @@ import com.jayway.restassured.module.mockmvc.http.PostController;
 import com.jayway.restassured.module.mockmvc.support.Greeting;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
 
 import static com.jayway.restassured.http.ContentType.JSON;
 import static com.jayway.restassured.module.mockmvc.RestAssuredMockMvc.given;
@@ -29,6 +35,9 @@ import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standal
 
 public class PostTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @BeforeClass
     public static void configureMockMvcInstance() {
         RestAssuredMockMvc.mockMvc(standaloneSetup(new PostController()).build());
@@ -76,4 +85,43 @@ public class PostTest {
                 body("firstName", equalTo("John")).
                 body("lastName", equalTo("Doe"));
     }
+
+    @Test public void
+    can_supply_file_as_body_for_post() throws IOException {
+        File file = temporaryFolder.newFile("body.txt");
+        write(file, "a string from a file");
+
+        given().
+                body(file).
+        when().
+                post("/stringBody").
+        then().
+                body(equalTo("a string from a file"));
+    }
+
+    @Test public void
+    can_supply_file_larger_than_a_read_buffer_as_body_for_post() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            content.append(i).append(' ');
+        }
+        File file = temporaryFolder.newFile("large-body.txt");
+        write(file, content.toString());
+
+        given().
+                body(file).
+        when().
+                post("/stringBody").
+        then().
+                body(equalTo(content.toString()));
+    }
+
+    private static void write(File file, String content) throws IOException {
+        FileOutputStream outputStream = new FileOutputStream(file);
+        try {
+            outputStream.write(content.getBytes("UTF-8"));
+        } finally {
+            outputStream.close();
+        }
+    }
 }
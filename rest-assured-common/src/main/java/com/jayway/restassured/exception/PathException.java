@@ -18,6 +18,10 @@ package com.jayway.restassured.exception;
 
 public abstract class PathException extends RuntimeException {
 
+    public PathException(String message) {
+        super(message);
+    }
+
     public PathException(String message, Throwable cause) {
         super(message, cause);
     }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.mapper;
+
+import com.jayway.restassured.mapper.DataToDeserialize;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+
+/**
+ * Data to deserialize that should preferably be read as a stream. Deserializers should use {@link #asInputStream()} or
+ * {@link #asReader(String)} instead of {@link #asString()} since the latter requires the entire data to be copied into a String first.
+ */
+public abstract class StreamingDataToDeserialize implements DataToDeserialize {
+
+    /**
+     * @param charset The charset of the data
+     * @return A reader that decodes the data stream using the given charset
+     * @throws UnsupportedEncodingException If the charset is not supported
+     */
+    public Reader asReader(String charset) throws UnsupportedEncodingException {
+        InputStream inputStream = asInputStream();
+        return charset == null ? new InputStreamReader(inputStream) : new InputStreamReader(inputStream, charset);
+    }
+
+    /**
+     * @param charset The charset of the data
+     * @return <code>true</code> if the charset is UTF-8 (or unknown) in which case parsers that detect the encoding of the data themselves
+     * (such as JSON parsers) can read the {@link #asInputStream() raw stream} instead of a {@link #asReader(String) reader}.
+     */
+    public boolean isUtf8(String charset) {
+        return charset == null || "UTF-8".equalsIgnoreCase(charset) || "UTF8".equalsIgnoreCase(charset);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.mapper;
+
+/**
+ * A cache key for object mapper instances that are created by an object mapper factory for a specific type and charset.
+ */
+public class TypeAndCharset {
+    private final Class type;
+    private final String charset;
+
+    public TypeAndCharset(Class type, String charset) {
+        this.type = type;
+        this.charset = charset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TypeAndCharset)) {
+            return false;
+        }
+        TypeAndCharset that = (TypeAndCharset) o;
+        return type.equals(that.type) && (charset == null ? that.charset == null : charset.equals(that.charset));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * type.hashCode() + (charset == null ? 0 : charset.hashCode());
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.jayway.restassured.assertion
 
+import com.jayway.restassured.filter.time.TimingPhase
 import com.jayway.restassured.response.Response
 import org.hamcrest.Matcher
 
@@ -25,19 +26,28 @@ class ResponseTimeMatcher {
 
   def Matcher<Long> matcher
   def TimeUnit timeUnit
+  // null means the total response time
+  def TimingPhase phase
 
   def validate(Response response) {
     def errorMessage = ""
     def success = true
 
-    def time = response.getTimeIn(timeUnit)
+    def unit = timeUnit.toString().toLowerCase()
+    def time = phase == null ? response.getTimeIn(timeUnit) : response.getTimings().timeIn(phase, timeUnit)
     if (time <= -1) {
-      errorMessage = "No time was recorded, cannot perform response time validation."
+      errorMessage = phase == null ? "No time was recorded, cannot perform response time validation." :
+              "No time was recorded for phase $phase, cannot perform response time validation."
       success = false
     } else if (!matcher.matches(time)) {
-      def timeMillis = response.getTime();
       success = false
-      errorMessage = "Expected response time was not $matcher ${timeUnit.toString().toLowerCase()}, was $timeMillis milliseconds ($time ${timeUnit.toString().toLowerCase()})."
+      if (phase == null) {
+        def timeMillis = response.getTime();
+        errorMessage = "Expected response time was not $matcher $unit, was $timeMillis milliseconds ($time $unit)."
+      } else {
+        def timeNanos = response.getTimings().nanos(phase)
+        errorMessage = "Expected $phase time was not $matcher $unit, was $timeNanos nanoseconds ($time $unit)."
+      }
     }
 
     return [success: success, errorMessage: errorMessage];
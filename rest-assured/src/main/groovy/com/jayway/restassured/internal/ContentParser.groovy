@@ -18,7 +18,7 @@ package com.jayway.restassured.internal
 import com.jayway.restassured.config.RestAssuredConfig
 import com.jayway.restassured.config.XmlConfig
 import com.jayway.restassured.internal.http.CharsetExtractor
-import com.jayway.restassured.internal.path.json.ConfigurableJsonSlurper
+import com.jayway.restassured.internal.path.json.JsonDocumentParser
 import com.jayway.restassured.parsing.Parser
 import com.jayway.restassured.response.Response
 import com.jayway.restassured.response.ResponseBodyExtractionOptions
@@ -36,12 +36,13 @@ class ContentParser {
     } else {
       switch (parser) {
         case JSON:
-          def slurper = new ConfigurableJsonSlurper(config.getJsonConfig().numberReturnType())
+          def jsonConfig = config.getJsonConfig()
+          def jsonParser = JsonDocumentParser.create(jsonConfig.numberReturnType(), jsonConfig.documentModel(), jsonConfig.documentParser())
           if (parseAsString) {
-            content = slurper.parseText(response.asString(true))
+            content = jsonParser.parseText(response.asString(true))
           } else {
             def charset = CharsetExtractor.getCharsetFromContentType(response.getContentType()) ?: config.getDecoderConfig().defaultCharsetForContentType(response.getContentType());
-            content = slurper.parse(new InputStreamReader(new BufferedInputStream(response.asInputStream()), charset))
+            content = jsonParser.parse(new InputStreamReader(new BufferedInputStream(response.asInputStream()), charset))
           }
           break;
         case XML:
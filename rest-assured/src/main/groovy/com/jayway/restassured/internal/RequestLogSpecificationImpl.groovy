@@ -20,6 +20,7 @@ package com.jayway.restassured.internal
 import com.jayway.restassured.filter.log.LogDetail
 import com.jayway.restassured.filter.log.RequestLoggingFilter
 import com.jayway.restassured.internal.log.LogRepository
+import com.jayway.restassured.internal.log.RequestLoggingIfValidationFailsFilter
 import com.jayway.restassured.specification.RequestLogSpecification
 import com.jayway.restassured.specification.RequestSpecification
 
@@ -85,10 +86,8 @@ class RequestLogSpecificationImpl extends LogSpecificationImpl implements Reques
   }
 
   RequestSpecification ifValidationFails(LogDetail logDetail, boolean shouldPrettyPrint) {
-    ByteArrayOutputStream baos = new ByteArrayOutputStream();
-    PrintStream ps = new PrintStream(baos);
-    logRepository.registerRequestLog(baos);
-    logWith(logDetail, shouldPrettyPrint, ps)
+    requestSpecification.filter(new RequestLoggingIfValidationFailsFilter(logRepository, logDetail, shouldPrettyPrint))
+    requestSpecification
   }
 
   private def logWith(LogDetail logDetail) {
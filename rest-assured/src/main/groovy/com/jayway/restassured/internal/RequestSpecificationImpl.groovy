@@ -21,7 +21,9 @@ import com.jayway.restassured.config.*
 import com.jayway.restassured.filter.Filter
 import com.jayway.restassured.filter.log.RequestLoggingFilter
 import com.jayway.restassured.filter.log.ResponseLoggingFilter
+import com.jayway.restassured.filter.time.ResponseTimings
 import com.jayway.restassured.filter.time.TimingFilter
+import com.jayway.restassured.filter.time.TimingPhase
 import com.jayway.restassured.http.ContentType
 import com.jayway.restassured.http.Method
 import com.jayway.restassured.internal.filter.FilterContextImpl
@@ -29,9 +31,12 @@ import com.jayway.restassured.internal.filter.FormAuthFilter
 import com.jayway.restassured.internal.filter.SendRequestFilter
 import com.jayway.restassured.internal.http.*
 import com.jayway.restassured.internal.log.LogRepository
+import com.jayway.restassured.internal.log.RequestLoggingIfValidationFailsFilter
+import com.jayway.restassured.internal.log.ResponseLoggingIfValidationFailsFilter
 import com.jayway.restassured.internal.mapper.ObjectMapperType
 import com.jayway.restassured.internal.mapping.ObjectMapperSerializationContextImpl
 import com.jayway.restassured.internal.mapping.ObjectMapping
+import com.jayway.restassured.internal.mapping.StreamingSerializedBody
 import com.jayway.restassured.internal.multipart.MultiPartInternal
 import com.jayway.restassured.internal.multipart.MultiPartSpecificationImpl
 import com.jayway.restassured.internal.multipart.RestAssuredMultiPartEntity
@@ -361,6 +366,12 @@ class RequestSpecificationImpl implements FilterableRequestSpecification, Groovy
     return this
   }
 
+  def FilterableRequestSpecification removeHeader(String headerName) {
+    notNull headerName, "Header name"
+    this.requestHeaders = new Headers(requestHeaders.list().findAll { !headerName.equalsIgnoreCase(it.getName()) })
+    return this
+  }
+
   def RequestSpecification parameter(String parameterName, Object... parameterValues) {
     notNull parameterName, "parameterName"
     parameterUpdater.updateZeroToManyParameters(restAssuredConfig().paramConfig.requestParamsUpdateStrategy(), requestParameters, parameterName, parameterValues)
@@ -720,7 +731,7 @@ class RequestSpecificationImpl implements FilterableRequestSpecification, Groovy
       return content(object.toString());
     }
 
-    this.requestBody = ObjectMapping.serialize(object, requestContentType, findEncoderCharsetOrReturnDefault(requestContentType), null, objectMappingConfig(), restAssuredConfig().getEncoderConfig());
+    this.requestBody = ObjectMapping.serializeWhenSent(object, requestContentType, findEncoderCharsetOrReturnDefault(requestContentType), null, objectMappingConfig(), restAssuredConfig().getEncoderConfig());
     this
   }
 
@@ -742,7 +753,7 @@ class RequestSpecificationImpl implements FilterableRequestSpecification, Groovy
   def RequestSpecification body(Object object, ObjectMapperType mapperType) {
     notNull object, "object"
     notNull mapperType, "Object mapper type"
-    this.requestBody = ObjectMapping.serialize(object, requestContentType, findEncoderCharsetOrReturnDefault(requestContentType), mapperType, objectMappingConfig(), restAssuredConfig().getEncoderConfig())
+    this.requestBody = ObjectMapping.serializeWhenSent(object, requestContentType, findEncoderCharsetOrReturnDefault(requestContentType), mapperType, objectMappingConfig(), restAssuredConfig().getEncoderConfig())
     this
   }
 
@@ -930,7 +941,7 @@ class RequestSpecificationImpl implements FilterableRequestSpecification, Groovy
       if (mimeType == null) {
         mimeType = ANY.matches(requestContentType) ? JSON.toString() : requestContentType
       }
-      content = serializeIfNeeded(multiPartSpec.content, mimeType)
+      content = serializeWhenSentIfNeeded(multiPartSpec.content, mimeType)
     }
 
     final String controlName;
@@ -974,13 +985,13 @@ class RequestSpecificationImpl implements FilterableRequestSpecification, Groovy
   }
 
   def RequestSpecification multiPart(String controlName, Object object, String mimeType) {
-    def possiblySerializedObject = serializeIfNeeded(object, mimeType)
+    def possiblySerializedObject = serializeWhenSentIfNeeded(object, mimeType)
     multiParts << new MultiPartInternal(controlName: controlName, content: possiblySerializedObject, mimeType: mimeType, fileName: restAssuredConfig().getMultiPartConfig().defaultFileName())
     this
   }
 
   def RequestSpecification multiPart(String controlName, String filename, Object object, String mimeType) {
-    def possiblySerializedObject = serializeIfNeeded(object, mimeType)
+    def possiblySerializedObject = serializeWhenSentIfNeeded(object, mimeType)
     multiParts << new MultiPartInternal(controlName: controlName, content: possiblySerializedObject, mimeType: mimeType, fileName: filename)
     this
   }
@@ -1115,6 +1126,7 @@ class RequestSpecificationImpl implements FilterableRequestSpecification, Groovy
     }
 
     def http = new RestAssuredHttpBuilder(targetUri, assertionClosure, urlEncodingEnabled, config, requestSpecification.getHttpClient() as AbstractHttpClient);
+    http.timings = filterContextProperties?.get(TimingFilter.RESPONSE_TIMINGS) as ResponseTimings
     applyProxySettings(http)
     applyRestAssuredConfig(http)
     registerRestAssuredEncoders(http);
@@ -1543,6 +1555,13 @@ class RequestSpecificationImpl implements FilterableRequestSpecification, Groovy
     isSerializableCandidate(object) ? ObjectMapping.serialize(object, contentType, findEncoderCharsetOrReturnDefault(contentType), null, objectMappingConfig(), restAssuredConfig().getEncoderConfig()) : object.toString()
   }
 
+  /**
+   * Like {@link #serializeIfNeeded(java.lang.Object, java.lang.Object)} but objects are serialized when the request is sent if the object mapper supports it.
+   */
+  private def serializeWhenSentIfNeeded(Object object, String contentType) {
+    isSerializableCandidate(object) ? ObjectMapping.serializeWhenSent(object, contentType, findEncoderCharsetOrReturnDefault(contentType), null, objectMappingConfig(), restAssuredConfig().getEncoderConfig()) : object.toString()
+  }
+
   private def applyPathParamsAndSendRequest(Method method, String path, Object... unnamedPathParams) {
     notNull path, "path"
     notNull method, "Method"
@@ -1576,10 +1595,10 @@ class RequestSpecificationImpl implements FilterableRequestSpecification, Groovy
     }
     def logConfig = restAssuredConfig().getLogConfig()
     if (logConfig.isLoggingOfRequestAndResponseIfValidationFailsEnabled()) {
-      if (!filters.any { RequestLoggingFilter.class.isAssignableFrom(it.getClass()) }) {
+      if (!filters.any { RequestLoggingFilter.class.isAssignableFrom(it.getClass()) || RequestLoggingIfValidationFailsFilter.class.isAssignableFrom(it.getClass()) }) {
         log().ifValidationFails(logConfig.logDetailOfRequestAndResponseIfValidationFails(), logConfig.isPrettyPrintingEnabled())
       }
-      if (!filters.any { ResponseLoggingFilter.class.isAssignableFrom(it.getClass()) }) {
+      if (!filters.any { ResponseLoggingFilter.class.isAssignableFrom(it.getClass()) || ResponseLoggingIfValidationFailsFilter.class.isAssignableFrom(it.getClass()) }) {
         responseSpecification.log().ifValidationFails(logConfig.logDetailOfRequestAndResponseIfValidationFails(), logConfig.isPrettyPrintingEnabled())
       }
     }
@@ -1591,10 +1610,19 @@ class RequestSpecificationImpl implements FilterableRequestSpecification, Groovy
     }
 
     filters << new SendRequestFilter()
-    def ctx = newFilterContext(responseSpecification.assertionClosure, filters.iterator(), [:])
+    def timings = new ResponseTimings()
+    def filterContextProperties = [(TimingFilter.RESPONSE_TIMINGS): timings]
+    def ctx = newFilterContext(responseSpecification.assertionClosure, filters.iterator(), filterContextProperties)
     httpClient = httpClientConfig().httpClientInstance()
+    timings.filterChainStarted()
     def response = ctx.next(this, responseSpecification)
-    responseSpecification.assertionClosure.validate(response)
+    timings.filterChainEnded()
+    def validationStart = System.nanoTime()
+    try {
+      responseSpecification.assertionClosure.validate(response)
+    } finally {
+      timings.record(TimingPhase.VALIDATION, System.nanoTime() - validationStart)
+    }
     return response
   }
 
@@ -1842,6 +1870,17 @@ class RequestSpecificationImpl implements FilterableRequestSpecification, Groovy
   }
 
   List<MultiPartSpecification> getMultiPartParams() {
+    // Objects are serialized when the request is sent unless the serialized content is needed before that
+    return multiParts.collect {
+      def content = it.content instanceof StreamingSerializedBody ? it.content.asString() : it.content
+      new MultiPartSpecificationImpl(content: content, charset: it.charset, fileName: it.fileName, mimeType: it.mimeType, controlName: it.controlName)
+    }
+  }
+
+  /**
+   * @return The multi-parts as they were added, objects that are serialized when the request is sent are returned as a {@link StreamingSerializedBody}
+   */
+  def List<MultiPartSpecification> getUnserializedMultiPartParams() {
     return multiParts.collect {
       new MultiPartSpecificationImpl(content: it.content, charset: it.charset, fileName: it.fileName, mimeType: it.mimeType, controlName: it.controlName)
     }
@@ -1856,6 +1895,14 @@ class RequestSpecificationImpl implements FilterableRequestSpecification, Groovy
   }
 
   def <T> T getBody() {
+    // Objects are serialized when the request is sent unless the serialized body is needed before that
+    return requestBody instanceof StreamingSerializedBody ? requestBody.asString() : requestBody
+  }
+
+  /**
+   * @return The body as it was set, objects that are serialized when the request is sent are returned as a {@link StreamingSerializedBody}
+   */
+  def Object getUnserializedBody() {
     return requestBody
   }
 
@@ -1913,6 +1960,7 @@ class RequestSpecificationImpl implements FilterableRequestSpecification, Groovy
 
   private class RestAssuredHttpBuilder extends HTTPBuilder {
     def assertionClosure
+    def ResponseTimings timings
 
     RestAssuredHttpBuilder(Object defaultURI, assertionClosure, boolean urlEncodingEnabled, RestAssuredConfig config, AbstractHttpClient client) throws URISyntaxException {
       super(defaultURI, urlEncodingEnabled, config?.getEncoderConfig(), config?.getDecoderConfig(), config?.getOAuthConfig(), client)
@@ -1970,9 +2018,14 @@ class RequestSpecificationImpl implements FilterableRequestSpecification, Groovy
           }
         }
       }
+      compressRequestBodyIfConfigured(reqMethod)
+      def httpContext = timings == null ? delegate.getContext() : new RequestSentAwareHttpContext(delegate.getContext())
+      def requestStart = System.nanoTime()
       final HttpResponseDecorator resp = new HttpResponseDecorator(
-              this.client.execute(reqMethod, delegate.getContext()),
+              this.client.execute(reqMethod, httpContext),
               delegate.getContext(), null)
+      def responseReceived = System.nanoTime()
+      recordTransportTimings(httpContext, requestStart, responseReceived)
       try {
         int status = resp.getStatusLine().getStatusCode();
         Closure responseClosure = delegate.findResponseHandler(status);
@@ -2006,6 +2059,7 @@ class RequestSpecificationImpl implements FilterableRequestSpecification, Groovy
           HttpEntity entity = resp.getEntity();
           if (entity != null) EntityUtils.consumeQuietly(entity);
         }
+        timings?.record(TimingPhase.BODY_CONSUMPTION, System.nanoTime() - responseReceived)
         // Close idle connections to the server
         def connectionConfig = connectionConfig()
         if (connectionConfig.shouldCloseIdleConnectionsAfterEachResponse()) {
@@ -2015,6 +2069,19 @@ class RequestSpecificationImpl implements FilterableRequestSpecification, Groovy
       }
     }
 
+    private def void recordTransportTimings(httpContext, long requestStart, long responseReceived) {
+      if (timings == null) {
+        return
+      }
+      def requestSent = httpContext instanceof RequestSentAwareHttpContext ? httpContext.requestSentNanoTime : RequestSentAwareHttpContext.NOT_SENT
+      if (requestSent == RequestSentAwareHttpContext.NOT_SENT) {
+        timings.record(TimingPhase.WAIT_FOR_FIRST_BYTE, responseReceived - requestStart)
+      } else {
+        timings.record(TimingPhase.REQUEST_WRITE, requestSent - requestStart)
+        timings.record(TimingPhase.WAIT_FOR_FIRST_BYTE, responseReceived - requestSent)
+      }
+    }
+
     /*
      * Is is for
      */
@@ -20,6 +20,7 @@ package com.jayway.restassured.internal
 import com.jayway.restassured.filter.log.LogDetail
 import com.jayway.restassured.filter.log.ResponseLoggingFilter
 import com.jayway.restassured.internal.log.LogRepository
+import com.jayway.restassured.internal.log.ResponseLoggingIfValidationFailsFilter
 import com.jayway.restassured.specification.ResponseLogSpecification
 import com.jayway.restassured.specification.ResponseSpecification
 import org.hamcrest.Matcher
@@ -72,10 +73,8 @@ class ResponseLogSpecificationImpl extends LogSpecificationImpl implements Respo
   }
 
   ResponseSpecification ifValidationFails(LogDetail logDetail, boolean shouldPrettyPrint) {
-    ByteArrayOutputStream baos = new ByteArrayOutputStream();
-    PrintStream ps = new PrintStream(baos);
-    logRepository.registerResponseLog(baos);
-    logWith(logDetail, shouldPrettyPrint, ps)
+    responseSpecification.request().filter(new ResponseLoggingIfValidationFailsFilter(logRepository, logDetail, shouldPrettyPrint))
+    responseSpecification
   }
 
   ResponseSpecification status() {
@@ -76,6 +76,10 @@ class ResponseParserRegistrar {
         additional.remove(contentType)
     }
 
+    def Parser getDefaultParser() {
+        defaultParser
+    }
+
     def boolean hasCustomParser(String contentType) {
         if(defaultParser != null) {
             return true
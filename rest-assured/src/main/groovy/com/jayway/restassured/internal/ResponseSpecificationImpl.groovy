@@ -19,6 +19,7 @@ package com.jayway.restassured.internal
 
 import com.jayway.restassured.assertion.*
 import com.jayway.restassured.config.RestAssuredConfig
+import com.jayway.restassured.filter.time.TimingPhase
 import com.jayway.restassured.function.RestAssuredFunction
 import com.jayway.restassured.http.ContentType
 import com.jayway.restassured.internal.log.LogRepository
@@ -55,6 +56,7 @@ class ResponseSpecificationImpl implements FilterableResponseSpecification {
   def RestAssuredConfig config
   private Response response
   private Tuple2<Matcher<Long>, TimeUnit> expectedResponseTime;
+  private Map<TimingPhase, Tuple2<Matcher<Long>, TimeUnit>> expectedPhaseTimes = new LinkedHashMap<>()
 
   private contentParser
   def LogRepository logRepository
@@ -115,6 +117,19 @@ class ResponseSpecificationImpl implements FilterableResponseSpecification {
     this
   }
 
+  def ResponseSpecification time(TimingPhase phase, Matcher<Long> matcher, TimeUnit timeUnit) {
+    notNull(phase, TimingPhase.class)
+    notNull(matcher, Matcher.class)
+    notNull(timeUnit, TimeUnit.class)
+    if (phase == TimingPhase.VALIDATION) {
+      throw new IllegalArgumentException("Cannot validate the time of the $phase phase since it's not complete until after the validation.")
+    }
+    validateResponseIfRequired {
+      expectedPhaseTimes.put(phase, new Tuple2<>(matcher, timeUnit))
+    }
+    this
+  }
+
   def ResponseSpecification statusCode(Matcher<? super Integer> expectedStatusCode) {
     notNull(expectedStatusCode, "expectedStatusCode")
     validateResponseIfRequired {
@@ -512,7 +527,7 @@ class ResponseSpecificationImpl implements FilterableResponseSpecification {
   def boolean hasAssertionsDefined() {
     return hasBodyAssertionsDefined() || !headerAssertions.isEmpty() ||
             !cookieAssertions.isEmpty() || expectedStatusCode != null || expectedStatusLine != null ||
-            contentType != null || expectedResponseTime != null
+            contentType != null || expectedResponseTime != null || !expectedPhaseTimes.isEmpty()
   }
 
   def ResponseSpecification defaultParser(Parser parser) {
@@ -673,6 +688,9 @@ class ResponseSpecificationImpl implements FilterableResponseSpecification {
       if (expectedResponseTime != null) {
         validations << new ResponseTimeMatcher(matcher: expectedResponseTime.first, timeUnit: expectedResponseTime.second).validate(response)
       }
+      expectedPhaseTimes.each { phase, expectedTime ->
+        validations << new ResponseTimeMatcher(matcher: expectedTime.first, timeUnit: expectedTime.second, phase: phase).validate(response)
+      }
       validations
     }
 
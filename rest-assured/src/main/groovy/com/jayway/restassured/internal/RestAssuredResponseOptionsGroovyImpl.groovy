@@ -21,13 +21,19 @@ import com.jayway.restassured.assertion.CookieMatcher
 import com.jayway.restassured.config.DecoderConfig
 import com.jayway.restassured.config.RestAssuredConfig
 import com.jayway.restassured.filter.log.LogDetail
+import com.jayway.restassured.filter.time.ResponseTimings
 import com.jayway.restassured.filter.time.TimingFilter
 import com.jayway.restassured.internal.http.CharsetExtractor
 import com.jayway.restassured.internal.mapper.ObjectMapperType
+import com.jayway.restassured.internal.mapper.StreamingDataToDeserialize
+import com.jayway.restassured.internal.mapping.JsonArrayElementMappingIterator
 import com.jayway.restassured.internal.mapping.ObjectMapperDeserializationContextImpl
 import com.jayway.restassured.internal.mapping.ObjectMapping
+import com.jayway.restassured.internal.path.json.JsonArrayElementIterator
 import com.jayway.restassured.internal.print.ResponsePrinter
+import com.jayway.restassured.internal.support.BodyTransfer
 import com.jayway.restassured.internal.support.CloseHTTPClientConnectionInputStreamWrapper
+import com.jayway.restassured.internal.support.FileBackedContent
 import com.jayway.restassured.internal.support.Prettifier
 import com.jayway.restassured.mapper.DataToDeserialize
 import com.jayway.restassured.mapper.ObjectMapper
@@ -41,6 +47,7 @@ import com.jayway.restassured.response.*
 import groovy.xml.StreamingMarkupBuilder
 import org.apache.commons.lang3.StringUtils
 
+import java.nio.channels.WritableByteChannel
 import java.nio.charset.Charset
 import java.util.concurrent.TimeUnit
 
@@ -122,7 +129,7 @@ class RestAssuredResponseOptionsGroovyImpl {
   private def parseContent(content) {
     try {
       if (content instanceof InputStream) {
-        this.content = convertToByteArray(content)
+        this.content = bufferContent(content)
       } else if (content instanceof Writable) {
         this.content = toString(content)
       } else if (content instanceof String) {
@@ -182,11 +189,33 @@ class RestAssuredResponseOptionsGroovyImpl {
   InputStream asInputStream() {
     if (content == null || content instanceof InputStream) {
       new CloseHTTPClientConnectionInputStreamWrapper(config.getConnectionConfig(), connectionManager, content)
+    } else if (content instanceof FileBackedContent) {
+      content.newInputStream()
     } else {
       content instanceof String ? new ByteArrayInputStream(convertStringToByteArray(content)) : new ByteArrayInputStream(content)
     }
   }
 
+  TransferredBody transferTo(File file, String... digestAlgorithms) {
+    notNull file, File.class
+    if (content instanceof FileBackedContent) {
+      return BodyTransfer.transfer(content as FileBackedContent, file, digestAlgorithms)
+    }
+    BodyTransfer.transfer(streamToTransfer(), file, digestAlgorithms)
+  }
+
+  TransferredBody transferTo(WritableByteChannel channel, String... digestAlgorithms) {
+    notNull channel, "Channel"
+    if (content instanceof FileBackedContent) {
+      return BodyTransfer.transfer(content as FileBackedContent, channel, digestAlgorithms)
+    }
+    BodyTransfer.transfer(streamToTransfer(), channel, digestAlgorithms)
+  }
+
+  private InputStream streamToTransfer() {
+    content == null ? new ByteArrayInputStream(new byte[0]) : asInputStream()
+  }
+
   def byte[] convertStringToByteArray(string) {
     string.getBytes(findCharset())
   }
@@ -195,15 +224,17 @@ class RestAssuredResponseOptionsGroovyImpl {
     if (content == null) {
       return new byte[0];
     }
-    if (hasExpectations) {
+    if (content instanceof FileBackedContent) {
+      return content.toByteArray()
+    } else if (hasExpectations) {
       return content instanceof byte[] ? content : content.getBytes(findCharset())
     } else if (content instanceof byte[]) {
       content
     } else if (content instanceof String) {
       convertStringToByteArray(content)
     } else {
-      content = convertStreamToByteArray(content)
-      content
+      content = bufferContent(content)
+      content instanceof FileBackedContent ? content.toByteArray() : content
     }
   }
 
@@ -213,13 +244,22 @@ class RestAssuredResponseOptionsGroovyImpl {
       throw new IllegalStateException("""Cannot parse content to $cls because no content-type was present in the response and no default parser has been set.\nYou can specify a default parser using e.g.:\nRestAssured.defaultParser = Parser.JSON;\n
 or you can specify an explicit ObjectMapper using as($cls, <ObjectMapper>);""")
     }
-    return ObjectMapping.deserialize(responseBodyData, cls, contentTypeToChose, defaultContentType, charset, null, config.getObjectMapperConfig())
+    return ObjectMapping.deserialize(dataToDeserialize(responseBodyData), cls, contentTypeToChose, defaultContentType, charset, null, config.getObjectMapperConfig())
   }
 
   def <T> T "as"(Class<T> cls, ObjectMapperType mapperType, ResponseBodyData responseBodyData) {
     notNull mapperType, "Object mapper type"
     def charset = findCharset()
-    return ObjectMapping.deserialize(responseBodyData, cls, null, defaultContentType, charset, mapperType, config.getObjectMapperConfig())
+    return ObjectMapping.deserialize(dataToDeserialize(responseBodyData), cls, null, defaultContentType, charset, mapperType, config.getObjectMapperConfig())
+  }
+
+  def <T> CloseableIterator<T> stream(String path, Class<T> cls) {
+    notNull path, "Path"
+    notNull cls, "Class"
+    def charset = findCharset()
+    def reader = content instanceof String ? new StringReader(content) : new InputStreamReader(streamToTransfer(), charset)
+    def elements = new JsonArrayElementIterator(reader, path)
+    return new JsonArrayElementMappingIterator<T>(elements, cls, defaultContentType, charset, config.getObjectMapperConfig())
   }
 
   def <T> T "as"(Class<T> cls, ObjectMapper mapper) {
@@ -352,11 +392,16 @@ or you can specify an explicit ObjectMapper using as($cls, <ObjectMapper>);""")
             jackson1ObjectMapperFactory(config.getObjectMapperConfig().jackson1ObjectMapperFactory()).
             jackson2ObjectMapperFactory(config.getObjectMapperConfig().jackson2ObjectMapperFactory()).
             gsonObjectMapperFactory(config.getObjectMapperConfig().gsonObjectMapperFactory()).
-            numberReturnType(config.getJsonConfig().numberReturnType()));
+            numberReturnType(config.getJsonConfig().numberReturnType()).
+            documentModel(config.getJsonConfig().documentModel()).
+            documentParser(config.getJsonConfig().documentParser()));
   }
 
   JsonPath jsonPath(JsonPathConfig config) {
     notNull(config, "JsonPathConfig")
+    if (isFileBacked()) {
+      return new JsonPath(content.newReader(findCharset())).using(config)
+    }
     new JsonPath(asString()).using(config)
   }
 
@@ -398,7 +443,9 @@ You can specify a default parser using e.g.:\nRestAssured.defaultParser = Parser
 
 
   def long time() {
-    if (filterContextProperties?.containsKey(TimingFilter.RESPONSE_TIME_MILLISECONDS)) {
+    if (filterContextProperties?.containsKey(TimingFilter.RESPONSE_TIME_NANOSECONDS)) {
+      TimeUnit.NANOSECONDS.toMillis(filterContextProperties.get(TimingFilter.RESPONSE_TIME_NANOSECONDS) as long)
+    } else if (filterContextProperties?.containsKey(TimingFilter.RESPONSE_TIME_MILLISECONDS)) {
       filterContextProperties.get(TimingFilter.RESPONSE_TIME_MILLISECONDS)
     } else {
       NO_RESPONSE_TIME
@@ -407,6 +454,10 @@ You can specify a default parser using e.g.:\nRestAssured.defaultParser = Parser
 
   def long timeIn(TimeUnit timeUnit) {
     notNull timeUnit, TimeUnit.class
+    if (filterContextProperties?.containsKey(TimingFilter.RESPONSE_TIME_NANOSECONDS)) {
+      // Use the high precision time if available so that sub-millisecond response times are not truncated
+      return timeUnit.convert(filterContextProperties.get(TimingFilter.RESPONSE_TIME_NANOSECONDS) as long, TimeUnit.NANOSECONDS)
+    }
     def time = time()
     if (time != NO_RESPONSE_TIME && timeUnit != TimeUnit.MILLISECONDS) {
       time = timeUnit.convert(time, TimeUnit.MILLISECONDS)
@@ -414,20 +465,9 @@ You can specify a default parser using e.g.:\nRestAssured.defaultParser = Parser
     time
   }
 
-  private convertToByteArray(InputStream stream) {
-    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-    int nRead;
-    byte[] data = new byte[16384];
-
-    try {
-      while ((nRead = stream.read(data, 0, data.length)) != -1) {
-        buffer.write(data, 0, nRead);
-      }
-      buffer.flush();
-    } finally {
-      stream.close()
-    }
-    return buffer.toByteArray();
+  def ResponseTimings timings() {
+    def timings = filterContextProperties?.get(TimingFilter.RESPONSE_TIMINGS)
+    timings instanceof ResponseTimings ? timings : new ResponseTimings()
   }
 
   private String convertToString(Reader reader) {
@@ -448,25 +488,6 @@ You can specify a default parser using e.g.:\nRestAssured.defaultParser = Parser
     return writer.toString();
   }
 
-  private static byte[] convertStreamToByteArray(InputStream is) throws IOException {
-    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-    try {
-      int nRead;
-      byte[] data = new byte[16384];
-
-      while ((nRead = is.read(data, 0, data.length)) != -1) {
-        buffer.write(data, 0, nRead);
-      }
-
-      buffer.flush();
-    } finally {
-      buffer?.close();
-      is?.close();
-    }
-
-    return buffer.toByteArray();
-  }
-
   private String findContentType(Closure closure) {
     def contentTypeToChose = null
     if (contentType == "") {
@@ -493,6 +514,9 @@ You can specify a default parser using e.g.:\nRestAssured.defaultParser = Parser
 
   private def newXmlPath(CompatibilityMode mode, XmlPathConfig config) {
     notNull(config, "XmlPathConfig")
+    if (isFileBacked()) {
+      return new XmlPath(mode, content.newReader(findCharset())).using(config)
+    }
     new XmlPath(mode, asString()).using(config)
   }
 
@@ -505,10 +529,75 @@ You can specify a default parser using e.g.:\nRestAssured.defaultParser = Parser
       content
     } else if (content instanceof byte[]) {
       new String(content, charset)
+    } else if (content instanceof FileBackedContent) {
+      content.toString(charset)
     } else {
-      content = convertStreamToByteArray(content)
-      new String(content, charset)
+      content = bufferContent(content)
+      content instanceof FileBackedContent ? content.toString(charset) : new String(content, charset)
+    }
+  }
+
+  /*
+   * Reads the stream into memory or, if it's larger than the configured max in-memory body size, into a temporary file.
+   */
+  private def bufferContent(InputStream stream) {
+    if (decoderConfig == null) {
+      return FileBackedContent.buffer(stream, DecoderConfig.UNLIMITED_BODY_SIZE, DecoderConfig.UNLIMITED_BODY_SIZE)
+    }
+    FileBackedContent.buffer(stream, decoderConfig.maxInMemoryBodySize(), decoderConfig.maxBodySize())
+  }
+
+  /*
+   * Object mappers that support it read the body as a stream which means that the body doesn't have to be copied into a String first.
+   * Unless configured otherwise the stream is read from the buffered body so that the body can be read again after deserialization.
+   */
+  private DataToDeserialize dataToDeserialize(ResponseBodyData responseBodyData) {
+    if (content instanceof InputStream && !hasExpectations && !decoderConfig?.shouldDeserializeDirectlyFromConnection()) {
+      content = bufferContent(content)
+    }
+
+    if (content instanceof String) {
+      return new DataToDeserialize() {
+        @Override
+        String asString() {
+          return responseBodyData.asString()
+        }
+
+        @Override
+        byte[] asByteArray() {
+          return responseBodyData.asByteArray()
+        }
+
+        @Override
+        InputStream asInputStream() {
+          return responseBodyData.asInputStream()
+        }
+      }
+    }
+
+    return new StreamingDataToDeserialize() {
+      @Override
+      String asString() {
+        return responseBodyData.asString()
+      }
+
+      @Override
+      byte[] asByteArray() {
+        return responseBodyData.asByteArray()
+      }
+
+      @Override
+      InputStream asInputStream() {
+        return streamToTransfer()
+      }
+    }
+  }
+
+  private boolean isFileBacked() {
+    if (content instanceof InputStream && !hasExpectations) {
+      content = bufferContent(content)
     }
+    content instanceof FileBackedContent
   }
 
   private ObjectMapperDeserializationContext createObjectMapperDeserializationContext(Class cls) {
@@ -59,6 +59,7 @@ class SpecificationMerger {
     thisOne.expectedStatusCode = with.expectedStatusCode
     thisOne.expectedStatusLine = with.expectedStatusLine
     thisOne.expectedResponseTime = with.expectedResponseTime
+    thisOne.expectedPhaseTimes.putAll(with.expectedPhaseTimes)
     thisOne.headerAssertions.addAll(with.headerAssertions)
   }
 
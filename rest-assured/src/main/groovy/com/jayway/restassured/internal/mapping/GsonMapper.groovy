@@ -17,22 +17,24 @@
 
 package com.jayway.restassured.internal.mapping
 
+import com.jayway.restassured.internal.path.json.mapping.GsonCache
 import com.jayway.restassured.internal.path.json.mapping.JsonPathGsonObjectDeserializer
-import com.jayway.restassured.mapper.ObjectMapper
 import com.jayway.restassured.mapper.ObjectMapperDeserializationContext
 import com.jayway.restassured.mapper.ObjectMapperSerializationContext
 import com.jayway.restassured.mapper.factory.GsonObjectMapperFactory
 import com.jayway.restassured.path.json.mapping.JsonPathObjectDeserializer
 
-class GsonMapper implements ObjectMapper {
+import java.nio.charset.Charset
 
-    private GsonObjectMapperFactory factory;
+class GsonMapper implements StreamingObjectMapper {
+
+    private final GsonCache cache;
 
     private JsonPathObjectDeserializer deserializer
 
     public GsonMapper(GsonObjectMapperFactory factory) {
-        this.factory = factory
-        deserializer = new JsonPathGsonObjectDeserializer(factory)
+        this.cache = new GsonCache(factory)
+        deserializer = new JsonPathGsonObjectDeserializer(cache)
     }
 
     def Object deserialize(ObjectMapperDeserializationContext context) {
@@ -41,7 +43,20 @@ class GsonMapper implements ObjectMapper {
 
     def Object serialize(ObjectMapperSerializationContext context) {
         def object = context.getObjectToSerialize();
-        def gson = factory.create(object.getClass(), context.getCharset())
+        def gson = cache.gsonFor(object.getClass(), context.getCharset())
         return gson.toJson(object)
     }
+
+    void serialize(ObjectMapperSerializationContext context, OutputStream outputStream) {
+        def object = context.getObjectToSerialize();
+        def gson = cache.gsonFor(object.getClass(), context.getCharset())
+        // Gson writes the object to the stream using a JsonWriter configured like the Gson instance (e.g. pretty printing)
+        def writer = new BufferedWriter(new OutputStreamWriter(outputStream, context.getCharset()))
+        gson.toJson(object, writer)
+        writer.flush()
+    }
+
+    boolean canSerializeTo(String charset) {
+        return charset != null && Charset.isSupported(charset)
+    }
 }
@@ -18,7 +18,6 @@
 package com.jayway.restassured.internal.mapping
 
 import com.jayway.restassured.internal.path.json.mapping.JsonPathJackson1ObjectDeserializer
-import com.jayway.restassured.mapper.ObjectMapper
 import com.jayway.restassured.mapper.ObjectMapperDeserializationContext
 import com.jayway.restassured.mapper.ObjectMapperSerializationContext
 import com.jayway.restassured.mapper.factory.Jackson1ObjectMapperFactory
@@ -26,7 +25,7 @@ import com.jayway.restassured.path.json.mapping.JsonPathObjectDeserializer
 import org.codehaus.jackson.JsonEncoding
 import org.codehaus.jackson.JsonGenerator
 
-class Jackson1Mapper implements ObjectMapper {
+class Jackson1Mapper implements StreamingObjectMapper {
 
     private final Jackson1ObjectMapperFactory factory;
 
@@ -42,13 +41,23 @@ class Jackson1Mapper implements ObjectMapper {
     }
 
     def String serialize(ObjectMapperSerializationContext context) {
+        def stream = new ByteArrayOutputStream()
+        serialize(context, stream)
+        return stream.toString(getEncoding(context.getCharset()).getJavaName())
+    }
+
+    void serialize(ObjectMapperSerializationContext context, OutputStream outputStream) {
         def object = context.getObjectToSerialize()
         JsonEncoding jsonEncoding = getEncoding(context.getCharset())
         def mapper = createJacksonObjectMapper(object.getClass(), context.getCharset())
-        def stream = new ByteArrayOutputStream()
-        JsonGenerator jsonGenerator = mapper.getJsonFactory().createJsonGenerator(stream, jsonEncoding)
+        JsonGenerator jsonGenerator = mapper.getJsonFactory().createJsonGenerator(outputStream, jsonEncoding)
         mapper.writeValue(jsonGenerator, object)
-        return stream.toString(jsonEncoding.getJavaName())
+        jsonGenerator.flush()
+    }
+
+    boolean canSerializeTo(String charset) {
+        // Jackson only supports the UTF encodings
+        return charset != null && getEncoding(charset).getJavaName().equalsIgnoreCase(charset)
     }
 
     def Object deserialize(ObjectMapperDeserializationContext context) {
@@ -19,8 +19,9 @@ package com.jayway.restassured.internal.mapping
 
 import com.fasterxml.jackson.core.JsonEncoding
 import com.fasterxml.jackson.core.JsonGenerator
+import com.fasterxml.jackson.databind.ObjectWriter
+import com.jayway.restassured.internal.path.json.mapping.Jackson2ObjectMapperCache
 import com.jayway.restassured.internal.path.json.mapping.JsonPathJackson2ObjectDeserializer
-import com.jayway.restassured.mapper.ObjectMapper
 import com.jayway.restassured.mapper.ObjectMapperDeserializationContext
 import com.jayway.restassured.mapper.ObjectMapperSerializationContext
 import com.jayway.restassured.mapper.factory.Jackson2ObjectMapperFactory
@@ -29,29 +30,35 @@ import com.jayway.restassured.path.json.mapping.JsonPathObjectDeserializer
 /**
  * Support for Jackson 2.0 (https://github.com/FasterXML/jackson-core)
  */
-class Jackson2Mapper implements ObjectMapper {
+class Jackson2Mapper implements StreamingObjectMapper {
 
-  private final Jackson2ObjectMapperFactory factory;
+  private final Jackson2ObjectMapperCache cache;
 
   private JsonPathObjectDeserializer deserializer
 
   Jackson2Mapper(Jackson2ObjectMapperFactory factory) {
-    this.factory = factory
-    deserializer = new JsonPathJackson2ObjectDeserializer(factory)
+    this.cache = new Jackson2ObjectMapperCache(factory)
+    deserializer = new JsonPathJackson2ObjectDeserializer(cache)
   }
 
-  private com.fasterxml.jackson.databind.ObjectMapper createJackson2ObjectMapper(Class cls, String charset) {
-    return factory.create(cls, charset)
+  def String serialize(ObjectMapperSerializationContext context) {
+    def stream = new ByteArrayOutputStream()
+    serialize(context, stream)
+    stream.toString(getEncoding(context.getCharset()).getJavaName())
   }
 
-  def String serialize(ObjectMapperSerializationContext context) {
+  void serialize(ObjectMapperSerializationContext context, OutputStream outputStream) {
     def object = context.getObjectToSerialize()
     JsonEncoding jsonEncoding = getEncoding(context.getCharset())
-    def mapper = createJackson2ObjectMapper(object.getClass(), context.getCharset())
-    def stream = new ByteArrayOutputStream()
-    JsonGenerator jsonGenerator = mapper.getJsonFactory().createJsonGenerator(stream, jsonEncoding)
-    mapper.writeValue(jsonGenerator, object)
-    stream.toString(jsonEncoding.getJavaName())
+    ObjectWriter writer = cache.writerFor(object.getClass(), context.getCharset())
+    JsonGenerator jsonGenerator = writer.getFactory().createGenerator(outputStream, jsonEncoding)
+    writer.writeValue(jsonGenerator, object)
+    jsonGenerator.flush()
+  }
+
+  boolean canSerializeTo(String charset) {
+    // Jackson only supports the UTF encodings
+    return charset != null && getEncoding(charset).getJavaName().equalsIgnoreCase(charset)
   }
 
   def Object deserialize(ObjectMapperDeserializationContext context) {
@@ -15,25 +15,26 @@
  */
 package com.jayway.restassured.internal.mapping
 
+import com.jayway.restassured.internal.path.xml.mapping.JAXBContextCache
+import com.jayway.restassured.internal.path.xml.mapping.PooledJAXBContext
 import com.jayway.restassured.internal.path.xml.mapping.XmlPathJaxbObjectDeserializer
-import com.jayway.restassured.mapper.ObjectMapper
 import com.jayway.restassured.mapper.ObjectMapperDeserializationContext
 import com.jayway.restassured.mapper.ObjectMapperSerializationContext
 import com.jayway.restassured.mapper.factory.JAXBObjectMapperFactory
 import com.jayway.restassured.path.xml.mapping.XmlPathObjectDeserializer
 
-import javax.xml.bind.JAXBContext
 import javax.xml.bind.Marshaller
+import java.nio.charset.Charset
 
-class JaxbMapper implements ObjectMapper {
+class JaxbMapper implements StreamingObjectMapper {
 
-    private final JAXBObjectMapperFactory factory;
+    private final JAXBContextCache cache;
 
     private XmlPathObjectDeserializer deserializer
 
     public JaxbMapper(JAXBObjectMapperFactory factory) {
-        this.factory = factory
-        deserializer = new XmlPathJaxbObjectDeserializer(factory)
+        this.cache = new JAXBContextCache(factory)
+        deserializer = new XmlPathJaxbObjectDeserializer(cache)
     }
 
     def Object deserialize(ObjectMapperDeserializationContext context) {
@@ -41,15 +42,25 @@ class JaxbMapper implements ObjectMapper {
     }
 
     def Object serialize(ObjectMapperSerializationContext context) {
-        def object = context.getObjectToSerialize();
-        def charset = context.getCharset()
-        JAXBContext jaxbContext = factory.create(object.getClass(), charset)
-        Marshaller marshaller = jaxbContext.createMarshaller()
-        if (charset != null) {
-            marshaller.setProperty(Marshaller.JAXB_ENCODING, charset)
-        }
         StringWriter sw = new StringWriter()
-        marshaller.marshal(object, sw)
+        marshal(context, sw)
         return sw.toString()
     }
+
+    void serialize(ObjectMapperSerializationContext context, OutputStream outputStream) {
+        marshal(context, outputStream)
+        outputStream.flush()
+    }
+
+    boolean canSerializeTo(String charset) {
+        return charset != null && Charset.isSupported(charset)
+    }
+
+    private void marshal(ObjectMapperSerializationContext context, destination) {
+        def object = context.getObjectToSerialize()
+        PooledJAXBContext jaxbContext = cache.contextFor(object.getClass(), context.getCharset())
+        Marshaller marshaller = jaxbContext.acquireMarshaller()
+        marshaller.marshal(object, destination)
+        jaxbContext.release(marshaller)
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.mapping;
+
+import com.jayway.restassured.config.ObjectMapperConfig;
+import com.jayway.restassured.http.ContentType;
+import com.jayway.restassured.internal.path.json.JsonArrayElementIterator;
+import com.jayway.restassured.mapper.DataToDeserialize;
+import com.jayway.restassured.response.CloseableIterator;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Maps each element read by a {@link JsonArrayElementIterator} to an instance of the given type using the configured object mapper.
+ * Closing this iterator closes the element iterator and thereby the reader that the elements are read from.
+ *
+ * @param <T> The element type
+ */
+public class JsonArrayElementMappingIterator<T> implements CloseableIterator<T> {
+    private static final String ELEMENT_CONTENT_TYPE = ContentType.JSON.toString();
+
+    private final JsonArrayElementIterator elements;
+    private final Class<T> cls;
+    private final String defaultContentType;
+    private final String charset;
+    private final ObjectMapperConfig objectMapperConfig;
+
+    public JsonArrayElementMappingIterator(JsonArrayElementIterator elements, Class<T> cls, String defaultContentType, String charset,
+                                           ObjectMapperConfig objectMapperConfig) {
+        this.elements = elements;
+        this.cls = cls;
+        this.defaultContentType = defaultContentType;
+        this.charset = charset;
+        this.objectMapperConfig = objectMapperConfig;
+    }
+
+    public boolean hasNext() {
+        return elements.hasNext();
+    }
+
+    public T next() {
+        final String element = elements.next();
+        DataToDeserialize data = new DataToDeserialize() {
+            public String asString() {
+                return element;
+            }
+
+            public byte[] asByteArray() {
+                return element.getBytes(Charset.forName(charset));
+            }
+
+            public InputStream asInputStream() {
+                return new ByteArrayInputStream(asByteArray());
+            }
+        };
+        return ObjectMapping.deserialize(data, cls, ELEMENT_CONTENT_TYPE, defaultContentType, charset, null, objectMapperConfig);
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    public void close() {
+        elements.close();
+    }
+}
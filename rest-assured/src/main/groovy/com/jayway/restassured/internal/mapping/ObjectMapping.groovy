@@ -23,13 +23,9 @@ import com.jayway.restassured.http.ContentType
 import com.jayway.restassured.internal.http.ContentTypeExtractor
 import com.jayway.restassured.internal.mapper.ObjectMapperType
 import com.jayway.restassured.mapper.DataToDeserialize
+import com.jayway.restassured.mapper.ObjectMapper
 import com.jayway.restassured.mapper.ObjectMapperDeserializationContext
 import com.jayway.restassured.mapper.ObjectMapperSerializationContext
-import com.jayway.restassured.mapper.factory.GsonObjectMapperFactory
-import com.jayway.restassured.mapper.factory.JAXBObjectMapperFactory
-import com.jayway.restassured.mapper.factory.Jackson1ObjectMapperFactory
-import com.jayway.restassured.mapper.factory.Jackson2ObjectMapperFactory
-import com.jayway.restassured.response.ResponseBodyData
 import org.apache.commons.lang3.Validate
 
 import static com.jayway.restassured.http.ContentType.ANY
@@ -40,103 +36,158 @@ import static org.apache.commons.lang3.StringUtils.containsIgnoreCase
 class ObjectMapping {
 
   public
-  static <T> T deserialize(ResponseBodyData response, Class<T> cls, String contentType, String defaultContentType, String charset, ObjectMapperType mapperType,
+  static <T> T deserialize(DataToDeserialize data, Class<T> cls, String contentType, String defaultContentType, String charset, ObjectMapperType mapperType,
                            ObjectMapperConfig objectMapperConfig) {
     Validate.notNull(objectMapperConfig, "String mapper configuration wasn't found, cannot deserialize.")
-    def deserializationCtx = deserializationContext(response, cls, contentType, charset)
+    def deserializationCtx = deserializationContext(data, cls, contentType, charset)
     if (objectMapperConfig.hasDefaultObjectMapper()) {
-      return objectMapperConfig.defaultObjectMapper().deserialize(deserializationContext(response, cls, contentType, charset)) as T;
-    } else if (mapperType != null || objectMapperConfig.hasDefaultObjectMapperType()) {
-      ObjectMapperType mapperTypeToUse = mapperType == null ? objectMapperConfig.defaultObjectMapperType() : mapperType;
-      return deserializeWithObjectMapper(deserializationCtx, mapperTypeToUse, objectMapperConfig)
+      return objectMapperConfig.defaultObjectMapper().deserialize(deserializationCtx) as T;
     }
+
+    def mappers = ResolvedObjectMappers.of(objectMapperConfig)
+    ObjectMapperType mapperTypeToUse
+    if (mapperType != null || objectMapperConfig.hasDefaultObjectMapperType()) {
+      mapperTypeToUse = mapperType == null ? objectMapperConfig.defaultObjectMapperType() : mapperType;
+      if (!isInClassPath(mapperTypeToUse)) {
+        def lowerCase = mapperTypeToUse.toString().toLowerCase()
+        throw new IllegalArgumentException("Cannot map response body with mapper $mapperTypeToUse because $lowerCase doesn't exist in the classpath.")
+      }
+    } else {
+      mapperTypeToUse = mappers.deserializerType(contentType, defaultContentType)
+      if (mapperTypeToUse == null) {
+        mapperTypeToUse = findDeserializerType(contentType, defaultContentType)
+        mappers.cacheDeserializerType(contentType, defaultContentType, mapperTypeToUse)
+      }
+    }
+    return mappers.mapperOfType(mapperTypeToUse).deserialize(deserializationCtx) as T
+  }
+
+  private static ObjectMapperType findDeserializerType(String contentType, String defaultContentType) {
     if (containsIgnoreCase(contentType, "json")) {
-      if (isJackson2InClassPath()) {
-        return parseWithJackson2(deserializationCtx, objectMapperConfig.jackson2ObjectMapperFactory()) as T
-      } else if (isJackson1InClassPath()) {
-        return parseWithJackson1(deserializationCtx, objectMapperConfig.jackson1ObjectMapperFactory()) as T
-      } else if (isGsonInClassPath()) {
-        return parseWithGson(deserializationCtx, objectMapperConfig.gsonObjectMapperFactory()) as T
+      def jsonMapperType = findJsonMapperType()
+      if (jsonMapperType != null) {
+        return jsonMapperType
       }
       throw new IllegalStateException("Cannot parse object because no JSON deserializer found in classpath. Please put either Jackson or Gson in the classpath.")
     } else if (containsIgnoreCase(contentType, "xml")) {
       if (isJAXBInClassPath()) {
-        return parseWithJaxb(deserializationCtx, objectMapperConfig.jaxbObjectMapperFactory()) as T
+        return ObjectMapperType.JAXB
       }
       throw new IllegalStateException("Cannot parse object because no XML deserializer found in classpath. Please put a JAXB compliant object mapper in classpath.")
     } else if (defaultContentType != null) {
       if (containsIgnoreCase(defaultContentType, "json")) {
-        if (isJackson2InClassPath()) {
-          return parseWithJackson2(deserializationCtx, objectMapperConfig.jackson2ObjectMapperFactory()) as T
-        } else if (isJackson1InClassPath()) {
-          return parseWithJackson1(deserializationCtx, objectMapperConfig.jackson1ObjectMapperFactory()) as T
-        } else if (isGsonInClassPath()) {
-          return parseWithGson(deserializationCtx, objectMapperConfig.gsonObjectMapperFactory()) as T
+        def jsonMapperType = findJsonMapperType()
+        if (jsonMapperType != null) {
+          return jsonMapperType
         }
       } else if (containsIgnoreCase(defaultContentType, "xml")) {
         if (isJAXBInClassPath()) {
-          return parseWithJaxb(deserializationCtx, objectMapperConfig.jaxbObjectMapperFactory()) as T
+          return ObjectMapperType.JAXB
         }
       }
     }
     throw new IllegalStateException(String.format("Cannot parse object because no supported Content-Type was not specified in response. Content-Type was '%s'.", contentType))
   }
 
-  private
-  static <T> T deserializeWithObjectMapper(ObjectMapperDeserializationContext ctx, ObjectMapperType mapperType, ObjectMapperConfig config) {
-    if (mapperType == ObjectMapperType.JACKSON_2 && isJackson2InClassPath()) {
-      return parseWithJackson2(ctx, config.jackson2ObjectMapperFactory()) as T
-    } else if (mapperType == ObjectMapperType.JACKSON_1 && isJackson1InClassPath()) {
-      return parseWithJackson1(ctx, config.jackson1ObjectMapperFactory()) as T
-    } else if (mapperType == ObjectMapperType.GSON && isGsonInClassPath()) {
-      return parseWithGson(ctx, config.gsonObjectMapperFactory()) as T
-    } else if (mapperType == ObjectMapperType.JAXB && isJAXBInClassPath()) {
-      return parseWithJaxb(ctx, config.jaxbObjectMapperFactory()) as T
-    } else {
-      def lowerCase = mapperType.toString().toLowerCase()
-      throw new IllegalArgumentException("Cannot map response body with mapper $mapperType because $lowerCase doesn't exist in the classpath.")
+  private static ObjectMapperType findJsonMapperType() {
+    if (isJackson2InClassPath()) {
+      return ObjectMapperType.JACKSON_2
+    } else if (isJackson1InClassPath()) {
+      return ObjectMapperType.JACKSON_1
+    } else if (isGsonInClassPath()) {
+      return ObjectMapperType.GSON
+    }
+    return null
+  }
+
+  private static boolean isInClassPath(ObjectMapperType mapperType) {
+    switch (mapperType) {
+      case ObjectMapperType.JACKSON_2:
+        return isJackson2InClassPath()
+      case ObjectMapperType.JACKSON_1:
+        return isJackson1InClassPath()
+      case ObjectMapperType.GSON:
+        return isGsonInClassPath()
+      case ObjectMapperType.JAXB:
+        return isJAXBInClassPath()
+      default:
+        return false
     }
   }
 
   public static String serialize(Object object, String contentType, String charset, ObjectMapperType mapperType, ObjectMapperConfig config,
                                  EncoderConfig encoderConfig) {
+    def mapper = findSerializer(object, contentType, mapperType, config, encoderConfig)
+    return mapper.serialize(serializationContext(object, contentType, charset))
+  }
+
+  /**
+   * Finds the object mapper to use in the same way as {@link #serialize(Object, String, String, ObjectMapperType, ObjectMapperConfig, EncoderConfig)}
+   * but defers the serialization until the request is sent if the object mapper supports streaming. In this case the object is written
+   * directly to the request body.
+   *
+   * @return A {@link StreamingSerializedBody} or the serialized object if the object mapper doesn't support streaming
+   */
+  public static Object serializeWhenSent(Object object, String contentType, String charset, ObjectMapperType mapperType, ObjectMapperConfig config,
+                                         EncoderConfig encoderConfig) {
+    def mapper = findSerializer(object, contentType, mapperType, config, encoderConfig)
+    if (mapper instanceof StreamingObjectMapper) {
+      return new StreamingSerializedBody(mapper as StreamingObjectMapper, object, contentType, charset)
+    }
+    return mapper.serialize(serializationContext(object, contentType, charset))
+  }
+
+  private static ObjectMapper findSerializer(Object object, String contentType, ObjectMapperType mapperType, ObjectMapperConfig config,
+                                             EncoderConfig encoderConfig) {
     notNull(object, "String to serialize")
     notNull(config, "Object mapper configuration not found, cannot serialize object.")
     notNull(encoderConfig, "Encoder configuration not found, cannot serialize object.")
 
-    def serializationCtx = serializationContext(object, contentType, charset)
     if (config.hasDefaultObjectMapper()) {
-      return config.defaultObjectMapper().serialize(serializationContext(object, contentType, charset));
-    } else if (mapperType != null || config.hasDefaultObjectMapperType()) {
+      return config.defaultObjectMapper();
+    }
+
+    def mappers = ResolvedObjectMappers.of(config)
+    if (mapperType != null || config.hasDefaultObjectMapperType()) {
       mapperType = mapperType ?: config.defaultObjectMapperType()
-      return serializeWithObjectMapper(serializationCtx, mapperType, config)
+      if (!isInClassPath(mapperType)) {
+        def lowerCase = mapperType.toString().toLowerCase()
+        throw new IllegalArgumentException("Cannot serialize object with mapper $mapperType because $lowerCase doesn't exist in the classpath.")
+      }
+      return mappers.mapperOfType(mapperType)
     }
 
+    def serializerType = mappers.serializerType(contentType)
+    if (serializerType == null) {
+      serializerType = findSerializerType(contentType, encoderConfig)
+      // Content-types that are neither JSON nor XML are resolved using the encoder config so they cannot be cached per object mapper config
+      if (contentType == null || contentType == ANY.toString() || containsIgnoreCase(contentType, "json") || containsIgnoreCase(contentType, "xml")) {
+        mappers.cacheSerializerType(contentType, serializerType)
+      }
+    }
+    return mappers.mapperOfType(serializerType)
+  }
+
+  private static ObjectMapperType findSerializerType(String contentType, EncoderConfig encoderConfig) {
     if (contentType == null || contentType == ANY.toString()) {
-      if (isJackson2InClassPath()) {
-        return serializeWithJackson2(serializationCtx, config.jackson2ObjectMapperFactory())
-      } else if (isJackson1InClassPath()) {
-        return serializeWithJackson1(serializationCtx, config.jackson1ObjectMapperFactory())
-      } else if (isGsonInClassPath()) {
-        return serializeWithGson(serializationCtx, config.gsonObjectMapperFactory())
+      def jsonMapperType = findJsonMapperType()
+      if (jsonMapperType != null) {
+        return jsonMapperType
       } else if (isJAXBInClassPath()) {
-        return serializeWithJaxb(serializationCtx, config.jaxbObjectMapperFactory())
+        return ObjectMapperType.JAXB
       }
       throw new IllegalArgumentException("Cannot serialize because no JSON or XML serializer found in classpath.")
     } else {
       def ct = contentType.toLowerCase()
       if (containsIgnoreCase(ct, "json") || encoderConfig.contentEncoders().get(ContentTypeExtractor.getContentTypeWithoutCharset(ct)) == ContentType.JSON) {
-        if (isJackson2InClassPath()) {
-          return serializeWithJackson2(serializationCtx, config.jackson2ObjectMapperFactory())
-        } else if (isJackson1InClassPath()) {
-          return serializeWithJackson1(serializationCtx, config.jackson1ObjectMapperFactory())
-        } else if (isGsonInClassPath()) {
-          return serializeWithGson(serializationCtx, config.gsonObjectMapperFactory())
+        def jsonMapperType = findJsonMapperType()
+        if (jsonMapperType != null) {
+          return jsonMapperType
         }
         throw new IllegalStateException("Cannot serialize object because no JSON serializer found in classpath. Please put either Jackson or Gson in the classpath.")
       } else if (containsIgnoreCase(ct, "xml") || encoderConfig.contentEncoders().get(ContentTypeExtractor.getContentTypeWithoutCharset(ct)) == ContentType.XML) {
         if (isJAXBInClassPath()) {
-          return serializeWithJaxb(serializationCtx, config.jaxbObjectMapperFactory())
+          return ObjectMapperType.JAXB
         } else {
           throw new IllegalStateException("Cannot serialize object because no XML serializer found in classpath. Please put a JAXB compliant object mapper in classpath.")
         }
@@ -150,79 +201,14 @@ class ObjectMapping {
         throw new IllegalArgumentException(errorMessage)
       }
     }
-    return serializeWithJaxb(serializationCtx, config.jaxbObjectMapperFactory())
-  }
-
-  private
-  static String serializeWithObjectMapper(ObjectMapperSerializationContext ctx, ObjectMapperType mapperType, ObjectMapperConfig config) {
-    if (mapperType == ObjectMapperType.JACKSON_2 && isJackson2InClassPath()) {
-      return serializeWithJackson2(ctx, config.jackson2ObjectMapperFactory())
-    } else if (mapperType == ObjectMapperType.JACKSON_1 && isJackson1InClassPath()) {
-      return serializeWithJackson1(ctx, config.jackson1ObjectMapperFactory())
-    } else if (mapperType == ObjectMapperType.GSON && isGsonInClassPath()) {
-      return serializeWithGson(ctx, config.gsonObjectMapperFactory())
-    } else if (mapperType == ObjectMapperType.JAXB && isJAXBInClassPath()) {
-      return serializeWithJaxb(ctx, config.jaxbObjectMapperFactory())
-    } else {
-      def lowerCase = mapperType.toString().toLowerCase()
-      throw new IllegalArgumentException("Cannot serialize object with mapper $mapperType because $lowerCase doesn't exist in the classpath.")
-    }
-  }
-
-  private static String serializeWithGson(ObjectMapperSerializationContext ctx, GsonObjectMapperFactory factory) {
-    new GsonMapper(factory).serialize(ctx)
-  }
-
-  private static String serializeWithJackson1(ObjectMapperSerializationContext ctx, Jackson1ObjectMapperFactory factory) {
-    new Jackson1Mapper(factory).serialize(ctx)
-  }
-
-  private static String serializeWithJackson2(ObjectMapperSerializationContext ctx, Jackson2ObjectMapperFactory factory) {
-    new Jackson2Mapper(factory).serialize(ctx)
-  }
-
-
-  private static String serializeWithJaxb(ObjectMapperSerializationContext ctx, JAXBObjectMapperFactory factory) {
-    new JaxbMapper(factory).serialize(ctx)
-  }
-
-  private static def parseWithJaxb(ObjectMapperDeserializationContext ctx, JAXBObjectMapperFactory factory) {
-    new JaxbMapper(factory).deserialize(ctx)
   }
 
-  private static def parseWithGson(ObjectMapperDeserializationContext ctx, GsonObjectMapperFactory factory) {
-    new GsonMapper(factory).deserialize(ctx)
-  }
-
-  static def parseWithJackson1(ObjectMapperDeserializationContext ctx, Jackson1ObjectMapperFactory factory) {
-    new Jackson1Mapper(factory).deserialize(ctx)
-  }
-
-  static def parseWithJackson2(ObjectMapperDeserializationContext ctx, Jackson2ObjectMapperFactory factory) {
-    new Jackson2Mapper(factory).deserialize(ctx)
-  }
-
-  private static ObjectMapperDeserializationContext deserializationContext(ResponseBodyData responseData, Class cls, contentType, charset) {
+  private static ObjectMapperDeserializationContext deserializationContext(DataToDeserialize data, Class cls, contentType, charset) {
     def ctx = new ObjectMapperDeserializationContextImpl()
     ctx.type = cls
     ctx.charset = charset
     ctx.contentType = contentType
-    ctx.dataToDeserialize = new DataToDeserialize() {
-      @Override
-      String asString() {
-        return responseData.asString()
-      }
-
-      @Override
-      byte[] asByteArray() {
-        return responseData.asByteArray()
-      }
-
-      @Override
-      InputStream asInputStream() {
-        return responseData.asInputStream()
-      }
-    }
+    ctx.dataToDeserialize = data
     ctx
   }
 
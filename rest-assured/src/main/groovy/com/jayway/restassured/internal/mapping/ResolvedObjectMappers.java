@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.mapping;
+
+import com.jayway.restassured.config.ObjectMapperConfig;
+import com.jayway.restassured.internal.mapper.ObjectMapperType;
+import com.jayway.restassured.mapper.ObjectMapper;
+import com.jayway.restassured.mapper.factory.GsonObjectMapperFactory;
+import com.jayway.restassured.mapper.factory.JAXBObjectMapperFactory;
+import com.jayway.restassured.mapper.factory.Jackson1ObjectMapperFactory;
+import com.jayway.restassured.mapper.factory.Jackson2ObjectMapperFactory;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The object mappers resolved for an {@link ObjectMapperConfig}. The mappers are created once per configuration (since the configuration is
+ * immutable) and the object mapper type chosen for a given content-type is remembered, so that serializing or deserializing an object
+ * only requires a map lookup.
+ */
+class ResolvedObjectMappers {
+    private static final int MAX_CACHED_CONTENT_TYPES = 256;
+    private static final Map<ObjectMapperConfig, ResolvedObjectMappers> RESOLVED = Collections.synchronizedMap(new WeakHashMap<ObjectMapperConfig, ResolvedObjectMappers>());
+    private static volatile ResolvedObjectMappers lastResolved;
+
+    private final WeakReference<ObjectMapperConfig> config;
+    private final Jackson2ObjectMapperFactory jackson2ObjectMapperFactory;
+    private final Jackson1ObjectMapperFactory jackson1ObjectMapperFactory;
+    private final GsonObjectMapperFactory gsonObjectMapperFactory;
+    private final JAXBObjectMapperFactory jaxbObjectMapperFactory;
+    private final AtomicReferenceArray<ObjectMapper> mappers = new AtomicReferenceArray<ObjectMapper>(ObjectMapperType.values().length);
+    private final ConcurrentMap<String, ObjectMapperType> deserializerTypes = new ConcurrentHashMap<String, ObjectMapperType>();
+    private final ConcurrentMap<String, ObjectMapperType> serializerTypes = new ConcurrentHashMap<String, ObjectMapperType>();
+
+    private ResolvedObjectMappers(ObjectMapperConfig config) {
+        this.config = new WeakReference<ObjectMapperConfig>(config);
+        this.jackson2ObjectMapperFactory = config.jackson2ObjectMapperFactory();
+        this.jackson1ObjectMapperFactory = config.jackson1ObjectMapperFactory();
+        this.gsonObjectMapperFactory = config.gsonObjectMapperFactory();
+        this.jaxbObjectMapperFactory = config.jaxbObjectMapperFactory();
+    }
+
+    /**
+     * @param config The object mapper configuration
+     * @return The resolved object mappers for the given configuration
+     */
+    static ResolvedObjectMappers of(ObjectMapperConfig config) {
+        // Most requests use the same configuration so avoid the synchronized lookup in that case
+        ResolvedObjectMappers resolved = lastResolved;
+        if (resolved != null && resolved.config.get() == config) {
+            return resolved;
+        }
+        synchronized (RESOLVED) {
+            resolved = RESOLVED.get(config);
+            if (resolved == null) {
+                resolved = new ResolvedObjectMappers(config);
+                RESOLVED.put(config, resolved);
+            }
+        }
+        lastResolved = resolved;
+        return resolved;
+    }
+
+    /**
+     * Get the object mapper of the given type, it's created the first time it's requested. Callers must make sure that the mapper is
+     * available in the classpath.
+     *
+     * @param type The object mapper type
+     * @return The object mapper
+     */
+    ObjectMapper mapperOfType(ObjectMapperType type) {
+        ObjectMapper mapper = mappers.get(type.ordinal());
+        if (mapper == null) {
+            mapper = newMapper(type);
+            if (!mappers.compareAndSet(type.ordinal(), null, mapper)) {
+                mapper = mappers.get(type.ordinal());
+            }
+        }
+        return mapper;
+    }
+
+    ObjectMapperType deserializerType(String contentType, String defaultContentType) {
+        return deserializerTypes.get(deserializerKey(contentType, defaultContentType));
+    }
+
+    void cacheDeserializerType(String contentType, String defaultContentType, ObjectMapperType type) {
+        cache(deserializerTypes, deserializerKey(contentType, defaultContentType), type);
+    }
+
+    ObjectMapperType serializerType(String contentType) {
+        return serializerTypes.get(String.valueOf(contentType));
+    }
+
+    void cacheSerializerType(String contentType, ObjectMapperType type) {
+        cache(serializerTypes, String.valueOf(contentType), type);
+    }
+
+    private ObjectMapper newMapper(ObjectMapperType type) {
+        switch (type) {
+            case JACKSON_2:
+                return new Jackson2Mapper(jackson2ObjectMapperFactory);
+            case JACKSON_1:
+                return new Jackson1Mapper(jackson1ObjectMapperFactory);
+            case GSON:
+                return new GsonMapper(gsonObjectMapperFactory);
+            case JAXB:
+                return new JaxbMapper(jaxbObjectMapperFactory);
+            default:
+                throw new IllegalArgumentException("Unsupported object mapper type: " + type);
+        }
+    }
+
+    private static String deserializerKey(String contentType, String defaultContentType) {
+        return contentType + '\n' + defaultContentType;
+    }
+
+    private static void cache(ConcurrentMap<String, ObjectMapperType> cache, String key, ObjectMapperType type) {
+        // Content-types may contain parameters such as a multipart boundary so don't let the cache grow indefinitely
+        if (cache.size() < MAX_CACHED_CONTENT_TYPES) {
+            cache.putIfAbsent(key, type);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.mapping;
+
+import com.jayway.restassured.mapper.ObjectMapper;
+import com.jayway.restassured.mapper.ObjectMapperSerializationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An object mapper that can write the serialized object directly to a stream instead of first serializing it to a String.
+ */
+interface StreamingObjectMapper extends ObjectMapper {
+
+    /**
+     * @param charset The charset that the serialized object should be encoded with
+     * @return <code>true</code> if the mapper can write the object to a stream using the given charset
+     */
+    boolean canSerializeTo(String charset);
+
+    /**
+     * Serialize the object to the given stream using the charset defined in the context. The stream is flushed but not closed.
+     *
+     * @param context      The details needed to serialize the object
+     * @param outputStream The stream to write the serialized object to
+     * @throws IOException If the object couldn't be written to the stream
+     */
+    void serialize(ObjectMapperSerializationContext context, OutputStream outputStream) throws IOException;
+}
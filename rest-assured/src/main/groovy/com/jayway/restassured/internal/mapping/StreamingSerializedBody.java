@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.mapping;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A request body that is serialized by an object mapper when the request is sent. The object is written directly to the request
+ * entity's output stream so that it's never held in memory as a String or byte array unless {@link #asString()} is called (for
+ * example by a filter that logs the request body) in which case the serialized String is kept and used when sending the request.
+ */
+public class StreamingSerializedBody {
+    private final StreamingObjectMapper mapper;
+    private final Object object;
+    private final String contentType;
+    private final String charset;
+    private volatile String serialized;
+
+    StreamingSerializedBody(StreamingObjectMapper mapper, Object object, String contentType, String charset) {
+        this.mapper = mapper;
+        this.object = object;
+        this.contentType = contentType;
+        this.charset = charset;
+    }
+
+    /**
+     * @return The serialized object
+     */
+    public String asString() {
+        if (serialized == null) {
+            serialized = String.valueOf(mapper.serialize(context(charset)));
+        }
+        return serialized;
+    }
+
+    /**
+     * @return The charset that the object is serialized with when it's serialized to a String
+     */
+    public String getCharset() {
+        return charset;
+    }
+
+    /**
+     * @return <code>true</code> if the object has already been serialized to a String
+     */
+    public boolean isSerialized() {
+        return serialized != null;
+    }
+
+    /**
+     * @param charset The charset of the request body
+     * @return <code>true</code> if the object can be written to a stream using the given charset
+     */
+    public boolean canBeWrittenAs(String charset) {
+        return mapper.canSerializeTo(charset);
+    }
+
+    /**
+     * Serialize the object to the given stream.
+     *
+     * @param outputStream The stream to write to, it's not closed
+     * @param charset      The charset to encode the object with
+     * @throws IOException If the object couldn't be written to the stream
+     */
+    public void writeTo(OutputStream outputStream, String charset) throws IOException {
+        mapper.serialize(context(charset), outputStream);
+    }
+
+    private ObjectMapperSerializationContextImpl context(String charset) {
+        ObjectMapperSerializationContextImpl ctx = new ObjectMapperSerializationContextImpl();
+        ctx.setObject(object);
+        ctx.setContentType(contentType);
+        ctx.setCharset(charset);
+        return ctx;
+    }
+
+    @Override
+    public String toString() {
+        return asString();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.multipart;
+
+import org.apache.http.entity.mime.content.InputStreamBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+
+/**
+ * An {@link InputStreamBody} that reports the length of streams whose size can be determined without reading them
+ * ({@link ByteArrayInputStream} and {@link FileInputStream}). This allows the multipart entity to be sent with a precomputed
+ * <code>Content-Length</code> instead of chunked transfer encoding when the size of all parts are known.
+ */
+class KnownLengthInputStreamBody extends InputStreamBody {
+    private static final long UNKNOWN_LENGTH = -1;
+
+    private final long contentLength;
+
+    @SuppressWarnings("deprecation")
+    KnownLengthInputStreamBody(InputStream in, String mimeType, String filename) {
+        super(in, mimeType, filename);
+        this.contentLength = lengthOf(in);
+    }
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    private static long lengthOf(InputStream in) {
+        if (in instanceof ByteArrayInputStream) {
+            return ((ByteArrayInputStream) in).available();
+        } else if (in instanceof FileInputStream) {
+            try {
+                final FileChannel channel = ((FileInputStream) in).getChannel();
+                return channel.size() - channel.position();
+            } catch (IOException e) {
+                return UNKNOWN_LENGTH;
+            }
+        }
+        return UNKNOWN_LENGTH;
+    }
+}
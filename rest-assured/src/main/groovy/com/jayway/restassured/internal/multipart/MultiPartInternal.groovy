@@ -16,8 +16,10 @@
 package com.jayway.restassured.internal.multipart
 
 import com.jayway.restassured.internal.NoParameterValue
+import com.jayway.restassured.internal.mapping.StreamingSerializedBody
+import org.apache.http.entity.ContentType
+import org.apache.http.entity.mime.content.ByteArrayBody
 import org.apache.http.entity.mime.content.FileBody
-import org.apache.http.entity.mime.content.InputStreamBody
 import org.apache.http.entity.mime.content.StringBody
 
 import java.nio.charset.Charset
@@ -42,10 +44,12 @@ class MultiPartInternal {
     } else if (content instanceof InputStream) {
       returnInputStreamBody()
     } else if (content instanceof byte[]) {
-      content = new ByteArrayInputStream(content)
-      returnInputStreamBody()
+      // Don't replace the content with a stream so that the body can be created again if the request is resent
+      new ByteArrayBody(content, mimeType ?: OCTET_STREAM, fileName)
     } else if (content instanceof String) {
       returnStringBody(content)
+    } else if (content instanceof StreamingSerializedBody) {
+      returnSerializedObjectBody(content)
     } else if (content != null) {
       returnStringBody(content.toString())
     } else {
@@ -73,7 +77,14 @@ class MultiPartInternal {
     new StringBody(content, mimeType ?: TEXT_PLAIN, charset == null ? null : Charset.forName(charset))
   }
 
+  private def returnSerializedObjectBody(StreamingSerializedBody body) {
+    // The object is written using the charset of the part if specified, otherwise using the charset it was serialized with
+    def mimeTypeToUse = mimeType ?: TEXT_PLAIN
+    def contentType = charset == null ? ContentType.create(mimeTypeToUse) : ContentType.create(mimeTypeToUse, Charset.forName(charset))
+    new SerializedObjectBody(body, contentType, charset ?: body.charset)
+  }
+
   private def returnInputStreamBody() {
-    new InputStreamBody(content, mimeType ?: OCTET_STREAM, fileName)
+    new KnownLengthInputStreamBody(content, mimeType ?: OCTET_STREAM, fileName)
   }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.multipart;
+
+import com.jayway.restassured.internal.mapping.StreamingSerializedBody;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.MIME;
+import org.apache.http.entity.mime.content.AbstractContentBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+/**
+ * A multipart body that serializes an object directly to the request output stream when the part is written. Since the length
+ * isn't known until the object has been serialized the multipart entity is sent using chunked transfer encoding. If the object
+ * has already been serialized to a String (for example by a filter that logs the request) or if the object mapper cannot write
+ * the charset, the serialized String is encoded and sent with a known length instead.
+ */
+class SerializedObjectBody extends AbstractContentBody {
+    private static final long UNKNOWN_LENGTH = -1;
+
+    private final StreamingSerializedBody body;
+    private final String charset;
+    private final byte[] serialized;
+
+    /**
+     * @param body        The object to serialize
+     * @param contentType The content-type of the part
+     * @param charset     The charset to serialize the object with
+     */
+    SerializedObjectBody(StreamingSerializedBody body, ContentType contentType, String charset) {
+        super(contentType);
+        this.body = body;
+        this.charset = charset;
+        this.serialized = body.isSerialized() || !body.canBeWrittenAs(charset) ? body.asString().getBytes(Charset.forName(charset)) : null;
+    }
+
+    public String getFilename() {
+        return null;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        if (serialized == null) {
+            body.writeTo(out, charset);
+        } else {
+            out.write(serialized);
+        }
+    }
+
+    public String getTransferEncoding() {
+        return MIME.ENC_8BIT;
+    }
+
+    public long getContentLength() {
+        return serialized == null ? UNKNOWN_LENGTH : serialized.length;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.support;
+
+import com.jayway.restassured.response.TransferredBody;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Transfers a response body to a channel without reading the entire body into memory, optionally computing digests of the body on the fly.
+ * If no digests are requested the transfer is delegated to {@link FileChannel#transferFrom(ReadableByteChannel, long, long)} (or
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel)} if the body has been buffered in a file) so that the operating system
+ * can copy the data directly.
+ */
+public class BodyTransfer {
+    private static final int BUFFER_SIZE = 16384;
+    private static final long TRANSFER_CHUNK_SIZE = 8 * 1024 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Transfer a stream to a channel. The stream is always closed but the channel is left open. The channel must be in blocking mode, an
+     * {@link IOException} is thrown if it doesn't accept any data.
+     *
+     * @param stream           The stream to transfer
+     * @param channel          The channel to write to
+     * @param digestAlgorithms The digests to compute, for example <code>SHA-256</code> or <code>MD5</code>
+     * @return The number of bytes that were transferred and the digests
+     */
+    public static TransferredBody transfer(InputStream stream, WritableByteChannel channel, String... digestAlgorithms) throws IOException {
+        try {
+            return transfer(stream, channel, newDigests(digestAlgorithms));
+        } finally {
+            stream.close();
+        }
+    }
+
+    /**
+     * Transfer content that has been buffered in a temporary file to a channel. The channel is left open. The channel must be in blocking
+     * mode, an {@link IOException} is thrown if it doesn't accept any data.
+     *
+     * @param content          The content to transfer
+     * @param channel          The channel to write to
+     * @param digestAlgorithms The digests to compute, for example <code>SHA-256</code> or <code>MD5</code>
+     * @return The number of bytes that were transferred and the digests
+     */
+    public static TransferredBody transfer(FileBackedContent content, WritableByteChannel channel, String... digestAlgorithms) throws IOException {
+        if (digestAlgorithms != null && digestAlgorithms.length > 0) {
+            return transfer(content.newInputStream(), channel, digestAlgorithms);
+        }
+        final FileChannel source = new FileInputStream(content.getFile()).getChannel();
+        try {
+            long position = 0;
+            while (position < content.length()) {
+                final long transferred = source.transferTo(position, Math.min(TRANSFER_CHUNK_SIZE, content.length() - position), channel);
+                if (transferred == 0) {
+                    // The channel didn't accept any data (for example because it's non-blocking), copy the rest through a buffer
+                    // instead of calling transferTo again and again
+                    position += copy(Channels.newInputStream(source.position(position)), channel, Collections.<String, MessageDigest>emptyMap());
+                    break;
+                }
+                position += transferred;
+            }
+            return new TransferredBody(position, new LinkedHashMap<String, String>(), null);
+        } finally {
+            source.close();
+        }
+    }
+
+    /**
+     * Transfer a stream to a file. The file is overwritten if it exists.
+     *
+     * @param stream           The stream to transfer
+     * @param file             The file to write to
+     * @param digestAlgorithms The digests to compute, for example <code>SHA-256</code> or <code>MD5</code>
+     * @return The number of bytes that were transferred and the digests
+     */
+    public static TransferredBody transfer(InputStream stream, File file, String... digestAlgorithms) throws IOException {
+        try {
+            // Resolve the digests before the file is truncated
+            final Map<String, MessageDigest> digests = newDigests(digestAlgorithms);
+            final FileChannel channel = new FileOutputStream(file).getChannel();
+            try {
+                return withFile(transfer(stream, channel, digests), file);
+            } finally {
+                channel.close();
+            }
+        } finally {
+            stream.close();
+        }
+    }
+
+    /**
+     * Transfer content that has been buffered in a temporary file to another file. The file is overwritten if it exists.
+     *
+     * @param content          The content to transfer
+     * @param file             The file to write to
+     * @param digestAlgorithms The digests to compute, for example <code>SHA-256</code> or <code>MD5</code>
+     * @return The number of bytes that were transferred and the digests
+     */
+    public static TransferredBody transfer(FileBackedContent content, File file, String... digestAlgorithms) throws IOException {
+        if (digestAlgorithms != null && digestAlgorithms.length > 0) {
+            return transfer(content.newInputStream(), file, digestAlgorithms);
+        }
+        final FileChannel channel = new FileOutputStream(file).getChannel();
+        try {
+            return withFile(transfer(content, channel, digestAlgorithms), file);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static TransferredBody transfer(InputStream stream, WritableByteChannel channel, Map<String, MessageDigest> digests) throws IOException {
+        final long length;
+        if (digests.isEmpty() && channel instanceof FileChannel) {
+            length = transferFrom(Channels.newChannel(stream), (FileChannel) channel);
+        } else {
+            length = copy(stream, channel, digests);
+        }
+        return new TransferredBody(length, toHex(digests), null);
+    }
+
+    private static TransferredBody withFile(TransferredBody transferredBody, File file) {
+        return new TransferredBody(transferredBody.getLength(), transferredBody.getDigests(), file);
+    }
+
+    private static long transferFrom(ReadableByteChannel source, FileChannel target) throws IOException {
+        // transferFrom doesn't update the position of the target channel
+        final long start = target.position();
+        long position = start;
+        long transferred;
+        while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+            position += transferred;
+        }
+        target.position(position);
+        return position - start;
+    }
+
+    private static long copy(InputStream stream, WritableByteChannel channel, Map<String, MessageDigest> digests) throws IOException {
+        final byte[] data = new byte[BUFFER_SIZE];
+        final ByteBuffer buffer = ByteBuffer.wrap(data);
+        long length = 0;
+        int read;
+        while ((read = stream.read(data, 0, data.length)) != -1) {
+            for (MessageDigest digest : digests.values()) {
+                digest.update(data, 0, read);
+            }
+            buffer.clear();
+            buffer.limit(read);
+            while (buffer.hasRemaining()) {
+                if (channel.write(buffer) == 0) {
+                    throw new IOException("Couldn't write the body to " + channel + " since it didn't accept any data, the channel must be in blocking mode.");
+                }
+            }
+            length += read;
+        }
+        return length;
+    }
+
+    private static Map<String, MessageDigest> newDigests(String[] algorithms) {
+        final Map<String, MessageDigest> digests = new LinkedHashMap<String, MessageDigest>();
+        if (algorithms != null) {
+            for (String algorithm : algorithms) {
+                try {
+                    digests.put(algorithm, MessageDigest.getInstance(algorithm));
+                } catch (NoSuchAlgorithmException e) {
+                    throw new IllegalArgumentException("Digest algorithm " + algorithm + " is not supported.", e);
+                }
+            }
+        }
+        return digests;
+    }
+
+    private static Map<String, String> toHex(Map<String, MessageDigest> digests) {
+        final Map<String, String> hex = new LinkedHashMap<String, String>();
+        for (Map.Entry<String, MessageDigest> entry : digests.entrySet()) {
+            final byte[] bytes = entry.getValue().digest();
+            final char[] chars = new char[bytes.length * 2];
+            for (int i = 0; i < bytes.length; i++) {
+                chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+                chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+            }
+            hex.put(entry.getKey(), new String(chars));
+        }
+        return hex;
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.support;
+
+import com.jayway.restassured.internal.util.SafeExceptionRethrower;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A response body that was too large to keep in memory and has been written to a temporary file. The file is read using a memory-mapped
+ * buffer so that the body can be read any number of times without copying it to the heap. The temporary file is deleted when the content
+ * is closed, when the content has been garbage collected (the next time a body is buffered) or at the latest when the JVM exits.
+ */
+public class FileBackedContent implements Closeable {
+    private static final String TEMP_FILE_PREFIX = "rest-assured-body";
+    private static final int BUFFER_SIZE = 16384;
+    // Leave room for array headers, see java.util.ArrayList#MAX_ARRAY_SIZE
+    private static final long MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    // The temporary files of content that hasn't been closed yet. The references are enqueued when the content has been garbage collected.
+    private static final ReferenceQueue<FileBackedContent> RELEASED_CONTENT = new ReferenceQueue<FileBackedContent>();
+    private static final Set<TemporaryFileReference> TEMPORARY_FILES = Collections.synchronizedSet(new HashSet<TemporaryFileReference>());
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread("rest-assured-temporary-body-cleanup") {
+            @Override
+            public void run() {
+                // File#deleteOnExit cannot be used once the JVM is shutting down
+                for (TemporaryFileReference reference : temporaryFiles()) {
+                    reference.file.delete();
+                }
+            }
+        });
+    }
+
+    private final File file;
+    private final long length;
+    private final TemporaryFileReference temporaryFileReference;
+    private MappedByteBuffer mappedBuffer;
+    private boolean closed;
+
+    private FileBackedContent(File file, long length) {
+        this.file = file;
+        this.length = length;
+        this.temporaryFileReference = new TemporaryFileReference(this, file);
+        TEMPORARY_FILES.add(temporaryFileReference);
+    }
+
+    /**
+     * Read a stream into memory, or into a temporary file if it's larger than <code>maxInMemorySize</code>. The stream is always closed.
+     *
+     * @param stream          The stream to read
+     * @param maxInMemorySize The maximum number of bytes to keep in memory
+     * @param maxSize         The maximum number of bytes to read
+     * @return A <code>byte[]</code> if the content fits in memory, otherwise a {@link FileBackedContent}
+     * @throws IllegalStateException If the stream contains more than <code>maxSize</code> bytes
+     */
+    public static Object buffer(InputStream stream, long maxInMemorySize, long maxSize) throws IOException {
+        final long inMemoryLimit = Math.min(Math.min(maxInMemorySize, maxSize), MAX_ARRAY_SIZE);
+        final ByteArrayOutputStream memory = new ByteArrayOutputStream();
+        OutputStream out = memory;
+        File file = null;
+        try {
+            long total = 0;
+            byte[] data = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = stream.read(data, 0, data.length)) != -1) {
+                total += read;
+                if (total > maxSize) {
+                    throw new IllegalStateException("Response body is larger than the maximum allowed size of " + maxSize + " bytes. " +
+                            "Use DecoderConfig#maxBodySize to change the limit.");
+                }
+                if (file == null && total > inMemoryLimit) {
+                    deleteFilesOfReleasedContent();
+                    file = File.createTempFile(TEMP_FILE_PREFIX, ".tmp");
+                    out = new FileOutputStream(file);
+                    memory.writeTo(out);
+                    memory.reset();
+                }
+                out.write(data, 0, read);
+            }
+            if (file == null) {
+                return memory.toByteArray();
+            }
+            out.close();
+            return new FileBackedContent(file, total);
+        } catch (IOException e) {
+            closeQuietly(out);
+            deleteQuietly(file);
+            throw e;
+        } catch (RuntimeException e) {
+            closeQuietly(out);
+            deleteQuietly(file);
+            throw e;
+        } finally {
+            stream.close();
+        }
+    }
+
+    /**
+     * Delete the temporary file. The content cannot be read after it has been closed but streams and readers that have already been
+     * created can still be used.
+     */
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            mappedBuffer = null;
+            temporaryFileReference.delete();
+        }
+    }
+
+    /**
+     * @return The size of the content in bytes
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * @return The temporary file that holds the content
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * @return A new stream that reads the content from the beginning
+     */
+    public InputStream newInputStream() {
+        if (length > Integer.MAX_VALUE) {
+            assertNotClosed();
+            // A single mapped buffer cannot be larger than 2 GB
+            try {
+                return new FileInputStream(file);
+            } catch (IOException e) {
+                return SafeExceptionRethrower.safeRethrow(e);
+            }
+        }
+        return new ByteBufferInputStream(mappedBuffer());
+    }
+
+    /**
+     * @param charset The charset of the content
+     * @return A new reader that reads the content from the beginning
+     */
+    public Reader newReader(String charset) {
+        return new InputStreamReader(newInputStream(), Charset.forName(charset));
+    }
+
+    /**
+     * Copy the content to the heap. Only use this if a <code>byte[]</code> is explicitly requested.
+     *
+     * @return The content as a byte array
+     */
+    public byte[] toByteArray() {
+        if (length > MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("Response body of " + length + " bytes is too large to fit in a byte array, use asInputStream() instead.");
+        }
+        final byte[] bytes = new byte[(int) length];
+        mappedBuffer().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Decode the content to a string. Only use this if a <code>String</code> is explicitly requested.
+     *
+     * @param charset The charset of the content
+     * @return The content as a string
+     */
+    public String toString(String charset) {
+        if (length > MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("Response body of " + length + " bytes is too large to fit in a String, use asInputStream() instead.");
+        }
+        return Charset.forName(charset).decode(mappedBuffer()).toString();
+    }
+
+    /*
+     * Returns a new view of the mapped file so that concurrent readers don't share the position
+     */
+    private synchronized ByteBuffer mappedBuffer() {
+        assertNotClosed();
+        if (mappedBuffer == null) {
+            RandomAccessFile randomAccessFile = null;
+            try {
+                randomAccessFile = new RandomAccessFile(file, "r");
+                // The mapping stays valid after the channel has been closed
+                mappedBuffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+            } catch (IOException e) {
+                SafeExceptionRethrower.safeRethrow(e);
+            } finally {
+                closeQuietly(randomAccessFile);
+            }
+        }
+        return mappedBuffer.duplicate();
+    }
+
+    @Override
+    public String toString() {
+        return "<" + length + " bytes buffered in " + file + ">";
+    }
+
+    private synchronized void assertNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("The response body buffered in " + file + " has been released.");
+        }
+    }
+
+    private static void deleteFilesOfReleasedContent() {
+        Reference<? extends FileBackedContent> reference;
+        while ((reference = RELEASED_CONTENT.poll()) != null) {
+            ((TemporaryFileReference) reference).delete();
+        }
+    }
+
+    private static List<TemporaryFileReference> temporaryFiles() {
+        synchronized (TEMPORARY_FILES) {
+            return new ArrayList<TemporaryFileReference>(TEMPORARY_FILES);
+        }
+    }
+
+    private static void deleteQuietly(File file) {
+        if (file != null && !file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException ignored) {
+                // Ignore
+            }
+        }
+    }
+
+    /*
+     * Keeps track of the temporary file of a content without keeping the content reachable
+     */
+    private static class TemporaryFileReference extends PhantomReference<FileBackedContent> {
+        private final File file;
+
+        TemporaryFileReference(FileBackedContent content, File file) {
+            super(content, RELEASED_CONTENT);
+            this.file = file;
+        }
+
+        void delete() {
+            if (TEMPORARY_FILES.remove(this)) {
+                deleteQuietly(file);
+            }
+            clear();
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            final int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -18,6 +18,7 @@ package com.jayway.restassured.internal.support
 import com.jayway.restassured.internal.RestAssuredResponseOptionsImpl
 import com.jayway.restassured.internal.path.json.JsonPrettifier
 import com.jayway.restassured.internal.path.xml.XmlPrettifier
+import com.jayway.restassured.internal.print.RequestSnapshot
 import com.jayway.restassured.parsing.Parser
 import com.jayway.restassured.response.ResponseBody
 import com.jayway.restassured.response.ResponseOptions
@@ -28,13 +29,20 @@ import static org.apache.commons.lang3.StringUtils.isBlank
 class Prettifier {
 
   def String getPrettifiedBodyIfPossible(FilterableRequestSpecification request) {
-    def body = request.getBody();
+    prettifyRequestBody(request.getBody(), request.getRequestContentType())
+  }
+
+  def String getPrettifiedBodyIfPossible(RequestSnapshot request) {
+    prettifyRequestBody(request.getBody(), request.getRequestContentType())
+  }
+
+  private def String prettifyRequestBody(body, String contentType) {
     if (body == null) {
       return null
     } else if (!(body instanceof String)) {
       return body.toString()
     }
-    def parser = Parser.fromContentType(request.getRequestContentType())
+    def parser = Parser.fromContentType(contentType)
     prettify(body as String, parser)
   }
 
@@ -27,6 +27,7 @@ import com.jayway.restassured.filter.log.LogDetail;
 import com.jayway.restassured.http.ContentType;
 import com.jayway.restassured.internal.*;
 import com.jayway.restassured.internal.assertion.AssertParameter;
+import com.jayway.restassured.internal.load.LoadSpecificationImpl;
 import com.jayway.restassured.internal.log.LogRepository;
 import com.jayway.restassured.mapper.ObjectMapper;
 import com.jayway.restassured.parsing.Parser;
@@ -796,6 +797,35 @@ public class RestAssured {
         return given().spec(requestSpecification);
     }
 
+    /**
+     * Run a local, in-process load test that replays the supplied request specification at a fixed concurrency level or arrival rate. For example:
+     * <pre>
+     * RequestSpecification requestSpecification = with().parameters("firstName", "John", "lastName", "Doe");
+     * LoadResult result = load(requestSpecification).withConcurrency(10).during(30, TimeUnit.SECONDS).get("/greet");
+     * </pre>
+     * <p/>
+     * This will send GET requests to "/greet" from 10 threads during 30 seconds and report the throughput, latency percentiles and the
+     * number of failed requests. All requests share a pooled http client.
+     *
+     * @param requestSpecification The request specification to replay
+     * @return A load specification
+     */
+    public static LoadSpecification load(RequestSpecification requestSpecification) {
+        return new LoadSpecificationImpl(requestSpecification);
+    }
+
+    /**
+     * Run a local, in-process load test that replays the supplied request specification and validates each response against the
+     * supplied response specification. See {@link #load(RequestSpecification)} for more details.
+     *
+     * @param requestSpecification  The request specification to replay
+     * @param responseSpecification The response specification that each response is validated against
+     * @return A load specification
+     */
+    public static LoadSpecification load(RequestSpecification requestSpecification, ResponseSpecification responseSpecification) {
+        return load(requestSpecification).expect(responseSpecification);
+    }
+
     /**
      * Perform a GET request to a <code>path</code>. Normally the path doesn't have to be fully-qualified e.g. you don't need to
      * specify the path as <tt>http://localhost:8080/path</tt>. In this case it's enough to use <tt>/path</tt>.
@@ -18,6 +18,7 @@ package com.jayway.restassured.builder;
 
 import com.jayway.restassured.RestAssured;
 import com.jayway.restassured.config.RestAssuredConfig;
+import com.jayway.restassured.filter.time.TimingPhase;
 import com.jayway.restassured.http.ContentType;
 import com.jayway.restassured.internal.ResponseParserRegistrar;
 import com.jayway.restassured.internal.ResponseSpecificationImpl;
@@ -324,6 +325,19 @@ public class ResponseSpecBuilder {
         return this;
     }
 
+    /**
+     * Validate that the time spent in the given {@link TimingPhase} of the request matches the supplied <code>matcher</code> and time unit.
+     *
+     * @param phase    The timing phase
+     * @param matcher  The matcher
+     * @param timeUnit The time unit
+     * @return the builder
+     */
+    public ResponseSpecBuilder expectResponseTime(TimingPhase phase, Matcher<Long> matcher, TimeUnit timeUnit) {
+        spec.time(phase, matcher, timeUnit);
+        return this;
+    }
+
     /**
      * Set the root path of the response body so that you don't need to write the entire path for each expectation.
      * E.g. instead of writing:
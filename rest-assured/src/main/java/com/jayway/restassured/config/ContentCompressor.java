@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Compresses the body of a request. Register a compressor using {@link EncoderConfig#compressRequestBodyWith(ContentCompressor)}. The built-in
+ * compressors are found in {@link EncoderConfig.ContentCompression} but you can implement this interface to use other codecs.
+ */
+public interface ContentCompressor {
+
+    /**
+     * @return The value of the <code>Content-Encoding</code> header that describes the compressed body, for example <code>gzip</code>.
+     */
+    String contentEncoding();
+
+    /**
+     * Wrap the given stream in a stream that compresses everything written to it. The body is written to the returned stream while it's being
+     * sent so the compressed body is never buffered in memory. REST Assured closes the returned stream once the entire body has been written,
+     * closing it must finish the compression and release any resources held by the compressor. The supplied stream is not closed.
+     *
+     * @param outputStream The stream to write the compressed body to
+     * @return A stream that compresses what's written to it
+     * @throws IOException If the compressor cannot be created
+     */
+    OutputStream compress(OutputStream outputStream) throws IOException;
+}
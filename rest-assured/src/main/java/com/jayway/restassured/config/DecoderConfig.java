@@ -33,6 +33,11 @@ public class DecoderConfig implements Config {
 
     private static final boolean DEFAULT_NO_WRAP_FOR_INFLATE_ENCODED_STREAMS = false;
 
+    /**
+     * Used to indicate that there's no limit on the size of a response body
+     */
+    public static final long UNLIMITED_BODY_SIZE = Long.MAX_VALUE;
+
     private static final String UTF_8 = "UTF-8";
     private static final Map<String, String> DEFAULT_CHARSET_FOR_CONTENT_TYPE = new HashMap<String, String>() {{
         put(ContentType.JSON.toString(), UTF_8);
@@ -43,6 +48,9 @@ public class DecoderConfig implements Config {
     private final Map<String, String> contentTypeToDefaultCharset;
     private final boolean useNoWrapForInflateDecoding;
     private final boolean isUserConfigured;
+    private final long maxInMemoryBodySize;
+    private final long maxBodySize;
+    private final boolean deserializeDirectlyFromConnection;
 
     /**
      * Configure the decoder config to use the default charset as specified by {@link java.nio.charset.Charset#defaultCharset()} for content decoding.
@@ -78,11 +86,19 @@ public class DecoderConfig implements Config {
     private DecoderConfig(String defaultContentCharset, boolean useNoWrapForInflateDecoding, boolean isUserConfigured,
                           Map<String, String> contentTypeToDefaultCharset, ContentDecoder... contentDecoders) {
         this(defaultContentCharset, useNoWrapForInflateDecoding, isUserConfigured,
-                contentDecoders == null ? Collections.<ContentDecoder>emptyList() : Arrays.asList(contentDecoders), contentTypeToDefaultCharset);
+                contentDecoders == null ? Collections.<ContentDecoder>emptyList() : Arrays.asList(contentDecoders), contentTypeToDefaultCharset,
+                UNLIMITED_BODY_SIZE, UNLIMITED_BODY_SIZE, false);
     }
 
-    private DecoderConfig(String defaultContentCharset, boolean useNoWrapForInflateDecoding, boolean isUserConfigured, List<ContentDecoder> contentDecoders, Map<String, String> contentTypeToDefaultCharset) {
+    private DecoderConfig(String defaultContentCharset, boolean useNoWrapForInflateDecoding, boolean isUserConfigured, List<ContentDecoder> contentDecoders,
+                          Map<String, String> contentTypeToDefaultCharset, long maxInMemoryBodySize, long maxBodySize,
+                          boolean deserializeDirectlyFromConnection) {
         Validate.notBlank(defaultContentCharset, "Default decoder content charset to cannot be blank");
+        Validate.isTrue(maxInMemoryBodySize >= 0, "Max in-memory body size cannot be negative");
+        Validate.isTrue(maxBodySize >= 0, "Max body size cannot be negative");
+        this.maxInMemoryBodySize = maxInMemoryBodySize;
+        this.maxBodySize = maxBodySize;
+        this.deserializeDirectlyFromConnection = deserializeDirectlyFromConnection;
         this.contentTypeToDefaultCharset = new HashMap<String, String>(contentTypeToDefaultCharset);
         this.defaultContentCharset = defaultContentCharset;
         this.contentDecoders = Collections.unmodifiableList(contentDecoders == null ? Collections.<ContentDecoder>emptyList() : contentDecoders);
@@ -102,7 +118,7 @@ public class DecoderConfig implements Config {
         notNull(contentType, "ContentType");
         Map<String, String> map = new HashMap<String, String>(contentTypeToDefaultCharset);
         map.put(trim(contentType).toLowerCase(), trim(charset));
-        return new DecoderConfig(charset, useNoWrapForInflateDecoding, true, contentDecoders, map);
+        return new DecoderConfig(charset, useNoWrapForInflateDecoding, true, contentDecoders, map, maxInMemoryBodySize, maxBodySize, deserializeDirectlyFromConnection);
     }
 
     /**
@@ -143,7 +159,7 @@ public class DecoderConfig implements Config {
         for (String ct : contentType.getContentTypeStrings()) {
             map.put(ct.toLowerCase(), trim(charset));
         }
-        return new DecoderConfig(charset, useNoWrapForInflateDecoding, true, contentDecoders, map);
+        return new DecoderConfig(charset, useNoWrapForInflateDecoding, true, contentDecoders, map, maxInMemoryBodySize, maxBodySize, deserializeDirectlyFromConnection);
     }
 
     /**
@@ -208,7 +224,7 @@ public class DecoderConfig implements Config {
      * @return A new instance of the DecoderConfig.
      */
     public DecoderConfig useNoWrapForInflateDecoding(boolean nowrap) {
-        return new DecoderConfig(defaultContentCharset, nowrap, true, contentDecoders, contentTypeToDefaultCharset);
+        return new DecoderConfig(defaultContentCharset, nowrap, true, contentDecoders, contentTypeToDefaultCharset, maxInMemoryBodySize, maxBodySize, deserializeDirectlyFromConnection);
     }
 
     /**
@@ -227,7 +243,7 @@ public class DecoderConfig implements Config {
      */
     @SuppressWarnings("UnusedDeclaration")
     public DecoderConfig defaultContentCharset(String charset) {
-        return new DecoderConfig(charset, useNoWrapForInflateDecoding, true, contentDecoders, contentTypeToDefaultCharset);
+        return new DecoderConfig(charset, useNoWrapForInflateDecoding, true, contentDecoders, contentTypeToDefaultCharset, maxInMemoryBodySize, maxBodySize, deserializeDirectlyFromConnection);
     }
 
     /**
@@ -239,7 +255,7 @@ public class DecoderConfig implements Config {
     @SuppressWarnings("UnusedDeclaration")
     public DecoderConfig defaultContentCharset(Charset charset) {
         String charsetAsString = notNull(charset, Charset.class).toString();
-        return new DecoderConfig(charsetAsString, useNoWrapForInflateDecoding, true, contentDecoders, contentTypeToDefaultCharset);
+        return new DecoderConfig(charsetAsString, useNoWrapForInflateDecoding, true, contentDecoders, contentTypeToDefaultCharset, maxInMemoryBodySize, maxBodySize, deserializeDirectlyFromConnection);
     }
 
     /**
@@ -254,7 +270,8 @@ public class DecoderConfig implements Config {
      * @return A new instance of the DecoderConfig.
      */
     public DecoderConfig contentDecoders(ContentDecoder contentDecoder, ContentDecoder... additionalContentDecoders) {
-        return new DecoderConfig(defaultContentCharset, useNoWrapForInflateDecoding, true, contentTypeToDefaultCharset, merge(contentDecoder, additionalContentDecoders));
+        return new DecoderConfig(defaultContentCharset, useNoWrapForInflateDecoding, true, Arrays.asList(merge(contentDecoder, additionalContentDecoders)),
+                contentTypeToDefaultCharset, maxInMemoryBodySize, maxBodySize, deserializeDirectlyFromConnection);
     }
 
     /**
@@ -264,7 +281,79 @@ public class DecoderConfig implements Config {
      * @see #contentDecoders(com.jayway.restassured.config.DecoderConfig.ContentDecoder, com.jayway.restassured.config.DecoderConfig.ContentDecoder...)
      */
     public DecoderConfig noContentDecoders() {
-        return new DecoderConfig(defaultContentCharset, useNoWrapForInflateDecoding, true, contentTypeToDefaultCharset);
+        return new DecoderConfig(defaultContentCharset, useNoWrapForInflateDecoding, true, Collections.<ContentDecoder>emptyList(), contentTypeToDefaultCharset,
+                maxInMemoryBodySize, maxBodySize, deserializeDirectlyFromConnection);
+    }
+
+    /**
+     * Specify the maximum number of bytes of a response body that REST Assured keeps in memory. Larger bodies are written to a temporary file
+     * when they're buffered (for example when the body is validated or extracted more than once) and read back from a memory-mapped
+     * buffer, which means that <code>asString()</code>, <code>asInputStream()</code> and path expressions work the same way regardless of the
+     * size of the body without holding it on the heap.
+     * <p>
+     * By default all bodies are kept in memory.
+     * </p>
+     *
+     * @param numberOfBytes The maximum number of bytes to keep in memory
+     * @return A new instance of the DecoderConfig.
+     */
+    public DecoderConfig maxInMemoryBodySize(long numberOfBytes) {
+        return new DecoderConfig(defaultContentCharset, useNoWrapForInflateDecoding, true, contentDecoders, contentTypeToDefaultCharset, numberOfBytes, maxBodySize, deserializeDirectlyFromConnection);
+    }
+
+    /**
+     * @return The maximum number of bytes of a response body that is kept in memory.
+     * @see #maxInMemoryBodySize(long)
+     */
+    public long maxInMemoryBodySize() {
+        return maxInMemoryBodySize;
+    }
+
+    /**
+     * Specify the maximum size of a response body that REST Assured will buffer. Buffering a larger body will fail with an
+     * {@link IllegalStateException} instead of filling the disk (or the heap) when an endpoint misbehaves. Streaming the body using
+     * <code>asInputStream()</code> before it has been buffered is not affected.
+     * <p>
+     * By default there's no limit.
+     * </p>
+     *
+     * @param numberOfBytes The maximum size of a response body
+     * @return A new instance of the DecoderConfig.
+     */
+    public DecoderConfig maxBodySize(long numberOfBytes) {
+        return new DecoderConfig(defaultContentCharset, useNoWrapForInflateDecoding, true, contentDecoders, contentTypeToDefaultCharset, maxInMemoryBodySize, numberOfBytes, deserializeDirectlyFromConnection);
+    }
+
+    /**
+     * @return The maximum size of a response body that REST Assured will buffer.
+     * @see #maxBodySize(long)
+     */
+    public long maxBodySize() {
+        return maxBodySize;
+    }
+
+    /**
+     * Specify whether <code>as(..)</code> should deserialize the response body directly from the connection if the body hasn't been
+     * buffered yet (i.e. if no body expectations have been defined and the body hasn't been read before). This avoids keeping a copy of
+     * large bodies in memory but it also means that the body <i>cannot</i> be read again after it has been deserialized.
+     * <p>
+     * By default the body is buffered before it's deserialized (but it's never copied into a String unless required by the object mapper).
+     * </p>
+     *
+     * @param deserializeDirectlyFromConnection <code>true</code> to deserialize the body directly from the connection
+     * @return A new instance of the DecoderConfig.
+     */
+    public DecoderConfig deserializeDirectlyFromConnection(boolean deserializeDirectlyFromConnection) {
+        return new DecoderConfig(defaultContentCharset, useNoWrapForInflateDecoding, true, contentDecoders, contentTypeToDefaultCharset, maxInMemoryBodySize,
+                maxBodySize, deserializeDirectlyFromConnection);
+    }
+
+    /**
+     * @return <code>true</code> if <code>as(..)</code> deserializes unbuffered response bodies directly from the connection.
+     * @see #deserializeDirectlyFromConnection(boolean)
+     */
+    public boolean shouldDeserializeDirectlyFromConnection() {
+        return deserializeDirectlyFromConnection;
     }
 
     /**
@@ -21,10 +21,15 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.http.protocol.HTTP;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static com.jayway.restassured.internal.assertion.AssertParameter.notNull;
 import static org.apache.commons.lang3.StringUtils.trim;
@@ -45,6 +50,7 @@ public class EncoderConfig implements Config {
     private final boolean shouldAppendDefaultContentCharsetToContentTypeIfUndefined;
     private final Map<String, ContentType> contentEncoders;
     private final Map<String, String> contentTypeToDefaultCharset;
+    private final ContentCompressor requestBodyCompressor;
     private final boolean isUserDefined;
 
     /**
@@ -58,17 +64,17 @@ public class EncoderConfig implements Config {
      * </p>
      */
     public EncoderConfig() {
-        this(HTTP.DEF_CONTENT_CHARSET.toString(), UTF_8, true, new HashMap<String, ContentType>(), DEFAULT_CHARSET_FOR_CONTENT_TYPE, true);
+        this(HTTP.DEF_CONTENT_CHARSET.toString(), UTF_8, true, new HashMap<String, ContentType>(), DEFAULT_CHARSET_FOR_CONTENT_TYPE, null, true);
     }
 
     public EncoderConfig(String defaultContentCharset, String defaultQueryParameterCharset) {
-        this(defaultContentCharset, defaultQueryParameterCharset, true, new HashMap<String, ContentType>(), DEFAULT_CHARSET_FOR_CONTENT_TYPE, true);
+        this(defaultContentCharset, defaultQueryParameterCharset, true, new HashMap<String, ContentType>(), DEFAULT_CHARSET_FOR_CONTENT_TYPE, null, true);
     }
 
     private EncoderConfig(String defaultContentCharset, String defaultQueryParameterCharset,
                           boolean shouldAppendDefaultContentCharsetToContentTypeIfUndefined,
                           Map<String, ContentType> encoders, Map<String, String> contentTypeToDefaultCharset,
-                          boolean isUserDefined) {
+                          ContentCompressor requestBodyCompressor, boolean isUserDefined) {
         Validate.notBlank(defaultContentCharset, "Default encoder content charset to cannot be blank. See \"appendDefaultContentCharsetToContentTypeIfMissing\" method if you like to disable automatically appending the charset to the content-type.");
         Validate.notBlank(defaultQueryParameterCharset, "Default protocol charset to cannot be blank.");
         this.contentTypeToDefaultCharset = new HashMap<String, String>(contentTypeToDefaultCharset);
@@ -76,6 +82,7 @@ public class EncoderConfig implements Config {
         this.defaultQueryParameterCharset = defaultQueryParameterCharset;
         this.shouldAppendDefaultContentCharsetToContentTypeIfUndefined = shouldAppendDefaultContentCharsetToContentTypeIfUndefined;
         this.contentEncoders = encoders;
+        this.requestBodyCompressor = requestBodyCompressor;
         this.isUserDefined = isUserDefined;
     }
 
@@ -136,7 +143,7 @@ public class EncoderConfig implements Config {
         notNull(contentType, "ContentType");
         Map<String, String> map = new HashMap<String, String>(contentTypeToDefaultCharset);
         map.put(trim(contentType).toLowerCase(), trim(charset));
-        return new EncoderConfig(charset, defaultQueryParameterCharset, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, contentEncoders, map, true);
+        return new EncoderConfig(charset, defaultQueryParameterCharset, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, contentEncoders, map, requestBodyCompressor, true);
     }
 
     /**
@@ -153,7 +160,7 @@ public class EncoderConfig implements Config {
         for (String ct : contentType.getContentTypeStrings()) {
             map.put(ct.toLowerCase(), trim(charset));
         }
-        return new EncoderConfig(charset, defaultQueryParameterCharset, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, contentEncoders, map, true);
+        return new EncoderConfig(charset, defaultQueryParameterCharset, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, contentEncoders, map, requestBodyCompressor, true);
     }
 
     /**
@@ -188,7 +195,7 @@ public class EncoderConfig implements Config {
      */
     public EncoderConfig defaultContentCharset(Charset charset) {
         String charsetAsString = notNull(charset, Charset.class).toString();
-        return new EncoderConfig(charsetAsString, defaultQueryParameterCharset, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, contentEncoders, contentTypeToDefaultCharset, true);
+        return new EncoderConfig(charsetAsString, defaultQueryParameterCharset, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, contentEncoders, contentTypeToDefaultCharset, requestBodyCompressor, true);
     }
 
     /**
@@ -198,7 +205,7 @@ public class EncoderConfig implements Config {
      * @return A new instance of {@link EncoderConfig}
      */
     public EncoderConfig defaultQueryParameterCharset(String charset) {
-        return new EncoderConfig(defaultContentCharset, charset, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, contentEncoders, contentTypeToDefaultCharset, true);
+        return new EncoderConfig(defaultContentCharset, charset, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, contentEncoders, contentTypeToDefaultCharset, requestBodyCompressor, true);
     }
 
     /**
@@ -210,7 +217,7 @@ public class EncoderConfig implements Config {
     @SuppressWarnings("UnusedDeclaration")
     public EncoderConfig defaultQueryParameterCharset(Charset charset) {
         String charsetAsString = notNull(charset, Charset.class).toString();
-        return new EncoderConfig(defaultContentCharset, charsetAsString, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, contentEncoders, contentTypeToDefaultCharset, true);
+        return new EncoderConfig(defaultContentCharset, charsetAsString, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, contentEncoders, contentTypeToDefaultCharset, requestBodyCompressor, true);
     }
 
     /**
@@ -220,7 +227,7 @@ public class EncoderConfig implements Config {
      * @return A new instance of {@link EncoderConfig}
      */
     public EncoderConfig defaultContentCharset(String charset) {
-        return new EncoderConfig(charset, defaultQueryParameterCharset, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, contentEncoders, contentTypeToDefaultCharset, true);
+        return new EncoderConfig(charset, defaultQueryParameterCharset, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, contentEncoders, contentTypeToDefaultCharset, requestBodyCompressor, true);
     }
 
     /**
@@ -236,7 +243,7 @@ public class EncoderConfig implements Config {
      * @return A new {@link com.jayway.restassured.config.EncoderConfig} instance
      */
     public EncoderConfig appendDefaultContentCharsetToContentTypeIfUndefined(boolean shouldAddDefaultContentCharsetToContentTypeIfMissing) {
-        return new EncoderConfig(defaultContentCharset, defaultQueryParameterCharset, shouldAddDefaultContentCharsetToContentTypeIfMissing, contentEncoders, contentTypeToDefaultCharset, true);
+        return new EncoderConfig(defaultContentCharset, defaultQueryParameterCharset, shouldAddDefaultContentCharsetToContentTypeIfMissing, contentEncoders, contentTypeToDefaultCharset, requestBodyCompressor, true);
     }
 
     /**
@@ -248,7 +255,7 @@ public class EncoderConfig implements Config {
      */
     @Deprecated
     public EncoderConfig appendDefaultContentCharsetToStreamingContentTypeIfUndefined(boolean shouldAddDefaultContentCharsetToContentTypeIfMissing) {
-        return new EncoderConfig(defaultContentCharset, defaultQueryParameterCharset, shouldAddDefaultContentCharsetToContentTypeIfMissing, contentEncoders, contentTypeToDefaultCharset, true);
+        return new EncoderConfig(defaultContentCharset, defaultQueryParameterCharset, shouldAddDefaultContentCharsetToContentTypeIfMissing, contentEncoders, contentTypeToDefaultCharset, requestBodyCompressor, true);
     }
 
     /**
@@ -312,6 +319,86 @@ public class EncoderConfig implements Config {
         notNull(encoder, ContentType.class);
         Map<String, ContentType> newMap = new HashMap<String, ContentType>(contentEncoders);
         newMap.put(contentType, encoder);
-        return new EncoderConfig(defaultContentCharset, defaultQueryParameterCharset, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, newMap, contentTypeToDefaultCharset, true);
+        return new EncoderConfig(defaultContentCharset, defaultQueryParameterCharset, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, newMap, contentTypeToDefaultCharset, requestBodyCompressor, true);
     }
-}
\ No newline at end of file
+
+    /**
+     * Compress the body of all requests with the given compressor and set the <code>Content-Encoding</code> header accordingly. The body is
+     * compressed while it's being written to the server so large bodies are never buffered in memory, which means that the request is sent
+     * using chunked transfer encoding. For example:
+     * <pre>
+     * given().config(RestAssured.config().encoderConfig(encoderConfig().compressRequestBodyWith(ContentCompression.GZIP))). ..
+     * </pre>
+     * Requests that already have a <code>Content-Encoding</code> header are sent as is.
+     *
+     * @param compressor The compressor to use, for example {@link ContentCompression#GZIP}
+     * @return A new {@link com.jayway.restassured.config.EncoderConfig} instance
+     */
+    public EncoderConfig compressRequestBodyWith(ContentCompressor compressor) {
+        notNull(compressor, ContentCompressor.class);
+        return new EncoderConfig(defaultContentCharset, defaultQueryParameterCharset, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, contentEncoders, contentTypeToDefaultCharset, compressor, true);
+    }
+
+    /**
+     * Don't compress request bodies (default).
+     *
+     * @return A new {@link com.jayway.restassured.config.EncoderConfig} instance
+     * @see #compressRequestBodyWith(ContentCompressor)
+     */
+    public EncoderConfig noRequestBodyCompression() {
+        return new EncoderConfig(defaultContentCharset, defaultQueryParameterCharset, shouldAppendDefaultContentCharsetToContentTypeIfUndefined, contentEncoders, contentTypeToDefaultCharset, null, true);
+    }
+
+    /**
+     * @return <code>true</code> if request bodies should be compressed
+     * @see #compressRequestBodyWith(ContentCompressor)
+     */
+    public boolean shouldCompressRequestBody() {
+        return requestBodyCompressor != null;
+    }
+
+    /**
+     * @return The compressor used to compress request bodies or <code>null</code> if request bodies are not compressed
+     * @see #compressRequestBodyWith(ContentCompressor)
+     */
+    public ContentCompressor requestBodyCompressor() {
+        return requestBodyCompressor;
+    }
+
+    /**
+     * Predefined request body compressors
+     */
+    public enum ContentCompression implements ContentCompressor {
+        /**
+         * GZIP compression
+         */
+        GZIP {
+            public OutputStream compress(OutputStream outputStream) throws IOException {
+                return new GZIPOutputStream(outputStream, BUFFER_SIZE);
+            }
+        },
+        /**
+         * Deflate compression (zlib format as defined by RFC 1950 which is what <code>Content-Encoding: deflate</code> refers to)
+         */
+        DEFLATE {
+            public OutputStream compress(OutputStream outputStream) throws IOException {
+                return new DeflaterOutputStream(outputStream, new Deflater(), BUFFER_SIZE) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            def.end();
+                        }
+                    }
+                };
+            }
+        };
+
+        private static final int BUFFER_SIZE = 8192;
+
+        public String contentEncoding() {
+            return name().toLowerCase();
+        }
+    }
+}
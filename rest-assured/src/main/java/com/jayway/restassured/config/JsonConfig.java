@@ -18,6 +18,8 @@ package com.jayway.restassured.config;
 
 import org.apache.commons.lang3.Validate;
 
+import static com.jayway.restassured.path.json.config.JsonPathConfig.DocumentModel;
+import static com.jayway.restassured.path.json.config.JsonPathConfig.DocumentParser;
 import static com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType;
 import static com.jayway.restassured.path.json.config.JsonPathConfig.NumberReturnType.BIG_DECIMAL;
 
@@ -26,6 +28,8 @@ import static com.jayway.restassured.path.json.config.JsonPathConfig.NumberRetur
  */
 public class JsonConfig implements Config {
     private final NumberReturnType numberReturnType;
+    private final DocumentModel documentModel;
+    private final DocumentParser documentParser;
     private final boolean isUserDefined;
 
     /**
@@ -40,8 +44,16 @@ public class JsonConfig implements Config {
     }
 
     public JsonConfig(NumberReturnType numberReturnType, boolean isUserDefined) {
+        this(numberReturnType, DocumentModel.MAPS_AND_LISTS, DocumentParser.DEFAULT, isUserDefined);
+    }
+
+    private JsonConfig(NumberReturnType numberReturnType, DocumentModel documentModel, DocumentParser documentParser, boolean isUserDefined) {
         Validate.notNull(numberReturnType, "numberReturnType cannot be null");
+        Validate.notNull(documentModel, "documentModel cannot be null");
+        Validate.notNull(documentParser, "documentParser cannot be null");
         this.numberReturnType = numberReturnType;
+        this.documentModel = documentModel;
+        this.documentParser = documentParser;
         this.isUserDefined = isUserDefined;
     }
 
@@ -60,7 +72,37 @@ public class JsonConfig implements Config {
      * @return A new instance of JsonConfig with the given configuration
      */
     public JsonConfig numberReturnType(NumberReturnType numberReturnType) {
-        return new JsonConfig(numberReturnType, true);
+        return new JsonConfig(numberReturnType, documentModel, documentParser, true);
+    }
+
+    public DocumentModel documentModel() {
+        return documentModel;
+    }
+
+    /**
+     * Specifies how parsed JSON documents should be represented in memory when validating the response body and when using
+     * {@link com.jayway.restassured.path.json.JsonPath}.
+     *
+     * @param documentModel The document model
+     * @return A new instance of JsonConfig with the given configuration
+     */
+    public JsonConfig documentModel(DocumentModel documentModel) {
+        return new JsonConfig(numberReturnType, documentModel, documentParser, true);
+    }
+
+    public DocumentParser documentParser() {
+        return documentParser;
+    }
+
+    /**
+     * Specifies which parser to use when parsing JSON documents into maps and lists when validating the response body and when using
+     * {@link com.jayway.restassured.path.json.JsonPath}. This setting is ignored for the compact document model.
+     *
+     * @param documentParser The document parser
+     * @return A new instance of JsonConfig with the given configuration
+     */
+    public JsonConfig documentParser(DocumentParser documentParser) {
+        return new JsonConfig(numberReturnType, documentModel, documentParser, true);
     }
 
     /**
@@ -0,0 +1,447 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.cache;
+
+import com.jayway.restassured.authentication.AuthenticationScheme;
+import com.jayway.restassured.authentication.ExplicitNoAuthScheme;
+import com.jayway.restassured.authentication.NoAuthScheme;
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.http.Method;
+import com.jayway.restassured.internal.filter.StoredResponse;
+import com.jayway.restassured.response.Cookie;
+import com.jayway.restassured.response.Header;
+import com.jayway.restassured.response.Headers;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.apache.http.client.utils.DateUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.apache.http.HttpHeaders.*;
+
+/**
+ * A filter that caches responses to <code>GET</code> and <code>HEAD</code> requests in memory according to the <code>Cache-Control</code>,
+ * <code>Expires</code>, <code>ETag</code>, <code>Last-Modified</code> and <code>Vary</code> response headers. Fresh responses are served
+ * without sending a request. Stale responses that have a validator are revalidated using a conditional request
+ * (<code>If-None-Match</code>/<code>If-Modified-Since</code>) and served from the cache if the server responds with <code>304 Not Modified</code>.
+ * For example:
+ * <pre>
+ * CachingFilter cache = new CachingFilter();
+ * RestAssured.filters(cache);
+ * ...
+ * System.out.println(cache.getNumberOfHits() + " hits, " + cache.getNumberOfMisses() + " misses");
+ * </pre>
+ * <p>
+ * The cache is a private (client) cache that keeps at most the given number of responses, the least recently used response is evicted
+ * when the cache is full. A response is cached for each combination of values of the request headers listed in its <code>Vary</code>
+ * header, and the <code>Age</code> header of a response that is served from the cache includes the time it has spent in the cache. Unsafe
+ * requests (such as <code>POST</code>) invalidate cached responses for the same URI. The same instance can be used by multiple threads. Note that
+ * filters defined after this filter are not invoked when a response is served from the cache.
+ * </p>
+ * <p>
+ * Since the same cache is typically used for all requests in a test suite, responses are cached separately for each combination of the
+ * <code>Authorization</code>, <code>Proxy-Authorization</code> and <code>Cookie</code> headers and the cookies of the request. A response that
+ * was received using one set of credentials is thus never served to a request with other (or no) credentials. Requests that are authenticated
+ * using an authentication scheme (such as <code>auth().basic(..)</code>) are never cached since the credentials are added when the request is
+ * sent.
+ * </p>
+ */
+public class CachingFilter implements Filter {
+    /**
+     * The default maximum number of cached responses
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private static final List<Integer> CACHEABLE_STATUS_CODES = Arrays.asList(200, 203, 204, 300, 301, 404, 405, 410, 414, 501);
+    private static final int NOT_MODIFIED = 304;
+    private static final String NO_STORE = "no-store";
+    private static final String NO_CACHE = "no-cache";
+    private static final String MAX_AGE = "max-age";
+    private static final String ANY_VARY = "*";
+    private static final String VARIANT_SEPARATOR = "\n";
+    private static final String CREDENTIALS_SEPARATOR = " ";
+    private static final String COOKIE = "Cookie";
+    private static final List<String> CREDENTIAL_HEADER_NAMES = Arrays.asList(AUTHORIZATION, PROXY_AUTHORIZATION, COOKIE);
+
+    private final Map<String, CacheEntry> entries;
+    // The names of the request headers that select a variant of a resource, as defined by the Vary header of its latest response
+    private final Map<String, List<String>> varyHeaderNames;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+
+    /**
+     * Create a cache that holds at most {@value #DEFAULT_MAX_ENTRIES} responses
+     */
+    public CachingFilter() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Create a cache that holds at most the given number of responses
+     *
+     * @param maxEntries The maximum number of cached responses
+     */
+    public CachingFilter(final int maxEntries) {
+        Validate.isTrue(maxEntries > 0, "Max entries must be greater than 0");
+        this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.varyHeaderNames = new LinkedHashMap<String, List<String>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        final Method method = requestSpec.getMethod();
+        if (method != Method.GET && method != Method.HEAD) {
+            invalidate(requestSpec.getURI());
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        final Headers requestHeaders = requestSpec.getHeaders();
+        if (isConditional(requestHeaders) || hasDirective(requestHeaders, NO_STORE)) {
+            // The user is in charge of caching
+            return ctx.next(requestSpec, responseSpec);
+        } else if (isAuthenticatedByScheme(requestSpec.getAuthenticationScheme())) {
+            // The credentials are added when the request is sent so they cannot be part of the cache key
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        final String resource = method + " " + requestSpec.getURI() + credentials(requestSpec);
+
+        final CacheEntry entry = hasDirective(requestHeaders, NO_CACHE) ? null : lookup(resource, requestHeaders);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return store(resource, requestHeaders, ctx.next(requestSpec, responseSpec));
+        } else if (entry.isFresh()) {
+            hits.incrementAndGet();
+            return entry.toResponse(requestSpec, responseSpec);
+        } else if (!entry.hasValidator()) {
+            misses.incrementAndGet();
+            return store(resource, requestHeaders, ctx.next(requestSpec, responseSpec));
+        }
+
+        final Response response = sendConditionalRequest(entry, requestSpec, responseSpec, ctx);
+        if (response.statusCode() != NOT_MODIFIED) {
+            misses.incrementAndGet();
+            return store(resource, requestHeaders, response);
+        }
+        revalidations.incrementAndGet();
+        final CacheEntry revalidated = entry.revalidate(response.headers());
+        synchronized (entries) {
+            entries.put(revalidated.key, revalidated);
+        }
+        return revalidated.toResponse(requestSpec, responseSpec);
+    }
+
+    /**
+     * @return The number of responses that were served from the cache without sending a request
+     */
+    public long getNumberOfHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of requests that were sent because no usable response was cached
+     */
+    public long getNumberOfMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return The number of stale responses that were served from the cache after the server responded with <code>304 Not Modified</code>
+     */
+    public long getNumberOfRevalidations() {
+        return revalidations.get();
+    }
+
+    /**
+     * @return The number of cached responses
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Remove all cached responses
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private CacheEntry lookup(String resource, Headers requestHeaders) {
+        synchronized (entries) {
+            final List<String> names = varyHeaderNames.get(resource);
+            return names == null ? null : entries.get(variantKey(resource, names, requestHeaders));
+        }
+    }
+
+    /*
+     * The validators are only added for this request, the request specification may be reused by the caller (or by another filter
+     * that sends the request again) and the validators would otherwise prevent the response from being cached the next time.
+     */
+    private static Response sendConditionalRequest(CacheEntry entry, FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                                                   FilterContext ctx) {
+        final String validatorHeader = entry.eTag != null ? IF_NONE_MATCH : IF_MODIFIED_SINCE;
+        requestSpec.header(validatorHeader, entry.eTag != null ? entry.eTag : entry.lastModified);
+        try {
+            return ctx.next(requestSpec, responseSpec);
+        } finally {
+            requestSpec.removeHeader(validatorHeader);
+        }
+    }
+
+    private Response store(String resource, Headers requestHeaders, Response response) {
+        final Headers responseHeaders = response.headers();
+        if (isCacheable(response.statusCode(), responseHeaders)) {
+            final List<String> names = varyHeaderNames(responseHeaders);
+            final CacheEntry entry = new CacheEntry(variantKey(resource, names, requestHeaders), StoredResponse.of(response));
+            if (entry.isFresh() || entry.hasValidator()) {
+                synchronized (entries) {
+                    if (!names.equals(varyHeaderNames.put(resource, names))) {
+                        // The variants of the resource are selected by other headers than before
+                        removeVariants(resource);
+                    }
+                    entries.put(entry.key, entry);
+                }
+            }
+        }
+        return response;
+    }
+
+    /*
+     * Removes the responses to GET and HEAD requests for the URI regardless of the credentials they were received with
+     */
+    private void invalidate(String uri) {
+        synchronized (entries) {
+            for (Method method : Arrays.asList(Method.GET, Method.HEAD)) {
+                final String resource = method + " " + uri;
+                removeKeys(varyHeaderNames.keySet(), resource, CREDENTIALS_SEPARATOR);
+                removeKeys(entries.keySet(), resource, CREDENTIALS_SEPARATOR);
+                removeVariants(resource);
+            }
+        }
+    }
+
+    private void removeVariants(String resource) {
+        removeKeys(entries.keySet(), resource, VARIANT_SEPARATOR);
+    }
+
+    private static void removeKeys(Iterable<String> keys, String resource, String separator) {
+        for (Iterator<String> iterator = keys.iterator(); iterator.hasNext(); ) {
+            final String key = iterator.next();
+            if (key.equals(resource) || key.startsWith(resource + separator)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /*
+     * The credentials of the request that are added to the resource. Each value is prefixed by its length so that different credentials
+     * always result in different keys. The URI never contains a space so the credentials can be told apart from the URI.
+     */
+    private static String credentials(FilterableRequestSpecification requestSpec) {
+        final StringBuilder credentials = new StringBuilder();
+        final Headers requestHeaders = requestSpec.getHeaders();
+        for (String name : CREDENTIAL_HEADER_NAMES) {
+            for (String value : requestHeaders.getValues(name)) {
+                appendWithLength(credentials, name);
+                appendWithLength(credentials, value);
+            }
+        }
+        for (Cookie cookie : requestSpec.getCookies()) {
+            appendWithLength(credentials, COOKIE);
+            appendWithLength(credentials, cookie.getName());
+            appendWithLength(credentials, String.valueOf(cookie.getValue()));
+        }
+        return credentials.length() == 0 ? "" : CREDENTIALS_SEPARATOR + credentials;
+    }
+
+    private static void appendWithLength(StringBuilder builder, String value) {
+        builder.append(value.length()).append(':').append(value);
+    }
+
+    private static boolean isAuthenticatedByScheme(AuthenticationScheme authenticationScheme) {
+        return authenticationScheme != null && !(authenticationScheme instanceof NoAuthScheme) && !(authenticationScheme instanceof ExplicitNoAuthScheme);
+    }
+
+    /*
+     * The key of a cached response is the resource (including the credentials) followed by the values of the request headers that are
+     * listed in the Vary header
+     */
+    private static String variantKey(String resource, List<String> varyHeaderNames, Headers requestHeaders) {
+        final StringBuilder key = new StringBuilder(resource);
+        for (String name : varyHeaderNames) {
+            key.append(VARIANT_SEPARATOR).append(name).append(": ").append(StringUtils.join(requestHeaders.getValues(name), ", "));
+        }
+        return key.toString();
+    }
+
+    private static boolean isCacheable(int statusCode, Headers responseHeaders) {
+        return CACHEABLE_STATUS_CODES.contains(statusCode) && !hasDirective(responseHeaders, NO_STORE)
+                && !varyHeaderNames(responseHeaders).contains(ANY_VARY);
+    }
+
+    private static boolean isConditional(Headers requestHeaders) {
+        return requestHeaders.hasHeaderWithName(IF_NONE_MATCH) || requestHeaders.hasHeaderWithName(IF_MODIFIED_SINCE)
+                || requestHeaders.hasHeaderWithName(IF_MATCH) || requestHeaders.hasHeaderWithName(IF_UNMODIFIED_SINCE)
+                || requestHeaders.hasHeaderWithName(IF_RANGE);
+    }
+
+    private static boolean hasDirective(Headers headers, String directive) {
+        return directives(headers).containsKey(directive);
+    }
+
+    private static Map<String, String> directives(Headers headers) {
+        final Map<String, String> directives = new LinkedHashMap<String, String>();
+        for (String value : headers.getValues(CACHE_CONTROL)) {
+            for (String directive : StringUtils.split(value, ',')) {
+                final String name = StringUtils.substringBefore(directive, "=").trim().toLowerCase(Locale.ENGLISH);
+                final String argument = directive.contains("=") ? StringUtils.strip(StringUtils.substringAfter(directive, "=").trim(), "\"") : null;
+                directives.put(name, argument);
+            }
+        }
+        return directives;
+    }
+
+    private static List<String> varyHeaderNames(Headers responseHeaders) {
+        final List<String> names = new ArrayList<String>();
+        for (String value : responseHeaders.getValues(VARY)) {
+            for (String name : StringUtils.split(value, ',')) {
+                names.add(name.trim().toLowerCase(Locale.ENGLISH));
+            }
+        }
+        return names;
+    }
+
+    private static class CacheEntry {
+        private final String key;
+        private final StoredResponse response;
+        private final long storedAt;
+        private final long expiresAt;
+        private final String eTag;
+        private final String lastModified;
+
+        CacheEntry(String key, StoredResponse response) {
+            this.key = key;
+            this.response = response;
+            final Headers headers = response.getHeaders();
+            this.storedAt = System.currentTimeMillis();
+            this.expiresAt = storedAt + freshnessLifetimeMillis(headers);
+            this.eTag = headers.getValue(ETAG);
+            this.lastModified = headers.getValue(LAST_MODIFIED);
+        }
+
+        boolean isFresh() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+
+        boolean hasValidator() {
+            return eTag != null || lastModified != null;
+        }
+
+        /*
+         * The Age header is updated to include the time the response has been in the cache
+         */
+        Response toResponse(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec) {
+            final Headers storedHeaders = response.getHeaders();
+            final long age = ageSeconds(storedHeaders) + (System.currentTimeMillis() - storedAt) / 1000L;
+            final List<Header> headers = new ArrayList<Header>();
+            for (Header header : storedHeaders) {
+                if (!AGE.equalsIgnoreCase(header.getName())) {
+                    headers.add(header);
+                }
+            }
+            headers.add(new Header(AGE, String.valueOf(age)));
+            return response.toResponse(requestSpec, responseSpec, new Headers(headers));
+        }
+
+        /*
+         * Headers in the 304 response replace the stored headers with the same name
+         */
+        CacheEntry revalidate(Headers notModifiedHeaders) {
+            final List<Header> headers = new ArrayList<Header>();
+            for (Header header : response.getHeaders()) {
+                // The age of the stored response is reset since the 304 response is fresh
+                if (!notModifiedHeaders.hasHeaderWithName(header.getName()) && !AGE.equalsIgnoreCase(header.getName())) {
+                    headers.add(header);
+                }
+            }
+            headers.addAll(notModifiedHeaders.asList());
+            final StoredResponse updated = new StoredResponse(response.getStatusCode(), response.getStatusLine(), new Headers(headers), response.getBody());
+            return new CacheEntry(key, updated);
+        }
+
+        private static long freshnessLifetimeMillis(Headers headers) {
+            final Map<String, String> directives = directives(headers);
+            if (directives.containsKey(NO_CACHE)) {
+                return 0;
+            }
+            final long lifetime;
+            if (directives.containsKey(MAX_AGE)) {
+                lifetime = parseSeconds(directives.get(MAX_AGE)) * 1000L;
+            } else if (headers.hasHeaderWithName(EXPIRES)) {
+                final Date expires = DateUtils.parseDate(headers.getValue(EXPIRES));
+                final Date date = headers.hasHeaderWithName(DATE) ? DateUtils.parseDate(headers.getValue(DATE)) : null;
+                if (expires == null) {
+                    // Invalid dates (such as "0") means already expired
+                    lifetime = 0;
+                } else {
+                    lifetime = expires.getTime() - (date == null ? System.currentTimeMillis() : date.getTime());
+                }
+            } else {
+                lifetime = 0;
+            }
+            return Math.max(0, lifetime - ageSeconds(headers) * 1000L);
+        }
+
+        private static long ageSeconds(Headers headers) {
+            return headers.hasHeaderWithName(AGE) ? parseSeconds(headers.getValue(AGE)) : 0;
+        }
+
+        private static long parseSeconds(String value) {
+            try {
+                return Math.max(0, Long.parseLong(StringUtils.trim(value)));
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.cache;
+
+import com.jayway.restassured.authentication.AuthenticationScheme;
+import com.jayway.restassured.authentication.NoAuthScheme;
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.http.Method;
+import com.jayway.restassured.internal.filter.RequestFingerprint;
+import com.jayway.restassured.internal.filter.StoredResponse;
+import com.jayway.restassured.internal.util.SafeExceptionRethrower;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A filter that coalesces identical <code>GET</code> and <code>HEAD</code> requests that are in flight at the same time into a single request.
+ * The first thread sends the request and all threads that send an identical request before the response has arrived wait for that
+ * response instead of sending their own. Each caller gets an independent copy of the response that is configured by its own request and
+ * response specification (config, parsers and logging) as if it had sent the request itself, so that it can be validated and extracted
+ * concurrently. This is useful when many threads (for example parallel tests or a load test) hit the same expensive resource. For example:
+ * <pre>
+ * RestAssured.filters(new SingleFlightFilter());
+ * </pre>
+ * <p>
+ * Two requests are identical if they have the same method, canonical URI, parameters, headers and cookies (see {@link RequestFingerprint})
+ * and use the same authentication scheme instance. Headers that differ between otherwise identical requests (such as a generated request id)
+ * can be ignored. Requests are only coalesced while they're in flight, nothing is cached once the response has been received (see
+ * {@link CachingFilter} for that). If the request fails all waiting callers get the same exception.
+ * </p>
+ */
+public class SingleFlightFilter implements Filter {
+    private final ConcurrentMap<FlightKey, Flight> inFlight = new ConcurrentHashMap<FlightKey, Flight>();
+    private final RequestFingerprint fingerprint;
+    private final AtomicLong numberOfCoalescedRequests = new AtomicLong();
+
+    /**
+     * Create a new single-flight filter
+     *
+     * @param ignoredHeaders Names of headers that should not be taken into account when deciding if two requests are identical
+     */
+    public SingleFlightFilter(String... ignoredHeaders) {
+        this.fingerprint = new RequestFingerprint(ignoredHeaders);
+    }
+
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        final Method method = requestSpec.getMethod();
+        if (method != Method.GET && method != Method.HEAD) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        final FlightKey key = new FlightKey(fingerprint.of(requestSpec), requestSpec.getAuthenticationScheme());
+        final Flight flight = new Flight();
+        final Flight leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            numberOfCoalescedRequests.incrementAndGet();
+            return leader.await().toResponse(requestSpec, responseSpec);
+        }
+
+        try {
+            final Response response = ctx.next(requestSpec, responseSpec);
+            // Reads the body so that the copies don't share a stream
+            flight.complete(StoredResponse.of(response));
+            return response;
+        } catch (RuntimeException e) {
+            flight.fail(e);
+            throw e;
+        } catch (Error e) {
+            flight.fail(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * @return The number of requests that were not sent since an identical request was already in flight
+     */
+    public long getNumberOfCoalescedRequests() {
+        return numberOfCoalescedRequests.get();
+    }
+
+    /**
+     * @return The number of distinct requests currently in flight
+     */
+    public int getNumberOfRequestsInFlight() {
+        return inFlight.size();
+    }
+
+    private static class Flight {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile StoredResponse response;
+        private volatile Throwable failure;
+
+        void complete(StoredResponse response) {
+            this.response = response;
+            done.countDown();
+        }
+
+        void fail(Throwable failure) {
+            this.failure = failure;
+            done.countDown();
+        }
+
+        StoredResponse await() {
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                SafeExceptionRethrower.safeRethrow(e);
+            }
+            if (failure != null) {
+                SafeExceptionRethrower.safeRethrow(failure);
+            }
+            return response;
+        }
+    }
+
+    /*
+     * Authentication schemes don't implement equals so requests are only considered identical if they share the same scheme instance
+     * (which is the case when the scheme is defined statically or in a shared specification) or if neither of them uses authentication.
+     */
+    private static class FlightKey {
+        private final String fingerprint;
+        private final AuthenticationScheme authenticationScheme;
+
+        FlightKey(String fingerprint, AuthenticationScheme authenticationScheme) {
+            this.fingerprint = fingerprint;
+            this.authenticationScheme = authenticationScheme;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FlightKey)) {
+                return false;
+            }
+            FlightKey other = (FlightKey) o;
+            return fingerprint.equals(other.fingerprint) && sameAuthentication(authenticationScheme, other.authenticationScheme);
+        }
+
+        @Override
+        public int hashCode() {
+            return fingerprint.hashCode();
+        }
+
+        private static boolean sameAuthentication(AuthenticationScheme first, AuthenticationScheme second) {
+            return first == second || (isNoAuth(first) && isNoAuth(second));
+        }
+
+        private static boolean isNoAuth(AuthenticationScheme scheme) {
+            return scheme == null || scheme instanceof NoAuthScheme;
+        }
+    }
+}
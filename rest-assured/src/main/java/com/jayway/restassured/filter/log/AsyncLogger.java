@@ -0,0 +1,244 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.log;
+
+import org.apache.commons.lang3.Validate;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.jayway.restassured.filter.log.BufferOverflowPolicy.BLOCK;
+import static com.jayway.restassured.filter.log.BufferOverflowPolicy.DROP;
+
+/**
+ * Formats and writes log events on a background thread. The logging filters only capture what's needed to format the request or response
+ * (references to the headers, body etc) and put it in a bounded buffer, which means that the thread sending the request doesn't need to
+ * pretty-print the body or wait for the lock of the print stream. Use it like this:
+ * <pre>
+ * AsyncLogger logger = AsyncLogger.asyncLogger(System.out);
+ * RestAssured.filters(RequestLoggingFilter.logRequestAsyncTo(logger), ResponseLoggingFilter.logResponseAsyncTo(logger));
+ * </pre>
+ * <p>
+ * What happens when the buffer is full is defined by the {@link BufferOverflowPolicy}. Events that are still in the buffer when the JVM
+ * shuts down are written before exiting. Call {@link #flush()} to wait until all events logged so far have been written.
+ * </p>
+ */
+public class AsyncLogger {
+    /**
+     * The default number of log events that fit in the buffer
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private final PrintStream stream;
+    private final BlockingQueue<LogEvent> buffer;
+    private final BufferOverflowPolicy overflowPolicy;
+    private final AtomicLong numberOfDroppedEvents = new AtomicLong();
+    private final Thread writer;
+    private final Thread shutdownHook;
+    private volatile boolean closed;
+
+    /**
+     * Logs to System.out
+     */
+    public AsyncLogger() {
+        this(System.out);
+    }
+
+    /**
+     * Logs to the supplied print stream using a buffer of {@value #DEFAULT_BUFFER_SIZE} events. The logging thread blocks when the buffer is full.
+     *
+     * @param stream The stream to log to.
+     */
+    public AsyncLogger(PrintStream stream) {
+        this(stream, DEFAULT_BUFFER_SIZE, BLOCK);
+    }
+
+    /**
+     * Logs to the supplied print stream.
+     *
+     * @param stream         The stream to log to.
+     * @param bufferSize     The maximum number of log events that have not yet been written
+     * @param overflowPolicy What to do when the buffer is full
+     */
+    public AsyncLogger(PrintStream stream, int bufferSize, BufferOverflowPolicy overflowPolicy) {
+        Validate.notNull(stream, "Print stream cannot be null");
+        Validate.notNull(overflowPolicy, "Buffer overflow policy cannot be null");
+        Validate.isTrue(bufferSize > 0, "Buffer size must be greater than 0");
+        this.stream = stream;
+        this.overflowPolicy = overflowPolicy;
+        this.buffer = new ArrayBlockingQueue<LogEvent>(bufferSize);
+        this.writer = new Thread(new Runnable() {
+            public void run() {
+                writeUntilInterrupted();
+            }
+        }, "rest-assured-async-logger-" + THREAD_NUMBER.incrementAndGet());
+        this.writer.setDaemon(true);
+        this.writer.start();
+        this.shutdownHook = new Thread(new Runnable() {
+            public void run() {
+                flush();
+            }
+        });
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Wait until all events that have been logged so far are written to the print stream.
+     */
+    public void flush() {
+        if (!writer.isAlive()) {
+            return;
+        }
+        FlushEvent flushEvent = new FlushEvent();
+        try {
+            buffer.put(flushEvent);
+            flushEvent.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Write all buffered events and stop the background thread. Events logged after the logger has been closed are rejected.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        flush();
+        writer.interrupt();
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // The JVM is already shutting down
+        }
+    }
+
+    /**
+     * @return The number of events that were dropped because the buffer was full (only applicable for {@link BufferOverflowPolicy#DROP}).
+     */
+    public long getNumberOfDroppedEvents() {
+        return numberOfDroppedEvents.get();
+    }
+
+    /**
+     * @return The overflow policy of this logger
+     */
+    public BufferOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    void log(LogEvent event) {
+        if (closed) {
+            throw new IllegalStateException("Cannot log since the " + AsyncLogger.class.getSimpleName() + " has been closed");
+        }
+        if (overflowPolicy == DROP) {
+            if (!buffer.offer(event)) {
+                numberOfDroppedEvents.incrementAndGet();
+            }
+        } else {
+            try {
+                buffer.put(event);
+            } catch (InterruptedException e) {
+                numberOfDroppedEvents.incrementAndGet();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void writeUntilInterrupted() {
+        final List<LogEvent> batch = new ArrayList<LogEvent>();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(buffer.take());
+                buffer.drainTo(batch);
+                write(batch);
+            }
+        } catch (InterruptedException e) {
+            // Closed
+        }
+        buffer.drainTo(batch);
+        write(batch);
+    }
+
+    private void write(List<LogEvent> batch) {
+        for (LogEvent event : batch) {
+            try {
+                event.writeTo(stream);
+            } catch (RuntimeException e) {
+                e.printStackTrace(stream);
+            }
+        }
+        batch.clear();
+    }
+
+    /**
+     * Syntactic sugar for doing <code>new AsyncLogger(stream)</code>
+     *
+     * @param stream The stream to log to.
+     * @return A new instance of {@link AsyncLogger}.
+     */
+    public static AsyncLogger asyncLogger(PrintStream stream) {
+        return new AsyncLogger(stream);
+    }
+
+    /**
+     * Syntactic sugar for doing <code>new AsyncLogger(stream, bufferSize, overflowPolicy)</code>
+     *
+     * @param stream         The stream to log to.
+     * @param bufferSize     The maximum number of log events that have not yet been written
+     * @param overflowPolicy What to do when the buffer is full
+     * @return A new instance of {@link AsyncLogger}.
+     */
+    public static AsyncLogger asyncLogger(PrintStream stream, int bufferSize, BufferOverflowPolicy overflowPolicy) {
+        return new AsyncLogger(stream, bufferSize, overflowPolicy);
+    }
+
+    /**
+     * A captured request or response that is formatted and written by the background thread.
+     */
+    interface LogEvent {
+        void writeTo(PrintStream stream);
+    }
+
+    private static class FlushEvent implements LogEvent {
+        private final CountDownLatch written = new CountDownLatch(1);
+
+        public void writeTo(PrintStream stream) {
+            stream.flush();
+            written.countDown();
+        }
+
+        void await() throws InterruptedException {
+            written.await();
+        }
+    }
+}
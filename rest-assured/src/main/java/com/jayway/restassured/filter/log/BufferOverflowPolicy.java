@@ -14,12 +14,18 @@
  * limitations under the License.
  */
 
-package com.jayway.restassured.internal.support
+package com.jayway.restassured.filter.log;
 
-
-class FileReader {
-
-  def static String readToString(File file, String charset) {
-    file.getText(charset)
-  }
+/**
+ * Defines what an {@link AsyncLogger} should do when its buffer is full.
+ */
+public enum BufferOverflowPolicy {
+    /**
+     * Block the thread that logs until there's room in the buffer. No log events are lost.
+     */
+    BLOCK,
+    /**
+     * Drop the log event and continue immediately. The number of dropped events is available from {@link AsyncLogger#getNumberOfDroppedEvents()}.
+     */
+    DROP
 }
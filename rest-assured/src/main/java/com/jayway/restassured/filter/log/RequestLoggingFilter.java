@@ -19,6 +19,7 @@ package com.jayway.restassured.filter.log;
 import com.jayway.restassured.filter.Filter;
 import com.jayway.restassured.filter.FilterContext;
 import com.jayway.restassured.internal.print.RequestPrinter;
+import com.jayway.restassured.internal.print.RequestSnapshot;
 import com.jayway.restassured.response.Response;
 import com.jayway.restassured.specification.FilterableRequestSpecification;
 import com.jayway.restassured.specification.FilterableResponseSpecification;
@@ -40,6 +41,7 @@ public class RequestLoggingFilter implements Filter {
 
     private final LogDetail logDetail;
     private final PrintStream stream;
+    private final AsyncLogger asyncLogger;
     private final boolean shouldPrettyPrint;
 
     /**
@@ -86,18 +88,43 @@ public class RequestLoggingFilter implements Filter {
      * @param stream            The stream to log to.
      */
     public RequestLoggingFilter(LogDetail logDetail, boolean shouldPrettyPrint, PrintStream stream) {
-        Validate.notNull(stream, "Print stream cannot be null");
+        this(logDetail, shouldPrettyPrint, Validate.notNull(stream, "Print stream cannot be null"), null);
+    }
+
+    /**
+     * Instantiate a logger that formats and writes the request on the background thread of the supplied {@link AsyncLogger}. Only references
+     * to the parts of the request are captured by the thread sending the request.
+     *
+     * @param logDetail         The log detail
+     * @param shouldPrettyPrint <code>true</code> if pretty-printing of the body should occur.
+     * @param asyncLogger       The async logger to log to.
+     */
+    public RequestLoggingFilter(LogDetail logDetail, boolean shouldPrettyPrint, AsyncLogger asyncLogger) {
+        this(logDetail, shouldPrettyPrint, null, Validate.notNull(asyncLogger, "Async logger cannot be null"));
+    }
+
+    private RequestLoggingFilter(LogDetail logDetail, boolean shouldPrettyPrint, PrintStream stream, AsyncLogger asyncLogger) {
         Validate.notNull(logDetail, "Log details cannot be null");
         if (logDetail == STATUS) {
             throw new IllegalArgumentException(String.format("%s is not a valid %s for a request.", STATUS, LogDetail.class.getSimpleName()));
         }
         this.stream = stream;
+        this.asyncLogger = asyncLogger;
         this.logDetail = logDetail;
         this.shouldPrettyPrint = shouldPrettyPrint;
     }
 
     public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
-        RequestPrinter.print(requestSpec, requestSpec.getMethod().toString(), requestSpec.getURI(), logDetail, stream, shouldPrettyPrint);
+        final RequestSnapshot request = RequestSnapshot.of(requestSpec, requestSpec.getMethod().toString(), requestSpec.getURI());
+        if (asyncLogger == null) {
+            RequestPrinter.print(request, logDetail, stream, shouldPrettyPrint);
+        } else {
+            asyncLogger.log(new AsyncLogger.LogEvent() {
+                public void writeTo(PrintStream stream) {
+                    RequestPrinter.print(request, logDetail, stream, shouldPrettyPrint);
+                }
+            });
+        }
         return ctx.next(requestSpec, responseSpec);
     }
 
@@ -110,4 +137,14 @@ public class RequestLoggingFilter implements Filter {
     public static RequestLoggingFilter logRequestTo(PrintStream stream) {
         return new RequestLoggingFilter(stream);
     }
+
+    /**
+     * Syntactic sugar for doing <code>new RequestLoggingFilter(LogDetail.ALL, true, asyncLogger)</code>
+     *
+     * @param asyncLogger The async logger to log the request to.
+     * @return A new instance of {@link RequestLoggingFilter}.
+     */
+    public static RequestLoggingFilter logRequestAsyncTo(AsyncLogger asyncLogger) {
+        return new RequestLoggingFilter(ALL, true, asyncLogger);
+    }
 }
@@ -161,6 +161,28 @@ public class ResponseLoggingFilter extends StatusCodeBasedLoggingFilter {
         super(logDetail, prettyPrint, stream, matcher);
     }
 
+    /**
+     * Instantiate a logger that formats and writes the response on the background thread of the supplied {@link AsyncLogger} for all status codes.
+     *
+     * @param asyncLogger The async logger to log to.
+     */
+    public ResponseLoggingFilter(AsyncLogger asyncLogger) {
+        this(ALL, true, asyncLogger, Matchers.any(Integer.class));
+    }
+
+    /**
+     * Instantiate a logger that formats and writes the response on the background thread of the supplied {@link AsyncLogger} for status codes
+     * matching the supplied matcher.
+     *
+     * @param logDetail The log detail
+     * @param prettyPrint Enable or disable pretty printing of the body
+     * @param asyncLogger The async logger to log to.
+     * @param matcher The matcher that must be fulfilled if the response body is to be printed.
+     */
+    public ResponseLoggingFilter(LogDetail logDetail, boolean prettyPrint, AsyncLogger asyncLogger, Matcher<Integer> matcher) {
+        super(logDetail, prettyPrint, asyncLogger, matcher);
+    }
+
     /**
      * Create a new logging filter without using the "new" operator.
      * Will make the DSL look nicer.
@@ -195,6 +217,17 @@ public class ResponseLoggingFilter extends StatusCodeBasedLoggingFilter {
         return new ResponseLoggingFilter(logDetail, stream);
     }
 
+    /**
+     * Create a new logging filter that logs using the supplied {@link AsyncLogger} without using the "new" operator.
+     * Will make the DSL look nicer.
+     *
+     * @param asyncLogger The async logger to log to
+     * @return a new instance of the filter
+     */
+    public static Filter logResponseAsyncTo(AsyncLogger asyncLogger) {
+        return new ResponseLoggingFilter(asyncLogger);
+    }
+
     /**
      * Create a new logging filter without using the "new" operator.
      * Will make the DSL look nicer.
@@ -35,6 +35,7 @@ import static com.jayway.restassured.filter.log.LogDetail.*;
 class StatusCodeBasedLoggingFilter implements Filter {
 
     private final PrintStream stream;
+    private final AsyncLogger asyncLogger;
     private final Matcher<?> matcher;
     private final LogDetail logDetail;
     private final boolean shouldPrettyPrint;
@@ -78,8 +79,23 @@ class StatusCodeBasedLoggingFilter implements Filter {
      * @param matcher     The matcher for the logging to take place
      */
     public StatusCodeBasedLoggingFilter(LogDetail logDetail, boolean prettyPrint, PrintStream stream, Matcher<? super Integer> matcher) {
+        this(logDetail, prettyPrint, Validate.notNull(stream, "Print stream cannot be null"), null, matcher);
+    }
+
+    /**
+     * Instantiate a logger that formats and writes the response on the background thread of the supplied {@link AsyncLogger}.
+     *
+     * @param logDetail   The log detail
+     * @param prettyPrint Enabled pretty printing if possible
+     * @param asyncLogger The async logger to log to.
+     * @param matcher     The matcher for the logging to take place
+     */
+    public StatusCodeBasedLoggingFilter(LogDetail logDetail, boolean prettyPrint, AsyncLogger asyncLogger, Matcher<? super Integer> matcher) {
+        this(logDetail, prettyPrint, null, Validate.notNull(asyncLogger, "Async logger cannot be null"), matcher);
+    }
+
+    private StatusCodeBasedLoggingFilter(LogDetail logDetail, boolean prettyPrint, PrintStream stream, AsyncLogger asyncLogger, Matcher<? super Integer> matcher) {
         Validate.notNull(logDetail, "Log details cannot be null");
-        Validate.notNull(stream, "Print stream cannot be null");
         Validate.notNull(matcher, "Matcher cannot be null");
         if (logDetail == PARAMS || logDetail == PATH || logDetail == METHOD) {
             throw new IllegalArgumentException(String.format("%s is not a valid %s for a response.", logDetail, LogDetail.class.getSimpleName()));
@@ -87,6 +103,7 @@ class StatusCodeBasedLoggingFilter implements Filter {
         this.shouldPrettyPrint = prettyPrint;
         this.logDetail = logDetail;
         this.stream = stream;
+        this.asyncLogger = asyncLogger;
         this.matcher = matcher;
     }
 
@@ -94,7 +111,9 @@ class StatusCodeBasedLoggingFilter implements Filter {
         Response response = ctx.next(requestSpec, responseSpec);
         final int statusCode = response.statusCode();
         if (matcher.matches(statusCode)) {
-            ResponsePrinter.print(response, response, stream, logDetail, shouldPrettyPrint);
+            if (asyncLogger == null) {
+                ResponsePrinter.print(response, response, stream, logDetail, shouldPrettyPrint);
+            }
             final byte[] responseBody;
             if (logDetail == BODY || logDetail == ALL) {
                 responseBody = response.asByteArray();
@@ -102,11 +121,25 @@ class StatusCodeBasedLoggingFilter implements Filter {
                 responseBody = null;
             }
             response = cloneResponseIfNeeded(response, responseBody);
+            if (asyncLogger != null) {
+                logAsync(response);
+            }
         }
 
         return response;
     }
 
+    /*
+     * The body (if logged) has been read into memory at this point so the response can safely be formatted by another thread.
+     */
+    private void logAsync(final Response response) {
+        asyncLogger.log(new AsyncLogger.LogEvent() {
+            public void writeTo(PrintStream stream) {
+                ResponsePrinter.print(response, response, stream, logDetail, shouldPrettyPrint);
+            }
+        });
+    }
+
     /*
      * If body expectations are defined we need to return a new Response otherwise the stream
      * has been closed due to the logging.
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.replay;
+
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.internal.filter.RequestFingerprint;
+import com.jayway.restassured.internal.filter.StoredResponse;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+
+import static com.jayway.restassured.internal.assertion.AssertParameter.notNull;
+
+/**
+ * Sends the request and stores the response in a {@link ResponseStore} so that it can be replayed later by a {@link ReplayFilter}.
+ * The response body (and a request body that is an input stream) is read into memory. For example:
+ * <pre>
+ * ResponseStore store = ResponseStore.open("target/recorded-responses.bin");
+ * given().filter(new RecordingFilter(store)). ..
+ * </pre>
+ */
+public class RecordingFilter implements Filter {
+    private final ResponseStore store;
+    private final RequestFingerprint fingerprint;
+
+    /**
+     * Record responses to the supplied store.
+     *
+     * @param store          The store
+     * @param ignoredHeaders Names of request headers that should not be part of the request fingerprint, for example headers
+     *                       containing time stamps or generated ids.
+     */
+    public RecordingFilter(ResponseStore store, String... ignoredHeaders) {
+        notNull(store, ResponseStore.class);
+        this.store = store;
+        this.fingerprint = new RequestFingerprint(ignoredHeaders);
+    }
+
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        final String requestFingerprint = fingerprint.of(requestSpec);
+        final Response response = ctx.next(requestSpec, responseSpec);
+        store.put(requestFingerprint, StoredResponse.of(response));
+        return response;
+    }
+}
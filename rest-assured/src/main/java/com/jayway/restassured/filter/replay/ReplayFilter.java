@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.replay;
+
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.internal.filter.RequestFingerprint;
+import com.jayway.restassured.internal.filter.StoredResponse;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+
+import static com.jayway.restassured.internal.assertion.AssertParameter.notNull;
+
+/**
+ * Serves responses previously recorded by a {@link RecordingFilter} (or by this filter) from a {@link ResponseStore} without sending
+ * the request. The request is matched to a recorded response by a fingerprint of the method, URI, parameters, headers, cookies and body.
+ * For example:
+ * <pre>
+ * ResponseStore store = ResponseStore.open("src/test/resources/recorded-responses.bin");
+ * given().filter(ReplayFilter.replayOrRecord(store)). ..
+ * </pre>
+ * Note that filters defined after this filter are not invoked when a response is replayed.
+ */
+public class ReplayFilter implements Filter {
+    private final ResponseStore store;
+    private final boolean recordIfMissing;
+    private final RequestFingerprint fingerprint;
+
+    /**
+     * Replay responses from the supplied store. An {@link IllegalStateException} is thrown if no response has been recorded for a request.
+     *
+     * @param store The store
+     */
+    public ReplayFilter(ResponseStore store) {
+        this(store, false);
+    }
+
+    /**
+     * Replay responses from the supplied store.
+     *
+     * @param store           The store
+     * @param recordIfMissing <code>true</code> if the request should be sent and the response recorded if no response has been recorded
+     *                        for the request, <code>false</code> if an {@link IllegalStateException} should be thrown.
+     * @param ignoredHeaders  Names of request headers that should not be part of the request fingerprint, for example headers
+     *                        containing time stamps or generated ids.
+     */
+    public ReplayFilter(ResponseStore store, boolean recordIfMissing, String... ignoredHeaders) {
+        notNull(store, ResponseStore.class);
+        this.store = store;
+        this.recordIfMissing = recordIfMissing;
+        this.fingerprint = new RequestFingerprint(ignoredHeaders);
+    }
+
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        final String requestFingerprint = fingerprint.of(requestSpec);
+        final StoredResponse storedResponse = store.get(requestFingerprint);
+        if (storedResponse != null) {
+            return storedResponse.toResponse(requestSpec, responseSpec);
+        } else if (!recordIfMissing) {
+            throw new IllegalStateException(String.format("No recorded response found for %s %s in %s.", requestSpec.getMethod(), requestSpec.getURI(),
+                    store.getFile()));
+        }
+        final Response response = ctx.next(requestSpec, responseSpec);
+        store.put(requestFingerprint, StoredResponse.of(response));
+        return response;
+    }
+
+    /**
+     * Syntactic sugar for doing <code>new ReplayFilter(store, true)</code>
+     *
+     * @param store The store
+     * @return A new instance of {@link ReplayFilter} that sends the request and records the response if no response has been recorded.
+     */
+    public static ReplayFilter replayOrRecord(ResponseStore store) {
+        return new ReplayFilter(store, true);
+    }
+}
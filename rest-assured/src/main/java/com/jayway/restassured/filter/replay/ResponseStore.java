@@ -0,0 +1,320 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.replay;
+
+import com.jayway.restassured.internal.filter.StoredResponse;
+import com.jayway.restassured.internal.util.SafeExceptionRethrower;
+import com.jayway.restassured.response.Header;
+import com.jayway.restassured.response.Headers;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.jayway.restassured.internal.assertion.AssertParameter.notNull;
+
+/**
+ * An append-only file that stores responses (status, headers and body) keyed by the fingerprint of the request that produced them.
+ * Each record is memory-mapped the first time it's replayed so replaying a response requires no network or stream I/O. If the same
+ * request is recorded more than once the latest response wins. A record that was only partially written (for example because the JVM
+ * was killed) is discarded when the store is opened.
+ * <p>
+ * A store can be shared by multiple filters and threads. Remember to {@link #close()} the store when you're done with it.
+ * </p>
+ *
+ * @see RecordingFilter
+ * @see ReplayFilter
+ */
+public class ResponseStore implements Closeable {
+    private static final int MAGIC = 0x52415231; // "RAR1"
+    private static final String UTF_8 = "UTF-8";
+
+    private final File file;
+    private final RandomAccessFile randomAccessFile;
+    private final FileChannel channel;
+    private final Map<String, Record> index = new HashMap<String, Record>();
+    private long size;
+
+    private ResponseStore(File file) throws IOException {
+        this.file = file;
+        this.randomAccessFile = new RandomAccessFile(file, "rw");
+        this.channel = randomAccessFile.getChannel();
+        boolean opened = false;
+        try {
+            this.size = buildIndex();
+            if (size < channel.size()) {
+                // Discard a record that was partially written
+                channel.truncate(size);
+            }
+            opened = true;
+        } finally {
+            if (!opened) {
+                randomAccessFile.close();
+            }
+        }
+    }
+
+    /**
+     * Open a store, the file is created if it doesn't exist.
+     *
+     * @param file The file
+     * @return The store
+     */
+    public static ResponseStore open(File file) {
+        notNull(file, File.class);
+        try {
+            return new ResponseStore(file);
+        } catch (IOException e) {
+            return SafeExceptionRethrower.safeRethrow(e);
+        }
+    }
+
+    /**
+     * Open a store, the file is created if it doesn't exist.
+     *
+     * @param path The path to the file
+     * @return The store
+     */
+    public static ResponseStore open(String path) {
+        notNull(path, "Path");
+        return open(new File(path));
+    }
+
+    /**
+     * @return The file backing this store
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * @return The number of distinct requests that have a stored response
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * @param fingerprint The request fingerprint
+     * @return <code>true</code> if a response is stored for the fingerprint
+     */
+    public synchronized boolean contains(String fingerprint) {
+        return index.containsKey(fingerprint);
+    }
+
+    public synchronized void close() {
+        try {
+            channel.force(false);
+            randomAccessFile.close();
+        } catch (IOException e) {
+            SafeExceptionRethrower.safeRethrow(e);
+        } finally {
+            index.clear();
+        }
+    }
+
+    synchronized void put(String fingerprint, StoredResponse response) {
+        final ByteBuffer record = encode(fingerprint, response);
+        final long position = size;
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record, size + record.position());
+            }
+        } catch (IOException e) {
+            SafeExceptionRethrower.safeRethrow(e);
+        }
+        size += record.limit();
+        index.put(fingerprint, new Record(position, record.limit()));
+    }
+
+    synchronized StoredResponse get(String fingerprint) {
+        final Record record = index.get(fingerprint);
+        if (record == null) {
+            return null;
+        }
+        final ByteBuffer buffer = record.mapped();
+        buffer.getInt(); // Magic
+        readString(buffer); // Fingerprint
+        final int statusCode = buffer.getInt();
+        final String statusLine = readString(buffer);
+        final int numberOfHeaders = buffer.getInt();
+        final List<Header> headers = new ArrayList<Header>(numberOfHeaders);
+        for (int i = 0; i < numberOfHeaders; i++) {
+            headers.add(new Header(readString(buffer), readString(buffer)));
+        }
+        return new StoredResponse(statusCode, statusLine, new Headers(headers), readBytes(buffer));
+    }
+
+    /*
+     * Scans the file without mapping it (so that there's no limit on the size of the file) and returns the position after the last
+     * complete record. Only a record that ends prematurely is considered to be partially written, anything else that doesn't look like
+     * a record means that the file is not a response store (or is corrupt) and is reported rather than truncated.
+     */
+    private long buildIndex() throws IOException {
+        final long fileSize = channel.size();
+        long position = 0;
+        long validEnd = 0;
+        try {
+            while (position < fileSize) {
+                final long start = position;
+                if (read(start, 4, fileSize).getInt() != MAGIC) {
+                    throw new IllegalStateException("Response store " + file + " is corrupt, no record found at position " + start + ".");
+                }
+                final int fingerprintLength = readLength(start + 4, fileSize);
+                final String fingerprint = new String(read(start + 8, fingerprintLength, fileSize).array(), UTF_8);
+                position = skip(start + 8 + fingerprintLength + 4, fileSize); // Status code and status line
+                final int numberOfHeaders = readLength(position, fileSize);
+                position += 4;
+                for (int i = 0; i < numberOfHeaders * 2; i++) {
+                    position = skip(position, fileSize);
+                }
+                position = skip(position, fileSize); // Body
+                if (position - start > Integer.MAX_VALUE) {
+                    throw new IllegalStateException("Response store " + file + " contains a record larger than 2 GB at position " + start + ".");
+                }
+                index.put(fingerprint, new Record(start, (int) (position - start)));
+                validEnd = position;
+            }
+        } catch (EOFException e) {
+            // A partially written record, ignore it
+        }
+        return validEnd;
+    }
+
+    private int readLength(long position, long fileSize) throws IOException {
+        final int length = read(position, 4, fileSize).getInt();
+        if (length < 0) {
+            throw new IllegalStateException("Response store " + file + " is corrupt, invalid length at position " + position + ".");
+        }
+        return length;
+    }
+
+    /*
+     * Skips a length-prefixed field and returns the position after it
+     */
+    private long skip(long position, long fileSize) throws IOException {
+        final long end = position + 4 + readLength(position, fileSize);
+        if (end > fileSize) {
+            throw new EOFException();
+        }
+        return end;
+    }
+
+    private ByteBuffer read(long position, int length, long fileSize) throws IOException {
+        if (position + length > fileSize) {
+            throw new EOFException();
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static ByteBuffer encode(String fingerprint, StoredResponse response) {
+        final byte[] fingerprintBytes = bytes(fingerprint);
+        final byte[] statusLine = bytes(response.getStatusLine());
+        final List<byte[]> headers = new ArrayList<byte[]>();
+        for (Header header : response.getHeaders()) {
+            headers.add(bytes(header.getName()));
+            headers.add(bytes(header.getValue()));
+        }
+        final byte[] body = response.getBody();
+
+        int length = 4 + 4 + fingerprintBytes.length + 4 + 4 + statusLine.length + 4 + 4 + body.length;
+        for (byte[] header : headers) {
+            length += 4 + header.length;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(MAGIC);
+        putBytes(buffer, fingerprintBytes);
+        buffer.putInt(response.getStatusCode());
+        putBytes(buffer, statusLine);
+        buffer.putInt(headers.size() / 2);
+        for (byte[] header : headers) {
+            putBytes(buffer, header);
+        }
+        putBytes(buffer, body);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        try {
+            return new String(readBytes(buffer), UTF_8);
+        } catch (UnsupportedEncodingException e) {
+            return SafeExceptionRethrower.safeRethrow(e);
+        }
+    }
+
+    private static byte[] bytes(String string) {
+        try {
+            return (string == null ? "" : string).getBytes(UTF_8);
+        } catch (UnsupportedEncodingException e) {
+            return SafeExceptionRethrower.safeRethrow(e);
+        }
+    }
+
+    /*
+     * The location of a record in the file. Records are never modified once they've been written so a record is mapped at most once.
+     */
+    private class Record {
+        private final long position;
+        private final int length;
+        private MappedByteBuffer buffer;
+
+        Record(long position, int length) {
+            this.position = position;
+            this.length = length;
+        }
+
+        ByteBuffer mapped() {
+            if (buffer == null) {
+                try {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                } catch (IOException e) {
+                    SafeExceptionRethrower.safeRethrow(e);
+                }
+            }
+            return buffer.duplicate();
+        }
+    }
+}
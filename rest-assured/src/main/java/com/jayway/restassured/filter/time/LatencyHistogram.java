@@ -0,0 +1,355 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.time;
+
+import org.apache.commons.lang3.Validate;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A latency histogram using the same log-linear bucketing scheme as <a href="http://hdrhistogram.org">HdrHistogram</a>. Values (normally
+ * nanoseconds) are recorded with a fixed number of significant decimal digits of precision in a fixed amount of memory regardless of how many
+ * values are recorded.
+ * <p>
+ * Recording is lock-free and may be performed concurrently from multiple threads. Values larger than the highest trackable value are recorded
+ * as the highest trackable value. Histograms recorded in different threads can be merged using {@link #add(LatencyHistogram)}.
+ * </p>
+ * <p>
+ * When values are recorded by a load generator that waits for each response before sending the next request the recorded values are
+ * subject to <i>coordinated omission</i>, i.e. requests that should have been sent while waiting for a slow response are never measured.
+ * Use {@link #recordValueWithExpectedInterval(long, long)} to correct for this.
+ * </p>
+ */
+public class LatencyHistogram {
+    /**
+     * By default values up to one hour (in nanoseconds) are tracked
+     */
+    public static final long DEFAULT_HIGHEST_TRACKABLE_VALUE = TimeUnit.HOURS.toNanos(1);
+    public static final int DEFAULT_NUMBER_OF_SIGNIFICANT_VALUE_DIGITS = 3;
+    private static final int DEFAULT_PERCENTILE_TICKS_PER_HALF_DISTANCE = 5;
+
+    private final long highestTrackableValue;
+    private final int numberOfSignificantValueDigits;
+    private final int subBucketHalfCountMagnitude;
+    private final int subBucketHalfCount;
+    private final long subBucketMask;
+    private final int leadingZeroCountBase;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalValue = new AtomicLong();
+    private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxValue = new AtomicLong(0);
+
+    /**
+     * Create a new histogram that tracks values up to {@value #DEFAULT_HIGHEST_TRACKABLE_VALUE} with {@value #DEFAULT_NUMBER_OF_SIGNIFICANT_VALUE_DIGITS}
+     * significant digits of precision.
+     */
+    public LatencyHistogram() {
+        this(DEFAULT_HIGHEST_TRACKABLE_VALUE, DEFAULT_NUMBER_OF_SIGNIFICANT_VALUE_DIGITS);
+    }
+
+    /**
+     * Create a new histogram.
+     *
+     * @param highestTrackableValue          The highest value to track (must be at least 2)
+     * @param numberOfSignificantValueDigits The number of significant decimal digits to maintain (between 0 and 5)
+     */
+    public LatencyHistogram(long highestTrackableValue, int numberOfSignificantValueDigits) {
+        Validate.isTrue(highestTrackableValue >= 2, "Highest trackable value must be at least 2");
+        Validate.isTrue(numberOfSignificantValueDigits >= 0 && numberOfSignificantValueDigits <= 5, "Number of significant value digits must be between 0 and 5");
+        this.highestTrackableValue = highestTrackableValue;
+        this.numberOfSignificantValueDigits = numberOfSignificantValueDigits;
+
+        long largestValueWithSingleUnitResolution = 2 * (long) Math.pow(10, numberOfSignificantValueDigits);
+        int subBucketCountMagnitude = (int) Math.ceil(Math.log(largestValueWithSingleUnitResolution) / Math.log(2));
+        subBucketHalfCountMagnitude = Math.max(subBucketCountMagnitude, 1) - 1;
+        int subBucketCount = 1 << (subBucketHalfCountMagnitude + 1);
+        subBucketHalfCount = subBucketCount / 2;
+        subBucketMask = subBucketCount - 1;
+        leadingZeroCountBase = 64 - subBucketHalfCountMagnitude - 1;
+
+        long smallestUntrackableValue = ((long) subBucketCount);
+        int bucketCount = 1;
+        while (smallestUntrackableValue <= highestTrackableValue) {
+            if (smallestUntrackableValue > (Long.MAX_VALUE / 2)) {
+                bucketCount++;
+                break;
+            }
+            smallestUntrackableValue <<= 1;
+            bucketCount++;
+        }
+        counts = new AtomicLongArray((bucketCount + 1) * subBucketHalfCount);
+    }
+
+    /**
+     * Record a value.
+     *
+     * @param value The value to record, must be non-negative.
+     */
+    public void recordValue(long value) {
+        recordValueWithCount(value, 1);
+    }
+
+    /**
+     * Record a value <code>count</code> number of times.
+     *
+     * @param value The value to record, must be non-negative.
+     * @param count The number of times to record the value.
+     */
+    public void recordValueWithCount(long value, long count) {
+        Validate.isTrue(value >= 0, "Cannot record negative value %d", value);
+        long valueToRecord = Math.min(value, highestTrackableValue);
+        counts.addAndGet(countsArrayIndex(valueToRecord), count);
+        totalCount.addAndGet(count);
+        totalValue.addAndGet(valueToRecord * count);
+        updateMin(valueToRecord);
+        updateMax(valueToRecord);
+    }
+
+    /**
+     * Record a value and correct for coordinated omission. If the value is larger than the expected interval between value samples then
+     * additional values, linearly decreasing by the expected interval down to the expected interval, are recorded as well. These are the
+     * values that would have been recorded had the requests that were omitted while waiting for the response been sent on time.
+     *
+     * @param value                               The value to record, must be non-negative.
+     * @param expectedIntervalBetweenValueSamples The expected interval between value samples (for example the interval between requests at
+     *                                            a fixed arrival rate). If less than or equal to 0 no correction is performed.
+     */
+    public void recordValueWithExpectedInterval(long value, long expectedIntervalBetweenValueSamples) {
+        recordValue(value);
+        if (expectedIntervalBetweenValueSamples <= 0) {
+            return;
+        }
+        for (long missingValue = value - expectedIntervalBetweenValueSamples; missingValue >= expectedIntervalBetweenValueSamples; missingValue -= expectedIntervalBetweenValueSamples) {
+            recordValue(missingValue);
+        }
+    }
+
+    /**
+     * @return The total number of values recorded
+     */
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * @return The lowest value recorded (or 0 if no value has been recorded)
+     */
+    public long getMinValue() {
+        return getTotalCount() == 0 ? 0 : minValue.get();
+    }
+
+    /**
+     * @return The highest value recorded (or 0 if no value has been recorded)
+     */
+    public long getMaxValue() {
+        return maxValue.get();
+    }
+
+    /**
+     * @return The arithmetic mean of all recorded values (or 0 if no value has been recorded)
+     */
+    public double getMean() {
+        long count = getTotalCount();
+        return count == 0 ? 0 : (double) totalValue.get() / count;
+    }
+
+    /**
+     * Get the value at a given percentile. The value returned is the highest value that is equivalent (within the precision of the histogram)
+     * to the recorded value at the given percentile.
+     *
+     * @param percentile The percentile, for example <code>99.9</code>.
+     * @return The value at the given percentile (or 0 if no value has been recorded)
+     */
+    public long getValueAtPercentile(double percentile) {
+        Validate.isTrue(percentile >= 0.0 && percentile <= 100.0, "Percentile must be between 0 and 100");
+        long count = getTotalCount();
+        if (count == 0) {
+            return 0;
+        }
+        long countAtPercentile = Math.max(1, (long) (((percentile / 100.0) * count) + 0.5));
+        long countToIndex = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            countToIndex += counts.get(i);
+            if (countToIndex >= countAtPercentile) {
+                return Math.min(highestEquivalentValue(valueFromIndex(i)), getMaxValue());
+            }
+        }
+        return getMaxValue();
+    }
+
+    /**
+     * @return The standard deviation of all recorded values (or 0 if no value has been recorded)
+     */
+    public double getStdDeviation() {
+        long count = getTotalCount();
+        if (count == 0) {
+            return 0;
+        }
+        double mean = getMean();
+        double geometricDeviationTotal = 0.0;
+        for (int i = 0; i < counts.length(); i++) {
+            long countAtIndex = counts.get(i);
+            if (countAtIndex != 0) {
+                double deviation = medianEquivalentValue(valueFromIndex(i)) - mean;
+                geometricDeviationTotal += (deviation * deviation) * countAtIndex;
+            }
+        }
+        return Math.sqrt(geometricDeviationTotal / count);
+    }
+
+    /**
+     * @return A copy of this histogram. Values recorded to this histogram while copying may or may not be included in the copy.
+     */
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram(highestTrackableValue, numberOfSignificantValueDigits);
+        copy.add(this);
+        return copy;
+    }
+
+    /**
+     * Print the percentile distribution of the recorded values in the same format as <a href="http://hdrhistogram.org">HdrHistogram</a>
+     * (the output can be plotted using for example the HdrHistogram plotter). The recorded values are assumed to be nanoseconds.
+     *
+     * @param printStream The stream to print the distribution to
+     * @param timeUnit    The time unit of the values in the report
+     */
+    public void outputPercentileDistribution(PrintStream printStream, TimeUnit timeUnit) {
+        Validate.notNull(printStream, "Print stream cannot be null");
+        Validate.notNull(timeUnit, "Time unit cannot be null");
+        double scalingRatio = TimeUnit.NANOSECONDS.convert(1, timeUnit);
+        printStream.format("%12s %14s %10s %14s%n%n", "Value", "Percentile", "TotalCount", "1/(1-Percentile)");
+
+        long count = getTotalCount();
+        if (count > 0) {
+            double percentileToReport = 0.0;
+            long countToIndex = 0;
+            for (int i = 0; i < counts.length() && percentileToReport <= 100.0; i++) {
+                long countAtIndex = counts.get(i);
+                if (countAtIndex == 0) {
+                    continue;
+                }
+                countToIndex += countAtIndex;
+                double value = Math.min(highestEquivalentValue(valueFromIndex(i)), getMaxValue()) / scalingRatio;
+                double currentPercentile = (100.0 * countToIndex) / count;
+                while (currentPercentile >= percentileToReport && percentileToReport <= 100.0) {
+                    if (countToIndex == count) {
+                        printStream.format("%12.3f %2.12f %10d%n", value, 1.0, countToIndex);
+                        percentileToReport = Double.MAX_VALUE;
+                    } else {
+                        printStream.format("%12.3f %2.12f %10d %14.2f%n", value, percentileToReport / 100.0, countToIndex, 1.0 / (1.0 - (percentileToReport / 100.0)));
+                        long ticks = DEFAULT_PERCENTILE_TICKS_PER_HALF_DISTANCE * (1L << ((long) (Math.log(100.0 / (100.0 - percentileToReport)) / Math.log(2)) + 1));
+                        percentileToReport += 100.0 / ticks;
+                    }
+                }
+            }
+        }
+
+        printStream.format("#[Mean    = %12.3f, StdDeviation   = %12.3f]%n", getMean() / scalingRatio, getStdDeviation() / scalingRatio);
+        printStream.format("#[Max     = %12.3f, Total count    = %12d]%n", getMaxValue() / scalingRatio, count);
+    }
+
+    /**
+     * Add all values recorded in another histogram to this histogram. The other histogram must have been created with the same
+     * highest trackable value and number of significant value digits.
+     *
+     * @param other The histogram whose values to add
+     */
+    public void add(LatencyHistogram other) {
+        Validate.notNull(other, "Histogram to add cannot be null");
+        Validate.isTrue(other.highestTrackableValue == highestTrackableValue && other.numberOfSignificantValueDigits == numberOfSignificantValueDigits,
+                "Cannot add histograms with different highest trackable value or precision");
+        for (int i = 0; i < other.counts.length(); i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        long otherCount = other.getTotalCount();
+        if (otherCount > 0) {
+            totalCount.addAndGet(otherCount);
+            totalValue.addAndGet(other.totalValue.get());
+            updateMin(other.minValue.get());
+            updateMax(other.maxValue.get());
+        }
+    }
+
+    /**
+     * @return The highest value that can be tracked by this histogram
+     */
+    public long getHighestTrackableValue() {
+        return highestTrackableValue;
+    }
+
+    /**
+     * @return The number of significant decimal digits maintained by this histogram
+     */
+    public int getNumberOfSignificantValueDigits() {
+        return numberOfSignificantValueDigits;
+    }
+
+    private void updateMin(long value) {
+        long current;
+        while (value < (current = minValue.get())) {
+            if (minValue.compareAndSet(current, value)) {
+                return;
+            }
+        }
+    }
+
+    private void updateMax(long value) {
+        long current;
+        while (value > (current = maxValue.get())) {
+            if (maxValue.compareAndSet(current, value)) {
+                return;
+            }
+        }
+    }
+
+    private int countsArrayIndex(long value) {
+        int bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        int bucketBaseIndex = (bucketIndex + 1) << subBucketHalfCountMagnitude;
+        return bucketBaseIndex + (subBucketIndex - subBucketHalfCount);
+    }
+
+    private long valueFromIndex(int index) {
+        int bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+        int subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+        if (bucketIndex < 0) {
+            subBucketIndex -= subBucketHalfCount;
+            bucketIndex = 0;
+        }
+        return ((long) subBucketIndex) << bucketIndex;
+    }
+
+    private long medianEquivalentValue(long value) {
+        return (value + highestEquivalentValue(value) + 1) / 2;
+    }
+
+    private long highestEquivalentValue(long value) {
+        int bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        int adjustedBucket = (subBucketIndex >= (subBucketHalfCount << 1)) ? bucketIndex + 1 : bucketIndex;
+        long lowestEquivalentValue = ((long) subBucketIndex) << bucketIndex;
+        return lowestEquivalentValue + (1L << adjustedBucket) - 1;
+    }
+}
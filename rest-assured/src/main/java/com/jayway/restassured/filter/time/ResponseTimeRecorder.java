@@ -0,0 +1,177 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.time;
+
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+import org.apache.commons.lang3.Validate;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import static com.jayway.restassured.internal.assertion.AssertParameter.notNull;
+
+/**
+ * Filter that records the response time of every request it's applied to into a {@link LatencyHistogram} so that response times can be
+ * aggregated over many requests (and threads) and reported as percentiles. For example:
+ * <pre>
+ * ResponseTimeRecorder recorder = ResponseTimeRecorder.responseTimeRecorder();
+ * RestAssured.filters(recorder);
+ * ...
+ * recorder.outputPercentileDistribution(System.out, TimeUnit.MILLISECONDS);
+ * </pre>
+ * <p>
+ * The same recorder instance can be shared by multiple threads, recording is lock-free. Recorders from different suites can be combined with
+ * {@link #merge(ResponseTimeRecorder)}.
+ * </p>
+ * <p>
+ * A test that sends a request and waits for the response before sending the next request will not send the requests that should have been
+ * sent while waiting for a slow response (coordinated omission). To get correct percentiles either configure the expected interval between
+ * requests (see {@link #ResponseTimeRecorder(long, TimeUnit)}) or record the latency from the time the request was <i>intended</i> to be sent
+ * using {@link #recordLatencySince(long)}.
+ * </p>
+ */
+public class ResponseTimeRecorder implements Filter {
+    private static final long NO_EXPECTED_INTERVAL = 0;
+
+    private final LatencyHistogram histogram;
+    private final long expectedIntervalNanos;
+
+    /**
+     * Create a new recorder that doesn't correct for coordinated omission.
+     */
+    public ResponseTimeRecorder() {
+        this(new LatencyHistogram(), NO_EXPECTED_INTERVAL);
+    }
+
+    /**
+     * Create a new recorder that corrects for coordinated omission given the expected interval between requests.
+     *
+     * @param expectedInterval The expected interval between two requests
+     * @param timeUnit         The time unit of the expected interval
+     */
+    public ResponseTimeRecorder(long expectedInterval, TimeUnit timeUnit) {
+        this(new LatencyHistogram(), notNull(timeUnit, TimeUnit.class).toNanos(expectedInterval));
+    }
+
+    private ResponseTimeRecorder(LatencyHistogram histogram, long expectedIntervalNanos) {
+        Validate.isTrue(expectedIntervalNanos >= 0, "Expected interval cannot be negative");
+        this.histogram = histogram;
+        this.expectedIntervalNanos = expectedIntervalNanos;
+    }
+
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        recordResponseTime(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return response;
+    }
+
+    /**
+     * Record a response time.
+     *
+     * @param responseTime The response time
+     * @param timeUnit     The time unit of the response time
+     */
+    public void recordResponseTime(long responseTime, TimeUnit timeUnit) {
+        notNull(timeUnit, TimeUnit.class);
+        histogram.recordValueWithExpectedInterval(timeUnit.toNanos(responseTime), expectedIntervalNanos);
+    }
+
+    /**
+     * Record the response time of a response measured by the {@link TimingFilter}. Responses without a measured response time are ignored.
+     *
+     * @param response The response
+     */
+    public void recordResponse(Response response) {
+        notNull(response, Response.class);
+        long responseTime = response.timeIn(TimeUnit.NANOSECONDS);
+        if (responseTime >= 0) {
+            recordResponseTime(responseTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Record the latency from the time a request was intended to be sent until now. The intended start time should be calculated from a
+     * schedule (for example <code>testStart + requestNumber * interval</code>) and not from when the request was actually sent, which makes
+     * the recorded latency free from coordinated omission.
+     *
+     * @param intendedStartNanoTime The intended start time as given by {@link System#nanoTime()}
+     */
+    public void recordLatencySince(long intendedStartNanoTime) {
+        histogram.recordValue(Math.max(0, System.nanoTime() - intendedStartNanoTime));
+    }
+
+    /**
+     * Add all response times recorded by another recorder to this recorder.
+     *
+     * @param other The other recorder
+     * @return This recorder
+     */
+    public ResponseTimeRecorder merge(ResponseTimeRecorder other) {
+        notNull(other, ResponseTimeRecorder.class);
+        histogram.add(other.histogram);
+        return this;
+    }
+
+    /**
+     * @return A snapshot of the recorded response times (in nanoseconds)
+     */
+    public LatencyHistogram histogram() {
+        return histogram.copy();
+    }
+
+    /**
+     * @return The number of recorded response times (including values added to correct for coordinated omission)
+     */
+    public long count() {
+        return histogram.getTotalCount();
+    }
+
+    /**
+     * @param percentile The percentile, for example <code>99.9</code>
+     * @param timeUnit   The time unit
+     * @return The response time at the given percentile
+     */
+    public long timeAtPercentile(double percentile, TimeUnit timeUnit) {
+        notNull(timeUnit, TimeUnit.class);
+        return timeUnit.convert(histogram.getValueAtPercentile(percentile), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Print the percentile distribution of the recorded response times.
+     *
+     * @param printStream The stream to print to
+     * @param timeUnit    The time unit to use in the report
+     * @see LatencyHistogram#outputPercentileDistribution(PrintStream, TimeUnit)
+     */
+    public void outputPercentileDistribution(PrintStream printStream, TimeUnit timeUnit) {
+        histogram.outputPercentileDistribution(printStream, timeUnit);
+    }
+
+    /**
+     * Syntactic sugar for creating a new response time recorder
+     *
+     * @return A new {@link ResponseTimeRecorder}
+     */
+    public static ResponseTimeRecorder responseTimeRecorder() {
+        return new ResponseTimeRecorder();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.time;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.jayway.restassured.internal.assertion.AssertParameter.notNull;
+
+/**
+ * Holds the time (measured with nanosecond precision using {@link System#nanoTime()}) spent in each {@link TimingPhase} of a request.
+ * The timings are recorded by the {@link TimingFilter} and can be retrieved from the response using {@link com.jayway.restassured.response.ResponseOptions#timings()}.
+ */
+public class ResponseTimings {
+    /**
+     * The value returned for a phase that has not been measured.
+     */
+    public static final long NOT_MEASURED = -1;
+
+    private final long[] nanos = new long[TimingPhase.values().length];
+    private long filterChainStart = NOT_MEASURED;
+
+    public ResponseTimings() {
+        Arrays.fill(nanos, NOT_MEASURED);
+    }
+
+    /**
+     * Add time to the given phase. Time added multiple times to the same phase is accumulated. This method is used by REST Assured and
+     * the {@link TimingFilter} and is normally not called by users.
+     *
+     * @param phase The phase
+     * @param nanos The time in nanoseconds
+     */
+    public void record(TimingPhase phase, long nanos) {
+        notNull(phase, TimingPhase.class);
+        if (nanos < 0) {
+            return;
+        }
+        int index = phase.ordinal();
+        this.nanos[index] = this.nanos[index] == NOT_MEASURED ? nanos : this.nanos[index] + nanos;
+    }
+
+    /**
+     * Mark that the first filter is about to be invoked. This method is used by REST Assured and the {@link TimingFilter} and is normally
+     * not called by users.
+     *
+     * @see #filterChainEnded()
+     */
+    public void filterChainStarted() {
+        filterChainStart = System.nanoTime();
+    }
+
+    /**
+     * Mark that the response has been returned by the first filter. The time since {@link #filterChainStarted()} that is not attributed to
+     * the {@link TimingPhase#REQUEST_WRITE}, {@link TimingPhase#WAIT_FOR_FIRST_BYTE} or {@link TimingPhase#BODY_CONSUMPTION} phases is
+     * recorded as {@link TimingPhase#FILTER_CHAIN}. This method is used by REST Assured and the {@link TimingFilter} and is normally not
+     * called by users.
+     *
+     * @return <code>true</code> if the filter chain phase was recorded, <code>false</code> if {@link #filterChainStarted()} hasn't been called.
+     */
+    public boolean filterChainEnded() {
+        if (filterChainStart == NOT_MEASURED) {
+            return false;
+        }
+        long filterChainTime = System.nanoTime() - filterChainStart;
+        filterChainStart = NOT_MEASURED;
+        long attributedTime = 0;
+        for (TimingPhase phase : new TimingPhase[]{TimingPhase.REQUEST_WRITE, TimingPhase.WAIT_FOR_FIRST_BYTE, TimingPhase.BODY_CONSUMPTION}) {
+            if (isMeasured(phase)) {
+                attributedTime += nanos(phase);
+            }
+        }
+        record(TimingPhase.FILTER_CHAIN, Math.max(0, filterChainTime - attributedTime));
+        return true;
+    }
+
+    /**
+     * @param phase The phase
+     * @return <code>true</code> if the phase has been measured, <code>false</code> otherwise.
+     */
+    public boolean isMeasured(TimingPhase phase) {
+        return nanos(phase) != NOT_MEASURED;
+    }
+
+    /**
+     * @param phase The phase
+     * @return The time spent in the given phase in nanoseconds (or {@value #NOT_MEASURED} if the phase has not been measured)
+     */
+    public long nanos(TimingPhase phase) {
+        notNull(phase, TimingPhase.class);
+        return nanos[phase.ordinal()];
+    }
+
+    /**
+     * @param phase    The phase
+     * @param timeUnit The time unit to convert the time to
+     * @return The time spent in the given phase in the given time unit (or {@value #NOT_MEASURED} if the phase has not been measured)
+     */
+    public long timeIn(TimingPhase phase, TimeUnit timeUnit) {
+        notNull(timeUnit, TimeUnit.class);
+        long time = nanos(phase);
+        return time == NOT_MEASURED ? NOT_MEASURED : timeUnit.convert(time, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return The sum of all measured phases in nanoseconds (or {@value #NOT_MEASURED} if no phase has been measured)
+     */
+    public long totalNanos() {
+        long total = NOT_MEASURED;
+        for (long time : nanos) {
+            if (time != NOT_MEASURED) {
+                total = total == NOT_MEASURED ? time : total + time;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (TimingPhase phase : TimingPhase.values()) {
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append(phase.name()).append("=");
+            long time = nanos(phase);
+            builder.append(time == NOT_MEASURED ? "n/a" : time + " ns");
+        }
+        return builder.toString();
+    }
+}
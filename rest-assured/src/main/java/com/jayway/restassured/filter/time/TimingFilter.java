@@ -23,8 +23,12 @@ import com.jayway.restassured.response.Response;
 import com.jayway.restassured.specification.FilterableRequestSpecification;
 import com.jayway.restassured.specification.FilterableResponseSpecification;
 
+import java.util.concurrent.TimeUnit;
+
 /**
- * Filter that measures the response time and stores it in the {@link FilterContext} in key "{@value #RESPONSE_TIME_MILLISECONDS}".
+ * Filter that measures the response time and stores it in the {@link FilterContext} in key "{@value #RESPONSE_TIME_MILLISECONDS}" (milliseconds)
+ * and "{@value #RESPONSE_TIME_NANOSECONDS}" (nanoseconds). The time spent in each {@link TimingPhase} of the request is stored as {@link ResponseTimings}
+ * in key "{@value #RESPONSE_TIMINGS}".
  * <p/>
  * Note that this is the time it takes for REST Assured to perform the request and consume the response.
  * It's does <i>not</i> say how fast the server responds. Measurements can be misleading especially if the JVM is not warm. It's highly recommended
@@ -32,6 +36,8 @@ import com.jayway.restassured.specification.FilterableResponseSpecification;
  */
 public class TimingFilter implements Filter {
     public static final String RESPONSE_TIME_MILLISECONDS = "RA_RESPONSE_TIME_MILLIS";
+    public static final String RESPONSE_TIME_NANOSECONDS = "RA_RESPONSE_TIME_NANOS";
+    public static final String RESPONSE_TIMINGS = "RA_RESPONSE_TIMINGS";
 
     private final boolean shouldConsumeStream;
 
@@ -52,16 +58,29 @@ public class TimingFilter implements Filter {
     }
 
     public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
-        long start = System.currentTimeMillis();
+        long start = System.nanoTime();
+        ResponseTimings timings = ctx.getValue(RESPONSE_TIMINGS);
+        // REST Assured measures the filter chain from before the first filter, otherwise it's measured from this filter
+        boolean measuresFilterChain = timings == null;
+        if (measuresFilterChain) {
+            timings = new ResponseTimings();
+            timings.filterChainStarted();
+            ctx.setValue(RESPONSE_TIMINGS, timings);
+        }
         Response response = ctx.next(requestSpec, responseSpec);
         if (shouldConsumeStream && response instanceof RestAssuredResponseImpl && ((RestAssuredResponseImpl) response).isInputStream()) {
             // Consume the body of the request (important if measure time also should include downloading of body)
+            long consumeStart = System.nanoTime();
             response.asByteArray();
+            timings.record(TimingPhase.BODY_CONSUMPTION, System.nanoTime() - consumeStart);
         }
 
-        long end = System.currentTimeMillis();
-        long responseTime = end - start;
-        ctx.setValue(RESPONSE_TIME_MILLISECONDS, responseTime);
+        long responseTime = System.nanoTime() - start;
+        if (measuresFilterChain) {
+            timings.filterChainEnded();
+        }
+        ctx.setValue(RESPONSE_TIME_NANOSECONDS, responseTime);
+        ctx.setValue(RESPONSE_TIME_MILLISECONDS, TimeUnit.NANOSECONDS.toMillis(responseTime));
         return response;
     }
 
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.time;
+
+/**
+ * The different phases of a request that are measured by the {@link TimingFilter}.
+ *
+ * @see ResponseTimings
+ */
+public enum TimingPhase {
+    /**
+     * Time spent in filters and in preparing the request, i.e. the time from that the first filter is invoked until it has returned the
+     * response that is not included in {@link #REQUEST_WRITE}, {@link #WAIT_FOR_FIRST_BYTE} or {@link #BODY_CONSUMPTION}.
+     */
+    FILTER_CHAIN,
+    /**
+     * Time from the start of the request execution until the request (including body) has been written to the server.
+     * Note that this includes the time it takes to establish (or lease) a connection.
+     */
+    REQUEST_WRITE,
+    /**
+     * Time from that the request has been written until the response status line and headers have been received.
+     */
+    WAIT_FOR_FIRST_BYTE,
+    /**
+     * Time it takes to consume the response body.
+     */
+    BODY_CONSUMPTION,
+    /**
+     * Time it takes to validate the response against the response specification. Note that this phase is not available
+     * when validating the response time itself since validation is not yet complete.
+     */
+    VALIDATION
+}
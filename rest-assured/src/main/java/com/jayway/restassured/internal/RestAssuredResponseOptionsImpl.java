@@ -18,6 +18,7 @@ package com.jayway.restassured.internal;
 
 import com.jayway.restassured.config.DecoderConfig;
 import com.jayway.restassured.config.RestAssuredConfig;
+import com.jayway.restassured.filter.time.ResponseTimings;
 import com.jayway.restassured.internal.log.LogRepository;
 import com.jayway.restassured.internal.mapper.ObjectMapperType;
 import com.jayway.restassured.mapper.ObjectMapper;
@@ -27,7 +28,9 @@ import com.jayway.restassured.path.xml.XmlPath;
 import com.jayway.restassured.path.xml.config.XmlPathConfig;
 import com.jayway.restassured.response.*;
 
+import java.io.File;
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -215,6 +218,18 @@ public class RestAssuredResponseOptionsImpl<R extends ResponseOptions<R>> implem
         return groovyResponse.isInputStream();
     }
 
+    public TransferredBody transferTo(File file, String... digestAlgorithms) {
+        return groovyResponse.transferTo(file, digestAlgorithms);
+    }
+
+    public TransferredBody transferTo(WritableByteChannel channel, String... digestAlgorithms) {
+        return groovyResponse.transferTo(channel, digestAlgorithms);
+    }
+
+    public <T> CloseableIterator<T> stream(String path, Class<T> cls) {
+        return groovyResponse.stream(path, cls);
+    }
+
     public String print() {
         return groovyResponse.print();
     }
@@ -348,4 +363,12 @@ public class RestAssuredResponseOptionsImpl<R extends ResponseOptions<R>> implem
     public long getTimeIn(TimeUnit timeUnit) {
         return groovyResponse.timeIn(timeUnit);
     }
+
+    public ResponseTimings timings() {
+        return groovyResponse.timings();
+    }
+
+    public ResponseTimings getTimings() {
+        return groovyResponse.timings();
+    }
 }
@@ -20,6 +20,7 @@ import com.jayway.restassured.RestAssured;
 import com.jayway.restassured.config.LogConfig;
 import com.jayway.restassured.config.RestAssuredConfig;
 import com.jayway.restassured.filter.log.LogDetail;
+import com.jayway.restassured.filter.time.TimingPhase;
 import com.jayway.restassured.function.RestAssuredFunction;
 import com.jayway.restassured.http.ContentType;
 import com.jayway.restassured.internal.log.LogRepository;
@@ -32,7 +33,6 @@ import com.jayway.restassured.specification.Argument;
 import com.jayway.restassured.specification.ResponseSpecification;
 import org.hamcrest.Matcher;
 
-import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.List;
 import java.util.Map;
@@ -401,10 +401,12 @@ public abstract class ValidatableResponseOptionsImpl<T extends ValidatableRespon
     }
 
     public T ifValidationFails(LogDetail logDetail, boolean shouldPrettyPrint) {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        PrintStream ps = new PrintStream(baos);
-        responseSpec.getLogRepository().registerResponseLog(baos);
-        return logResponse(logDetail, shouldPrettyPrint, ps);
+        if (logDetail == LogDetail.BODY || logDetail == LogDetail.ALL) {
+            // Make sure that the body is still available when validation fails
+            response.asByteArray();
+        }
+        responseSpec.getLogRepository().registerResponseLog(response, response, logDetail, shouldPrettyPrint);
+        return (T) this;
     }
 
     private T logResponse(LogDetail logDetail) {
@@ -429,6 +431,11 @@ public abstract class ValidatableResponseOptionsImpl<T extends ValidatableRespon
         return (T) this;
     }
 
+    public T time(TimingPhase phase, Matcher<Long> matcher, TimeUnit timeUnit) {
+        responseSpec.time(phase, matcher, timeUnit);
+        return (T) this;
+    }
+
     public abstract R originalResponse();
 
     private Matcher<?> getMatcherFromResponseAwareMatcher(ResponseAwareMatcher<R> responseAwareMatcher) {
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.filter;
+
+import com.jayway.restassured.internal.util.SafeExceptionRethrower;
+import com.jayway.restassured.response.Cookie;
+import com.jayway.restassured.response.Header;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.MultiPartSpecification;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Creates a canonical fingerprint of a request: the method, the URI (including query parameters), the request and form parameters,
+ * the headers, the cookies, the multi-parts and the body. Parameters, headers and cookies are sorted so that the order in which they
+ * were defined doesn't matter and header names are compared case-insensitively. Headers that vary between otherwise identical requests
+ * (such as a generated request id) can be excluded.
+ * <p>
+ * A body that is an {@link InputStream} is read into memory and replaced by its bytes so that it's fingerprinted by its content and can
+ * still be sent. Multi-parts with an {@link InputStream} as content cannot be replaced and are therefore not supported.
+ * </p>
+ */
+public class RequestFingerprint {
+    private static final String ALGORITHM = "SHA-256";
+    private static final String UTF_8 = "UTF-8";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final byte SEPARATOR = 0;
+
+    private final Set<String> ignoredHeaders;
+
+    public RequestFingerprint(String... ignoredHeaders) {
+        Set<String> names = new HashSet<String>();
+        if (ignoredHeaders != null) {
+            for (String ignoredHeader : ignoredHeaders) {
+                names.add(ignoredHeader.toLowerCase(Locale.ENGLISH));
+            }
+        }
+        this.ignoredHeaders = Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * @param requestSpec The request
+     * @return The fingerprint of the request as a hex encoded SHA-256 digest
+     * @throws IllegalArgumentException If the request contains a multi-part whose content is an {@link InputStream}
+     */
+    public String of(FilterableRequestSpecification requestSpec) {
+        final MessageDigest digest = newDigest();
+        update(digest, requestSpec.getMethod().toString());
+        update(digest, requestSpec.getURI());
+        update(digest, requestSpec.getRequestParams());
+        update(digest, requestSpec.getFormParams());
+        update(digest, headers(requestSpec));
+        update(digest, cookies(requestSpec));
+        for (MultiPartSpecification multiPart : requestSpec.getMultiPartParams()) {
+            update(digest, multiPart.getControlName());
+            update(digest, multiPart.getFileName());
+            update(digest, multiPart.getMimeType());
+            if (multiPart.getContent() instanceof InputStream) {
+                throw new IllegalArgumentException("Cannot fingerprint multi-part \"" + multiPart.getControlName()
+                        + "\" since its content is an input stream, use a byte array or a file instead.");
+            }
+            updateWithContent(digest, multiPart.getContent());
+        }
+        final Object body = requestSpec.getBody();
+        if (body instanceof InputStream) {
+            final byte[] bytes = readFully((InputStream) body);
+            requestSpec.body(bytes);
+            updateWithContent(digest, bytes);
+        } else {
+            updateWithContent(digest, body);
+        }
+        return toHex(digest.digest());
+    }
+
+    private Map<String, String> headers(FilterableRequestSpecification requestSpec) {
+        final Map<String, String> headers = new TreeMap<String, String>();
+        for (Header header : requestSpec.getHeaders()) {
+            final String name = header.getName().toLowerCase(Locale.ENGLISH);
+            if (ignoredHeaders.contains(name)) {
+                continue;
+            }
+            // Multiple headers with the same name are joined in the order they were defined since order may be significant
+            final String previous = headers.get(name);
+            headers.put(name, previous == null ? header.getValue() : previous + "," + header.getValue());
+        }
+        return headers;
+    }
+
+    private static List<String> cookies(FilterableRequestSpecification requestSpec) {
+        final List<String> cookies = new ArrayList<String>();
+        for (Cookie cookie : requestSpec.getCookies()) {
+            cookies.add(cookie.getName() + "=" + cookie.getValue());
+        }
+        Collections.sort(cookies);
+        return cookies;
+    }
+
+    private static void update(MessageDigest digest, Map<String, ?> map) {
+        if (map == null) {
+            return;
+        }
+        for (Map.Entry<String, ?> entry : new TreeMap<String, Object>(map).entrySet()) {
+            update(digest, entry.getKey());
+            update(digest, String.valueOf(entry.getValue()));
+        }
+        digest.update(SEPARATOR);
+    }
+
+    private static void update(MessageDigest digest, List<String> values) {
+        for (String value : values) {
+            update(digest, value);
+        }
+        digest.update(SEPARATOR);
+    }
+
+    private static void updateWithContent(MessageDigest digest, Object content) {
+        if (content instanceof byte[]) {
+            digest.update((byte[]) content);
+            digest.update(SEPARATOR);
+        } else if (content instanceof File) {
+            // The contents of the file is not read, the path and size are good enough to tell files apart
+            final File file = (File) content;
+            update(digest, file.getAbsolutePath() + ":" + file.length());
+        } else if (content != null) {
+            update(digest, content.toString());
+        } else {
+            digest.update(SEPARATOR);
+        }
+    }
+
+    private static byte[] readFully(InputStream stream) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        try {
+            try {
+                int read;
+                while ((read = stream.read(buffer)) != -1) {
+                    bytes.write(buffer, 0, read);
+                }
+            } finally {
+                stream.close();
+            }
+        } catch (IOException e) {
+            SafeExceptionRethrower.safeRethrow(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            try {
+                digest.update(value.getBytes(UTF_8));
+            } catch (UnsupportedEncodingException e) {
+                SafeExceptionRethrower.safeRethrow(e);
+            }
+        }
+        digest.update(SEPARATOR);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            return SafeExceptionRethrower.safeRethrow(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        final char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
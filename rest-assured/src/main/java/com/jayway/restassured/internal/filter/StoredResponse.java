@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.filter;
+
+import com.jayway.restassured.assertion.CookieMatcher;
+import com.jayway.restassured.builder.ResponseBuilder;
+import com.jayway.restassured.config.RestAssuredConfig;
+import com.jayway.restassured.internal.ResponseParserRegistrar;
+import com.jayway.restassured.internal.ResponseSpecificationImpl;
+import com.jayway.restassured.internal.RestAssuredResponseImpl;
+import com.jayway.restassured.parsing.Parser;
+import com.jayway.restassured.response.Headers;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+
+import static com.jayway.restassured.internal.assertion.AssertParameter.notNull;
+
+/**
+ * A response whose body has been read into memory so that it can be stored and turned into new, independent {@link Response} instances
+ * without sending a request. Used by filters that serve responses without calling the rest of the filter chain.
+ */
+public class StoredResponse {
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String SET_COOKIE = "Set-Cookie";
+
+    private final int statusCode;
+    private final String statusLine;
+    private final Headers headers;
+    private final byte[] body;
+
+    public StoredResponse(int statusCode, String statusLine, Headers headers, byte[] body) {
+        notNull(statusLine, "Status line");
+        notNull(headers, Headers.class);
+        notNull(body, "Body");
+        this.statusCode = statusCode;
+        this.statusLine = statusLine;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    /**
+     * Read the body of the response into memory and store it together with the status and headers.
+     *
+     * @param response The response
+     * @return A new stored response
+     */
+    public static StoredResponse of(Response response) {
+        notNull(response, Response.class);
+        return new StoredResponse(response.statusCode(), response.statusLine(), response.headers(), response.asByteArray());
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getStatusLine() {
+        return statusLine;
+    }
+
+    public Headers getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Create a new response from the stored response, configured as if it had been received for the supplied request.
+     *
+     * @param requestSpec  The request specification
+     * @param responseSpec The response specification
+     * @return A new response
+     */
+    public Response toResponse(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec) {
+        return toResponse(requestSpec, responseSpec, headers);
+    }
+
+    /**
+     * Create a new response from the stored response using other headers than the stored ones (for example the headers of a
+     * <code>304 Not Modified</code> response that revalidated the stored response).
+     *
+     * @param requestSpec  The request specification
+     * @param responseSpec The response specification
+     * @param headers      The headers of the response
+     * @return A new response
+     */
+    public Response toResponse(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, Headers headers) {
+        final ResponseBuilder builder = new ResponseBuilder().setStatusCode(statusCode).setStatusLine(statusLine).setBody(body);
+        final String contentType = headers.getValue(CONTENT_TYPE);
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        builder.setHeaders(headers);
+        if (headers.hasHeaderWithName(SET_COOKIE)) {
+            builder.setCookies(CookieMatcher.getCookies(headers.getValues(SET_COOKIE)));
+        }
+
+        final RestAssuredResponseImpl response = (RestAssuredResponseImpl) builder.build();
+        final RestAssuredConfig config = requestSpec.getConfig() == null ? new RestAssuredConfig() : requestSpec.getConfig();
+        response.setConfig(config);
+        response.setDecoderConfig(config.getDecoderConfig());
+        response.setSessionIdName(config.getSessionConfig().sessionIdName());
+        // The body is already in memory so it can be read any number of times
+        response.setHasExpectations(true);
+        if (responseSpec instanceof ResponseSpecificationImpl) {
+            final ResponseSpecificationImpl responseSpecImpl = (ResponseSpecificationImpl) responseSpec;
+            final ResponseParserRegistrar rpr = responseSpecImpl.getRpr();
+            if (rpr != null) {
+                response.setRpr(rpr);
+                final Parser defaultParser = rpr.getDefaultParser();
+                response.setDefaultContentType(defaultParser == null ? null : defaultParser.getContentType());
+            }
+            response.setLogRepository(responseSpecImpl.getLogRepository());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import com.jayway.restassured.config.ContentCompressor;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.message.BasicHeader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Entity that compresses the wrapped entity while it's being written so that the compressed body is never buffered in memory.
+ */
+public class CompressingEntity extends HttpEntityWrapper {
+
+    private final ContentCompressor compressor;
+
+    public CompressingEntity(HttpEntity entity, ContentCompressor compressor) {
+        super(entity);
+        this.compressor = compressor;
+    }
+
+    @Override
+    public Header getContentEncoding() {
+        return new BasicHeader(ContentEncoding.CONTENT_ENC_HDR, compressor.contentEncoding());
+    }
+
+    /**
+     * @return -1 since the length of the compressed content is not known until it has been written
+     */
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public boolean isChunked() {
+        return true;
+    }
+
+    /**
+     * The compressed content. Note that this buffers the compressed content in memory, it's only used when the content is
+     * read instead of written, e.g. when the entity is logged.
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeTo(outputStream);
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        OutputStream compressingStream = compressor.compress(new NonClosingOutputStream(outputStream));
+        try {
+            wrappedEntity.writeTo(compressingStream);
+        } finally {
+            compressingStream.close();
+        }
+    }
+
+    /**
+     * Prevents the compressor from closing the connection stream when it finishes.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -22,8 +22,6 @@ import org.apache.http.entity.HttpEntityWrapper;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.Inflater;
-import java.util.zip.InflaterInputStream;
 
 /**
  * Content encoding used to handle Deflate responses.
@@ -71,13 +69,14 @@ public class DeflateEncoding extends ContentEncoding {
         }
 
         /**
-         * returns a {@link InflaterInputStream} which wraps the original entity's content stream
+         * returns a stream that decompresses the original entity's content stream using a pooled {@link java.util.zip.Inflater}
+         * that is returned to the pool once the content has been read or the stream is closed
          *
          * @see HttpEntity#getContent()
          */
         @Override
         public InputStream getContent() throws IOException, IllegalStateException {
-            return new InflaterInputStream(wrappedEntity.getContent(), new Inflater(useNoWrapForInflateDecoding));
+            return PooledInflaterInputStream.deflate(wrappedEntity.getContent(), useNoWrapForInflateDecoding);
         }
 
         /**
@@ -19,6 +19,7 @@ package com.jayway.restassured.internal.http;
 import com.jayway.restassured.config.EncoderConfig;
 import com.jayway.restassured.http.ContentType;
 import com.jayway.restassured.internal.http.HTTPBuilder.RequestConfigDelegate;
+import com.jayway.restassured.internal.mapping.StreamingSerializedBody;
 import groovy.json.JsonBuilder;
 import groovy.lang.Closure;
 import groovy.lang.GString;
@@ -29,7 +30,9 @@ import org.apache.http.HttpEntity;
 import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.entity.AbstractHttpEntity;
 import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.FileEntity;
 import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.message.BasicNameValuePair;
@@ -39,8 +42,6 @@ import org.codehaus.groovy.runtime.MethodClosure;
 import java.io.*;
 import java.util.*;
 
-import static com.jayway.restassured.internal.support.FileReader.readToString;
-
 
 /**
  * <p>This class handles creation of the request body (i.e. for a
@@ -82,35 +83,26 @@ public class EncoderRegistry {
      * types are:
      * <ul>
      * <li>InputStream</li>
+     * <li>File</li>
      * <li>byte[] / ByteArrayOutputStream</li>
      * <li>Closure</li>
      * </ul>
      * If a closure is given, it is executed with an OutputStream passed
      * as the single closure argument.  Any data sent to the stream from the
      * body of the closure is used as the request content body.
+     * <p/>
+     * Files and streams are never read into memory, they're streamed to the server
+     * (using chunked transfer encoding if the length is unknown).
      *
      * @param data
      * @return an {@link HttpEntity} encapsulating this request data
      * @throws UnsupportedEncodingException
      */
-    public InputStreamEntity encodeStream(Object contentType, Object data) throws UnsupportedEncodingException {
-        InputStreamEntity entity = null;
+    public AbstractHttpEntity encodeStream(Object contentType, Object data) throws UnsupportedEncodingException {
+        AbstractHttpEntity entity = null;
 
-        if (data instanceof ByteArrayInputStream) {
-            // special case for ByteArrayIS so that we can set the content length.
-            ByteArrayInputStream in = ((ByteArrayInputStream) data);
-            entity = new InputStreamEntity(in, in.available());
-        } else if (data instanceof InputStream) {
-            entity = new InputStreamEntity((InputStream) data, -1);
-        } else if (data instanceof File) {
-            FileInputStream fileInputStream;
-            File file = (File) data;
-            try {
-                fileInputStream = new FileInputStream(file);
-            } catch (FileNotFoundException e) {
-                throw new RuntimeException("File " + file.getPath() + " not found", e);
-            }
-            entity = new InputStreamEntity(fileInputStream, -1);
+        if (data instanceof InputStream || data instanceof File) {
+            return createStreamingEntity(contentTypeToString(contentType), data);
         } else if (data instanceof byte[]) {
             byte[] out = ((byte[]) data);
             entity = new InputStreamEntity(new ByteArrayInputStream(
@@ -166,8 +158,8 @@ public class EncoderRegistry {
             data = out;
         } else if (data instanceof Reader && !(data instanceof BufferedReader)) {
             data = new BufferedReader((Reader) data);
-        } else if (data instanceof File) {
-            data = toString((File) data, contentTypeAsString);
+        } else if (data instanceof File || data instanceof InputStream) {
+            return createStreamingEntity(contentTypeAsString, data);
         }
         if (data instanceof BufferedReader) {
             StringWriter out = new StringWriter();
@@ -208,8 +200,9 @@ public class EncoderRegistry {
     }
 
     /**
-     * Accepts a String as a url-encoded form post.  This method assumes the
-     * String is an already-encoded POST string.
+     * Accepts a String (or an object whose <code>toString</code> is used) as a
+     * url-encoded form post.  This method assumes the String is an
+     * already-encoded POST string.
      *
      * @param formData a url-encoded form POST string.  See
      *                 <a href='http://www.w3.org/TR/html401/interact/forms.html#h-17.13.4.1'>
@@ -217,7 +210,7 @@ public class EncoderRegistry {
      * @return an {@link HttpEntity} encapsulating this request data
      * @throws UnsupportedEncodingException
      */
-    public HttpEntity encodeForm(Object contentType, String formData) throws UnsupportedEncodingException {
+    public HttpEntity encodeForm(Object contentType, Object formData) throws UnsupportedEncodingException {
         return this.createEntity(contentTypeToString(contentType), formData);
     }
 
@@ -235,8 +228,8 @@ public class EncoderRegistry {
         if (xml instanceof Closure) {
             StreamingMarkupBuilder smb = new StreamingMarkupBuilder();
             xml = smb.bind(xml);
-        } else if (xml instanceof File) {
-            xml = toString((File) xml, contentTypeAsString);
+        } else if (xml instanceof File || xml instanceof InputStream) {
+            return createStreamingEntity(contentTypeAsString, xml);
         }
         return createEntity(contentTypeAsString, xml);
     }
@@ -280,10 +273,10 @@ public class EncoderRegistry {
             Closure closure = (Closure) model;
             closure.setDelegate(new JsonBuilder());
             json = closure.call();
-        } else if (model instanceof String || model instanceof GString || model instanceof byte[]) {
+        } else if (model instanceof String || model instanceof GString || model instanceof byte[] || model instanceof StreamingSerializedBody) {
             json = model; // assume valid JSON already.
-        } else if (model instanceof File) {
-            json = toString((File) model, contentTypeAsString);
+        } else if (model instanceof File || model instanceof InputStream) {
+            return createStreamingEntity(contentTypeAsString, model);
         } else {
             throw new UnsupportedOperationException("Internal error: Can't encode " + model + " to JSON.");
         }
@@ -294,11 +287,53 @@ public class EncoderRegistry {
     private HttpEntity createEntity(String ct, Object object) throws UnsupportedEncodingException {
         if (object instanceof byte[]) {
             return createEntity(ct, (byte[]) object);
+        } else if (object instanceof StreamingSerializedBody) {
+            return createEntity(ct, (StreamingSerializedBody) object);
         } else {
             return createEntity(ct, object.toString());
         }
     }
 
+    /**
+     * Create an entity that streams a file or an input stream to the server without reading it into memory.
+     * The content of a file is sent as is, i.e. it's assumed to be encoded using the charset of the content-type.
+     * Streams of unknown length are sent using chunked transfer encoding.
+     */
+    private AbstractHttpEntity createStreamingEntity(String ct, Object data) {
+        final AbstractHttpEntity entity;
+        if (data instanceof File) {
+            File file = (File) data;
+            if (!file.isFile()) {
+                throw new RuntimeException("File " + file.getPath() + " not found", new FileNotFoundException(file.getPath()));
+            }
+            entity = new FileEntity(file);
+        } else if (data instanceof ByteArrayInputStream) {
+            // special case for ByteArrayIS so that we can set the content length.
+            ByteArrayInputStream in = ((ByteArrayInputStream) data);
+            entity = new InputStreamEntity(in, in.available());
+        } else {
+            entity = new InputStreamEntity((InputStream) data, -1);
+            entity.setChunked(true);
+        }
+        entity.setContentType(ct);
+        return entity;
+    }
+
+    /**
+     * Create an entity that serializes the object when it's written to the server. The object is serialized to a String first
+     * if it has already been serialized (for example by a filter that logs the request body) or if the object mapper cannot
+     * write the object using the charset of the content-type.
+     */
+    private HttpEntity createEntity(String ct, StreamingSerializedBody body) throws UnsupportedEncodingException {
+        String charset = findCharset(ct);
+        if (body.isSerialized() || !body.canBeWrittenAs(charset)) {
+            return createEntity(ct, body.asString());
+        }
+        SerializingEntity entity = new SerializingEntity(body, charset);
+        entity.setContentType(ct);
+        return entity;
+    }
+
     protected HttpEntity createEntity(String ct, byte[] byteArray) {
         final ByteArrayEntity byteArrayEntity = new ByteArrayEntity(byteArray);
         byteArrayEntity.setContentType(ct);
@@ -318,6 +353,12 @@ public class EncoderRegistry {
      */
     protected HttpEntity createEntity(String ct, String data)
             throws UnsupportedEncodingException {
+        StringEntity entity = new StringEntity(data, findCharset(ct));
+        entity.setContentType(ct);
+        return entity;
+    }
+
+    private String findCharset(String ct) {
         String charset = CharsetExtractor.getCharsetFromContentType(ct);
         if (charset == null) {
             if (encoderConfig.hasDefaultCharsetForContentType(ct)) {
@@ -326,9 +367,7 @@ public class EncoderRegistry {
                 charset = encoderConfig.defaultContentCharset();
             }
         }
-        StringEntity entity = new StringEntity(data, charset);
-        entity.setContentType(ct);
-        return entity;
+        return charset;
     }
 
     /**
@@ -452,9 +491,4 @@ public class EncoderRegistry {
     private String contentTypeToString(Object contentType) {
         return contentType == null ? null : contentType.toString();
     }
-
-    private String toString(File model, String contentTypeAsString) {
-        String charset = CharsetExtractor.getCharsetFromContentType(contentTypeAsString);
-        return readToString(model, charset == null ? encoderConfig.defaultCharsetForContentType(contentTypeAsString) : charset);
-    }
-}
\ No newline at end of file
+}
\ No newline at end of file
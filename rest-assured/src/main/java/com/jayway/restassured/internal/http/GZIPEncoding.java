@@ -21,7 +21,6 @@ import org.apache.http.entity.HttpEntityWrapper;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.GZIPInputStream;
 
 /**
  * Content encoding used to handle GZIP responses.
@@ -57,13 +56,14 @@ public class GZIPEncoding extends ContentEncoding {
         }
     
         /**
-         * returns a {@link GZIPInputStream} which wraps the original entity's
-         * content stream
+         * returns a stream that decompresses the original entity's content
+         * stream using a pooled {@link java.util.zip.Inflater} that is returned
+         * to the pool once the content has been read or the stream is closed
          * @see HttpEntity#getContent()
          */
         @Override
         public InputStream getContent() throws IOException, IllegalStateException {
-            return new GZIPInputStream( wrappedEntity.getContent() );
+            return PooledInflaterInputStream.gzip( wrappedEntity.getContent() );
         }
 
         /**
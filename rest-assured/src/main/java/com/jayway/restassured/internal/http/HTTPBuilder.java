@@ -515,6 +515,25 @@ public abstract class HTTPBuilder {
     protected abstract Object doRequest(final RequestConfigDelegate delegate)
             throws ClientProtocolException, IOException;
 
+    /**
+     * Compress the body of the request if request body compression is enabled in the {@link EncoderConfig}. This must be called after
+     * all headers have been added to the request since a body whose <code>Content-Encoding</code> header has been set explicitly is
+     * left untouched.
+     *
+     * @param request The request
+     */
+    protected void compressRequestBodyIfConfigured(HttpRequestBase request) {
+        if (!encoderConfig.shouldCompressRequestBody() || !(request instanceof HttpEntityEnclosingRequest)
+                || request.containsHeader(ContentEncoding.CONTENT_ENC_HDR)) {
+            return;
+        }
+        HttpEntityEnclosingRequest entityEnclosingRequest = (HttpEntityEnclosingRequest) request;
+        HttpEntity entity = entityEnclosingRequest.getEntity();
+        if (entity != null && entity.getContentEncoding() == null) {
+            entityEnclosingRequest.setEntity(new CompressingEntity(entity, encoderConfig.requestBodyCompressor()));
+        }
+    }
+
 
     /**
      * Parse the response data based on the given content-type.
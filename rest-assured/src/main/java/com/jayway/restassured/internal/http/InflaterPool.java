@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Inflater;
+
+/**
+ * A bounded pool of {@link Inflater}s and decompression buffers that are shared by all responses. Creating a new {@link Inflater} for each
+ * response allocates native memory that is only reclaimed by the finalizer unless the inflater is ended explicitly. Pooled inflaters are
+ * reset when they're returned to the pool and inflaters that don't fit in the pool are ended immediately.
+ */
+class InflaterPool {
+    static final int BUFFER_SIZE = 8192;
+    private static final int MAX_POOL_SIZE = 64;
+
+    private static final InflaterPool ZLIB = new InflaterPool(false);
+    private static final InflaterPool NO_WRAP = new InflaterPool(true);
+
+    private static final Queue<byte[]> buffers = new ConcurrentLinkedQueue<byte[]>();
+    private static final AtomicInteger numberOfPooledBuffers = new AtomicInteger();
+
+    private final boolean nowrap;
+    private final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<Inflater>();
+    private final AtomicInteger numberOfPooledInflaters = new AtomicInteger();
+
+    private InflaterPool(boolean nowrap) {
+        this.nowrap = nowrap;
+    }
+
+    /**
+     * @param nowrap <code>true</code> for inflaters that decode raw deflate data (without the zlib header and checksum), as used by GZIP.
+     * @return The pool of inflaters with the given <code>nowrap</code> setting
+     */
+    static InflaterPool inflaterPool(boolean nowrap) {
+        return nowrap ? NO_WRAP : ZLIB;
+    }
+
+    Inflater acquire() {
+        Inflater inflater = inflaters.poll();
+        if (inflater == null) {
+            return new Inflater(nowrap);
+        }
+        numberOfPooledInflaters.decrementAndGet();
+        return inflater;
+    }
+
+    void release(Inflater inflater) {
+        if (numberOfPooledInflaters.incrementAndGet() <= MAX_POOL_SIZE) {
+            inflater.reset();
+            inflaters.offer(inflater);
+        } else {
+            numberOfPooledInflaters.decrementAndGet();
+            inflater.end();
+        }
+    }
+
+    static byte[] acquireBuffer() {
+        byte[] buffer = buffers.poll();
+        if (buffer == null) {
+            return new byte[BUFFER_SIZE];
+        }
+        numberOfPooledBuffers.decrementAndGet();
+        return buffer;
+    }
+
+    static void releaseBuffer(byte[] buffer) {
+        if (numberOfPooledBuffers.incrementAndGet() <= MAX_POOL_SIZE) {
+            buffers.offer(buffer);
+        } else {
+            numberOfPooledBuffers.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Decompresses GZIP, zlib or raw deflate data using an {@link Inflater} and a buffer borrowed from the {@link InflaterPool}. Both are
+ * returned to the pool as soon as the end of the compressed data has been reached or the stream is closed, whichever comes first, so that
+ * they can be reused by the next response.
+ */
+class PooledInflaterInputStream extends InputStream {
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int DEFLATE_METHOD = 8;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private final InputStream in;
+    private final InflaterPool pool;
+    private final CRC32 crc;
+    private Inflater inflater;
+    private byte[] buffer;
+    private int bufferPosition;
+    private int bufferLength;
+    private boolean headerRead;
+    private boolean eof;
+    private boolean closed;
+    private final byte[] singleByte = new byte[1];
+
+    private PooledInflaterInputStream(InputStream in, boolean gzip, boolean nowrap) {
+        this.in = in;
+        this.pool = InflaterPool.inflaterPool(nowrap);
+        this.crc = gzip ? new CRC32() : null;
+        this.headerRead = !gzip;
+        this.inflater = pool.acquire();
+        this.buffer = InflaterPool.acquireBuffer();
+    }
+
+    /**
+     * @param in The GZIP compressed stream
+     * @return A stream that decompresses the given GZIP stream
+     */
+    static PooledInflaterInputStream gzip(InputStream in) {
+        return new PooledInflaterInputStream(in, true, true);
+    }
+
+    /**
+     * @param in     The deflate compressed stream
+     * @param nowrap <code>true</code> if the stream contains raw deflate data without the zlib header and checksum
+     * @return A stream that decompresses the given deflate stream
+     */
+    static PooledInflaterInputStream deflate(InputStream in, boolean nowrap) {
+        return new PooledInflaterInputStream(in, false, nowrap);
+    }
+
+    @Override
+    public int read() throws IOException {
+        return read(singleByte, 0, 1) == -1 ? -1 : singleByte[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        } else if (len == 0) {
+            return 0;
+        } else if (eof) {
+            return -1;
+        }
+
+        if (!headerRead) {
+            if (!readGzipHeader(true)) {
+                return endOfStream();
+            }
+            headerRead = true;
+        }
+
+        try {
+            int read;
+            while ((read = inflater.inflate(b, off, len)) == 0) {
+                if (inflater.finished() || inflater.needsDictionary()) {
+                    if (crc == null || !readGzipTrailer()) {
+                        return endOfStream();
+                    }
+                } else if (inflater.needsInput()) {
+                    fill();
+                }
+            }
+            if (crc != null) {
+                crc.update(b, off, read);
+            }
+            return read;
+        } catch (DataFormatException e) {
+            String message = e.getMessage();
+            throw new ZipException(message == null ? "Invalid compressed data format" : message);
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return eof ? 0 : 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            releaseResources();
+            in.close();
+        }
+    }
+
+    private int endOfStream() {
+        eof = true;
+        releaseResources();
+        return -1;
+    }
+
+    private void releaseResources() {
+        if (inflater != null) {
+            pool.release(inflater);
+            inflater = null;
+        }
+        if (buffer != null) {
+            InflaterPool.releaseBuffer(buffer);
+            buffer = null;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private void fill() throws IOException {
+        bufferLength = in.read(buffer, 0, buffer.length);
+        bufferPosition = 0;
+        if (bufferLength == -1) {
+            bufferLength = 0;
+            throw new EOFException("Unexpected end of compressed input stream");
+        }
+        inflater.setInput(buffer, 0, bufferLength);
+    }
+
+    /**
+     * Reads the GZIP member header and passes the rest of the buffered input to the inflater.
+     *
+     * @param firstMember <code>true</code> if this is the first member of the stream, in which case an empty stream is accepted
+     * @return <code>false</code> if the stream is empty
+     */
+    private boolean readGzipHeader(boolean firstMember) throws IOException {
+        if (firstMember && bufferPosition >= bufferLength && !fillHeaderBuffer()) {
+            return false;
+        }
+        if (readUnsignedShort() != GZIP_MAGIC) {
+            throw new ZipException("Not in GZIP format");
+        }
+        if (readUnsignedByte() != DEFLATE_METHOD) {
+            throw new ZipException("Unsupported compression method");
+        }
+        int flags = readUnsignedByte();
+        // Modification time, extra flags and operating system
+        skipBytes(6);
+        if ((flags & FEXTRA) == FEXTRA) {
+            skipBytes(readUnsignedShort());
+        }
+        if ((flags & FNAME) == FNAME) {
+            skipZeroTerminatedString();
+        }
+        if ((flags & FCOMMENT) == FCOMMENT) {
+            skipZeroTerminatedString();
+        }
+        if ((flags & FHCRC) == FHCRC) {
+            skipBytes(2);
+        }
+        if (bufferPosition < bufferLength) {
+            inflater.setInput(buffer, bufferPosition, bufferLength - bufferPosition);
+        }
+        return true;
+    }
+
+    /**
+     * Verifies the GZIP member trailer and starts on the next member if the stream contains more members.
+     *
+     * @return <code>true</code> if another member follows
+     */
+    private boolean readGzipTrailer() throws IOException {
+        bufferPosition = bufferLength - inflater.getRemaining();
+        if (readUnsignedInt() != crc.getValue()) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+        if (readUnsignedInt() != (inflater.getBytesWritten() & 0xffffffffL)) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+        if (bufferPosition >= bufferLength && in.available() <= 0) {
+            return false;
+        }
+        inflater.reset();
+        crc.reset();
+        try {
+            return readGzipHeader(false);
+        } catch (IOException e) {
+            // Trailing garbage after the last member is ignored (the same way as in java.util.zip.GZIPInputStream)
+            return false;
+        }
+    }
+
+    private boolean fillHeaderBuffer() throws IOException {
+        int read = in.read(buffer, 0, buffer.length);
+        if (read == -1) {
+            return false;
+        }
+        bufferPosition = 0;
+        bufferLength = read;
+        return true;
+    }
+
+    private int readUnsignedByte() throws IOException {
+        while (bufferPosition >= bufferLength) {
+            if (!fillHeaderBuffer()) {
+                throw new EOFException("Unexpected end of GZIP input stream");
+            }
+        }
+        return buffer[bufferPosition++] & 0xff;
+    }
+
+    private int readUnsignedShort() throws IOException {
+        return readUnsignedByte() | (readUnsignedByte() << 8);
+    }
+
+    private long readUnsignedInt() throws IOException {
+        return ((long) readUnsignedShort()) | ((long) readUnsignedShort() << 16);
+    }
+
+    private void skipBytes(int numberOfBytes) throws IOException {
+        for (int i = 0; i < numberOfBytes; i++) {
+            readUnsignedByte();
+        }
+    }
+
+    private void skipZeroTerminatedString() throws IOException {
+        while (readUnsignedByte() != 0) {
+            // Skip
+        }
+    }
+}
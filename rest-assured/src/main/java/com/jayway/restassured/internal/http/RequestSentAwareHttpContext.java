@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import org.apache.http.protocol.ExecutionContext;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * A {@link HttpContext} that delegates all calls to another context but records the time (using {@link System#nanoTime()}) when
+ * HTTP Client marks the request as completely sent to the server. This allows us to separate the time it takes to
+ * write the request from the time spent waiting for the server to respond.
+ */
+public class RequestSentAwareHttpContext implements HttpContext {
+    public static final long NOT_SENT = -1;
+
+    private final HttpContext delegate;
+    private volatile long requestSentNanoTime = NOT_SENT;
+
+    public RequestSentAwareHttpContext(HttpContext delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate http context cannot be null");
+        }
+        this.delegate = delegate;
+    }
+
+    public Object getAttribute(String name) {
+        return delegate.getAttribute(name);
+    }
+
+    public void setAttribute(String name, Object value) {
+        if (ExecutionContext.HTTP_REQ_SENT.equals(name) && Boolean.TRUE.equals(value)) {
+            // The request may be sent several times (for example when following redirects), we're interested in the last one
+            requestSentNanoTime = System.nanoTime();
+        }
+        delegate.setAttribute(name, value);
+    }
+
+    public Object removeAttribute(String name) {
+        return delegate.removeAttribute(name);
+    }
+
+    /**
+     * @return The value of {@link System#nanoTime()} when the request was sent or {@value #NOT_SENT} if it hasn't been sent.
+     */
+    public long getRequestSentNanoTime() {
+        return requestSentNanoTime;
+    }
+}
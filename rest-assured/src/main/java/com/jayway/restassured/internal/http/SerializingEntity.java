@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import com.jayway.restassured.internal.mapping.StreamingSerializedBody;
+import org.apache.http.entity.AbstractHttpEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Entity that serializes an object directly to the connection when the request is sent. The entity is repeatable since the object
+ * is simply serialized again. It's sent using chunked transfer encoding since the length isn't known until the object has been serialized.
+ */
+class SerializingEntity extends AbstractHttpEntity {
+
+    private final StreamingSerializedBody body;
+    private final String charset;
+
+    SerializingEntity(StreamingSerializedBody body, String charset) {
+        this.body = body;
+        this.charset = charset;
+        setChunked(true);
+    }
+
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    public long getContentLength() {
+        return -1;
+    }
+
+    /**
+     * The serialized object. Note that this serializes the object in memory, it's only used when the content is read instead of
+     * written.
+     */
+    public InputStream getContent() throws IOException {
+        return new ByteArrayInputStream(body.asString().getBytes(charset));
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        body.writeTo(outputStream, charset);
+    }
+
+    public boolean isStreaming() {
+        return false;
+    }
+}
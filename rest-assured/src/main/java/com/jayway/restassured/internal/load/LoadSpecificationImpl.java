@@ -0,0 +1,276 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.load;
+
+import com.jayway.restassured.RestAssured;
+import com.jayway.restassured.config.HttpClientConfig;
+import com.jayway.restassured.config.RestAssuredConfig;
+import com.jayway.restassured.filter.time.LatencyHistogram;
+import com.jayway.restassured.filter.time.TimingFilter;
+import com.jayway.restassured.http.Method;
+import com.jayway.restassured.response.LoadResult;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.LoadSpecification;
+import com.jayway.restassured.specification.RequestSpecification;
+import com.jayway.restassured.specification.ResponseSpecification;
+import org.apache.commons.lang3.Validate;
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.jayway.restassured.internal.assertion.AssertParameter.notNull;
+
+/**
+ * Replays a request specification from multiple threads. Each request is sent from a new request specification that is merged with the
+ * supplied one so that the supplied specification is never mutated concurrently. All threads share a single http client backed by a
+ * pooled connection manager and the response body is always consumed so that connections are returned to the pool.
+ */
+public class LoadSpecificationImpl implements LoadSpecification {
+    private static final int DEFAULT_CONCURRENCY = 1;
+    private static final long DEFAULT_DURATION_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long NO_RATE = 0;
+
+    private final RequestSpecification requestSpecification;
+    private ResponseSpecification responseSpecification;
+    private int concurrency = DEFAULT_CONCURRENCY;
+    private long intervalNanos = NO_RATE;
+    private long durationNanos = DEFAULT_DURATION_NANOS;
+    private int warmUpRequests = 0;
+
+    public LoadSpecificationImpl(RequestSpecification requestSpecification) {
+        notNull(requestSpecification, RequestSpecification.class);
+        this.requestSpecification = requestSpecification;
+    }
+
+    public LoadSpecification expect(ResponseSpecification responseSpecification) {
+        notNull(responseSpecification, ResponseSpecification.class);
+        this.responseSpecification = responseSpecification;
+        return this;
+    }
+
+    public LoadSpecification withConcurrency(int numberOfThreads) {
+        Validate.isTrue(numberOfThreads > 0, "Concurrency must be greater than 0");
+        this.concurrency = numberOfThreads;
+        return this;
+    }
+
+    public LoadSpecification atRate(long numberOfRequests, TimeUnit perTimeUnit) {
+        Validate.isTrue(numberOfRequests > 0, "Number of requests must be greater than 0");
+        notNull(perTimeUnit, TimeUnit.class);
+        this.intervalNanos = Math.max(1, perTimeUnit.toNanos(1) / numberOfRequests);
+        return this;
+    }
+
+    public LoadSpecification during(long duration, TimeUnit timeUnit) {
+        Validate.isTrue(duration > 0, "Duration must be greater than 0");
+        notNull(timeUnit, TimeUnit.class);
+        this.durationNanos = timeUnit.toNanos(duration);
+        return this;
+    }
+
+    public LoadSpecification warmUp(int numberOfRequests) {
+        Validate.isTrue(numberOfRequests >= 0, "Number of warm-up requests cannot be negative");
+        this.warmUpRequests = numberOfRequests;
+        return this;
+    }
+
+    public LoadSpecification and() {
+        return this;
+    }
+
+    public LoadResult get(String path, Object... pathParams) {
+        return run(Method.GET, path, pathParams);
+    }
+
+    public LoadResult post(String path, Object... pathParams) {
+        return run(Method.POST, path, pathParams);
+    }
+
+    public LoadResult put(String path, Object... pathParams) {
+        return run(Method.PUT, path, pathParams);
+    }
+
+    public LoadResult delete(String path, Object... pathParams) {
+        return run(Method.DELETE, path, pathParams);
+    }
+
+    public LoadResult head(String path, Object... pathParams) {
+        return run(Method.HEAD, path, pathParams);
+    }
+
+    public LoadResult patch(String path, Object... pathParams) {
+        return run(Method.PATCH, path, pathParams);
+    }
+
+    public LoadResult options(String path, Object... pathParams) {
+        return run(Method.OPTIONS, path, pathParams);
+    }
+
+    private LoadResult run(final Method method, final String path, final Object[] pathParams) {
+        notNull(path, "Path");
+        final PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager();
+        connectionManager.setMaxTotal(concurrency);
+        connectionManager.setDefaultMaxPerRoute(concurrency);
+        final RestAssuredConfig config = pooledConfig(new DefaultHttpClient(connectionManager));
+        try {
+            for (int i = 0; i < warmUpRequests; i++) {
+                try {
+                    send(config, method, path, pathParams);
+                } catch (Throwable ignored) {
+                    // Failures during warm-up are not part of the result
+                }
+            }
+            return measure(config, method, path, pathParams);
+        } finally {
+            connectionManager.shutdown();
+        }
+    }
+
+    private LoadResult measure(final RestAssuredConfig config, final Method method, final String path, final Object[] pathParams) {
+        final LatencyHistogram latencies = new LatencyHistogram();
+        final AtomicLong numberOfRequests = new AtomicLong();
+        final AtomicLong numberOfValidationFailures = new AtomicLong();
+        final AtomicLong numberOfErrors = new AtomicLong();
+        final AtomicReference<Throwable> firstFailure = new AtomicReference<Throwable>();
+        final AtomicLong sequence = new AtomicLong();
+        final AtomicLong startTime = new AtomicLong();
+        final CountDownLatch startSignal = new CountDownLatch(1);
+
+        Thread[] threads = new Thread[concurrency];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                public void run() {
+                    try {
+                        startSignal.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    final long start = startTime.get();
+                    final long deadline = start + durationNanos;
+                    while (!Thread.currentThread().isInterrupted()) {
+                        final long intendedStartTime;
+                        if (intervalNanos == NO_RATE) {
+                            intendedStartTime = System.nanoTime();
+                        } else {
+                            // Latency is measured from when the request should have been sent to avoid coordinated omission
+                            intendedStartTime = start + sequence.getAndIncrement() * intervalNanos;
+                            if (intendedStartTime < deadline) {
+                                waitUntil(intendedStartTime);
+                            }
+                        }
+                        if (intendedStartTime >= deadline) {
+                            return;
+                        }
+
+                        try {
+                            send(config, method, path, pathParams);
+                        } catch (AssertionError e) {
+                            numberOfValidationFailures.incrementAndGet();
+                            firstFailure.compareAndSet(null, e);
+                        } catch (Exception e) {
+                            numberOfErrors.incrementAndGet();
+                            firstFailure.compareAndSet(null, e);
+                        } finally {
+                            latencies.recordValue(System.nanoTime() - intendedStartTime);
+                            numberOfRequests.incrementAndGet();
+                        }
+                    }
+                }
+            }, "rest-assured-load-" + (i + 1));
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+
+        startTime.set(System.nanoTime());
+        startSignal.countDown();
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load test was interrupted", e);
+        }
+        long duration = System.nanoTime() - startTime.get();
+        return new LoadResult(numberOfRequests.get(), numberOfValidationFailures.get(), numberOfErrors.get(), duration, latencies, firstFailure.get());
+    }
+
+    private void send(RestAssuredConfig config, Method method, String path, Object[] pathParams) {
+        // Always consume the body so that the connection is released back to the pool before validation
+        RequestSpecification request = RestAssured.given().spec(requestSpecification).config(config).filter(new TimingFilter(true));
+        if (responseSpecification != null) {
+            request.response().spec(responseSpecification);
+        }
+        switch (method) {
+            case GET:
+                request.get(path, pathParams);
+                break;
+            case POST:
+                request.post(path, pathParams);
+                break;
+            case PUT:
+                request.put(path, pathParams);
+                break;
+            case DELETE:
+                request.delete(path, pathParams);
+                break;
+            case HEAD:
+                request.head(path, pathParams);
+                break;
+            case PATCH:
+                request.patch(path, pathParams);
+                break;
+            case OPTIONS:
+                request.options(path, pathParams);
+                break;
+            default:
+                throw new IllegalArgumentException("Method " + method + " is not supported when running a load test");
+        }
+    }
+
+    private RestAssuredConfig pooledConfig(final HttpClient httpClient) {
+        RestAssuredConfig config = null;
+        if (requestSpecification instanceof FilterableRequestSpecification) {
+            config = ((FilterableRequestSpecification) requestSpecification).getConfig();
+        }
+        if (config == null) {
+            config = RestAssured.config();
+        }
+        HttpClientConfig httpClientConfig = config.getHttpClientConfig().httpClientFactory(new HttpClientConfig.HttpClientFactory() {
+            public HttpClient createHttpClient() {
+                return httpClient;
+            }
+        });
+        return config.httpClient(httpClientConfig);
+    }
+
+    private static void waitUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -16,33 +16,104 @@
 
 package com.jayway.restassured.internal.log;
 
+import com.jayway.restassured.filter.log.LogDetail;
+import com.jayway.restassured.internal.print.RequestPrinter;
+import com.jayway.restassured.internal.print.RequestSnapshot;
+import com.jayway.restassured.internal.print.ResponsePrinter;
+import com.jayway.restassured.response.ResponseBody;
+import com.jayway.restassured.response.ResponseOptions;
+
 import java.io.ByteArrayOutputStream;
 
+/**
+ * Keeps the request and response that should be logged if validation fails. Requests and responses are registered by reference and
+ * are only formatted if the log is actually requested, i.e. when validation fails.
+ */
 public class LogRepository {
 
     private static final String EMPTY = "";
-    private ByteArrayOutputStream requestLog;
-    private ByteArrayOutputStream responseLog;
+    // The log used to be printed using PrintStream#println so the line separator is retained
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+    private Log requestLog;
+    private Log responseLog;
 
     public void registerRequestLog(ByteArrayOutputStream baos) {
-        this.requestLog = baos;
+        this.requestLog = new OutputStreamLog(baos);
     }
 
     public void registerResponseLog(ByteArrayOutputStream baos) {
-        this.responseLog = baos;
+        this.responseLog = new OutputStreamLog(baos);
+    }
+
+    public void registerRequestLog(RequestSnapshot request, LogDetail logDetail, boolean shouldPrettyPrint) {
+        this.requestLog = new RequestLog(request, logDetail, shouldPrettyPrint);
+    }
+
+    public void registerResponseLog(ResponseOptions responseOptions, ResponseBody responseBody, LogDetail logDetail, boolean shouldPrettyPrint) {
+        this.responseLog = new ResponseLog(responseOptions, responseBody, logDetail, shouldPrettyPrint);
     }
 
     public String getRequestLog() {
         if (requestLog == null) {
             return EMPTY;
         }
-        return requestLog.toString();
+        return requestLog.asString();
     }
 
     public String getResponseLog() {
         if (responseLog == null) {
             return EMPTY;
         }
-        return responseLog.toString();
+        return responseLog.asString();
+    }
+
+    private interface Log {
+        String asString();
+    }
+
+    private static class OutputStreamLog implements Log {
+        private final ByteArrayOutputStream baos;
+
+        OutputStreamLog(ByteArrayOutputStream baos) {
+            this.baos = baos;
+        }
+
+        public String asString() {
+            return baos.toString();
+        }
+    }
+
+    private static class RequestLog implements Log {
+        private final RequestSnapshot request;
+        private final LogDetail logDetail;
+        private final boolean shouldPrettyPrint;
+
+        RequestLog(RequestSnapshot request, LogDetail logDetail, boolean shouldPrettyPrint) {
+            this.request = request;
+            this.logDetail = logDetail;
+            this.shouldPrettyPrint = shouldPrettyPrint;
+        }
+
+        public String asString() {
+            return RequestPrinter.format(request, logDetail, shouldPrettyPrint) + LINE_SEPARATOR;
+        }
+    }
+
+    private static class ResponseLog implements Log {
+        private final ResponseOptions responseOptions;
+        private final ResponseBody responseBody;
+        private final LogDetail logDetail;
+        private final boolean shouldPrettyPrint;
+
+        ResponseLog(ResponseOptions responseOptions, ResponseBody responseBody, LogDetail logDetail, boolean shouldPrettyPrint) {
+            this.responseOptions = responseOptions;
+            this.responseBody = responseBody;
+            this.logDetail = logDetail;
+            this.shouldPrettyPrint = shouldPrettyPrint;
+        }
+
+        public String asString() {
+            return ResponsePrinter.format(responseOptions, responseBody, logDetail, shouldPrettyPrint) + LINE_SEPARATOR;
+        }
     }
 }
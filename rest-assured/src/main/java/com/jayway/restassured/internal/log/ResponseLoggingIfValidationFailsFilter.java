@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.log;
+
+import com.jayway.restassured.builder.ResponseBuilder;
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.filter.log.LogDetail;
+import com.jayway.restassured.internal.RestAssuredResponseImpl;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+import org.apache.commons.lang3.Validate;
+
+import static com.jayway.restassured.filter.log.LogDetail.*;
+
+/**
+ * Registers the response in the {@link LogRepository} so that it can be logged if validation fails. The body is read into memory (if
+ * it's going to be logged) but the response is not formatted unless validation actually fails.
+ */
+public class ResponseLoggingIfValidationFailsFilter implements Filter {
+
+    private final LogRepository logRepository;
+    private final LogDetail logDetail;
+    private final boolean shouldPrettyPrint;
+
+    public ResponseLoggingIfValidationFailsFilter(LogRepository logRepository, LogDetail logDetail, boolean shouldPrettyPrint) {
+        Validate.notNull(logRepository, "Log repository cannot be null");
+        Validate.notNull(logDetail, "Log details cannot be null");
+        if (logDetail == PARAMS || logDetail == PATH || logDetail == METHOD) {
+            throw new IllegalArgumentException(String.format("%s is not a valid %s for a response.", logDetail, LogDetail.class.getSimpleName()));
+        }
+        this.logRepository = logRepository;
+        this.logDetail = logDetail;
+        this.shouldPrettyPrint = shouldPrettyPrint;
+    }
+
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (logDetail == BODY || logDetail == ALL) {
+            response = bufferBody(response);
+        }
+        logRepository.registerResponseLog(response, response, logDetail, shouldPrettyPrint);
+        return response;
+    }
+
+    /*
+     * Read the body into memory so that it's still available if validation fails. If no body expectations are defined we need to
+     * return a new Response since the stream of the original response has been consumed.
+     */
+    private static Response bufferBody(Response response) {
+        final byte[] body = response.asByteArray();
+        if (response instanceof RestAssuredResponseImpl && !((RestAssuredResponseImpl) response).getHasExpectations()) {
+            final Response build = new ResponseBuilder().clone(response).setBody(body).build();
+            ((RestAssuredResponseImpl) build).setHasExpectations(true);
+            return build;
+        }
+        return response;
+    }
+}
@@ -45,44 +45,58 @@ public class RequestPrinter {
 
     public static String print(FilterableRequestSpecification requestSpec, String requestMethod, String completeRequestUri,
                                LogDetail logDetail, PrintStream stream, boolean shouldPrettyPrint) {
+        return print(RequestSnapshot.of(requestSpec, requestMethod, completeRequestUri), logDetail, stream, shouldPrettyPrint);
+    }
+
+    public static String print(RequestSnapshot request, LogDetail logDetail, PrintStream stream, boolean shouldPrettyPrint) {
+        final String logString = format(request, logDetail, shouldPrettyPrint);
+        stream.println(logString);
+        return logString;
+    }
+
+    /**
+     * Formats the request without printing it
+     *
+     * @return A string of representing the request
+     */
+    public static String format(RequestSnapshot request, LogDetail logDetail, boolean shouldPrettyPrint) {
         final StringBuilder builder = new StringBuilder();
         if (logDetail == ALL || logDetail == METHOD) {
-            addSingle(builder, "Request method:", requestMethod);
+            addSingle(builder, "Request method:", request.getMethod());
         }
         if (logDetail == ALL || logDetail == PATH) {
-            addSingle(builder, "Request path:", completeRequestUri);
+            addSingle(builder, "Request path:", request.getURI());
         }
         if (logDetail == ALL) {
-            addProxy(requestSpec, builder);
+            addProxy(request, builder);
         }
         if (logDetail == ALL || logDetail == PARAMS) {
-            addMapDetails(builder, "Request params:", requestSpec.getRequestParams());
-            addMapDetails(builder, "Query params:", requestSpec.getQueryParams());
-            addMapDetails(builder, "Form params:", requestSpec.getFormParams());
-            addMapDetails(builder, "Path params:", requestSpec.getNamedPathParams());
-            addMultiParts(requestSpec, builder);
+            addMapDetails(builder, "Request params:", request.getRequestParams());
+            addMapDetails(builder, "Query params:", request.getQueryParams());
+            addMapDetails(builder, "Form params:", request.getFormParams());
+            addMapDetails(builder, "Path params:", request.getNamedPathParams());
+            addMultiParts(request, builder);
         }
 
         if (logDetail == ALL || logDetail == HEADERS) {
-            addHeaders(requestSpec, builder);
+            addHeaders(request, builder);
         }
         if (logDetail == ALL || logDetail == COOKIES) {
-            addCookies(requestSpec, builder);
+            addCookies(request, builder);
         }
         if (logDetail == ALL || logDetail == BODY) {
-            addBody(requestSpec, builder, shouldPrettyPrint);
+            addBody(request, builder, shouldPrettyPrint);
         }
         String logString = builder.toString();
         if (logString.endsWith("\n")) {
             logString = StringUtils.removeEnd(logString, "\n");
         }
-        stream.println(logString);
         return logString;
     }
 
-    private static void addProxy(FilterableRequestSpecification requestSpec, StringBuilder builder) {
+    private static void addProxy(RequestSnapshot request, StringBuilder builder) {
         builder.append("Proxy:");
-        ProxySpecification proxySpec = requestSpec.getProxySpecification();
+        ProxySpecification proxySpec = request.getProxySpecification();
         appendThreeTabs(builder);
         if (proxySpec == null) {
             builder.append(NONE);
@@ -92,14 +106,14 @@ public class RequestPrinter {
         builder.append(NEW_LINE);
     }
 
-    private static void addBody(FilterableRequestSpecification requestSpec, StringBuilder builder, boolean shouldPrettyPrint) {
+    private static void addBody(RequestSnapshot request, StringBuilder builder, boolean shouldPrettyPrint) {
         builder.append("Body:");
-        if (requestSpec.getBody() != null) {
+        if (request.getBody() != null) {
             final String body;
             if (shouldPrettyPrint) {
-                body = new Prettifier().getPrettifiedBodyIfPossible(requestSpec);
+                body = new Prettifier().getPrettifiedBodyIfPossible(request);
             } else {
-                body = requestSpec.getBody();
+                body = String.valueOf(request.getBody());
             }
             builder.append(NEW_LINE).append(body);
         } else {
@@ -107,9 +121,9 @@ public class RequestPrinter {
         }
     }
 
-    private static void addCookies(FilterableRequestSpecification requestSpec, StringBuilder builder) {
+    private static void addCookies(RequestSnapshot request, StringBuilder builder) {
         builder.append("Cookies:");
-        final Cookies cookies = requestSpec.getCookies();
+        final Cookies cookies = request.getCookies();
         if (!cookies.exist()) {
             appendTwoTabs(builder).append(NONE).append(NEW_LINE);
         }
@@ -124,9 +138,9 @@ public class RequestPrinter {
         }
     }
 
-    private static void addHeaders(FilterableRequestSpecification requestSpec, StringBuilder builder) {
+    private static void addHeaders(RequestSnapshot request, StringBuilder builder) {
         builder.append("Headers:");
-        final Headers headers = requestSpec.getHeaders();
+        final Headers headers = request.getHeaders();
         if (!headers.exist()) {
             appendTwoTabs(builder).append(NONE).append(NEW_LINE);
         } else {
@@ -143,9 +157,9 @@ public class RequestPrinter {
     }
 
 
-    private static void addMultiParts(FilterableRequestSpecification requestSpec, StringBuilder builder) {
+    private static void addMultiParts(RequestSnapshot request, StringBuilder builder) {
         builder.append("Multiparts:");
-        final List<MultiPartSpecification> multiParts = requestSpec.getMultiPartParams();
+        final List<MultiPartSpecification> multiParts = request.getMultiPartParams();
         if (multiParts.isEmpty()) {
             appendTwoTabs(builder).append(NONE).append(NEW_LINE);
         } else {
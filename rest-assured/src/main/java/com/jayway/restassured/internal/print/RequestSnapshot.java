@@ -0,0 +1,139 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.print;
+
+import com.jayway.restassured.internal.RequestSpecificationImpl;
+import com.jayway.restassured.internal.mapping.StreamingSerializedBody;
+import com.jayway.restassured.response.Cookies;
+import com.jayway.restassured.response.Headers;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.MultiPartSpecification;
+import com.jayway.restassured.specification.ProxySpecification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The parts of a request that are needed to print it, captured at a specific point in time. Capturing a snapshot is cheap since only
+ * references are copied (headers, cookies and the body are never modified after they've been set, they're replaced), which means that the
+ * request can be formatted later, for example on a different thread or only if validation fails. Request body and multi-part objects that
+ * are serialized when the request is sent are kept as they are and only serialized if the request is formatted.
+ */
+public class RequestSnapshot {
+    private final String method;
+    private final String uri;
+    private final ProxySpecification proxySpecification;
+    private final Map<String, ?> requestParams;
+    private final Map<String, ?> queryParams;
+    private final Map<String, ?> formParams;
+    private final Map<String, ?> namedPathParams;
+    private final List<MultiPartSpecification> multiParts;
+    private final Headers headers;
+    private final Cookies cookies;
+    private final Object body;
+    private final String contentType;
+
+    private RequestSnapshot(FilterableRequestSpecification requestSpec, String method, String uri) {
+        this.method = method;
+        this.uri = uri;
+        this.proxySpecification = requestSpec.getProxySpecification();
+        this.requestParams = copy(requestSpec.getRequestParams());
+        this.queryParams = copy(requestSpec.getQueryParams());
+        this.formParams = copy(requestSpec.getFormParams());
+        this.namedPathParams = copy(requestSpec.getNamedPathParams());
+        this.multiParts = Collections.unmodifiableList(new ArrayList<MultiPartSpecification>(requestSpec instanceof RequestSpecificationImpl ?
+                ((RequestSpecificationImpl) requestSpec).getUnserializedMultiPartParams() : requestSpec.getMultiPartParams()));
+        this.headers = requestSpec.getHeaders();
+        this.cookies = requestSpec.getCookies();
+        this.body = requestSpec instanceof RequestSpecificationImpl ? ((RequestSpecificationImpl) requestSpec).getUnserializedBody() : requestSpec.getBody();
+        this.contentType = requestSpec.getRequestContentType();
+    }
+
+    /**
+     * Capture a snapshot of the request
+     *
+     * @param requestSpec The request specification
+     * @param method      The request method
+     * @param uri         The complete request URI
+     * @return A new snapshot
+     */
+    public static RequestSnapshot of(FilterableRequestSpecification requestSpec, String method, String uri) {
+        return new RequestSnapshot(requestSpec, method, uri);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getURI() {
+        return uri;
+    }
+
+    public ProxySpecification getProxySpecification() {
+        return proxySpecification;
+    }
+
+    public Map<String, ?> getRequestParams() {
+        return requestParams;
+    }
+
+    public Map<String, ?> getQueryParams() {
+        return queryParams;
+    }
+
+    public Map<String, ?> getFormParams() {
+        return formParams;
+    }
+
+    public Map<String, ?> getNamedPathParams() {
+        return namedPathParams;
+    }
+
+    public List<MultiPartSpecification> getMultiPartParams() {
+        return multiParts;
+    }
+
+    public Headers getHeaders() {
+        return headers;
+    }
+
+    public Cookies getCookies() {
+        return cookies;
+    }
+
+    /**
+     * @return The request body. Objects that are serialized when the request is sent are serialized when this method is called, which
+     * means that they're not serialized unless the request is printed.
+     */
+    public Object getBody() {
+        return body instanceof StreamingSerializedBody ? ((StreamingSerializedBody) body).asString() : body;
+    }
+
+    public String getRequestContentType() {
+        return contentType;
+    }
+
+    private static Map<String, ?> copy(Map<String, ?> map) {
+        if (map == null || map.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return Collections.unmodifiableMap(new LinkedHashMap<String, Object>(map));
+    }
+}
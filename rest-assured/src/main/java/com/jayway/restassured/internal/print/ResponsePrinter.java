@@ -37,6 +37,17 @@ public class ResponsePrinter {
      * @return A string of representing the response
      */
     public static String print(ResponseOptions responseOptions, ResponseBody responseBody, PrintStream stream, LogDetail logDetail, boolean shouldPrettyPrint) {
+        final String response = format(responseOptions, responseBody, logDetail, shouldPrettyPrint);
+        stream.println(response);
+        return response;
+    }
+
+    /**
+     * Formats the response without printing it
+     *
+     * @return A string of representing the response
+     */
+    public static String format(ResponseOptions responseOptions, ResponseBody responseBody, LogDetail logDetail, boolean shouldPrettyPrint) {
         final StringBuilder builder = new StringBuilder();
         if (logDetail == ALL || logDetail == STATUS) {
             builder.append(responseOptions.statusLine());
@@ -65,9 +76,7 @@ public class ResponsePrinter {
 
             builder.append(responseBodyToAppend);
         }
-        String response = builder.toString();
-        stream.println(response);
-        return response;
+        return builder.toString();
     }
 
     private static String toString(Headers headers) {
@@ -19,6 +19,8 @@ package com.jayway.restassured.matcher;
 import com.jayway.restassured.internal.matcher.xml.XmlDtdMatcher;
 import com.jayway.restassured.internal.matcher.xml.XmlXsdMatcher;
 import com.jayway.restassured.response.Response;
+import com.jayway.restassured.response.TransferredBody;
+import org.hamcrest.FeatureMatcher;
 import org.hamcrest.Matcher;
 
 import java.io.File;
@@ -234,4 +236,59 @@ public class RestAssuredMatchers {
         };
     }
 
-}
\ No newline at end of file
+    /**
+     * Evaluates to true if the number of bytes of a transferred response body is equal to the supplied length.
+     *
+     * @param length The expected length in bytes
+     * @return The matcher
+     * @see com.jayway.restassured.response.ResponseBodyExtractionOptions#transferTo(File, String...)
+     */
+    public static Matcher<TransferredBody> hasLength(long length) {
+        return hasLength(equalTo(length));
+    }
+
+    /**
+     * Evaluates to true if the number of bytes of a transferred response body matches the supplied matcher.
+     *
+     * @param lengthMatcher The matcher that the length (in bytes) must match
+     * @return The matcher
+     * @see com.jayway.restassured.response.ResponseBodyExtractionOptions#transferTo(File, String...)
+     */
+    public static Matcher<TransferredBody> hasLength(Matcher<? super Long> lengthMatcher) {
+        return new FeatureMatcher<TransferredBody, Long>(lengthMatcher, "a transferred body with length", "length") {
+            protected Long featureValueOf(TransferredBody actual) {
+                return actual.getLength();
+            }
+        };
+    }
+
+    /**
+     * Evaluates to true if the digest of a transferred response body is equal to the supplied hex encoded digest (ignoring case).
+     * The digest must have been computed when the body was transferred.
+     *
+     * @param algorithm   The digest algorithm, for example <code>SHA-256</code> or <code>MD5</code>
+     * @param expectedHex The expected hex encoded digest
+     * @return The matcher
+     * @see com.jayway.restassured.response.ResponseBodyExtractionOptions#transferTo(File, String...)
+     */
+    public static Matcher<TransferredBody> hasDigest(String algorithm, String expectedHex) {
+        return hasDigest(algorithm, equalToIgnoringCase(expectedHex));
+    }
+
+    /**
+     * Evaluates to true if the hex encoded digest of a transferred response body matches the supplied matcher.
+     * The digest must have been computed when the body was transferred.
+     *
+     * @param algorithm     The digest algorithm, for example <code>SHA-256</code> or <code>MD5</code>
+     * @param digestMatcher The matcher that the hex encoded (lower case) digest must match
+     * @return The matcher
+     * @see com.jayway.restassured.response.ResponseBodyExtractionOptions#transferTo(File, String...)
+     */
+    public static Matcher<TransferredBody> hasDigest(final String algorithm, Matcher<? super String> digestMatcher) {
+        return new FeatureMatcher<TransferredBody, String>(digestMatcher, "a transferred body with " + algorithm + " digest", algorithm + " digest") {
+            protected String featureValueOf(TransferredBody actual) {
+                return actual.hasDigest(algorithm) ? actual.getDigest(algorithm) : null;
+            }
+        };
+    }
+}
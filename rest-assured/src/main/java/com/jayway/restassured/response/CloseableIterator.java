@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.response;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * An iterator that holds on to a resource, such as the connection that a response body is read from, until all elements have been read.
+ * Call {@link #close()} to release the resource if you stop iterating before all elements have been read, for example:
+ * <pre>
+ * CloseableIterator&lt;Item&gt; items = get("/export").then().extract().stream("result.items", Item.class);
+ * try {
+ *     while (items.hasNext()) {
+ *         ...
+ *     }
+ * } finally {
+ *     items.close();
+ * }
+ * </pre>
+ *
+ * @param <T> The element type
+ * @see ResponseBodyExtractionOptions#stream(String, Class)
+ */
+public interface CloseableIterator<T> extends Iterator<T>, Closeable {
+
+    /**
+     * Release the resource held by the iterator. Calling this method more than once, or after all elements have been read, has no effect.
+     */
+    void close();
+}
@@ -16,6 +16,8 @@
 
 package com.jayway.restassured.response;
 
+import com.jayway.restassured.filter.time.ResponseTimings;
+
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -135,4 +137,9 @@ public interface ExtractableResponse<R extends ResponseOptions<R>> extends Respo
      * @return The response time in the given time unit (or -1 if no response time could be measured)
      */
     long timeIn(TimeUnit timeUnit);
+
+    /**
+     * @return The time spent in each {@link com.jayway.restassured.filter.time.TimingPhase} of the request, measured with nanosecond precision.
+     */
+    ResponseTimings timings();
 }
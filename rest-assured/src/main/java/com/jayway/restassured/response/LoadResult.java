@@ -0,0 +1,139 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.response;
+
+import com.jayway.restassured.filter.time.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.jayway.restassured.internal.assertion.AssertParameter.notNull;
+
+/**
+ * The result of a load test started by {@link com.jayway.restassured.RestAssured#load(com.jayway.restassured.specification.RequestSpecification)}.
+ */
+public class LoadResult {
+    private final long numberOfRequests;
+    private final long numberOfValidationFailures;
+    private final long numberOfErrors;
+    private final long durationNanos;
+    private final LatencyHistogram latencies;
+    private final Throwable firstFailure;
+
+    public LoadResult(long numberOfRequests, long numberOfValidationFailures, long numberOfErrors, long durationNanos,
+                      LatencyHistogram latencies, Throwable firstFailure) {
+        notNull(latencies, "Latencies");
+        this.numberOfRequests = numberOfRequests;
+        this.numberOfValidationFailures = numberOfValidationFailures;
+        this.numberOfErrors = numberOfErrors;
+        this.durationNanos = durationNanos;
+        this.latencies = latencies;
+        this.firstFailure = firstFailure;
+    }
+
+    /**
+     * @return The total number of requests that were sent (including failed requests)
+     */
+    public long getNumberOfRequests() {
+        return numberOfRequests;
+    }
+
+    /**
+     * @return The number of responses that didn't match the response specification
+     */
+    public long getNumberOfValidationFailures() {
+        return numberOfValidationFailures;
+    }
+
+    /**
+     * @return The number of requests that failed with an exception (for example a connection error)
+     */
+    public long getNumberOfErrors() {
+        return numberOfErrors;
+    }
+
+    /**
+     * @return The number of requests that were sent and validated successfully
+     */
+    public long getNumberOfSuccessfulRequests() {
+        return numberOfRequests - numberOfValidationFailures - numberOfErrors;
+    }
+
+    /**
+     * @param timeUnit The time unit
+     * @return The time it took to run the load test in the given time unit
+     */
+    public long getDurationIn(TimeUnit timeUnit) {
+        notNull(timeUnit, TimeUnit.class);
+        return timeUnit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return The number of requests per second
+     */
+    public double getThroughput() {
+        return getThroughput(TimeUnit.SECONDS);
+    }
+
+    /**
+     * @param timeUnit The time unit
+     * @return The number of requests per time unit
+     */
+    public double getThroughput(TimeUnit timeUnit) {
+        notNull(timeUnit, TimeUnit.class);
+        return durationNanos == 0 ? 0 : numberOfRequests * ((double) timeUnit.toNanos(1) / durationNanos);
+    }
+
+    /**
+     * @param percentile The percentile, for example <code>99.9</code>
+     * @param timeUnit   The time unit
+     * @return The latency at the given percentile in the given time unit
+     */
+    public long getLatencyAtPercentile(double percentile, TimeUnit timeUnit) {
+        notNull(timeUnit, TimeUnit.class);
+        return timeUnit.convert(latencies.getValueAtPercentile(percentile), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return The histogram of all recorded latencies in nanoseconds
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * @return The first validation failure or error that occurred during the load test or <code>null</code> if all requests succeeded.
+     */
+    public Throwable getFirstFailure() {
+        return firstFailure;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Requests: %d (successful: %d, validation failures: %d, errors: %d)%n" +
+                "Duration: %d ms, throughput: %.2f requests/s%n" +
+                "Latency (ms): min=%.3f, mean=%.3f, p50=%.3f, p90=%.3f, p99=%.3f, p99.9=%.3f, max=%.3f",
+                numberOfRequests, getNumberOfSuccessfulRequests(), numberOfValidationFailures, numberOfErrors,
+                getDurationIn(TimeUnit.MILLISECONDS), getThroughput(),
+                toMillis(latencies.getMinValue()), latencies.getMean() / 1000000.0, toMillis(latencies.getValueAtPercentile(50)),
+                toMillis(latencies.getValueAtPercentile(90)), toMillis(latencies.getValueAtPercentile(99)),
+                toMillis(latencies.getValueAtPercentile(99.9)), toMillis(latencies.getMaxValue()));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1000000.0;
+    }
+}
@@ -23,6 +23,9 @@ import com.jayway.restassured.path.json.config.JsonPathConfig;
 import com.jayway.restassured.path.xml.XmlPath;
 import com.jayway.restassured.path.xml.config.XmlPathConfig;
 
+import java.io.File;
+import java.nio.channels.WritableByteChannel;
+
 public interface ResponseBodyExtractionOptions extends ResponseBodyData {
     /**
      * Get the body and map it to a Java object. For JSON responses this requires that you have either
@@ -159,4 +162,61 @@ public interface ResponseBodyExtractionOptions extends ResponseBodyData {
      * @see #xmlPath()
      */
     <T> T path(String path, String... arguments);
+
+    /**
+     * Transfer the response body to a file without reading it into memory. Digests of the body can be computed while it's transferred,
+     * which means that large downloads can be verified using for example:
+     * <pre>
+     * TransferredBody download = get("/download").transferTo(new File("/tmp/download.zip"), "SHA-256");
+     * assertThat(download, hasDigest("SHA-256", "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08"));
+     * </pre>
+     * If no digests are requested the body is transferred using {@link java.nio.channels.FileChannel#transferFrom(java.nio.channels.ReadableByteChannel, long, long)}.
+     * Note that the body can only be transferred once unless it has been buffered (for example because body expectations are defined).
+     *
+     * @param file             The file to write the body to. The file is overwritten if it exists.
+     * @param digestAlgorithms The digests to compute while transferring the body, for example <code>SHA-256</code> or <code>MD5</code>
+     * @return The number of transferred bytes and the computed digests
+     * @see com.jayway.restassured.matcher.RestAssuredMatchers#hasDigest(String, String)
+     * @see com.jayway.restassured.matcher.RestAssuredMatchers#hasLength(long)
+     */
+    TransferredBody transferTo(File file, String... digestAlgorithms);
+
+    /**
+     * Transfer the response body to a channel without reading it into memory, optionally computing digests while the body is transferred.
+     * The channel is not closed. The channel must be in blocking mode, the transfer fails if the channel doesn't accept any data.
+     *
+     * @param channel          The channel to write the body to
+     * @param digestAlgorithms The digests to compute while transferring the body, for example <code>SHA-256</code> or <code>MD5</code>
+     * @return The number of transferred bytes and the computed digests
+     * @see #transferTo(File, String...)
+     */
+    TransferredBody transferTo(WritableByteChannel channel, String... digestAlgorithms);
+
+    /**
+     * Map each element of a JSON array in the response body to a Java object while the body is being read. The body is parsed incrementally
+     * and only the element that is currently being mapped is kept in memory, which means that very large arrays can be processed element by
+     * element in bounded memory. For example:
+     * <pre>
+     * CloseableIterator&lt;Item&gt; items = get("/export").then().extract().stream("result.items", Item.class);
+     * try {
+     *     while (items.hasNext()) {
+     *         process(items.next());
+     *     }
+     * } finally {
+     *     items.close();
+     * }
+     * </pre>
+     * The path is a simple path of object keys separated by dots (use an empty path if the body itself is an array), GPath expressions are
+     * not supported. If the path doesn't exist or refers to <code>null</code> the iterator is empty. Each element is mapped using the same
+     * object mappers as {@link #as(Class)}. The response body is read directly from the connection unless it has already been buffered
+     * (for example because body expectations are defined) so in that case it can only be streamed once. The connection is released when all
+     * elements have been read or when the iterator is closed. A caller that may stop before all elements have been read <em>must</em> close
+     * the iterator, otherwise the connection is not released.
+     *
+     * @param path The path to the JSON array, for example <code>result.items</code>
+     * @param cls  The type that each element is mapped to
+     * @param <T>  The element type
+     * @return An iterator that lazily reads and maps the array elements and that must be closed if not all elements are read
+     */
+    <T> CloseableIterator<T> stream(String path, Class<T> cls);
 }
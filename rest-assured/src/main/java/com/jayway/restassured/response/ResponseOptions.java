@@ -16,6 +16,8 @@
 
 package com.jayway.restassured.response;
 
+import com.jayway.restassured.filter.time.ResponseTimings;
+
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -219,4 +221,21 @@ public interface ResponseOptions<T extends ResponseOptions<T>> {
      * @see #time()
      */
     long getTimeIn(TimeUnit timeUnit);
+
+    /**
+     * Get the time spent in each phase of the request (filter chain, request write, wait for first byte, body consumption and validation)
+     * measured with nanosecond precision. For example:
+     * <pre>
+     * long waitTime = response.timings().timeIn(TimingPhase.WAIT_FOR_FIRST_BYTE, TimeUnit.MICROSECONDS);
+     * </pre>
+     *
+     * @return The response timings (phases that could not be measured returns {@value com.jayway.restassured.filter.time.ResponseTimings#NOT_MEASURED})
+     */
+    ResponseTimings timings();
+
+    /**
+     * @return The response timings
+     * @see #timings()
+     */
+    ResponseTimings getTimings();
 }
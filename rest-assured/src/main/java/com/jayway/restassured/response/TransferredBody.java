@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.response;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.jayway.restassured.internal.assertion.AssertParameter.notNull;
+
+/**
+ * The result of transferring a response body to a file or a channel, see
+ * {@link ResponseBodyExtractionOptions#transferTo(File, String...)}. Holds the number of bytes that were transferred and the digests
+ * that were computed while transferring the body, which means that the body can be verified without reading it into memory.
+ */
+public class TransferredBody {
+    private final long length;
+    private final Map<String, String> digests;
+    private final File file;
+
+    public TransferredBody(long length, Map<String, String> digests, File file) {
+        notNull(digests, "Digests");
+        this.length = length;
+        this.file = file;
+        Map<String, String> normalized = new LinkedHashMap<String, String>();
+        for (Map.Entry<String, String> digest : digests.entrySet()) {
+            normalized.put(normalize(digest.getKey()), digest.getValue().toLowerCase(Locale.ENGLISH));
+        }
+        this.digests = Collections.unmodifiableMap(normalized);
+    }
+
+    /**
+     * @return The number of bytes that were transferred
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * @param algorithm The digest algorithm, for example <code>SHA-256</code> or <code>MD5</code>
+     * @return The hex encoded (lower case) digest of the body
+     * @throws IllegalArgumentException If no digest was computed using the algorithm
+     */
+    public String getDigest(String algorithm) {
+        notNull(algorithm, "Algorithm");
+        final String digest = digests.get(normalize(algorithm));
+        if (digest == null) {
+            throw new IllegalArgumentException("No " + algorithm + " digest was computed, computed digests are " + digests.keySet() + ".");
+        }
+        return digest;
+    }
+
+    /**
+     * @param algorithm The digest algorithm
+     * @return <code>true</code> if a digest was computed using the algorithm
+     */
+    public boolean hasDigest(String algorithm) {
+        notNull(algorithm, "Algorithm");
+        return digests.containsKey(normalize(algorithm));
+    }
+
+    /**
+     * @return All computed digests (algorithm to hex encoded digest)
+     */
+    public Map<String, String> getDigests() {
+        return digests;
+    }
+
+    /**
+     * @return The file that the body was transferred to or <code>null</code> if the body was transferred to a channel
+     */
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public String toString() {
+        return length + " bytes" + (digests.isEmpty() ? "" : " " + digests);
+    }
+
+    private static String normalize(String algorithm) {
+        return algorithm.toUpperCase(Locale.ENGLISH);
+    }
+}
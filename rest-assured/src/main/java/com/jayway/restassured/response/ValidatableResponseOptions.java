@@ -16,6 +16,7 @@
 
 package com.jayway.restassured.response;
 
+import com.jayway.restassured.filter.time.TimingPhase;
 import com.jayway.restassured.function.RestAssuredFunction;
 import com.jayway.restassured.http.ContentType;
 import com.jayway.restassured.matcher.ResponseAwareMatcher;
@@ -1333,4 +1334,20 @@ public interface ValidatableResponseOptions<T extends ValidatableResponseOptions
      * @return The {@link ValidatableResponse} instance.
      */
     T time(Matcher<Long> matcher, TimeUnit timeUnit);
+
+    /**
+     * Validate that the time spent in a specific {@link TimingPhase} of the request matches the supplied <code>matcher</code> and time unit. For example:
+     * <p/>
+     * <pre>
+     * when().
+     *        get("/something").
+     * then().
+     *        time(TimingPhase.WAIT_FOR_FIRST_BYTE, lessThan(500L), TimeUnit.MICROSECONDS);
+     * </pre>
+     * <p/>
+     * where <code>lessThan</code> is a Hamcrest matcher. Note that the {@link TimingPhase#VALIDATION} phase cannot be validated.
+     *
+     * @return The {@link ValidatableResponse} instance.
+     */
+    T time(TimingPhase phase, Matcher<Long> matcher, TimeUnit timeUnit);
 }
@@ -311,4 +311,12 @@ public interface FilterableRequestSpecification extends RequestSpecification {
      */
     FilterableRequestSpecification removeQueryParam(String parameterName);
 
+    /**
+     * Remove all headers with the given name from the request.
+     *
+     * @param headerName The name of the header (case-insensitive)
+     * @return The {@link FilterableRequestSpecification} without the header
+     */
+    FilterableRequestSpecification removeHeader(String headerName);
+
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.specification;
+
+import com.jayway.restassured.response.LoadResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Specifies how a prepared {@link RequestSpecification} should be replayed when running a local, in-process load test. For example:
+ * <pre>
+ * LoadResult result = load(requestSpec).
+ *                          expect(responseSpec).
+ *                          atRate(200, TimeUnit.SECONDS).
+ *                          withConcurrency(20).
+ *                          during(30, TimeUnit.SECONDS).
+ *                     get("/lotto");
+ *
+ * long p99 = result.getLatencyAtPercentile(99.0, TimeUnit.MILLISECONDS);
+ * </pre>
+ * <p>
+ * If no rate is specified each thread sends requests back-to-back (i.e. a fixed concurrency level). If a rate is specified the requests
+ * are started at a fixed interval and the latency is measured from the time the request <i>should</i> have been started, which means that
+ * latencies are not hidden when the server cannot keep up with the rate (coordinated omission).
+ * </p>
+ */
+public interface LoadSpecification {
+
+    /**
+     * Validate each response against the given response specification. Responses that fails validation are counted as validation failures.
+     *
+     * @param responseSpecification The response specification
+     * @return The load specification
+     */
+    LoadSpecification expect(ResponseSpecification responseSpecification);
+
+    /**
+     * The number of threads that send requests. When a rate is specified this is the maximum number of requests in flight at the same time.
+     * Default is 1.
+     *
+     * @param numberOfThreads The number of threads
+     * @return The load specification
+     */
+    LoadSpecification withConcurrency(int numberOfThreads);
+
+    /**
+     * Send requests at a fixed arrival rate, for example <code>atRate(100, TimeUnit.SECONDS)</code> means 100 requests per second.
+     *
+     * @param numberOfRequests The number of requests
+     * @param perTimeUnit      The time unit
+     * @return The load specification
+     */
+    LoadSpecification atRate(long numberOfRequests, TimeUnit perTimeUnit);
+
+    /**
+     * How long to run the load test. Default is 10 seconds.
+     *
+     * @param duration The duration
+     * @param timeUnit The time unit of the duration
+     * @return The load specification
+     */
+    LoadSpecification during(long duration, TimeUnit timeUnit);
+
+    /**
+     * Send the given number of requests before starting the measurement in order to warm up the JVM and the server. Warm-up requests are
+     * not included in the result.
+     *
+     * @param numberOfRequests The number of warm-up requests
+     * @return The load specification
+     */
+    LoadSpecification warmUp(int numberOfRequests);
+
+    /**
+     * Syntactic sugar.
+     *
+     * @return The same load specification
+     */
+    LoadSpecification and();
+
+    /**
+     * Run the load test by sending GET requests to the given path.
+     *
+     * @param path       The path
+     * @param pathParams The path parameters
+     * @return The result of the load test
+     */
+    LoadResult get(String path, Object... pathParams);
+
+    /**
+     * Run the load test by sending POST requests to the given path.
+     *
+     * @param path       The path
+     * @param pathParams The path parameters
+     * @return The result of the load test
+     */
+    LoadResult post(String path, Object... pathParams);
+
+    /**
+     * Run the load test by sending PUT requests to the given path.
+     *
+     * @param path       The path
+     * @param pathParams The path parameters
+     * @return The result of the load test
+     */
+    LoadResult put(String path, Object... pathParams);
+
+    /**
+     * Run the load test by sending DELETE requests to the given path.
+     *
+     * @param path       The path
+     * @param pathParams The path parameters
+     * @return The result of the load test
+     */
+    LoadResult delete(String path, Object... pathParams);
+
+    /**
+     * Run the load test by sending HEAD requests to the given path.
+     *
+     * @param path       The path
+     * @param pathParams The path parameters
+     * @return The result of the load test
+     */
+    LoadResult head(String path, Object... pathParams);
+
+    /**
+     * Run the load test by sending PATCH requests to the given path.
+     *
+     * @param path       The path
+     * @param pathParams The path parameters
+     * @return The result of the load test
+     */
+    LoadResult patch(String path, Object... pathParams);
+
+    /**
+     * Run the load test by sending OPTIONS requests to the given path.
+     *
+     * @param path       The path
+     * @param pathParams The path parameters
+     * @return The result of the load test
+     */
+    LoadResult options(String path, Object... pathParams);
+}
@@ -16,6 +16,7 @@
 
 package com.jayway.restassured.specification;
 
+import com.jayway.restassured.filter.time.TimingPhase;
 import com.jayway.restassured.function.RestAssuredFunction;
 import com.jayway.restassured.http.ContentType;
 import com.jayway.restassured.parsing.Parser;
@@ -202,6 +203,22 @@ public interface ResponseSpecification extends RequestSender {
      */
     ResponseSpecification time(Matcher<Long> matcher, TimeUnit timeUnit);
 
+    /**
+     * Validate that the time spent in a specific {@link TimingPhase} of the request matches the supplied <code>matcher</code> and time unit. For example:
+     * <p/>
+     * <pre>
+     * when().
+     *        get("/something").
+     * then().
+     *        time(TimingPhase.WAIT_FOR_FIRST_BYTE, lessThan(500L), TimeUnit.MICROSECONDS);
+     * </pre>
+     * <p/>
+     * where <code>lessThan</code> is a Hamcrest matcher. Note that the {@link TimingPhase#VALIDATION} phase cannot be validated.
+     *
+     * @return The {@link ValidatableResponse} instance.
+     */
+    ResponseSpecification time(TimingPhase phase, Matcher<Long> matcher, TimeUnit timeUnit);
+
     /**
      * Same as {@link #body(String, org.hamcrest.Matcher, Object...)} expect that you can pass arguments to the key. This
      * is useful in situations where you have e.g. pre-defined variables that constitutes the key:
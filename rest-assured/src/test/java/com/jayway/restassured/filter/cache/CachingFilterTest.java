@@ -0,0 +1,292 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.filter.cache;
+
+import com.jayway.restassured.builder.ResponseBuilder;
+import com.jayway.restassured.config.RestAssuredConfig;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.internal.RequestSpecificationImpl;
+import com.jayway.restassured.internal.ResponseSpecificationImpl;
+import com.jayway.restassured.internal.http.Method;
+import com.jayway.restassured.response.Header;
+import com.jayway.restassured.response.Headers;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+import com.jayway.restassured.specification.RequestSender;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static com.jayway.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class CachingFilterTest {
+
+    private CachingFilter cache;
+    private ServerFilterContext server;
+    private FilterableResponseSpecification responseSpec;
+
+    @Before
+    public void setUp() {
+        cache = new CachingFilter();
+        server = new ServerFilterContext();
+        responseSpec = new ResponseSpecificationImpl("test", null, null, RestAssuredConfig.newConfig(), null);
+    }
+
+    @Test public void
+    fresh_responses_are_served_from_the_cache_with_an_updated_age() {
+        // Given
+        server.respond(response(200, "hello", new Header("Cache-Control", "max-age=60"), new Header("Age", "10")));
+        cache.filter(get(), responseSpec, server);
+
+        // When
+        Response response = cache.filter(get(), responseSpec, server);
+
+        // Then
+        assertThat(server.requests.size(), equalTo(1));
+        assertThat(cache.getNumberOfHits(), equalTo(1L));
+        assertThat(response.asString(), equalTo("hello"));
+        assertThat(Long.parseLong(response.header("Age")), greaterThanOrEqualTo(10L));
+        assertThat(response.headers().getValues("Age").size(), equalTo(1));
+    }
+
+    @Test public void
+    stale_responses_are_revalidated_without_modifying_the_request_specification() {
+        // Given
+        server.respond(response(200, "hello", new Header("Cache-Control", "no-cache"), new Header("ETag", "\"v1\"")));
+        server.respond(response(304, "", new Header("Cache-Control", "no-cache")));
+        FilterableRequestSpecification request = get();
+        cache.filter(request, responseSpec, server);
+
+        // When
+        Response response = cache.filter(request, responseSpec, server);
+
+        // Then
+        assertThat(server.requests.size(), equalTo(2));
+        assertThat(server.requests.get(1).getValue("If-None-Match"), equalTo("\"v1\""));
+        assertThat(request.getHeaders().hasHeaderWithName("If-None-Match"), is(false));
+        assertThat(cache.getNumberOfRevalidations(), equalTo(1L));
+        assertThat(response.statusCode(), equalTo(200));
+        assertThat(response.asString(), equalTo("hello"));
+    }
+
+    @Test public void
+    responses_with_no_store_are_not_cached() {
+        // Given
+        server.respond(response(200, "first", new Header("Cache-Control", "no-store, max-age=60")));
+        server.respond(response(200, "second", new Header("Cache-Control", "no-store, max-age=60")));
+        cache.filter(get(), responseSpec, server);
+
+        // When
+        Response response = cache.filter(get(), responseSpec, server);
+
+        // Then
+        assertThat(server.requests.size(), equalTo(2));
+        assertThat(cache.size(), equalTo(0));
+        assertThat(response.asString(), equalTo("second"));
+    }
+
+    @Test public void
+    private_responses_are_cached_since_the_cache_is_not_shared() {
+        // Given
+        server.respond(response(200, "mine", new Header("Cache-Control", "private, max-age=60")));
+        cache.filter(get(), responseSpec, server);
+
+        // When
+        Response response = cache.filter(get(), responseSpec, server);
+
+        // Then
+        assertThat(server.requests.size(), equalTo(1));
+        assertThat(response.asString(), equalTo("mine"));
+    }
+
+    @Test public void
+    one_response_is_cached_for_each_value_of_the_vary_headers() {
+        // Given
+        server.respond(response(200, "{}", new Header("Cache-Control", "max-age=60"), new Header("Vary", "Accept")));
+        server.respond(response(200, "<xml/>", new Header("Cache-Control", "max-age=60"), new Header("Vary", "Accept")));
+        cache.filter(get("application/json"), responseSpec, server);
+        cache.filter(get("application/xml"), responseSpec, server);
+
+        // When
+        Response json = cache.filter(get("application/json"), responseSpec, server);
+        Response xml = cache.filter(get("application/xml"), responseSpec, server);
+
+        // Then
+        assertThat(server.requests.size(), equalTo(2));
+        assertThat(cache.size(), equalTo(2));
+        assertThat(json.asString(), equalTo("{}"));
+        assertThat(xml.asString(), equalTo("<xml/>"));
+    }
+
+    @Test public void
+    responses_are_not_served_to_requests_with_another_authorization_header() {
+        // Given
+        server.respond(response(200, "alice", new Header("Cache-Control", "max-age=60")));
+        server.respond(response(200, "bob", new Header("Cache-Control", "max-age=60")));
+        server.respond(response(401, ""));
+        cache.filter(authorizedGet("Basic YWxpY2U6c2VjcmV0"), responseSpec, server);
+
+        // When
+        Response bob = cache.filter(authorizedGet("Basic Ym9iOnNlY3JldA=="), responseSpec, server);
+        Response anonymous = cache.filter(get(), responseSpec, server);
+        Response alice = cache.filter(authorizedGet("Basic YWxpY2U6c2VjcmV0"), responseSpec, server);
+
+        // Then
+        assertThat(server.requests.size(), equalTo(3));
+        assertThat(bob.asString(), equalTo("bob"));
+        assertThat(anonymous.statusCode(), equalTo(401));
+        assertThat(alice.asString(), equalTo("alice"));
+        assertThat(cache.getNumberOfHits(), equalTo(1L));
+    }
+
+    @Test public void
+    responses_are_not_served_to_requests_with_other_cookies() {
+        // Given
+        server.respond(response(200, "session 1", new Header("Cache-Control", "max-age=60")));
+        server.respond(response(200, "session 2", new Header("Cache-Control", "max-age=60")));
+        FilterableRequestSpecification session1 = get();
+        session1.cookie("JSESSIONID", "1");
+        FilterableRequestSpecification session2 = get();
+        session2.cookie("JSESSIONID", "2");
+        cache.filter(session1, responseSpec, server);
+
+        // When
+        Response response = cache.filter(session2, responseSpec, server);
+
+        // Then
+        assertThat(server.requests.size(), equalTo(2));
+        assertThat(response.asString(), equalTo("session 2"));
+        assertThat(cache.size(), equalTo(2));
+    }
+
+    @Test public void
+    requests_authenticated_by_an_authentication_scheme_are_not_cached() {
+        // Given
+        server.respond(response(200, "first", new Header("Cache-Control", "max-age=60")));
+        server.respond(response(200, "second", new Header("Cache-Control", "max-age=60")));
+        FilterableRequestSpecification request = (FilterableRequestSpecification) get().auth().basic("alice", "secret");
+        cache.filter(request, responseSpec, server);
+
+        // When
+        Response response = cache.filter(request, responseSpec, server);
+
+        // Then
+        assertThat(server.requests.size(), equalTo(2));
+        assertThat(response.asString(), equalTo("second"));
+        assertThat(cache.size(), equalTo(0));
+    }
+
+    @Test public void
+    unsafe_requests_invalidate_the_responses_of_all_credentials() {
+        // Given
+        server.respond(response(200, "anonymous", new Header("Cache-Control", "max-age=60")));
+        server.respond(response(200, "alice", new Header("Cache-Control", "max-age=60")));
+        server.respond(response(201, ""));
+        cache.filter(get(), responseSpec, server);
+        cache.filter(authorizedGet("Basic YWxpY2U6c2VjcmV0"), responseSpec, server);
+        RequestSpecificationImpl post = (RequestSpecificationImpl) given();
+        post.setMethod("POST");
+
+        // When
+        cache.filter(post, responseSpec, server);
+
+        // Then
+        assertThat(cache.size(), equalTo(0));
+    }
+
+    private static FilterableRequestSpecification get() {
+        RequestSpecificationImpl request = (RequestSpecificationImpl) given();
+        request.setMethod("GET");
+        return request;
+    }
+
+    private static FilterableRequestSpecification get(String accept) {
+        FilterableRequestSpecification request = get();
+        request.accept(accept);
+        return request;
+    }
+
+    private static FilterableRequestSpecification authorizedGet(String authorization) {
+        FilterableRequestSpecification request = get();
+        request.header("Authorization", authorization);
+        return request;
+    }
+
+    private static Response response(int statusCode, String body, Header... headers) {
+        return new ResponseBuilder().setStatusCode(statusCode).setHeaders(new Headers(headers)).setBody(body).build();
+    }
+
+    /**
+     * Returns the scripted responses in order and keeps the headers of the requests that were sent
+     */
+    private static class ServerFilterContext implements FilterContext {
+        private final LinkedList<Response> responses = new LinkedList<Response>();
+        private final List<Headers> requests = new ArrayList<Headers>();
+
+        void respond(Response response) {
+            responses.add(response);
+        }
+
+        public void setValue(String name, Object value) {
+
+        }
+
+        public <T> T getValue(String name) {
+            return null;
+        }
+
+        public boolean hasValue(String name) {
+            return false;
+        }
+
+        public Response send(RequestSender requestSender) {
+            return null;
+        }
+
+        public Method getRequestMethod() {
+            return null;
+        }
+
+        public String getRequestPath() {
+            return null;
+        }
+
+        public String getOriginalRequestPath() {
+            return null;
+        }
+
+        public String getRequestURI() {
+            return null;
+        }
+
+        public String getCompleteRequestPath() {
+            return null;
+        }
+
+        public Response next(FilterableRequestSpecification request, FilterableResponseSpecification response) {
+            requests.add(request.getHeaders());
+            return responses.removeFirst();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.filter.cache;
+
+import com.jayway.restassured.builder.ResponseBuilder;
+import com.jayway.restassured.config.RestAssuredConfig;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.internal.RequestSpecificationImpl;
+import com.jayway.restassured.internal.ResponseParserRegistrar;
+import com.jayway.restassured.internal.ResponseSpecificationImpl;
+import com.jayway.restassured.internal.RestAssuredResponseImpl;
+import com.jayway.restassured.internal.http.Method;
+import com.jayway.restassured.parsing.Parser;
+import com.jayway.restassured.response.Header;
+import com.jayway.restassured.response.Headers;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+import com.jayway.restassured.specification.RequestSender;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jayway.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class SingleFlightFilterTest {
+    private static final int NUMBER_OF_FOLLOWERS = 4;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(NUMBER_OF_FOLLOWERS + 1);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test public void
+    concurrent_identical_requests_are_coalesced_into_one_request() throws Exception {
+        // Given
+        SingleFlightFilter filter = new SingleFlightFilter();
+        BlockingFilterContext server = new BlockingFilterContext(null);
+        Future<Response> leader = send(filter, server, responseSpec());
+        server.requestReceived.await();
+        List<Future<Response>> followers = sendFollowers(filter, server, responseSpec());
+
+        // When
+        server.respond.countDown();
+
+        // Then
+        assertThat(leader.get().asString(), equalTo("{\"greeting\":\"hello\"}"));
+        for (Future<Response> follower : followers) {
+            assertThat(follower.get().asString(), equalTo("{\"greeting\":\"hello\"}"));
+            assertThat(follower.get(), not(sameInstance(leader.get())));
+        }
+        assertThat(server.numberOfRequests.get(), equalTo(1));
+        assertThat(filter.getNumberOfCoalescedRequests(), equalTo((long) NUMBER_OF_FOLLOWERS));
+        assertThat(filter.getNumberOfRequestsInFlight(), equalTo(0));
+    }
+
+    @Test public void
+    followers_get_the_exception_of_a_leader_that_fails() throws Exception {
+        // Given
+        SingleFlightFilter filter = new SingleFlightFilter();
+        IllegalStateException failure = new IllegalStateException("Connection reset");
+        BlockingFilterContext server = new BlockingFilterContext(failure);
+        Future<Response> leader = send(filter, server, responseSpec());
+        server.requestReceived.await();
+        List<Future<Response>> followers = sendFollowers(filter, server, responseSpec());
+
+        // When
+        server.respond.countDown();
+
+        // Then
+        List<Future<Response>> all = new ArrayList<Future<Response>>(followers);
+        all.add(leader);
+        for (Future<Response> response : all) {
+            try {
+                response.get();
+                fail("Expected " + IllegalStateException.class.getSimpleName());
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), sameInstance((Throwable) failure));
+            }
+        }
+        assertThat(server.numberOfRequests.get(), equalTo(1));
+    }
+
+    @Test public void
+    followers_get_a_response_configured_by_their_own_response_specification() throws Exception {
+        // Given
+        SingleFlightFilter filter = new SingleFlightFilter();
+        BlockingFilterContext server = new BlockingFilterContext(null);
+        Future<Response> leader = send(filter, server, responseSpec());
+        server.requestReceived.await();
+        ResponseSpecificationImpl followerSpec = responseSpec();
+        followerSpec.parser("text/plain", Parser.JSON);
+        List<Future<Response>> followers = sendFollowers(filter, server, followerSpec);
+
+        // When
+        server.respond.countDown();
+
+        // Then
+        leader.get();
+        for (Future<Response> follower : followers) {
+            RestAssuredResponseImpl response = (RestAssuredResponseImpl) follower.get();
+            assertThat(response.getRpr(), sameInstance(followerSpec.getRpr()));
+            assertThat(response.<String>path("greeting"), equalTo("hello"));
+        }
+    }
+
+    private Future<Response> send(final SingleFlightFilter filter, final FilterContext ctx, final FilterableResponseSpecification responseSpec) {
+        return executor.submit(new Callable<Response>() {
+            public Response call() {
+                return filter.filter(get(), responseSpec, ctx);
+            }
+        });
+    }
+
+    /*
+     * Sends identical requests and waits until all of them wait for the response of the leader
+     */
+    private List<Future<Response>> sendFollowers(SingleFlightFilter filter, FilterContext ctx, FilterableResponseSpecification responseSpec) throws InterruptedException {
+        List<Future<Response>> followers = new ArrayList<Future<Response>>();
+        for (int i = 0; i < NUMBER_OF_FOLLOWERS; i++) {
+            followers.add(send(filter, ctx, responseSpec));
+        }
+        while (filter.getNumberOfCoalescedRequests() < NUMBER_OF_FOLLOWERS) {
+            Thread.sleep(1);
+        }
+        return followers;
+    }
+
+    private static FilterableRequestSpecification get() {
+        RequestSpecificationImpl request = (RequestSpecificationImpl) given();
+        request.setMethod("GET");
+        return request;
+    }
+
+    private static ResponseSpecificationImpl responseSpec() {
+        return new ResponseSpecificationImpl("", null, new ResponseParserRegistrar(), RestAssuredConfig.newConfig(), null);
+    }
+
+    /**
+     * Blocks the request until the test says that the server should respond, then responds or fails
+     */
+    private static class BlockingFilterContext implements FilterContext {
+        private final CountDownLatch requestReceived = new CountDownLatch(1);
+        private final CountDownLatch respond = new CountDownLatch(1);
+        private final AtomicInteger numberOfRequests = new AtomicInteger();
+        private final RuntimeException failure;
+
+        BlockingFilterContext(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        public void setValue(String name, Object value) {
+
+        }
+
+        public <T> T getValue(String name) {
+            return null;
+        }
+
+        public boolean hasValue(String name) {
+            return false;
+        }
+
+        public Response send(RequestSender requestSender) {
+            return null;
+        }
+
+        public Method getRequestMethod() {
+            return null;
+        }
+
+        public String getRequestPath() {
+            return null;
+        }
+
+        public String getOriginalRequestPath() {
+            return null;
+        }
+
+        public String getRequestURI() {
+            return null;
+        }
+
+        public String getCompleteRequestPath() {
+            return null;
+        }
+
+        public Response next(FilterableRequestSpecification request, FilterableResponseSpecification response) {
+            numberOfRequests.incrementAndGet();
+            requestReceived.countDown();
+            try {
+                respond.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return new ResponseBuilder().setStatusCode(200).setHeaders(new Headers(new Header("Content-Type", "text/plain")))
+                    .setContentType("text/plain").setBody("{\"greeting\":\"hello\"}").build();
+        }
+    }
+}
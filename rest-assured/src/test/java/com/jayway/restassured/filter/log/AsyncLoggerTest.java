@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.log;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class AsyncLoggerTest {
+    private static final String NEW_LINE = System.getProperty("line.separator");
+
+    @Test public void
+    flush_waits_until_all_logged_events_are_written_in_order() {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        AsyncLogger logger = new AsyncLogger(new PrintStream(output, true));
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            logger.log(line(String.valueOf(i)));
+        }
+        logger.flush();
+
+        // Then
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            expected.append(i).append(NEW_LINE);
+        }
+        assertThat(output.toString(), equalTo(expected.toString()));
+        logger.close();
+    }
+
+    @Test public void
+    events_are_dropped_when_buffer_is_full_and_overflow_policy_is_drop() throws InterruptedException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        AsyncLogger logger = new AsyncLogger(new PrintStream(output, true), 1, BufferOverflowPolicy.DROP);
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        logger.log(new AsyncLogger.LogEvent() {
+            public void writeTo(PrintStream stream) {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                stream.println("first");
+            }
+        });
+        writing.await();
+        logger.log(line("second"));
+        logger.log(line("third"));
+        release.countDown();
+        logger.close();
+
+        // Then
+        assertThat(logger.getNumberOfDroppedEvents(), equalTo(1L));
+        assertThat(output.toString(), equalTo("first" + NEW_LINE + "second" + NEW_LINE));
+    }
+
+    @Test(expected = IllegalStateException.class) public void
+    cannot_log_after_logger_has_been_closed() {
+        AsyncLogger logger = new AsyncLogger(new PrintStream(new ByteArrayOutputStream()));
+        logger.close();
+
+        logger.log(line("too late"));
+    }
+
+    private static AsyncLogger.LogEvent line(final String line) {
+        return new AsyncLogger.LogEvent() {
+            public void writeTo(PrintStream stream) {
+                stream.println(line);
+            }
+        };
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.replay;
+
+import com.jayway.restassured.internal.filter.StoredResponse;
+import com.jayway.restassured.response.Header;
+import com.jayway.restassured.response.Headers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ResponseStoreTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test public void
+    stored_responses_can_be_read_after_the_store_has_been_reopened() throws Exception {
+        // Given
+        File file = temporaryFolder.newFile("responses.bin");
+        ResponseStore store = ResponseStore.open(file);
+        store.put("one", response(200, "{ \"one\" : 1 }"));
+        store.put("two", response(404, "not found"));
+        store.close();
+
+        // When
+        ResponseStore reopened = ResponseStore.open(file);
+        StoredResponse one = reopened.get("one");
+        StoredResponse two = reopened.get("two");
+
+        // Then
+        assertThat(reopened.size(), equalTo(2));
+        assertThat(one.getStatusCode(), equalTo(200));
+        assertThat(one.getHeaders().getValue("Content-Type"), equalTo("application/json"));
+        assertThat(new String(one.getBody(), "UTF-8"), equalTo("{ \"one\" : 1 }"));
+        assertThat(two.getStatusLine(), equalTo("HTTP/1.1 404"));
+        assertThat(new String(two.getBody(), "UTF-8"), equalTo("not found"));
+        reopened.close();
+    }
+
+    @Test public void
+    the_latest_response_is_returned_when_a_request_is_recorded_more_than_once() throws Exception {
+        // Given
+        ResponseStore store = ResponseStore.open(temporaryFolder.newFile("responses.bin"));
+
+        // When
+        store.put("one", response(200, "first"));
+        store.put("one", response(200, "second"));
+
+        // Then
+        assertThat(store.size(), equalTo(1));
+        assertThat(new String(store.get("one").getBody(), "UTF-8"), equalTo("second"));
+        assertThat(store.get("two"), nullValue());
+        store.close();
+    }
+
+    @Test public void
+    partially_written_records_are_discarded_when_the_store_is_opened() throws Exception {
+        // Given
+        File file = temporaryFolder.newFile("responses.bin");
+        ResponseStore store = ResponseStore.open(file);
+        store.put("one", response(200, "first"));
+        store.put("two", response(200, "second"));
+        store.close();
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        randomAccessFile.setLength(randomAccessFile.length() - 3);
+        randomAccessFile.close();
+
+        // When
+        ResponseStore reopened = ResponseStore.open(file);
+        reopened.put("three", response(200, "third"));
+
+        // Then
+        assertThat(reopened.contains("one"), is(true));
+        assertThat(reopened.contains("two"), is(false));
+        assertThat(new String(reopened.get("three").getBody(), "UTF-8"), equalTo("third"));
+        reopened.close();
+    }
+
+    @Test public void
+    responses_can_be_read_while_new_responses_are_recorded() throws Exception {
+        // Given
+        ResponseStore store = ResponseStore.open(temporaryFolder.newFile("responses.bin"));
+        store.put("one", response(200, "first"));
+        StoredResponse first = store.get("one");
+
+        // When
+        store.put("two", response(200, "second"));
+
+        // Then
+        assertThat(new String(first.getBody(), "UTF-8"), equalTo("first"));
+        assertThat(new String(store.get("two").getBody(), "UTF-8"), equalTo("second"));
+        assertThat(new String(store.get("one").getBody(), "UTF-8"), equalTo("first"));
+        store.close();
+    }
+
+    @Test public void
+    files_that_are_not_response_stores_are_reported_and_left_untouched() throws Exception {
+        // Given
+        File file = temporaryFolder.newFile("responses.bin");
+        ResponseStore store = ResponseStore.open(file);
+        store.put("one", response(200, "first"));
+        store.close();
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        randomAccessFile.seek(randomAccessFile.length());
+        randomAccessFile.write("not a record".getBytes("UTF-8"));
+        long length = randomAccessFile.length();
+        randomAccessFile.close();
+
+        // When
+        try {
+            ResponseStore.open(file);
+            fail("Expected " + IllegalStateException.class.getSimpleName());
+        } catch (IllegalStateException e) {
+            // Then
+            assertThat(e.getMessage(), startsWith("Response store " + file + " is corrupt"));
+            assertThat(file.length(), equalTo(length));
+        }
+    }
+
+    private static StoredResponse response(int statusCode, String body) throws Exception {
+        return new StoredResponse(statusCode, "HTTP/1.1 " + statusCode, new Headers(new Header("Content-Type", "application/json")), body.getBytes("UTF-8"));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.time;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class LatencyHistogramTest {
+
+    @Test public void
+    percentiles_are_within_the_configured_precision() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        for (long i = 1; i <= 100000; i++) {
+            histogram.recordValue(i * 1000);
+        }
+
+        // Then
+        assertThat(histogram.getTotalCount(), equalTo(100000L));
+        assertThat(histogram.getMinValue(), equalTo(1000L));
+        assertThat(histogram.getMaxValue(), equalTo(100000000L));
+        assertThat((double) histogram.getValueAtPercentile(50), closeTo(50000000, 50000));
+        assertThat((double) histogram.getValueAtPercentile(99), closeTo(99000000, 99000));
+        assertThat(histogram.getValueAtPercentile(100), equalTo(100000000L));
+    }
+
+    @Test public void
+    adding_histograms_merges_counts_min_and_max() {
+        // Given
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.recordValue(10);
+        second.recordValue(5);
+        second.recordValue(20);
+
+        // When
+        first.add(second);
+
+        // Then
+        assertThat(first.getTotalCount(), equalTo(3L));
+        assertThat(first.getMinValue(), equalTo(5L));
+        assertThat(first.getMaxValue(), equalTo(20L));
+    }
+
+    @Test public void
+    recording_with_expected_interval_corrects_for_coordinated_omission() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        histogram.recordValueWithExpectedInterval(100, 10);
+
+        // Then
+        assertThat(histogram.getTotalCount(), equalTo(10L));
+        assertThat(histogram.getMinValue(), equalTo(10L));
+        assertThat(histogram.getMaxValue(), equalTo(100L));
+    }
+
+    @Test public void
+    values_larger_than_highest_trackable_value_are_recorded_as_highest_trackable_value() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram(1000, 2);
+
+        // When
+        histogram.recordValue(5000);
+
+        // Then
+        assertThat(histogram.getMaxValue(), equalTo(1000L));
+    }
+}
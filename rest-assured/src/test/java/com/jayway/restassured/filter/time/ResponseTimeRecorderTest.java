@@ -0,0 +1,174 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.time;
+
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.internal.RestAssuredResponseImpl;
+import com.jayway.restassured.internal.http.Method;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+import com.jayway.restassured.specification.RequestSender;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class ResponseTimeRecorderTest {
+
+    @Test public void
+    filter_records_the_time_it_takes_for_the_rest_of_the_filter_chain_to_respond() {
+        // Given
+        ResponseTimeRecorder recorder = new ResponseTimeRecorder();
+        SlowFilterContext ctx = new SlowFilterContext(20);
+
+        // When
+        Response response = recorder.filter(null, null, ctx);
+
+        // Then
+        assertThat(response, sameInstance(ctx.response));
+        assertThat(recorder.count(), equalTo(1L));
+        assertThat(recorder.timeAtPercentile(100, TimeUnit.MILLISECONDS), greaterThanOrEqualTo(20L));
+    }
+
+    @Test public void
+    recorder_with_expected_interval_corrects_percentiles_for_coordinated_omission() {
+        // Given
+        ResponseTimeRecorder uncorrected = new ResponseTimeRecorder();
+        ResponseTimeRecorder corrected = new ResponseTimeRecorder(10, TimeUnit.MILLISECONDS);
+
+        // When
+        for (int i = 0; i < 99; i++) {
+            uncorrected.recordResponseTime(1, TimeUnit.MILLISECONDS);
+            corrected.recordResponseTime(1, TimeUnit.MILLISECONDS);
+        }
+        // While waiting for this response 99 requests should have been sent with response times of 990, 980, ..., 10 ms
+        uncorrected.recordResponseTime(1000, TimeUnit.MILLISECONDS);
+        corrected.recordResponseTime(1000, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertThat(uncorrected.count(), equalTo(100L));
+        assertThat(uncorrected.timeAtPercentile(75, TimeUnit.MILLISECONDS), equalTo(1L));
+        assertThat(corrected.count(), equalTo(199L));
+        assertThat(corrected.timeAtPercentile(75, TimeUnit.MILLISECONDS), equalTo(500L));
+        assertThat(corrected.timeAtPercentile(100, TimeUnit.MILLISECONDS), equalTo(1000L));
+    }
+
+    @Test public void
+    recording_the_latency_since_the_intended_start_time_includes_the_time_spent_waiting_to_send_the_request() throws Exception {
+        // Given
+        ResponseTimeRecorder recorder = new ResponseTimeRecorder();
+        long intendedStart = System.nanoTime();
+
+        // When
+        Thread.sleep(20);
+        recorder.recordLatencySince(intendedStart);
+
+        // Then
+        assertThat(recorder.timeAtPercentile(100, TimeUnit.MILLISECONDS), greaterThanOrEqualTo(20L));
+    }
+
+    @Test public void
+    merging_adds_the_response_times_of_the_other_recorder() {
+        // Given
+        ResponseTimeRecorder first = new ResponseTimeRecorder();
+        ResponseTimeRecorder second = new ResponseTimeRecorder();
+        first.recordResponseTime(10, TimeUnit.MILLISECONDS);
+        second.recordResponseTime(5, TimeUnit.MILLISECONDS);
+        second.recordResponseTime(20, TimeUnit.MILLISECONDS);
+
+        // When
+        ResponseTimeRecorder merged = first.merge(second);
+
+        // Then
+        assertThat(merged, sameInstance(first));
+        assertThat(first.count(), equalTo(3L));
+        assertThat(first.timeAtPercentile(0, TimeUnit.MILLISECONDS), equalTo(5L));
+        assertThat(first.timeAtPercentile(100, TimeUnit.MILLISECONDS), equalTo(20L));
+        assertThat(second.count(), equalTo(2L));
+    }
+
+    @Test public void
+    histogram_is_a_snapshot_that_is_not_affected_by_later_recordings() {
+        // Given
+        ResponseTimeRecorder recorder = new ResponseTimeRecorder();
+        recorder.recordResponseTime(10, TimeUnit.MILLISECONDS);
+
+        // When
+        LatencyHistogram histogram = recorder.histogram();
+        recorder.recordResponseTime(20, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertThat(histogram.getTotalCount(), equalTo(1L));
+        assertThat(recorder.count(), equalTo(2L));
+    }
+
+    private static class SlowFilterContext implements FilterContext {
+        private final long delayMillis;
+        private final Response response = new RestAssuredResponseImpl();
+
+        SlowFilterContext(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        public Response next(FilterableRequestSpecification request, FilterableResponseSpecification response) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return this.response;
+        }
+
+        public void setValue(String name, Object value) {
+        }
+
+        public <T> T getValue(String name) {
+            return null;
+        }
+
+        public boolean hasValue(String name) {
+            return false;
+        }
+
+        public Response send(RequestSender requestSender) {
+            return null;
+        }
+
+        public Method getRequestMethod() {
+            return null;
+        }
+
+        public String getRequestPath() {
+            return null;
+        }
+
+        public String getOriginalRequestPath() {
+            return null;
+        }
+
+        public String getRequestURI() {
+            return null;
+        }
+
+        public String getCompleteRequestPath() {
+            return null;
+        }
+    }
+}
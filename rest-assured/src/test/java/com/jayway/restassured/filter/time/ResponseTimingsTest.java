@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.time;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class ResponseTimingsTest {
+
+    @Test public void
+    phases_that_are_not_recorded_are_not_measured() {
+        // When
+        ResponseTimings timings = new ResponseTimings();
+
+        // Then
+        assertThat(timings.isMeasured(TimingPhase.WAIT_FOR_FIRST_BYTE), is(false));
+        assertThat(timings.timeIn(TimingPhase.WAIT_FOR_FIRST_BYTE, TimeUnit.MILLISECONDS), equalTo(ResponseTimings.NOT_MEASURED));
+        assertThat(timings.totalNanos(), equalTo(ResponseTimings.NOT_MEASURED));
+    }
+
+    @Test public void
+    recorded_time_is_accumulated_per_phase_and_converted_without_losing_sub_millisecond_precision() {
+        // Given
+        ResponseTimings timings = new ResponseTimings();
+
+        // When
+        timings.record(TimingPhase.BODY_CONSUMPTION, 300000L);
+        timings.record(TimingPhase.BODY_CONSUMPTION, 200000L);
+        timings.record(TimingPhase.REQUEST_WRITE, 1000L);
+
+        // Then
+        assertThat(timings.timeIn(TimingPhase.BODY_CONSUMPTION, TimeUnit.MICROSECONDS), equalTo(500L));
+        assertThat(timings.timeIn(TimingPhase.BODY_CONSUMPTION, TimeUnit.MILLISECONDS), equalTo(0L));
+        assertThat(timings.totalNanos(), equalTo(501000L));
+    }
+
+    @Test public void
+    filter_chain_phase_is_the_time_between_start_and_end_of_the_filter_chain_that_is_not_attributed_to_other_phases() throws Exception {
+        // Given
+        ResponseTimings timings = new ResponseTimings();
+        long start = System.nanoTime();
+        timings.filterChainStarted();
+        Thread.sleep(20);
+        timings.record(TimingPhase.REQUEST_WRITE, 5000000L);
+        timings.record(TimingPhase.WAIT_FOR_FIRST_BYTE, 10000000L);
+
+        // When
+        boolean recorded = timings.filterChainEnded();
+
+        // Then
+        long elapsed = System.nanoTime() - start;
+        assertThat(recorded, is(true));
+        assertThat(timings.nanos(TimingPhase.FILTER_CHAIN), allOf(greaterThanOrEqualTo(5000000L), lessThanOrEqualTo(elapsed - 15000000L)));
+    }
+
+    @Test public void
+    filter_chain_phase_is_not_recorded_if_the_filter_chain_has_not_started() {
+        // Given
+        ResponseTimings timings = new ResponseTimings();
+
+        // When
+        boolean recorded = timings.filterChainEnded();
+
+        // Then
+        assertThat(recorded, is(false));
+        assertThat(timings.isMeasured(TimingPhase.FILTER_CHAIN), is(false));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.time;
+
+import com.jayway.restassured.builder.ResponseBuilder;
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.internal.RestAssuredResponseImpl;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static com.jayway.restassured.RestAssured.given;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class TimingPhaseTest {
+    // The 2 ms that the response waited for the first byte is subtracted from the 50 ms spent in the filter chain
+
+    @Test public void
+    time_spent_in_all_filters_is_included_in_the_filter_chain_phase() {
+        // When
+        Response response = given().filter(new Sleep(50)).filter(new RespondWithTimings(2000000L)).get("/greeting");
+
+        // Then
+        ResponseTimings timings = response.timings();
+        assertThat(timings.timeIn(TimingPhase.FILTER_CHAIN, MILLISECONDS), greaterThanOrEqualTo(45L));
+        assertThat(timings.timeIn(TimingPhase.WAIT_FOR_FIRST_BYTE, TimeUnit.NANOSECONDS), equalTo(2000000L));
+        assertThat(timings.isMeasured(TimingPhase.VALIDATION), is(true));
+    }
+
+    @Test public void
+    phase_time_can_be_validated_by_the_response_specification() {
+        // When
+        given().filter(new Sleep(50)).filter(new RespondWithTimings(2000000L)).
+        expect().
+                time(TimingPhase.FILTER_CHAIN, greaterThanOrEqualTo(45L), MILLISECONDS).
+                time(TimingPhase.WAIT_FOR_FIRST_BYTE, equalTo(2L), MILLISECONDS).
+        when().
+                get("/greeting");
+    }
+
+    @Test public void
+    phase_time_can_be_validated_by_the_validatable_response() {
+        // When
+        given().filter(new Sleep(50)).filter(new RespondWithTimings(2000000L)).
+        when().
+                get("/greeting").
+        then().
+                time(TimingPhase.FILTER_CHAIN, greaterThanOrEqualTo(45L), MILLISECONDS).
+                time(TimingPhase.WAIT_FOR_FIRST_BYTE, lessThan(3L), MILLISECONDS);
+    }
+
+    @Test public void
+    phase_time_validation_fails_when_the_time_does_not_match() {
+        // Given
+        Response response = given().filter(new RespondWithTimings(2000000L)).get("/greeting");
+
+        // When
+        try {
+            response.then().time(TimingPhase.WAIT_FOR_FIRST_BYTE, lessThan(1000L), TimeUnit.NANOSECONDS);
+            fail("Expected validation to fail");
+        } catch (AssertionError e) {
+            // Then
+            assertThat(e.getMessage(), containsString("Expected WAIT_FOR_FIRST_BYTE time was not a value less than <1000L> nanoseconds, was 2000000 nanoseconds (2000000 nanoseconds)."));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    validation_phase_cannot_be_validated() {
+        given().expect().time(TimingPhase.VALIDATION, lessThan(1L), MILLISECONDS);
+    }
+
+    private static class Sleep implements Filter {
+        private final long millis;
+
+        Sleep(long millis) {
+            this.millis = millis;
+        }
+
+        public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ctx.next(requestSpec, responseSpec);
+        }
+    }
+
+    /**
+     * Returns a canned response, as if it was received after waiting the given time for the first byte, instead of sending the request
+     */
+    private static class RespondWithTimings implements Filter {
+        private final long waitForFirstByteNanos;
+
+        RespondWithTimings(long waitForFirstByteNanos) {
+            this.waitForFirstByteNanos = waitForFirstByteNanos;
+        }
+
+        public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+            ResponseTimings timings = ctx.getValue(TimingFilter.RESPONSE_TIMINGS);
+            timings.record(TimingPhase.WAIT_FOR_FIRST_BYTE, waitForFirstByteNanos);
+            RestAssuredResponseImpl response = (RestAssuredResponseImpl) new ResponseBuilder().setStatusCode(200).setBody("Hello World").build();
+            response.setFilterContextProperties(Collections.singletonMap(TimingFilter.RESPONSE_TIMINGS, timings));
+            return response;
+        }
+    }
+}
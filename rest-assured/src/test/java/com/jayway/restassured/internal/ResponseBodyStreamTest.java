@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.internal;
+
+import com.jayway.restassured.builder.ResponseBuilder;
+import com.jayway.restassured.config.RestAssuredConfig;
+import com.jayway.restassured.http.ContentType;
+import com.jayway.restassured.response.CloseableIterator;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ResponseBodyStreamTest {
+
+    @Test public void
+    closing_the_iterator_before_all_elements_have_been_read_closes_the_body() throws Exception {
+        // Given
+        CloseTrackingInputStream body = new CloseTrackingInputStream("[{\"id\":1},{\"id\":2},{\"id\":3}]");
+        RestAssuredResponseImpl response = (RestAssuredResponseImpl) new ResponseBuilder().setStatusCode(200).setContentType(ContentType.JSON).setBody(body).build();
+        response.setConfig(RestAssuredConfig.newConfig());
+        CloseableIterator<Map> items = response.stream("", Map.class);
+
+        // When
+        Map first = items.next();
+        items.close();
+
+        // Then
+        assertThat(first.get("id"), equalTo((Object) 1));
+        assertThat(body.closed, is(true));
+        assertThat(items.hasNext(), is(false));
+    }
+
+    private static class CloseTrackingInputStream extends ByteArrayInputStream {
+        private boolean closed;
+
+        CloseTrackingInputStream(String content) throws IOException {
+            super(content.getBytes("UTF-8"));
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.internal.filter;
+
+import com.jayway.restassured.internal.RequestSpecificationImpl;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+
+import static com.jayway.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class RequestFingerprintTest {
+
+    @Test public void
+    input_stream_bodies_are_fingerprinted_by_their_content() throws Exception {
+        // Given
+        RequestFingerprint fingerprint = new RequestFingerprint();
+        FilterableRequestSpecification first = post(given().body(new ByteArrayInputStream("first".getBytes("UTF-8"))));
+        FilterableRequestSpecification second = post(given().body(new ByteArrayInputStream("second".getBytes("UTF-8"))));
+        FilterableRequestSpecification sameAsFirst = post(given().body("first".getBytes("UTF-8")));
+
+        // When
+        String fingerprintOfFirst = fingerprint.of(first);
+
+        // Then
+        assertThat(fingerprintOfFirst, not(equalTo(fingerprint.of(second))));
+        assertThat(fingerprintOfFirst, equalTo(fingerprint.of(sameAsFirst)));
+        assertThat(new String((byte[]) first.getBody(), "UTF-8"), equalTo("first"));
+    }
+
+    @Test public void
+    multi_parts_with_input_stream_content_cannot_be_fingerprinted() {
+        // Given
+        FilterableRequestSpecification request = post(given().multiPart("file", "file.txt", new ByteArrayInputStream(new byte[]{1, 2, 3})));
+
+        // When
+        try {
+            new RequestFingerprint().of(request);
+            fail("Expected " + IllegalArgumentException.class.getSimpleName());
+        } catch (IllegalArgumentException e) {
+            // Then
+            assertThat(e.getMessage(), containsString("\"file\""));
+        }
+    }
+
+    private static FilterableRequestSpecification post(Object requestSpec) {
+        ((RequestSpecificationImpl) requestSpec).setMethod("POST");
+        return (FilterableRequestSpecification) requestSpec;
+    }
+}
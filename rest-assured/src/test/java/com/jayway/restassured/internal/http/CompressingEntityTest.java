@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import com.jayway.restassured.config.EncoderConfig.ContentCompression;
+import org.apache.http.entity.StringEntity;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class CompressingEntityTest {
+
+    @Test public void
+    gzip_compresses_the_wrapped_entity_while_writing() throws Exception {
+        // Given
+        CompressingEntity entity = new CompressingEntity(new StringEntity("{\"hello\":\"world\"}", "UTF-8"), ContentCompression.GZIP);
+
+        // When
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        entity.writeTo(outputStream);
+
+        // Then
+        assertThat(entity.getContentEncoding().getValue(), equalTo("gzip"));
+        assertThat(entity.getContentLength(), equalTo(-1L));
+        assertThat(entity.isChunked(), is(true));
+        assertThat(read(new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray()))), equalTo("{\"hello\":\"world\"}"));
+    }
+
+    @Test public void
+    deflate_compresses_the_wrapped_entity_using_the_zlib_format() throws Exception {
+        // Given
+        CompressingEntity entity = new CompressingEntity(new StringEntity("{\"hello\":\"world\"}", "UTF-8"), ContentCompression.DEFLATE);
+
+        // When
+        InputStream content = entity.getContent();
+
+        // Then
+        assertThat(entity.getContentEncoding().getValue(), equalTo("deflate"));
+        assertThat(read(new InflaterInputStream(content)), equalTo("{\"hello\":\"world\"}"));
+    }
+
+    @Test public void
+    doesnt_close_the_stream_that_the_compressed_body_is_written_to() throws Exception {
+        // Given
+        CompressingEntity entity = new CompressingEntity(new StringEntity("hello"), ContentCompression.GZIP);
+        final boolean[] closed = new boolean[1];
+        OutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+            }
+        };
+
+        // When
+        entity.writeTo(outputStream);
+
+        // Then
+        assertThat(closed[0], is(false));
+    }
+
+    private static String read(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toString("UTF-8");
+    }
+}
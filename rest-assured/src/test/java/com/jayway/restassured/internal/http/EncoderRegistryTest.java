@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.FileEntity;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class EncoderRegistryTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test public void
+    file_bodies_are_streamed_with_the_length_of_the_file_regardless_of_content_type() throws Exception {
+        // Given
+        EncoderRegistry encoderRegistry = new EncoderRegistry();
+        File file = temporaryFolder.newFile("body.json");
+        write(file, "{ \"message\" : \"Hello wörld\" }");
+
+        // When
+        HttpEntity json = encoderRegistry.encodeJSON("application/json; charset=UTF-8", file);
+        HttpEntity text = encoderRegistry.encodeText("text/plain; charset=UTF-8", file);
+        HttpEntity xml = encoderRegistry.encodeXML("application/xml", file);
+        HttpEntity binary = encoderRegistry.encodeStream("application/octet-stream", file);
+
+        // Then
+        assertThat(json, instanceOf(FileEntity.class));
+        assertThat(json.getContentLength(), equalTo(file.length()));
+        assertThat(json.getContentType().getValue(), equalTo("application/json; charset=UTF-8"));
+        assertThat(json.isChunked(), is(false));
+        assertThat(writtenContent(json), equalTo("{ \"message\" : \"Hello wörld\" }"));
+        assertThat(text, instanceOf(FileEntity.class));
+        assertThat(text.getContentType().getValue(), equalTo("text/plain; charset=UTF-8"));
+        assertThat(xml, instanceOf(FileEntity.class));
+        assertThat(xml.getContentType().getValue(), equalTo("application/xml"));
+        assertThat(binary, instanceOf(FileEntity.class));
+        assertThat(binary.getContentLength(), equalTo(file.length()));
+        assertThat(binary.getContentType().getValue(), equalTo("application/octet-stream"));
+    }
+
+    @Test public void
+    input_stream_bodies_of_unknown_length_are_sent_chunked() throws Exception {
+        // Given
+        EncoderRegistry encoderRegistry = new EncoderRegistry();
+
+        // When
+        HttpEntity entity = encoderRegistry.encodeJSON("application/json", new BufferedInputStream(new ByteArrayInputStream("{ \"a\" : 1 }".getBytes("UTF-8"))));
+
+        // Then
+        assertThat(entity.isChunked(), is(true));
+        assertThat(entity.getContentLength(), equalTo(-1L));
+        assertThat(entity.getContentType().getValue(), equalTo("application/json"));
+        assertThat(writtenContent(entity), equalTo("{ \"a\" : 1 }"));
+    }
+
+    @Test public void
+    byte_array_input_stream_bodies_are_sent_with_their_length() throws Exception {
+        // Given
+        EncoderRegistry encoderRegistry = new EncoderRegistry();
+
+        // When
+        HttpEntity entity = encoderRegistry.encodeText("text/plain", new ByteArrayInputStream("some text".getBytes("UTF-8")));
+
+        // Then
+        assertThat(entity.isChunked(), is(false));
+        assertThat(entity.getContentLength(), equalTo(9L));
+        assertThat(writtenContent(entity), equalTo("some text"));
+    }
+
+    @Test(expected = RuntimeException.class) public void
+    missing_files_are_reported_when_the_body_is_encoded() throws Exception {
+        new EncoderRegistry().encodeJSON("application/json", new File(temporaryFolder.getRoot(), "non-existing.json"));
+    }
+
+    private static void write(File file, String content) throws IOException {
+        FileOutputStream outputStream = new FileOutputStream(file);
+        try {
+            outputStream.write(content.getBytes("UTF-8"));
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    private static String writtenContent(HttpEntity entity) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        entity.writeTo(outputStream);
+        return outputStream.toString("UTF-8");
+    }
+}
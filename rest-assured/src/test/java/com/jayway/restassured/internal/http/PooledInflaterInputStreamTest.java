@@ -0,0 +1,150 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+public class PooledInflaterInputStreamTest {
+
+    @Test public void
+    decompresses_gzip_content_that_arrives_in_small_chunks() throws Exception {
+        // Given
+        byte[] content = randomText(100000);
+        InputStream gzip = oneByteAtATime(new ByteArrayInputStream(gzip(content)));
+
+        // When
+        byte[] decompressed = read(PooledInflaterInputStream.gzip(gzip));
+
+        // Then
+        assertArrayEquals(content, decompressed);
+    }
+
+    @Test public void
+    decompresses_all_members_of_a_multi_member_gzip_stream() throws Exception {
+        // Given
+        ByteArrayOutputStream members = new ByteArrayOutputStream();
+        members.write(gzip("hello ".getBytes("UTF-8")));
+        members.write(gzip("world".getBytes("UTF-8")));
+
+        // When
+        byte[] decompressed = read(PooledInflaterInputStream.gzip(new ByteArrayInputStream(members.toByteArray())));
+
+        // Then
+        assertThat(new String(decompressed, "UTF-8"), equalTo("hello world"));
+    }
+
+    @Test public void
+    decompresses_zlib_and_raw_deflate_content() throws Exception {
+        // Given
+        byte[] content = randomText(10000);
+
+        // When
+        byte[] zlib = read(PooledInflaterInputStream.deflate(new ByteArrayInputStream(deflate(content, false)), false));
+        byte[] raw = read(PooledInflaterInputStream.deflate(new ByteArrayInputStream(deflate(content, true)), true));
+
+        // Then
+        assertArrayEquals(content, zlib);
+        assertArrayEquals(content, raw);
+    }
+
+    @Test public void
+    empty_gzip_content_is_decompressed_to_empty_content() throws Exception {
+        assertThat(read(PooledInflaterInputStream.gzip(new ByteArrayInputStream(new byte[0]))).length, equalTo(0));
+    }
+
+    @Test(expected = ZipException.class) public void
+    throws_zip_exception_when_the_gzip_trailer_is_corrupt() throws Exception {
+        // Given
+        byte[] gzip = gzip("hello".getBytes("UTF-8"));
+        gzip[gzip.length - 5]++;
+
+        // When
+        read(PooledInflaterInputStream.gzip(new ByteArrayInputStream(gzip)));
+    }
+
+    @Test(expected = IOException.class) public void
+    cannot_read_from_a_closed_stream() throws Exception {
+        // Given
+        PooledInflaterInputStream inputStream = PooledInflaterInputStream.gzip(new ByteArrayInputStream(gzip("hello".getBytes("UTF-8"))));
+        inputStream.close();
+
+        // When
+        inputStream.read();
+    }
+
+    private static byte[] randomText(int length) {
+        Random random = new Random(1);
+        byte[] text = new byte[length];
+        for (int i = 0; i < length; i++) {
+            text[i] = (byte) ('a' + random.nextInt(8));
+        }
+        return text;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = new GZIPOutputStream(outputStream);
+        gzip.write(content);
+        gzip.close();
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] content, boolean nowrap) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap);
+        DeflaterOutputStream deflate = new DeflaterOutputStream(outputStream, deflater);
+        deflate.write(content);
+        deflate.close();
+        deflater.end();
+        return outputStream.toByteArray();
+    }
+
+    private static InputStream oneByteAtATime(InputStream inputStream) {
+        return new FilterInputStream(inputStream) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+    }
+
+    private static byte[] read(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1000];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        inputStream.close();
+        return outputStream.toByteArray();
+    }
+}
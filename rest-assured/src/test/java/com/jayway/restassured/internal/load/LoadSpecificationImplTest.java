@@ -0,0 +1,187 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.load;
+
+import com.jayway.restassured.builder.ResponseBuilder;
+import com.jayway.restassured.builder.ResponseSpecBuilder;
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.response.LoadResult;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jayway.restassured.RestAssured.given;
+import static com.jayway.restassured.RestAssured.load;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class LoadSpecificationImplTest {
+
+    @Test public void
+    threads_send_requests_until_the_deadline_and_are_stopped_when_the_load_test_ends() {
+        // Given
+        Respond respond = new Respond(5);
+
+        // When
+        LoadResult result = load(given().filter(respond)).withConcurrency(3).during(200, MILLISECONDS).get("/greeting");
+
+        // Then
+        assertThat(respond.threadNames(), containsInAnyOrder("rest-assured-load-1", "rest-assured-load-2", "rest-assured-load-3"));
+        assertThat(result.getDurationIn(MILLISECONDS), allOf(greaterThanOrEqualTo(200L), lessThan(2000L)));
+        assertThat(result.getNumberOfRequests(), equalTo((long) respond.numberOfRequests()));
+        assertThat(result.getNumberOfSuccessfulRequests(), equalTo(result.getNumberOfRequests()));
+        assertThat(liveLoadThreads(), empty());
+    }
+
+    @Test public void
+    latency_is_measured_from_the_intended_start_time_when_sending_at_a_fixed_rate() {
+        // Given
+        Respond respond = new Respond(0).delayFirstRequestBy(50);
+
+        // When
+        LoadResult result = load(given().filter(respond)).atRate(100, SECONDS).during(200, MILLISECONDS).get("/greeting");
+
+        // Then
+        // Every request scheduled before the deadline is sent, the requests that were scheduled while the first one was
+        // delayed are sent late and their latency includes the time they were waiting (at least 40, 30, 20 and 10 ms).
+        assertThat(result.getNumberOfRequests(), equalTo(20L));
+        assertThat(result.getLatencies().getMaxValue(), greaterThanOrEqualTo(MILLISECONDS.toNanos(50)));
+        assertThat(result.getLatencies().getMean(), greaterThanOrEqualTo((double) MILLISECONDS.toNanos(150) / 20));
+    }
+
+    @Test public void
+    errors_and_validation_failures_are_counted_separately() {
+        // Given
+        Respond respond = new Respond(0).failEvery(4, 0).respondWithStatusCodeEvery(4, 1, 500);
+
+        // When
+        LoadResult result = load(given().filter(respond)).expect(new ResponseSpecBuilder().expectStatusCode(200).build()).
+                atRate(1000, SECONDS).during(20, MILLISECONDS).get("/greeting");
+
+        // Then
+        assertThat(result.getNumberOfRequests(), equalTo(20L));
+        assertThat(result.getNumberOfErrors(), equalTo(5L));
+        assertThat(result.getNumberOfValidationFailures(), equalTo(5L));
+        assertThat(result.getNumberOfSuccessfulRequests(), equalTo(10L));
+        assertThat(result.getFirstFailure(), instanceOf(IllegalStateException.class));
+    }
+
+    @Test public void
+    warm_up_requests_are_not_part_of_the_result() {
+        // Given
+        Respond respond = new Respond(0).failFirst(3);
+
+        // When
+        LoadResult result = load(given().filter(respond)).warmUp(3).atRate(1000, SECONDS).during(20, MILLISECONDS).get("/greeting");
+
+        // Then
+        assertThat(respond.numberOfRequests(), equalTo(23));
+        assertThat(result.getNumberOfRequests(), equalTo(20L));
+        assertThat(result.getNumberOfErrors(), equalTo(0L));
+        assertThat(result.getLatencies().getTotalCount(), equalTo(20L));
+    }
+
+    private static Set<String> liveLoadThreads() {
+        Set<String> names = new HashSet<String>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.isAlive() && thread.getName().startsWith("rest-assured-load-")) {
+                names.add(thread.getName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Returns a canned response instead of sending the request. The n:th request (counting from 0) can be delayed, fail or get another status code.
+     */
+    private static class Respond implements Filter {
+        private final long millis;
+        private final AtomicInteger requests = new AtomicInteger();
+        private final Set<String> threadNames = Collections.synchronizedSet(new HashSet<String>());
+        private long firstRequestDelay = 0;
+        private int failFirst = 0;
+        private int failEvery = 0;
+        private int failOffset = 0;
+        private int statusCodeEvery = 0;
+        private int statusCodeOffset = 0;
+        private int statusCode = 200;
+
+        Respond(long millis) {
+            this.millis = millis;
+        }
+
+        Respond delayFirstRequestBy(long millis) {
+            this.firstRequestDelay = millis;
+            return this;
+        }
+
+        Respond failFirst(int numberOfRequests) {
+            this.failFirst = numberOfRequests;
+            return this;
+        }
+
+        Respond failEvery(int every, int offset) {
+            this.failEvery = every;
+            this.failOffset = offset;
+            return this;
+        }
+
+        Respond respondWithStatusCodeEvery(int every, int offset, int statusCode) {
+            this.statusCodeEvery = every;
+            this.statusCodeOffset = offset;
+            this.statusCode = statusCode;
+            return this;
+        }
+
+        int numberOfRequests() {
+            return requests.get();
+        }
+
+        Set<String> threadNames() {
+            return new HashSet<String>(threadNames);
+        }
+
+        public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+            final int request = requests.getAndIncrement();
+            threadNames.add(Thread.currentThread().getName());
+            sleep(request == 0 ? firstRequestDelay + millis : millis);
+            if (request < failFirst || (failEvery > 0 && request % failEvery == failOffset)) {
+                throw new IllegalStateException("Request " + request + " failed");
+            }
+            final int status = statusCodeEvery > 0 && request % statusCodeEvery == statusCodeOffset ? statusCode : 200;
+            return new ResponseBuilder().setStatusCode(status).setBody("Hello World").build();
+        }
+
+        private static void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
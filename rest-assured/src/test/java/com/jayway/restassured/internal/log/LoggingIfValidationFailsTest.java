@@ -0,0 +1,108 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.internal.log;
+
+import com.jayway.restassured.builder.ResponseBuilder;
+import com.jayway.restassured.config.LogConfig;
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.filter.log.RequestLoggingFilter;
+import com.jayway.restassured.filter.log.ResponseLoggingFilter;
+import com.jayway.restassured.internal.RequestSpecificationImpl;
+import com.jayway.restassured.internal.mapping.StreamingSerializedBody;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+import com.jayway.restassured.specification.RequestSpecification;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Collections;
+
+import static com.jayway.restassured.RestAssured.given;
+import static com.jayway.restassured.config.RestAssuredConfig.newConfig;
+import static com.jayway.restassured.filter.log.LogDetail.ALL;
+import static com.jayway.restassured.http.ContentType.JSON;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class LoggingIfValidationFailsTest {
+
+    @Test public void
+    nothing_is_rendered_when_validation_passes() {
+        // Given
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        RequestSpecification request = given().
+                config(newConfig().logConfig(new LogConfig(new PrintStream(log), true))).
+                log().ifValidationFails().
+                contentType(JSON).
+                body(Collections.singletonMap("hello", "world"));
+        request.expect().log().ifValidationFails().statusCode(200);
+        request.filter(new RespondWithGreeting());
+        StreamingSerializedBody body = (StreamingSerializedBody) ((RequestSpecificationImpl) request).getUnserializedBody();
+
+        // When
+        request.post("/greeting");
+
+        // Then
+        assertThat(body.isSerialized(), is(false));
+        assertThat(log.toString(), isEmptyString());
+    }
+
+    @Test public void
+    rendered_log_matches_eagerly_printed_log_when_validation_fails() {
+        // Given
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        ByteArrayOutputStream eagerRequestLog = new ByteArrayOutputStream();
+        ByteArrayOutputStream eagerResponseLog = new ByteArrayOutputStream();
+        RequestSpecification request = given().
+                config(newConfig().logConfig(new LogConfig(new PrintStream(log), true))).
+                log().ifValidationFails().
+                filter(new RequestLoggingFilter(ALL, true, new PrintStream(eagerRequestLog))).
+                filter(new ResponseLoggingFilter(ALL, true, new PrintStream(eagerResponseLog))).
+                header("X-Request-Id", "42").
+                queryParam("lang", "en").
+                contentType(JSON).
+                body(Collections.singletonMap("hello", "world"));
+        request.expect().log().ifValidationFails().statusCode(201);
+        request.filter(new RespondWithGreeting());
+
+        // When
+        try {
+            request.post("/greeting");
+            fail("Expected validation to fail");
+        } catch (AssertionError e) {
+            // Expected
+        }
+
+        // Then
+        assertThat(eagerRequestLog.toString(), containsString("world"));
+        assertThat(log.toString(), equalTo(eagerRequestLog.toString() + "\n" + eagerResponseLog.toString()));
+    }
+
+    /**
+     * Returns a canned response instead of sending the request
+     */
+    private static class RespondWithGreeting implements Filter {
+        public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+            return new ResponseBuilder().setStatusCode(200).setContentType(JSON).setBody("{\"greeting\":\"Hello World\"}").build();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.mapping;
+
+import com.jayway.restassured.config.ObjectMapperConfig;
+import com.jayway.restassured.internal.mapper.ObjectMapperType;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class ResolvedObjectMappersTest {
+
+    @Test public void
+    resolves_the_same_mappers_for_the_same_config() {
+        // Given
+        ObjectMapperConfig config = new ObjectMapperConfig();
+
+        // When
+        ResolvedObjectMappers first = ResolvedObjectMappers.of(config);
+        ResolvedObjectMappers second = ResolvedObjectMappers.of(config);
+
+        // Then
+        assertThat(first, sameInstance(second));
+        assertThat(first.mapperOfType(ObjectMapperType.JACKSON_2), sameInstance(second.mapperOfType(ObjectMapperType.JACKSON_2)));
+    }
+
+    @Test public void
+    resolves_new_mappers_when_config_changes() {
+        // Given
+        ObjectMapperConfig config = new ObjectMapperConfig();
+        ResolvedObjectMappers resolved = ResolvedObjectMappers.of(config);
+
+        // When
+        ResolvedObjectMappers resolvedForNewConfig = ResolvedObjectMappers.of(config.defaultObjectMapperType(ObjectMapperType.GSON));
+
+        // Then
+        assertThat(resolvedForNewConfig, not(sameInstance(resolved)));
+        assertThat(ResolvedObjectMappers.of(config), sameInstance(resolved));
+    }
+
+    @Test public void
+    remembers_object_mapper_types_per_content_type() {
+        // Given
+        ResolvedObjectMappers resolved = ResolvedObjectMappers.of(new ObjectMapperConfig());
+
+        // When
+        resolved.cacheDeserializerType("application/json", null, ObjectMapperType.GSON);
+        resolved.cacheSerializerType(null, ObjectMapperType.JAXB);
+
+        // Then
+        assertThat(resolved.deserializerType("application/json", null), is(ObjectMapperType.GSON));
+        assertThat(resolved.deserializerType("application/json", "application/xml"), nullValue());
+        assertThat(resolved.serializerType(null), is(ObjectMapperType.JAXB));
+        assertThat(resolved.serializerType("application/json"), nullValue());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.mapping;
+
+import com.jayway.restassured.config.EncoderConfig;
+import com.jayway.restassured.config.ObjectMapperConfig;
+import com.jayway.restassured.internal.http.EncoderRegistry;
+import com.jayway.restassured.internal.mapper.ObjectMapperType;
+import org.apache.http.HttpEntity;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class StreamingSerializedBodyTest {
+
+    private static final Map<String, String> OBJECT = Collections.singletonMap("hello", "world");
+
+    @Test public void
+    objects_serialized_by_jackson_are_written_directly_to_the_request_entity() throws Exception {
+        // Given
+        Object body = ObjectMapping.serializeWhenSent(OBJECT, "application/json", "UTF-8", ObjectMapperType.JACKSON_2, new ObjectMapperConfig(), new EncoderConfig());
+
+        // When
+        HttpEntity entity = new EncoderRegistry().encodeJSON("application/json; charset=UTF-8", body);
+
+        // Then
+        assertThat(body, instanceOf(StreamingSerializedBody.class));
+        assertThat(((StreamingSerializedBody) body).isSerialized(), is(false));
+        assertThat(entity.isChunked(), is(true));
+        assertThat(entity.isRepeatable(), is(true));
+        assertThat(write(entity), equalTo("{\"hello\":\"world\"}"));
+        assertThat(((StreamingSerializedBody) body).isSerialized(), is(false));
+    }
+
+    @Test public void
+    serialized_string_is_used_when_the_body_has_already_been_serialized() throws Exception {
+        // Given
+        StreamingSerializedBody body = (StreamingSerializedBody) ObjectMapping.serializeWhenSent(OBJECT, "application/json", "UTF-8", ObjectMapperType.JACKSON_2, new ObjectMapperConfig(), new EncoderConfig());
+        String serialized = body.asString();
+
+        // When
+        HttpEntity entity = new EncoderRegistry().encodeJSON("application/json; charset=UTF-8", body);
+
+        // Then
+        assertThat(serialized, equalTo("{\"hello\":\"world\"}"));
+        assertThat(entity.isChunked(), is(false));
+        assertThat(entity.getContentLength(), equalTo((long) serialized.length()));
+    }
+
+    @Test public void
+    falls_back_to_string_serialization_when_jackson_cannot_write_the_charset_of_the_content_type() throws Exception {
+        // Given
+        Object body = ObjectMapping.serializeWhenSent(OBJECT, "application/json", "ISO-8859-1", ObjectMapperType.JACKSON_2, new ObjectMapperConfig(), new EncoderConfig());
+
+        // When
+        HttpEntity entity = new EncoderRegistry().encodeJSON("application/json; charset=ISO-8859-1", body);
+
+        // Then
+        assertThat(entity.isChunked(), is(false));
+        assertThat(write(entity), equalTo("{\"hello\":\"world\"}"));
+    }
+
+    private static String write(HttpEntity entity) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        entity.writeTo(outputStream);
+        return outputStream.toString("UTF-8");
+    }
+}
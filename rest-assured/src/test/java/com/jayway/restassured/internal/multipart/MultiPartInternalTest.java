@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.multipart;
+
+import com.jayway.restassured.config.EncoderConfig;
+import com.jayway.restassured.config.ObjectMapperConfig;
+import com.jayway.restassured.internal.mapping.ObjectMapping;
+import com.jayway.restassured.internal.mapping.StreamingSerializedBody;
+import org.apache.http.entity.mime.HttpMultipartMode;
+import org.apache.http.entity.mime.content.ContentBody;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MultiPartInternalTest {
+
+    @Test public void
+    content_length_of_byte_array_and_byte_array_stream_parts_are_known() {
+        // Given
+        MultiPartInternal bytes = multiPart("bytes", "hello".getBytes());
+        MultiPartInternal stream = multiPart("stream", new ByteArrayInputStream("world!".getBytes()));
+
+        // When
+        ContentBody bytesBody = (ContentBody) bytes.getContentBody();
+        ContentBody streamBody = (ContentBody) stream.getContentBody();
+
+        // Then
+        assertThat(bytesBody.getContentLength(), equalTo(5L));
+        assertThat(streamBody.getContentLength(), equalTo(6L));
+    }
+
+    @Test public void
+    multipart_entity_has_precomputed_content_length_when_all_part_lengths_are_known() throws Exception {
+        // Given
+        RestAssuredMultiPartEntity entity = new RestAssuredMultiPartEntity("form-data", null, HttpMultipartMode.BROWSER_COMPATIBLE);
+        entity.addPart("bytes", (ContentBody) multiPart("bytes", "hello".getBytes()).getContentBody());
+        entity.addPart("stream", (ContentBody) multiPart("stream", new ByteArrayInputStream("world!".getBytes())).getContentBody());
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+
+        // Then
+        assertThat(entity.getContentLength(), greaterThan(0L));
+        assertThat((long) out.size(), equalTo(entity.getContentLength()));
+    }
+
+    @Test public void
+    multipart_entity_has_unknown_content_length_when_a_part_has_unknown_length() {
+        // Given
+        InputStream streamOfUnknownLength = new FilterInputStream(new ByteArrayInputStream("world!".getBytes())) {
+        };
+        RestAssuredMultiPartEntity entity = new RestAssuredMultiPartEntity("form-data", null, HttpMultipartMode.BROWSER_COMPATIBLE);
+        entity.addPart("stream", (ContentBody) multiPart("stream", streamOfUnknownLength).getContentBody());
+
+        // Then
+        assertThat(entity.getContentLength(), equalTo(-1L));
+    }
+
+    @Test public void
+    object_parts_are_serialized_directly_to_the_multipart_entity_when_it_is_written() throws Exception {
+        // Given
+        StreamingSerializedBody object = serializeWhenSent(Collections.singletonMap("hello", "world"));
+        MultiPartInternal multiPart = multiPart("object", object);
+        multiPart.setMimeType("application/json");
+        RestAssuredMultiPartEntity entity = new RestAssuredMultiPartEntity("form-data", null, HttpMultipartMode.BROWSER_COMPATIBLE);
+        entity.addPart("object", (ContentBody) multiPart.getContentBody());
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+
+        // Then
+        assertThat(entity.getContentLength(), equalTo(-1L));
+        assertThat(object.isSerialized(), is(false));
+        assertThat(out.toString("UTF-8"), containsString("name=\"object\"\r\n\r\n{\"hello\":\"world\"}\r\n"));
+    }
+
+    @Test public void
+    object_parts_that_have_already_been_serialized_have_a_known_content_length() throws Exception {
+        // Given
+        StreamingSerializedBody object = serializeWhenSent(Collections.singletonMap("hello", "world"));
+        object.asString();
+
+        // When
+        ContentBody body = (ContentBody) multiPart("object", object).getContentBody();
+
+        // Then
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        assertThat(body.getContentLength(), equalTo(17L));
+        assertThat(out.toString("UTF-8"), equalTo("{\"hello\":\"world\"}"));
+    }
+
+    private static StreamingSerializedBody serializeWhenSent(Object object) {
+        return (StreamingSerializedBody) ObjectMapping.serializeWhenSent(object, "application/json", "UTF-8", null, new ObjectMapperConfig(), new EncoderConfig());
+    }
+
+    private static MultiPartInternal multiPart(String controlName, Object content) {
+        MultiPartInternal multiPart = new MultiPartInternal();
+        multiPart.setControlName(controlName);
+        multiPart.setContent(content);
+        multiPart.setFileName("file");
+        return multiPart;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.print;
+
+import com.jayway.restassured.internal.RequestSpecificationImpl;
+import com.jayway.restassured.internal.mapping.StreamingSerializedBody;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.MultiPartSpecification;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static com.jayway.restassured.RestAssured.given;
+import static com.jayway.restassured.http.ContentType.JSON;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class RequestSnapshotTest {
+
+    @Test public void
+    body_objects_are_not_serialized_until_the_body_of_the_snapshot_is_requested() {
+        // Given
+        FilterableRequestSpecification requestSpec = (FilterableRequestSpecification) given().contentType(JSON).body(Collections.singletonMap("hello", "world"));
+        StreamingSerializedBody body = (StreamingSerializedBody) ((RequestSpecificationImpl) requestSpec).getUnserializedBody();
+
+        // When
+        RequestSnapshot snapshot = RequestSnapshot.of(requestSpec, "POST", "http://localhost:8080/greeting");
+
+        // Then
+        assertThat(body.isSerialized(), is(false));
+        assertThat(snapshot.getBody(), equalTo((Object) "{\"hello\":\"world\"}"));
+        assertThat(body.isSerialized(), is(true));
+    }
+
+    @Test public void
+    multi_part_objects_are_not_serialized_until_the_multi_part_of_the_snapshot_is_printed() {
+        // Given
+        FilterableRequestSpecification requestSpec = (FilterableRequestSpecification) given().multiPart("object", Collections.singletonMap("hello", "world"));
+
+        // When
+        RequestSnapshot snapshot = RequestSnapshot.of(requestSpec, "POST", "http://localhost:8080/greeting");
+
+        // Then
+        MultiPartSpecification multiPart = snapshot.getMultiPartParams().get(0);
+        StreamingSerializedBody content = (StreamingSerializedBody) multiPart.getContent();
+        assertThat(content.isSerialized(), is(false));
+        assertThat(multiPart.toString(), endsWith("content={\"hello\":\"world\"}"));
+        assertThat(requestSpec.getMultiPartParams().get(0).getContent(), equalTo((Object) "{\"hello\":\"world\"}"));
+    }
+}
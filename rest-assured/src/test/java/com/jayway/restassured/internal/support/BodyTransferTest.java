@@ -0,0 +1,169 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.support;
+
+import com.jayway.restassured.response.TransferredBody;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import static com.jayway.restassured.matcher.RestAssuredMatchers.hasDigest;
+import static com.jayway.restassured.matcher.RestAssuredMatchers.hasLength;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class BodyTransferTest {
+    private static final String BODY = "hello world";
+    private static final String BODY_SHA_256 = "b94d27b9934d3e08a52e52d7da7dabfac484efe37a5380ee9088f7ace2efcde9";
+    private static final String BODY_MD5 = "5eb63bbbe01eeed093cb22bb8f5acdc3";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test public void
+    transfers_stream_to_file_and_computes_digests() throws Exception {
+        // Given
+        File file = temporaryFolder.newFile("download.txt");
+
+        // When
+        TransferredBody transferredBody = BodyTransfer.transfer(stream(BODY), file, "SHA-256", "MD5");
+
+        // Then
+        assertThat(file.length(), equalTo(11L));
+        assertThat(transferredBody.getFile(), equalTo(file));
+        assertThat(transferredBody, hasLength(11L));
+        assertThat(transferredBody, hasDigest("SHA-256", BODY_SHA_256));
+        assertThat(transferredBody, hasDigest("md5", BODY_MD5.toUpperCase()));
+    }
+
+    @Test public void
+    transfers_stream_to_file_without_digests() throws Exception {
+        // Given
+        File file = temporaryFolder.newFile("download.txt");
+
+        // When
+        TransferredBody transferredBody = BodyTransfer.transfer(stream(BODY), file);
+
+        // Then
+        assertThat(file.length(), equalTo(11L));
+        assertThat(transferredBody, hasLength(11L));
+        assertThat(transferredBody, not(hasDigest("SHA-256", BODY_SHA_256)));
+    }
+
+    @Test public void
+    transfers_stream_to_channel() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        TransferredBody transferredBody = BodyTransfer.transfer(stream(BODY), Channels.newChannel(out), "SHA-256");
+
+        // Then
+        assertThat(out.toString("UTF-8"), equalTo(BODY));
+        assertThat(transferredBody.getDigest("SHA-256"), equalTo(BODY_SHA_256));
+    }
+
+    @Test public void
+    transfers_file_backed_content_to_file() throws Exception {
+        // Given
+        FileBackedContent content = (FileBackedContent) FileBackedContent.buffer(stream(BODY), 5, Long.MAX_VALUE);
+        File file = temporaryFolder.newFile("download.txt");
+
+        // When
+        TransferredBody transferredBody = BodyTransfer.transfer(content, file);
+
+        // Then
+        assertThat(file.length(), equalTo(11L));
+        assertThat(transferredBody, hasLength(11L));
+    }
+
+    @Test public void
+    transfers_file_backed_content_to_channel_that_accepts_part_of_the_data_per_write() throws Exception {
+        // Given
+        FileBackedContent content = (FileBackedContent) FileBackedContent.buffer(stream(BODY), 5, Long.MAX_VALUE);
+        ThrottledChannel channel = new ThrottledChannel(3, Integer.MAX_VALUE);
+
+        // When
+        TransferredBody transferredBody = BodyTransfer.transfer(content, channel);
+
+        // Then
+        assertThat(channel.written.toString("UTF-8"), equalTo(BODY));
+        assertThat(transferredBody, hasLength(11L));
+    }
+
+    @Test(expected = IOException.class, timeout = 10000) public void
+    throws_ioe_instead_of_spinning_when_channel_stops_accepting_file_backed_content() throws Exception {
+        // Given
+        FileBackedContent content = (FileBackedContent) FileBackedContent.buffer(stream(BODY), 5, Long.MAX_VALUE);
+
+        // When
+        BodyTransfer.transfer(content, new ThrottledChannel(3, 6));
+    }
+
+    @Test(expected = IOException.class, timeout = 10000) public void
+    throws_ioe_instead_of_spinning_when_channel_stops_accepting_stream() throws Exception {
+        BodyTransfer.transfer(stream(BODY), new ThrottledChannel(3, 6), "SHA-256");
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    throws_iae_when_digest_algorithm_is_not_supported() throws Exception {
+        BodyTransfer.transfer(stream(BODY), temporaryFolder.newFile("download.txt"), "unknown");
+    }
+
+    private static ByteArrayInputStream stream(String content) throws Exception {
+        return new ByteArrayInputStream(content.getBytes("UTF-8"));
+    }
+
+    /**
+     * Accepts at most <code>bytesPerWrite</code> bytes per write and stops accepting data (as a full non-blocking channel) once
+     * <code>capacity</code> bytes have been written.
+     */
+    private static class ThrottledChannel implements WritableByteChannel {
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private final int bytesPerWrite;
+        private final int capacity;
+
+        ThrottledChannel(int bytesPerWrite, int capacity) {
+            this.bytesPerWrite = bytesPerWrite;
+            this.capacity = capacity;
+        }
+
+        public int write(ByteBuffer source) {
+            final int length = Math.min(source.remaining(), Math.min(bytesPerWrite, capacity - written.size()));
+            for (int i = 0; i < length; i++) {
+                written.write(source.get());
+            }
+            return length;
+        }
+
+        public boolean isOpen() {
+            return true;
+        }
+
+        public void close() {
+        }
+    }
+}
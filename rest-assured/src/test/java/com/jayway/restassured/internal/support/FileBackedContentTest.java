@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.support;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class FileBackedContentTest {
+
+    @Test public void
+    content_smaller_than_the_in_memory_limit_is_kept_in_memory() throws Exception {
+        // When
+        Object content = FileBackedContent.buffer(stream("small"), 10, Long.MAX_VALUE);
+
+        // Then
+        assertThat(content, instanceOf(byte[].class));
+        assertThat(new String((byte[]) content, "UTF-8"), equalTo("small"));
+    }
+
+    @Test public void
+    content_larger_than_the_in_memory_limit_is_written_to_a_file_that_can_be_read_multiple_times() throws Exception {
+        // When
+        Object content = FileBackedContent.buffer(stream("{ \"message\" : \"larger than ten bytes\" }"), 10, Long.MAX_VALUE);
+
+        // Then
+        assertThat(content, instanceOf(FileBackedContent.class));
+        FileBackedContent fileBackedContent = (FileBackedContent) content;
+        assertThat(fileBackedContent.length(), equalTo(39L));
+        assertThat(fileBackedContent.getFile().length(), equalTo(39L));
+        assertThat(fileBackedContent.toString("UTF-8"), equalTo("{ \"message\" : \"larger than ten bytes\" }"));
+        assertThat(read(new InputStreamReader(fileBackedContent.newInputStream(), "UTF-8")), equalTo("{ \"message\" : \"larger than ten bytes\" }"));
+        assertThat(read(fileBackedContent.newReader("UTF-8")), equalTo("{ \"message\" : \"larger than ten bytes\" }"));
+        assertThat(new String(fileBackedContent.toByteArray(), "UTF-8"), equalTo("{ \"message\" : \"larger than ten bytes\" }"));
+    }
+
+    @Test(expected = IllegalStateException.class) public void
+    throws_ise_when_content_is_larger_than_the_max_size() throws Exception {
+        FileBackedContent.buffer(stream("larger than ten bytes"), 5, 10);
+    }
+
+    @Test public void
+    temporary_file_is_deleted_when_the_content_is_closed() throws Exception {
+        // Given
+        FileBackedContent content = (FileBackedContent) FileBackedContent.buffer(stream("larger than ten bytes"), 10, Long.MAX_VALUE);
+        File file = content.getFile();
+        content.toString("UTF-8");
+
+        // When
+        content.close();
+
+        // Then
+        assertThat(file.exists(), is(false));
+    }
+
+    @Test(expected = IllegalStateException.class) public void
+    throws_ise_when_content_is_read_after_it_has_been_closed() throws Exception {
+        FileBackedContent content = (FileBackedContent) FileBackedContent.buffer(stream("larger than ten bytes"), 10, Long.MAX_VALUE);
+        content.close();
+
+        content.toByteArray();
+    }
+
+    private static String read(Reader reader) throws Exception {
+        StringBuilder builder = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1) {
+            builder.append((char) c);
+        }
+        return builder.toString();
+    }
+
+    private static ByteArrayInputStream stream(String content) throws Exception {
+        return new ByteArrayInputStream(content.getBytes("UTF-8"));
+    }
+}
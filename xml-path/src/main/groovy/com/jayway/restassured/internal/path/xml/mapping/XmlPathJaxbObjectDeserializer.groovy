@@ -17,11 +17,11 @@
 
 package com.jayway.restassured.internal.path.xml.mapping
 
+import com.jayway.restassured.internal.mapper.StreamingDataToDeserialize
 import com.jayway.restassured.mapper.ObjectDeserializationContext
 import com.jayway.restassured.mapper.factory.JAXBObjectMapperFactory
 import com.jayway.restassured.path.xml.mapping.XmlPathObjectDeserializer
 
-import javax.xml.bind.JAXBContext
 import javax.xml.bind.JAXBElement
 import javax.xml.bind.Unmarshaller
 import javax.xml.bind.annotation.XmlRootElement
@@ -29,24 +29,35 @@ import javax.xml.transform.stream.StreamSource
 
 class XmlPathJaxbObjectDeserializer implements XmlPathObjectDeserializer {
 
-    private final JAXBObjectMapperFactory factory;
+    private final JAXBContextCache cache;
 
     public XmlPathJaxbObjectDeserializer(JAXBObjectMapperFactory factory) {
-        this.factory = factory
+        this(new JAXBContextCache(factory))
+    }
+
+    public XmlPathJaxbObjectDeserializer(JAXBContextCache cache) {
+        this.cache = cache
     }
 
     def <T> T deserialize(ObjectDeserializationContext context) {
         def cls = context.getType();
-        def object = context.getDataToDeserialize().asString();
-        JAXBContext jaxbContext = factory.create(cls, context.getCharset())
-
-        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller()
-        def reader = new StringReader(object)
-        if (cls.isAnnotationPresent(XmlRootElement.class)) {
-            return unmarshaller.unmarshal(reader) as T
-        } else {
-            JAXBElement jaxbElement = unmarshaller.unmarshal(new StreamSource(reader), cls)
-            return jaxbElement.getValue() as T
+        def data = context.getDataToDeserialize()
+        PooledJAXBContext jaxbContext = cache.contextFor(cls, context.getCharset())
+
+        Unmarshaller unmarshaller = jaxbContext.acquireUnmarshaller()
+        def reader = data instanceof StreamingDataToDeserialize ? data.asReader(context.getCharset()) : new StringReader(data.asString())
+        try {
+            def object
+            if (cls.isAnnotationPresent(XmlRootElement.class)) {
+                object = unmarshaller.unmarshal(reader)
+            } else {
+                JAXBElement jaxbElement = unmarshaller.unmarshal(new StreamSource(reader), cls)
+                object = jaxbElement.getValue()
+            }
+            jaxbContext.release(unmarshaller)
+            return object as T
+        } finally {
+            reader.close()
         }
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.xml.mapping;
+
+import com.jayway.restassured.internal.assertion.AssertParameter;
+import com.jayway.restassured.internal.mapper.TypeAndCharset;
+import com.jayway.restassured.mapper.factory.JAXBObjectMapperFactory;
+
+import javax.xml.bind.JAXBContext;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches the {@link JAXBContext} for each type and charset since creating a JAXB context is very expensive. The contexts are created by the
+ * {@link JAXBObjectMapperFactory} the first time a type and charset is used and they keep a pool of marshallers and unmarshallers.
+ *
+ * @see PooledJAXBContext
+ */
+public class JAXBContextCache {
+    private final JAXBObjectMapperFactory factory;
+    private final ConcurrentMap<TypeAndCharset, PooledJAXBContext> contexts = new ConcurrentHashMap<TypeAndCharset, PooledJAXBContext>();
+
+    public JAXBContextCache(JAXBObjectMapperFactory factory) {
+        this.factory = AssertParameter.notNull(factory, JAXBObjectMapperFactory.class);
+    }
+
+    /**
+     * @param cls     The type to marshal or unmarshal
+     * @param charset The charset of the XML document
+     * @return The context for the given type and charset
+     */
+    public PooledJAXBContext contextFor(Class cls, String charset) {
+        TypeAndCharset key = new TypeAndCharset(cls, charset);
+        PooledJAXBContext context = contexts.get(key);
+        if (context == null) {
+            context = new PooledJAXBContext(factory.create(cls, charset), charset);
+            PooledJAXBContext existing = contexts.putIfAbsent(key, context);
+            if (existing != null) {
+                context = existing;
+            }
+        }
+        return context;
+    }
+}
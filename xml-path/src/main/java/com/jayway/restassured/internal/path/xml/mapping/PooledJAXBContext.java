@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.xml.mapping;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link JAXBContext} with bounded pools of marshallers and unmarshallers. Marshallers and unmarshallers are not thread-safe so an instance
+ * must only be used by one thread at a time, it's acquired from the pool and then released back to the pool when it has been used.
+ * Instances that are not released (for example because marshalling failed) are simply garbage collected. Marshallers are configured to
+ * use the charset of the context.
+ */
+public class PooledJAXBContext {
+    private static final int MAX_POOL_SIZE = 16;
+
+    private final JAXBContext context;
+    private final String charset;
+    private final Queue<Marshaller> marshallers = new ConcurrentLinkedQueue<Marshaller>();
+    private final AtomicInteger numberOfPooledMarshallers = new AtomicInteger();
+    private final Queue<Unmarshaller> unmarshallers = new ConcurrentLinkedQueue<Unmarshaller>();
+    private final AtomicInteger numberOfPooledUnmarshallers = new AtomicInteger();
+
+    PooledJAXBContext(JAXBContext context, String charset) {
+        this.context = context;
+        this.charset = charset;
+    }
+
+    public Marshaller acquireMarshaller() throws JAXBException {
+        Marshaller marshaller = marshallers.poll();
+        if (marshaller == null) {
+            marshaller = context.createMarshaller();
+            if (charset != null) {
+                marshaller.setProperty(Marshaller.JAXB_ENCODING, charset);
+            }
+            return marshaller;
+        }
+        numberOfPooledMarshallers.decrementAndGet();
+        return marshaller;
+    }
+
+    public void release(Marshaller marshaller) {
+        if (numberOfPooledMarshallers.incrementAndGet() <= MAX_POOL_SIZE) {
+            marshallers.offer(marshaller);
+        } else {
+            numberOfPooledMarshallers.decrementAndGet();
+        }
+    }
+
+    public Unmarshaller acquireUnmarshaller() throws JAXBException {
+        Unmarshaller unmarshaller = unmarshallers.poll();
+        if (unmarshaller == null) {
+            return context.createUnmarshaller();
+        }
+        numberOfPooledUnmarshallers.decrementAndGet();
+        return unmarshaller;
+    }
+
+    public void release(Unmarshaller unmarshaller) {
+        if (numberOfPooledUnmarshallers.incrementAndGet() <= MAX_POOL_SIZE) {
+            unmarshallers.offer(unmarshaller);
+        } else {
+            numberOfPooledUnmarshallers.decrementAndGet();
+        }
+    }
+}
@@ -21,6 +21,10 @@ import javax.xml.bind.JAXBContext;
 /**
  * Interface for JAXB object mappers. Implement this class and register it to the ObjectMapperConfig if you
  * want to override default settings for the JAXB object mapper.
+ * <p>
+ * Note that REST Assured caches the JAXB context created for a given type and charset (per object mapper configuration) so the factory
+ * is not invoked for every request.
+ * </p>
  */
 public interface JAXBObjectMapperFactory extends ObjectMapperFactory<JAXBContext> {
 }
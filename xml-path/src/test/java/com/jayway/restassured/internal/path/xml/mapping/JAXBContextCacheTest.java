@@ -0,0 +1,106 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path.xml.mapping;
+
+import com.jayway.restassured.mapper.factory.JAXBObjectMapperFactory;
+import com.jayway.restassured.path.xml.support.Greeting;
+import org.junit.Test;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class JAXBContextCacheTest {
+
+    @Test public void
+    jaxb_context_is_created_once_per_type_and_charset() {
+        // Given
+        final AtomicInteger numberOfCreatedContexts = new AtomicInteger();
+        JAXBContextCache cache = new JAXBContextCache(new CountingJAXBObjectMapperFactory(numberOfCreatedContexts));
+
+        // When
+        PooledJAXBContext context = cache.contextFor(Greeting.class, "UTF-8");
+        PooledJAXBContext sameContext = cache.contextFor(Greeting.class, "UTF-8");
+        PooledJAXBContext otherContext = cache.contextFor(Greeting.class, "ISO-8859-1");
+
+        // Then
+        assertThat(context, sameInstance(sameContext));
+        assertThat(context, not(sameInstance(otherContext)));
+        assertThat(numberOfCreatedContexts.get(), equalTo(2));
+    }
+
+    @Test public void
+    released_marshallers_and_unmarshallers_are_reused() throws Exception {
+        // Given
+        PooledJAXBContext context = new JAXBContextCache(new CountingJAXBObjectMapperFactory(new AtomicInteger())).contextFor(Greeting.class, "UTF-8");
+        Marshaller marshaller = context.acquireMarshaller();
+        Unmarshaller unmarshaller = context.acquireUnmarshaller();
+
+        // When
+        context.release(marshaller);
+        context.release(unmarshaller);
+
+        // Then
+        assertThat(context.acquireMarshaller(), sameInstance(marshaller));
+        assertThat(context.acquireUnmarshaller(), sameInstance(unmarshaller));
+        assertThat(context.acquireMarshaller(), not(sameInstance(marshaller)));
+    }
+
+    @Test public void
+    marshallers_are_configured_with_the_charset_of_the_context() throws Exception {
+        // Given
+        PooledJAXBContext context = new JAXBContextCache(new CountingJAXBObjectMapperFactory(new AtomicInteger())).contextFor(Greeting.class, "ISO-8859-1");
+        Greeting greeting = new Greeting();
+        greeting.setFirstName("John");
+        greeting.setLastName("Doe");
+
+        // When
+        StringWriter writer = new StringWriter();
+        Marshaller marshaller = context.acquireMarshaller();
+        marshaller.marshal(greeting, writer);
+        context.release(marshaller);
+        Greeting unmarshalled = (Greeting) context.acquireUnmarshaller().unmarshal(new StringReader(writer.toString()));
+
+        // Then
+        assertThat(writer.toString(), containsString("encoding=\"ISO-8859-1\""));
+        assertThat(unmarshalled, equalTo(greeting));
+    }
+
+    private static class CountingJAXBObjectMapperFactory implements JAXBObjectMapperFactory {
+        private final AtomicInteger numberOfCreatedContexts;
+
+        private CountingJAXBObjectMapperFactory(AtomicInteger numberOfCreatedContexts) {
+            this.numberOfCreatedContexts = numberOfCreatedContexts;
+        }
+
+        public JAXBContext create(Class cls, String charset) {
+            numberOfCreatedContexts.incrementAndGet();
+            try {
+                return JAXBContext.newInstance(cls);
+            } catch (JAXBException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}